@@ -0,0 +1,66 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark;
+
+import java.lang.reflect.Field;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+
+/**
+ * Prepares the static and thread local state the domain classes expect from a running Fineract instance, without starting
+ * the Spring context.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {}
+
+    /**
+     * Must be called from the thread that executes the benchmark method, as the tenant and the business dates are thread
+     * local.
+     */
+    public static void initContext(LocalDate businessDate) {
+        initRoundingMode(RoundingMode.HALF_EVEN);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, businessDate,
+                BusinessDateType.COB_DATE, businessDate.minusDays(1))));
+    }
+
+    public static void resetContext() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    // MoneyHelper reads the rounding mode lazily from the global configuration, which is not available here
+    private static void initRoundingMode(RoundingMode roundingMode) {
+        try {
+            Field field = MoneyHelper.class.getDeclaredField("roundingMode");
+            field.setAccessible(true);
+            field.set(null, roundingMode);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to initialise the rounding mode of MoneyHelper", e);
+        }
+    }
+}
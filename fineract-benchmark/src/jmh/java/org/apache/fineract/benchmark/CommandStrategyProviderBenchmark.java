@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.batch.command.CommandContext;
+import org.apache.fineract.batch.command.CommandStrategy;
+import org.apache.fineract.batch.command.CommandStrategyProvider;
+import org.apache.fineract.batch.command.internal.UnknownCommandStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Batch API url resolution: every operation resolves one relative url per entry of the command strategy table, in both
+ * the non-versioned and the versioned form, plus a few urls without a strategy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandStrategyProviderBenchmark {
+
+    private static final List<String[]> REQUESTS = List.of(new String[] { "POST", "clients" }, //
+            new String[] { "PUT", "clients/101" }, //
+            new String[] { "POST", "clients/101?command=activate" }, //
+            new String[] { "POST", "loans" }, //
+            new String[] { "GET", "loans/1001?associations=all&exclude=guarantors" }, //
+            new String[] { "GET", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1" }, //
+            new String[] { "PUT", "loans/1001" }, //
+            new String[] { "PUT", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1?command=modify" }, //
+            new String[] { "POST", "loans/1001?command=approve" }, //
+            new String[] { "POST", "loans/1001?command=disburse" }, //
+            new String[] { "POST", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1?command=approve" }, //
+            new String[] { "POST", "loans/1001/charges" }, //
+            new String[] { "POST", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1/charges" }, //
+            new String[] { "GET", "loans/1001/charges" }, //
+            new String[] { "GET", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1/charges" }, //
+            new String[] { "GET", "loans/1001/charges/5" }, //
+            new String[] { "GET", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1/charges/external-id/c-5" }, //
+            new String[] { "POST", "loans/1001/charges/5?command=adjustment" }, //
+            new String[] { "POST", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1/charges/external-id/c-5?command=adjustment" }, //
+            new String[] { "POST", "loans/1001/transactions?command=repayment" }, //
+            new String[] { "POST", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1/transactions?command=repayment" }, //
+            new String[] { "GET", "loans/1001/transactions/7" }, //
+            new String[] { "POST", "loans/1001/transactions/7?command=chargeback" }, //
+            new String[] { "GET", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1/transactions/external-id/t-7" }, //
+            new String[] { "POST", "loans/external-id/8dfad438-2319-48ce-8520-10a62801e9a1/transactions/external-id/t-7?command=undo" }, //
+            new String[] { "POST", "rescheduleloans" }, //
+            new String[] { "POST", "rescheduleloans/3?command=approve" }, //
+            new String[] { "POST", "savingsaccounts" }, //
+            new String[] { "GET", "savingsaccounts/2001?associations=transactions" }, //
+            new String[] { "POST", "savingsaccounts/2001/transactions?command=deposit" }, //
+            new String[] { "POST", "savingsaccounts/2001/transactions/9?command=undo" }, //
+            new String[] { "POST", "datatables/dt_loan_extra/1001" }, //
+            new String[] { "PUT", "datatables/dt_loan_extra/1001" }, //
+            new String[] { "PUT", "datatables/dt_loan_extra/1001/4" }, //
+            new String[] { "GET", "datatables/dt_loan_extra/1001?genericResultSet=true" }, //
+            new String[] { "GET", "datatables/dt_loan_extra/1001/4" }, //
+            new String[] { "GET", "datatables/dt_loan_extra/query?columnFilter=id&valueFilter=12&resultColumns=id" }, //
+            new String[] { "POST", "loans/1001?command=reject" }, //
+            new String[] { "GET", "loans/1001/charges/" }, //
+            new String[] { "DELETE", "offices/1" });
+
+    private CommandStrategyProvider provider;
+    private List<CommandContext> commandContexts;
+
+    @Setup
+    public void setUp() {
+        CommandStrategy strategy = new UnknownCommandStrategy();
+        provider = new CommandStrategyProvider(new StaticApplicationContext() {
+
+            @Override
+            public Object getBean(String name) {
+                return strategy;
+            }
+        });
+        commandContexts = REQUESTS.stream()
+                .flatMap(request -> List.of(CommandContext.resource(request[1]).method(request[0]).build(),
+                        CommandContext.resource("v1/" + request[1]).method(request[0]).build()).stream())
+                .toList();
+    }
+
+    @Benchmark
+    public void resolveStrategyTable(Blackhole blackhole) {
+        for (CommandContext commandContext : commandContexts) {
+            blackhole.consume(provider.getCommandStrategy(commandContext));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.organisation.monetary.domain.ApplicationCurrency;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
+import org.apache.fineract.portfolio.loanproduct.domain.AmortizationMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestCalculationPeriodMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestRecalculationCompoundingMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanPreClosureInterestCalculationStrategy;
+import org.apache.fineract.portfolio.loanproduct.domain.RecalculationFrequencyType;
+import org.apache.fineract.portfolio.loanproduct.domain.RepaymentStartDateType;
+
+/**
+ * Builds realistic, fully in-memory loans for the benchmarks: a 30 year monthly loan (360 installments) repaid through
+ * 2000 transactions which are a mix of early, on time and late repayments.
+ */
+public final class LoanFixtures {
+
+    public static final int NUMBER_OF_INSTALLMENTS = 360;
+    public static final int NUMBER_OF_TRANSACTIONS = 2000;
+    public static final LocalDate DISBURSEMENT_DATE = LocalDate.of(2023, 1, 1);
+    public static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+
+    private static final BigDecimal PRINCIPAL = BigDecimal.valueOf(360_000);
+    private static final BigDecimal INTEREST_RATE_PER_PERIOD = BigDecimal.ONE;
+    private static final String ALL_DAYS_ARE_WORKING_DAYS = "FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR,SA,SU";
+
+    private LoanFixtures() {}
+
+    public static HolidayDetailDTO holidayDetails() {
+        return new HolidayDetailDTO(false, List.of(), new BenchmarkWorkingDays());
+    }
+
+    public static LoanApplicationTerms loanApplicationTerms(InterestMethod interestMethod, boolean interestRecalculationEnabled,
+            HolidayDetailDTO holidayDetailDTO) {
+        Money principal = Money.of(CURRENCY, PRINCIPAL);
+        return LoanApplicationTerms.assembleFrom(new BenchmarkApplicationCurrency(), NUMBER_OF_INSTALLMENTS, PeriodFrequencyType.MONTHS,
+                NUMBER_OF_INSTALLMENTS, 1, PeriodFrequencyType.MONTHS, null, null, AmortizationMethod.EQUAL_INSTALLMENTS, interestMethod,
+                INTEREST_RATE_PER_PERIOD, PeriodFrequencyType.MONTHS, INTEREST_RATE_PER_PERIOD.multiply(BigDecimal.valueOf(12)),
+                InterestCalculationPeriodMethod.SAME_AS_REPAYMENT_PERIOD, false, principal, DISBURSEMENT_DATE, null, null, null, null, null,
+                null, null, principal.zero(), false, null, new ArrayList<>(), null, null, DaysInMonthType.ACTUAL, DaysInYearType.ACTUAL,
+                interestRecalculationEnabled,
+                interestRecalculationEnabled ? RecalculationFrequencyType.SAME_AS_REPAYMENT_PERIOD : RecalculationFrequencyType.INVALID,
+                null, InterestRecalculationCompoundingMethod.NONE, null, null, null, null,
+                LoanPreClosureInterestCalculationStrategy.TILL_PRE_CLOSURE_DATE, null, PRINCIPAL, new ArrayList<>(), false, null, false,
+                holidayDetailDTO, false, false, false, null, false, false, null, false, RepaymentStartDateType.DISBURSEMENT_DATE,
+                DISBURSEMENT_DATE);
+    }
+
+    /**
+     * Equal principal installments with declining interest, similar to what the schedule generator produces for the terms
+     * above.
+     */
+    public static List<LoanRepaymentScheduleInstallment> installments() {
+        List<LoanRepaymentScheduleInstallment> installments = new ArrayList<>(NUMBER_OF_INSTALLMENTS);
+        BigDecimal principalPerInstallment = PRINCIPAL.divide(BigDecimal.valueOf(NUMBER_OF_INSTALLMENTS), 2, RoundingMode.HALF_EVEN);
+        BigDecimal monthlyRate = INTEREST_RATE_PER_PERIOD.movePointLeft(2);
+        BigDecimal outstanding = PRINCIPAL;
+        LocalDate fromDate = DISBURSEMENT_DATE;
+        for (int number = 1; number <= NUMBER_OF_INSTALLMENTS; number++) {
+            LocalDate dueDate = DISBURSEMENT_DATE.plusMonths(number);
+            BigDecimal interest = outstanding.multiply(monthlyRate).setScale(2, RoundingMode.HALF_EVEN);
+            BigDecimal fee = number % 12 == 0 ? BigDecimal.TEN : BigDecimal.ZERO;
+            installments.add(new LoanRepaymentScheduleInstallment(null, number, fromDate, dueDate, principalPerInstallment, interest, fee,
+                    BigDecimal.ZERO, false, null, BigDecimal.ZERO));
+            outstanding = outstanding.subtract(principalPerInstallment);
+            fromDate = dueDate;
+        }
+        return installments;
+    }
+
+    /**
+     * Repayments spread evenly over the term, which makes some of them land before, some on and some after the due date of
+     * the installment they pay. The amounts vary around the average so that partial and over payments of installments both
+     * occur.
+     */
+    public static List<LoanTransaction> repayments(List<LoanRepaymentScheduleInstallment> installments) {
+        BigDecimal totalDue = BigDecimal.ZERO;
+        for (LoanRepaymentScheduleInstallment installment : installments) {
+            totalDue = totalDue.add(installment.getDue(CURRENCY).getAmount());
+        }
+        BigDecimal average = totalDue.divide(BigDecimal.valueOf(NUMBER_OF_TRANSACTIONS), 2, RoundingMode.HALF_EVEN);
+        LocalDate lastDueDate = installments.get(installments.size() - 1).getDueDate();
+        long termInDays = lastDueDate.toEpochDay() - DISBURSEMENT_DATE.toEpochDay();
+
+        List<LoanTransaction> transactions = new ArrayList<>(NUMBER_OF_TRANSACTIONS);
+        for (int i = 1; i <= NUMBER_OF_TRANSACTIONS; i++) {
+            LocalDate transactionDate = DISBURSEMENT_DATE.plusDays(termInDays * i / NUMBER_OF_TRANSACTIONS);
+            // -20%, 0%, +20% around the average
+            BigDecimal amount = average.multiply(BigDecimal.valueOf(80 + (i % 3) * 20)).movePointLeft(2).setScale(2,
+                    RoundingMode.HALF_EVEN);
+            transactions.add(LoanTransaction.repayment(null, Money.of(CURRENCY, amount), null, transactionDate, ExternalId.empty()));
+        }
+        return transactions;
+    }
+
+    private static final class BenchmarkWorkingDays extends WorkingDays {
+
+        BenchmarkWorkingDays() {
+            super(ALL_DAYS_ARE_WORKING_DAYS, RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false);
+        }
+    }
+
+    private static final class BenchmarkApplicationCurrency extends ApplicationCurrency {
+
+        BenchmarkApplicationCurrency() {}
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.LoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.CreocoreLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.DuePenFeeIntPriInAdvancePriPenFeeIntLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.DuePenIntPriFeeInAdvancePenIntPriFeeLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.EarlyPaymentLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.FineractStyleLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.HeavensFamilyLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.InterestPrincipalPenaltyFeesOrderLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.PrincipalInterestPenaltyFeesOrderLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.RBILoanRepaymentScheduleTransactionProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Reprocesses 2000 repayments over a 360 installment schedule, the way a loan is replayed after a backdated transaction or
+ * during COB.
+ * <p>
+ * The advanced payment allocation strategy is not part of it, as it does not support repayments yet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoanRepaymentScheduleTransactionProcessorBenchmark {
+
+    public enum Processor {
+
+        FINERACT_STYLE(FineractStyleLoanRepaymentScheduleTransactionProcessor::new), //
+        HEAVENS_FAMILY(HeavensFamilyLoanRepaymentScheduleTransactionProcessor::new), //
+        CREOCORE(CreocoreLoanRepaymentScheduleTransactionProcessor::new), //
+        RBI(RBILoanRepaymentScheduleTransactionProcessor::new), //
+        PRINCIPAL_INTEREST_PENALTY_FEES(PrincipalInterestPenaltyFeesOrderLoanRepaymentScheduleTransactionProcessor::new), //
+        INTEREST_PRINCIPAL_PENALTY_FEES(InterestPrincipalPenaltyFeesOrderLoanRepaymentScheduleTransactionProcessor::new), //
+        EARLY_PAYMENT(EarlyPaymentLoanRepaymentScheduleTransactionProcessor::new), //
+        DUE_PEN_FEE_INT_PRI(DuePenFeeIntPriInAdvancePriPenFeeIntLoanRepaymentScheduleTransactionProcessor::new), //
+        DUE_PEN_INT_PRI_FEE(DuePenIntPriFeeInAdvancePenIntPriFeeLoanRepaymentScheduleTransactionProcessor::new);
+
+        private final Supplier<LoanRepaymentScheduleTransactionProcessor> factory;
+
+        Processor(Supplier<LoanRepaymentScheduleTransactionProcessor> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private Processor processor;
+
+    private LoanRepaymentScheduleTransactionProcessor transactionProcessor;
+    private final Set<LoanCharge> charges = new HashSet<>();
+    private List<LoanRepaymentScheduleInstallment> installments;
+    private List<LoanTransaction> transactions;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.initContext(LoanFixtures.DISBURSEMENT_DATE.plusYears(31));
+        transactionProcessor = processor.factory.get();
+    }
+
+    // processing records the repayment mappings on the installments and the transactions, start from a clean loan every time
+    @Setup(Level.Invocation)
+    public void setUpLoan() {
+        installments = LoanFixtures.installments();
+        transactions = LoanFixtures.repayments(installments);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.resetContext();
+    }
+
+    @Benchmark
+    public ChangedTransactionDetail reprocess() {
+        return transactionProcessor.handleTransaction(LoanFixtures.DISBURSEMENT_DATE, transactions, LoanFixtures.CURRENCY, installments,
+                charges);
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark;
+
+import java.math.MathContext;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DecliningBalanceInterestLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.FlatInterestLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Generates the repayment schedule of a 360 installment loan with the schedule generators extending
+ * AbstractLoanScheduleGenerator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoanScheduleGeneratorBenchmark {
+
+    /**
+     * Interest recalculation is only supported for declining balance loans, so there is no flat variant of it.
+     */
+    public enum Scenario {
+
+        DECLINING_BALANCE(InterestMethod.DECLINING_BALANCE, false), //
+        DECLINING_BALANCE_INTEREST_RECALCULATION(InterestMethod.DECLINING_BALANCE, true), //
+        FLAT(InterestMethod.FLAT, false);
+
+        private final InterestMethod interestMethod;
+        private final boolean interestRecalculationEnabled;
+
+        Scenario(InterestMethod interestMethod, boolean interestRecalculationEnabled) {
+            this.interestMethod = interestMethod;
+            this.interestRecalculationEnabled = interestRecalculationEnabled;
+        }
+    }
+
+    @Param
+    private Scenario scenario;
+
+    private LoanScheduleGenerator generator;
+    private MathContext mathContext;
+    private HolidayDetailDTO holidayDetailDTO;
+    private LoanApplicationTerms loanApplicationTerms;
+
+    @Setup
+    public void setUp() {
+        // a business date in the middle of the term, so that interest recalculation has past and future periods to deal with
+        BenchmarkSupport.initContext(LoanFixtures.DISBURSEMENT_DATE.plusYears(10));
+        generator = scenario.interestMethod == InterestMethod.FLAT ? new FlatInterestLoanScheduleGenerator()
+                : new DecliningBalanceInterestLoanScheduleGenerator();
+        mathContext = MoneyHelper.getMathContext();
+        holidayDetailDTO = LoanFixtures.holidayDetails();
+    }
+
+    // the terms are updated while the schedule is generated, so every invocation needs its own copy
+    @Setup(Level.Invocation)
+    public void setUpTerms() {
+        loanApplicationTerms = LoanFixtures.loanApplicationTerms(scenario.interestMethod, scenario.interestRecalculationEnabled,
+                holidayDetailDTO);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.resetContext();
+    }
+
+    @Benchmark
+    public LoanScheduleModel generate() {
+        return generator.generate(mathContext, loanApplicationTerms, new HashSet<>(), holidayDetailDTO);
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Money arithmetic as used by the schedule generators and the repayment processors: every operation works on one
+ * installment worth of amounts, so the score is the cost of 360 operations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+
+    private static final MonetaryCurrency CURRENCY = LoanFixtures.CURRENCY;
+    private static final BigDecimal MONTHLY_RATE = new BigDecimal("0.0125");
+
+    private final List<Money> amounts = new ArrayList<>(LoanFixtures.NUMBER_OF_INSTALLMENTS);
+    private final List<BigDecimal> rawAmounts = new ArrayList<>(LoanFixtures.NUMBER_OF_INSTALLMENTS);
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.initContext(LoanFixtures.DISBURSEMENT_DATE);
+        for (int i = 1; i <= LoanFixtures.NUMBER_OF_INSTALLMENTS; i++) {
+            BigDecimal amount = BigDecimal.valueOf(1000L * i + i % 7, 2);
+            rawAmounts.add(amount);
+            amounts.add(Money.of(CURRENCY, amount));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.resetContext();
+    }
+
+    @Benchmark
+    public Money of() {
+        Money last = null;
+        for (BigDecimal amount : rawAmounts) {
+            last = Money.of(CURRENCY, amount);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Money plus() {
+        Money total = Money.zero(CURRENCY);
+        for (Money amount : amounts) {
+            total = total.plus(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money minus() {
+        Money outstanding = Money.of(CURRENCY, BigDecimal.valueOf(1_000_000_000L));
+        for (Money amount : amounts) {
+            outstanding = outstanding.minus(amount);
+        }
+        return outstanding;
+    }
+
+    @Benchmark
+    public Money accumulate() {
+        MoneyAccumulator total = MoneyAccumulator.of(CURRENCY);
+        for (Money amount : amounts) {
+            total.plus(amount);
+        }
+        return total.toMoney();
+    }
+
+    @Benchmark
+    public Money total() {
+        return Money.total(amounts);
+    }
+
+    @Benchmark
+    public Money multipliedBy() {
+        Money total = Money.zero(CURRENCY);
+        for (Money amount : amounts) {
+            total = total.plus(amount.multipliedBy(MONTHLY_RATE));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money dividedBy() {
+        Money total = Money.zero(CURRENCY);
+        for (Money amount : amounts) {
+            total = total.plus(amount.dividedBy(3L, RoundingMode.HALF_EVEN));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public boolean compare() {
+        Money threshold = amounts.get(amounts.size() / 2);
+        int greater = 0;
+        for (Money amount : amounts) {
+            if (amount.isGreaterThan(threshold) && amount.isGreaterThanZero()) {
+                greater++;
+            }
+        }
+        return greater > 0;
+    }
+
+    /**
+     * The typical allocation pattern of a repayment: split the payment into the outstanding components and carry the
+     * rest over.
+     */
+    @Benchmark
+    public Money allocate() {
+        Money unprocessed = Money.of(CURRENCY, BigDecimal.valueOf(100_000_000L));
+        for (Money due : amounts) {
+            Money interest = due.multipliedBy(MONTHLY_RATE);
+            Money principal = due.minus(interest);
+            Money paidInterest = unprocessed.isGreaterThan(interest) ? interest : unprocessed;
+            unprocessed = unprocessed.minus(paidInterest);
+            Money paidPrincipal = unprocessed.isGreaterThan(principal) ? principal : unprocessed;
+            unprocessed = unprocessed.minus(paidPrincipal);
+        }
+        return unprocessed;
+    }
+}
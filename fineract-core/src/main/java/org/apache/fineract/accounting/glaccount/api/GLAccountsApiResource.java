@@ -41,17 +41,21 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.accounting.common.AccountingConstants;
 import org.apache.fineract.accounting.common.AccountingDropdownReadPlatformService;
 import org.apache.fineract.accounting.glaccount.data.GLAccountData;
+import org.apache.fineract.accounting.glaccount.data.GLBalanceData;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
 import org.apache.fineract.accounting.glaccount.service.GLAccountReadPlatformService;
+import org.apache.fineract.accounting.glaccount.service.GLBalanceSnapshotReadPlatformService;
 import org.apache.fineract.accounting.journalentry.data.JournalEntryAssociationParametersData;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
@@ -62,11 +66,14 @@ import org.apache.fineract.infrastructure.bulkimport.service.BulkImportWorkbookS
 import org.apache.fineract.infrastructure.codes.data.CodeValueData;
 import org.apache.fineract.infrastructure.codes.service.CodeValueReadPlatformService;
 import org.apache.fineract.infrastructure.core.api.ApiRequestParameterHelper;
+import org.apache.fineract.infrastructure.core.api.DateParam;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
+import org.apache.fineract.infrastructure.core.data.DateFormat;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.data.UploadRequest;
 import org.apache.fineract.infrastructure.core.serialization.ApiRequestJsonSerializationSettings;
 import org.apache.fineract.infrastructure.core.serialization.DefaultToApiJsonSerializer;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
 import org.glassfish.jersey.media.multipart.FormDataParam;
@@ -96,6 +103,8 @@ public class GLAccountsApiResource {
     private final CodeValueReadPlatformService codeValueReadPlatformService;
     private final BulkImportWorkbookService bulkImportWorkbookService;
     private final BulkImportWorkbookPopulatorService bulkImportWorkbookPopulatorService;
+    private final GLBalanceSnapshotReadPlatformService glBalanceSnapshotReadPlatformService;
+    private final DefaultToApiJsonSerializer<GLBalanceData> balanceJsonSerializerService;
 
     @GET
     @Path("template")
@@ -146,6 +155,35 @@ public class GLAccountsApiResource {
         return this.apiJsonSerializerService.serialize(settings, glAccountDatas, RESPONSE_DATA_PARAMETERS);
     }
 
+    @GET
+    @Path("balances")
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces({ MediaType.APPLICATION_JSON })
+    @Operation(tags = { "General Ledger Account" }, summary = "Retrieve General Ledger Account Balances", description = "ARGUMENTS\n"
+            + "asOfDate Date optional officeId Long optional glAccountId Long optional currencyCode String optional\n"
+            + "Balances are read from the daily GL balance snapshots, asOfDate defaults to the business date.\n"
+            + "Example Requests:\n" + "\n" + "glaccounts/balances\n" + "\n"
+            + "glaccounts/balances?officeId=1&asOfDate=15 July 2013&dateFormat=dd MMMM yyyy&locale=en")
+    public String retrieveBalances(@Context final UriInfo uriInfo,
+            @QueryParam("asOfDate") @Parameter(description = "asOfDate") final DateParam asOfDateParam,
+            @QueryParam("officeId") @Parameter(description = "officeId") final Long officeId,
+            @QueryParam("glAccountId") @Parameter(description = "glAccountId") final Long glAccountId,
+            @QueryParam("currencyCode") @Parameter(description = "currencyCode") final String currencyCode,
+            @QueryParam("locale") @Parameter(description = "locale") final String locale,
+            @QueryParam("dateFormat") @Parameter(description = "dateFormat") final String rawDateFormat) {
+
+        this.context.authenticatedUser().validateHasReadPermission(this.resourceNameForPermission);
+
+        final DateFormat dateFormat = StringUtils.isBlank(rawDateFormat) ? null : new DateFormat(rawDateFormat);
+        final LocalDate asOfDate = asOfDateParam == null ? DateUtils.getBusinessLocalDate()
+                : asOfDateParam.getDate("asOfDate", dateFormat, locale);
+        final List<GLBalanceData> balances = this.glBalanceSnapshotReadPlatformService.retrieveBalances(asOfDate, officeId, glAccountId,
+                currencyCode);
+
+        final ApiRequestJsonSerializationSettings settings = this.apiRequestParameterHelper.process(uriInfo.getQueryParameters());
+        return this.balanceJsonSerializerService.serialize(settings, balances);
+    }
+
     @GET
     @Path("{glAccountId}")
     @Consumes({ MediaType.APPLICATION_JSON })
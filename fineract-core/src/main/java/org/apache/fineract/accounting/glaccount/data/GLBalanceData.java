@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.glaccount.data;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.apache.fineract.infrastructure.core.data.EnumOptionData;
+
+/**
+ * Balance of a GL account in an office and currency as of a date, read from the GL balance snapshots.
+ */
+@Data
+@NoArgsConstructor
+@Accessors(chain = true)
+public class GLBalanceData implements Serializable {
+
+    private Long officeId;
+    private String officeName;
+    private Long glAccountId;
+    private String glAccountName;
+    private String glCode;
+    private EnumOptionData type;
+    private String currencyCode;
+    private BigDecimal debitAmount;
+    private BigDecimal creditAmount;
+    private BigDecimal balance;
+}
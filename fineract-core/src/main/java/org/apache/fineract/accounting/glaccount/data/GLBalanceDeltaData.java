@@ -0,0 +1,50 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.glaccount.data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Debit and credit amounts posted to a GL account of an office in a currency on an entry date, not yet folded into the
+ * GL balance snapshots.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class GLBalanceDeltaData {
+
+    private final Long officeId;
+    private final Long glAccountId;
+    private final String currencyCode;
+    private final LocalDate entryDate;
+    private final BigDecimal debitAmount;
+    private final BigDecimal creditAmount;
+
+    public static GLBalanceDeltaData instance(final Long officeId, final Long glAccountId, final String currencyCode,
+            final LocalDate entryDate, final boolean debit, final BigDecimal amount) {
+        return new GLBalanceDeltaData(officeId, glAccountId, currencyCode, entryDate, debit ? amount : BigDecimal.ZERO,
+                debit ? BigDecimal.ZERO : amount);
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.glaccount.service;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.accounting.common.AccountingEnumerations;
+import org.apache.fineract.accounting.glaccount.data.GLBalanceData;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reads balances from {@code acc_gl_balance_snapshot}: the cumulative amounts of the latest calculated snapshot up to
+ * the date, plus the daily amounts of the outdated snapshots up to the date, plus the deltas of
+ * {@code acc_gl_balance_delta} not yet folded into the snapshots. Calculated snapshots always precede the outdated ones
+ * of the same key, and a delta is deleted in the transaction that folds it, so none of them overlap.
+ */
+@Service
+@RequiredArgsConstructor
+public class GLBalanceSnapshotReadPlatformServiceImpl implements GLBalanceSnapshotReadPlatformService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<GLBalanceData> retrieveBalances(final LocalDate asOfDate, final Long officeId, final Long glAccountId,
+            final String currencyCode) {
+        final StringBuilder filter = new StringBuilder();
+        final List<Object> filterParams = new ArrayList<>();
+        if (officeId != null) {
+            filter.append(" and s.office_id = ?");
+            filterParams.add(officeId);
+        }
+        if (glAccountId != null) {
+            filter.append(" and s.account_id = ?");
+            filterParams.add(glAccountId);
+        }
+        if (currencyCode != null) {
+            filter.append(" and s.currency_code = ?");
+            filterParams.add(currencyCode);
+        }
+
+        final String sql = "select b.office_id, o.name as office_name, b.account_id, a.name as account_name, a.gl_code, "
+                + "a.classification_enum, b.currency_code, sum(b.debit_amount) as debit_amount, sum(b.credit_amount) as credit_amount "
+                + "from (select s.office_id, s.account_id, s.currency_code, s.cumulative_debit_amount as debit_amount, "
+                + "s.cumulative_credit_amount as credit_amount from acc_gl_balance_snapshot s "
+                + "where s.is_cumulative_calculated = true and s.snapshot_date = (select max(l.snapshot_date) "
+                + "from acc_gl_balance_snapshot l where l.office_id = s.office_id and l.account_id = s.account_id "
+                + "and l.currency_code = s.currency_code and l.is_cumulative_calculated = true and l.snapshot_date <= ?)" + filter
+                + " union all select s.office_id, s.account_id, s.currency_code, s.debit_amount, s.credit_amount "
+                + "from acc_gl_balance_snapshot s where s.is_cumulative_calculated = false and s.snapshot_date <= ?" + filter
+                + " union all select s.office_id, s.account_id, s.currency_code, s.debit_amount, s.credit_amount "
+                + "from acc_gl_balance_delta s where s.entry_date <= ?" + filter + ") b "
+                + "join m_office o on o.id = b.office_id join acc_gl_account a on a.id = b.account_id "
+                + "group by b.office_id, o.name, b.account_id, a.name, a.gl_code, a.classification_enum, b.currency_code "
+                + "order by b.office_id, a.gl_code, b.currency_code";
+
+        final List<Object> params = new ArrayList<>();
+        params.add(asOfDate);
+        params.addAll(filterParams);
+        params.add(asOfDate);
+        params.addAll(filterParams);
+        params.add(asOfDate);
+        params.addAll(filterParams);
+        return jdbcTemplate.query(sql, new GLBalanceMapper(), params.toArray());
+    }
+
+    static BigDecimal balance(final GLAccountType type, final BigDecimal debitAmount, final BigDecimal creditAmount) {
+        return type == GLAccountType.ASSET || type == GLAccountType.EXPENSE ? debitAmount.subtract(creditAmount)
+                : creditAmount.subtract(debitAmount);
+    }
+
+    private static final class GLBalanceMapper implements RowMapper<GLBalanceData> {
+
+        @Override
+        public GLBalanceData mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+            final GLAccountType type = GLAccountType.fromInt(rs.getInt("classification_enum"));
+            final BigDecimal debitAmount = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "debit_amount");
+            final BigDecimal creditAmount = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "credit_amount");
+            return new GLBalanceData().setOfficeId(rs.getLong("office_id")).setOfficeName(rs.getString("office_name"))
+                    .setGlAccountId(rs.getLong("account_id")).setGlAccountName(rs.getString("account_name"))
+                    .setGlCode(rs.getString("gl_code")).setType(AccountingEnumerations.gLAccountType(type))
+                    .setCurrencyCode(rs.getString("currency_code")).setDebitAmount(debitAmount).setCreditAmount(creditAmount)
+                    .setBalance(balance(type, debitAmount, creditAmount));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.glaccount.service;
+
+import java.util.Collection;
+import org.apache.fineract.accounting.glaccount.data.GLBalanceDeltaData;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+
+public interface GLBalanceSnapshotWritePlatformService {
+
+    /**
+     * Records the amount of a newly persisted journal entry as a delta of the snapshot of its office, GL account,
+     * currency and entry date.
+     */
+    void recordJournalEntry(JournalEntry journalEntry);
+
+    /**
+     * Records the amounts of journal entries inserted without the journal entry entity, e.g. by batch inserts.
+     */
+    void recordDeltas(Collection<GLBalanceDeltaData> deltas);
+
+    /**
+     * Folds the recorded deltas into the daily snapshots and recalculates the outdated cumulative amounts, snapshot key
+     * by snapshot key.
+     *
+     * @return the number of recalculated snapshots
+     */
+    int updateCumulativeAmounts();
+}
@@ -0,0 +1,208 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.glaccount.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.glaccount.data.GLBalanceDeltaData;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains {@code acc_gl_balance_snapshot}, the daily debit and credit totals of every office, GL account and currency.
+ *
+ * Posting a journal entry only inserts a row into {@code acc_gl_balance_delta}, so postings never lock the shared
+ * snapshot rows of busy GL accounts. {@link #updateCumulativeAmounts()} is the only writer of the snapshots: it folds
+ * the committed deltas into the daily totals, clears {@code is_cumulative_calculated} from the entry date of the
+ * earliest folded delta on, and deletes the folded deltas, all in one transaction. It then recalculates the cumulative
+ * totals, i.e. the balance as of the end of the day, from the first outdated day of every key. The calculated snapshots
+ * of a key therefore always precede the outdated ones.
+ */
+@Service
+@Slf4j
+public class GLBalanceSnapshotWritePlatformServiceImpl implements GLBalanceSnapshotWritePlatformService {
+
+    static final int FOLD_BATCH_SIZE = 1000;
+
+    private static final String KEY_CONDITION = "office_id = ? and account_id = ? and currency_code = ?";
+    private static final List<String> KEY_COLUMNS = List.of("office_id", "account_id", "currency_code", "snapshot_date");
+    private static final List<String> AMOUNT_COLUMNS = List.of("debit_amount", "credit_amount");
+    private static final RowMapper<DeltaRow> DELTA_ROW_MAPPER = (rs, rowNum) -> new DeltaRow(rs.getLong("id"),
+            new DailyKey(new SnapshotKey(rs.getLong("office_id"), rs.getLong("account_id"), rs.getString("currency_code")),
+                    JdbcSupport.getLocalDate(rs, "entry_date")),
+            rs.getBigDecimal("debit_amount"), rs.getBigDecimal("credit_amount"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final TransactionTemplate keyTransactionTemplate;
+
+    public GLBalanceSnapshotWritePlatformServiceImpl(JdbcTemplate jdbcTemplate, DatabaseSpecificSQLGenerator sqlGenerator,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlGenerator = sqlGenerator;
+        this.keyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.keyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void recordJournalEntry(final JournalEntry journalEntry) {
+        recordDeltas(List.of(GLBalanceDeltaData.instance(journalEntry.getOffice().getId(), journalEntry.getGlAccount().getId(),
+                journalEntry.getCurrencyCode(), journalEntry.getTransactionDate(), journalEntry.isDebitEntry(), journalEntry.getAmount())));
+    }
+
+    @Override
+    public void recordDeltas(final Collection<GLBalanceDeltaData> deltas) {
+        final Map<DailyKey, Amounts> amounts = new LinkedHashMap<>();
+        for (GLBalanceDeltaData delta : deltas) {
+            final DailyKey dailyKey = new DailyKey(new SnapshotKey(delta.getOfficeId(), delta.getGlAccountId(), delta.getCurrencyCode()),
+                    delta.getEntryDate());
+            amounts.computeIfAbsent(dailyKey, key -> new Amounts()).add(delta.getDebitAmount(), delta.getCreditAmount());
+        }
+        if (amounts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("insert into acc_gl_balance_delta (office_id, account_id, currency_code, entry_date, debit_amount, "
+                + "credit_amount) values (?, ?, ?, ?, ?, ?)", toParams(amounts));
+    }
+
+    @Override
+    public int updateCumulativeAmounts() {
+        int folded;
+        do {
+            final Integer batchFolded = keyTransactionTemplate.execute(status -> foldDeltas());
+            folded = batchFolded == null ? 0 : batchFolded;
+        } while (folded == FOLD_BATCH_SIZE);
+
+        final List<SnapshotKey> keys = jdbcTemplate.query("select distinct office_id, account_id, currency_code "
+                + "from acc_gl_balance_snapshot where is_cumulative_calculated = false",
+                (rs, rowNum) -> new SnapshotKey(rs.getLong("office_id"), rs.getLong("account_id"), rs.getString("currency_code")));
+        int updated = 0;
+        for (SnapshotKey key : keys) {
+            Integer keyUpdated = keyTransactionTemplate.execute(status -> updateCumulativeAmounts(key));
+            updated += keyUpdated == null ? 0 : keyUpdated;
+        }
+        log.debug("Recalculated {} GL balance snapshots of {} keys", updated, keys.size());
+        return updated;
+    }
+
+    /**
+     * Folds a batch of the committed deltas into the daily snapshots. Deltas committed later, even with a lower id, are
+     * picked up by a later batch as only the folded ones are deleted.
+     */
+    private int foldDeltas() {
+        final List<DeltaRow> deltas = jdbcTemplate.query("select id, office_id, account_id, currency_code, entry_date, debit_amount, "
+                + "credit_amount from acc_gl_balance_delta order by id " + sqlGenerator.limit(FOLD_BATCH_SIZE), DELTA_ROW_MAPPER);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        final Map<DailyKey, Amounts> amounts = new LinkedHashMap<>();
+        final Map<SnapshotKey, LocalDate> fromDates = new LinkedHashMap<>();
+        final List<Object[]> deltaIds = new ArrayList<>(deltas.size());
+        for (DeltaRow delta : deltas) {
+            amounts.computeIfAbsent(delta.dailyKey(), key -> new Amounts()).add(delta.debitAmount(), delta.creditAmount());
+            fromDates.merge(delta.dailyKey().key(), delta.dailyKey().date(), (date1, date2) -> date1.isBefore(date2) ? date1 : date2);
+            deltaIds.add(new Object[] { delta.id() });
+        }
+
+        jdbcTemplate.batchUpdate(sqlGenerator.upsertIncrement("acc_gl_balance_snapshot", KEY_COLUMNS, AMOUNT_COLUMNS), toParams(amounts));
+        final List<Object[]> outdatedParams = new ArrayList<>(fromDates.size());
+        fromDates.forEach((key, fromDate) -> outdatedParams
+                .add(new Object[] { key.officeId(), key.accountId(), key.currencyCode(), fromDate }));
+        jdbcTemplate.batchUpdate("update acc_gl_balance_snapshot set is_cumulative_calculated = false where " + KEY_CONDITION
+                + " and snapshot_date >= ? and is_cumulative_calculated = true", outdatedParams);
+        jdbcTemplate.batchUpdate("delete from acc_gl_balance_delta where id = ?", deltaIds);
+        return deltas.size();
+    }
+
+    private int updateCumulativeAmounts(final SnapshotKey key) {
+        final List<LocalDate> firstOutdated = jdbcTemplate.queryForList("select min(snapshot_date) from acc_gl_balance_snapshot where "
+                + KEY_CONDITION + " and is_cumulative_calculated = false", LocalDate.class, key.officeId(), key.accountId(),
+                key.currencyCode());
+        if (firstOutdated.isEmpty() || firstOutdated.get(0) == null) {
+            return 0;
+        }
+        final LocalDate fromDate = firstOutdated.get(0);
+        final List<Snapshot> snapshots = jdbcTemplate.query("select id, debit_amount, credit_amount from acc_gl_balance_snapshot where "
+                + KEY_CONDITION + " and snapshot_date >= ? order by snapshot_date",
+                (rs, rowNum) -> new Snapshot(rs.getLong("id"), rs.getBigDecimal("debit_amount"), rs.getBigDecimal("credit_amount")),
+                key.officeId(), key.accountId(), key.currencyCode(), fromDate);
+
+        final List<BigDecimal[]> previous = jdbcTemplate.query(
+                "select cumulative_debit_amount, cumulative_credit_amount from acc_gl_balance_snapshot where " + KEY_CONDITION
+                        + " and snapshot_date < ? order by snapshot_date desc " + sqlGenerator.limit(1),
+                (rs, rowNum) -> new BigDecimal[] { JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "cumulative_debit_amount"),
+                        JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "cumulative_credit_amount") },
+                key.officeId(), key.accountId(), key.currencyCode(), fromDate);
+        BigDecimal cumulativeDebit = previous.isEmpty() ? BigDecimal.ZERO : previous.get(0)[0];
+        BigDecimal cumulativeCredit = previous.isEmpty() ? BigDecimal.ZERO : previous.get(0)[1];
+
+        final List<Object[]> params = new ArrayList<>(snapshots.size());
+        for (Snapshot snapshot : snapshots) {
+            cumulativeDebit = cumulativeDebit.add(snapshot.debitAmount());
+            cumulativeCredit = cumulativeCredit.add(snapshot.creditAmount());
+            params.add(new Object[] { cumulativeDebit, cumulativeCredit, snapshot.id() });
+        }
+        jdbcTemplate.batchUpdate("update acc_gl_balance_snapshot set cumulative_debit_amount = ?, cumulative_credit_amount = ?, "
+                + "is_cumulative_calculated = true where id = ?", params);
+        return snapshots.size();
+    }
+
+    private static List<Object[]> toParams(final Map<DailyKey, Amounts> amounts) {
+        final List<Object[]> params = new ArrayList<>(amounts.size());
+        amounts.forEach((dailyKey, amount) -> params.add(new Object[] { dailyKey.key().officeId(), dailyKey.key().accountId(),
+                dailyKey.key().currencyCode(), dailyKey.date(), amount.debitAmount, amount.creditAmount }));
+        return params;
+    }
+
+    private static final class Amounts {
+
+        private BigDecimal debitAmount = BigDecimal.ZERO;
+        private BigDecimal creditAmount = BigDecimal.ZERO;
+
+        private void add(final BigDecimal debit, final BigDecimal credit) {
+            debitAmount = debitAmount.add(debit);
+            creditAmount = creditAmount.add(credit);
+        }
+    }
+
+    private record SnapshotKey(long officeId, long accountId, String currencyCode) {
+    }
+
+    private record DailyKey(SnapshotKey key, LocalDate date) {
+    }
+
+    private record DeltaRow(long id, DailyKey dailyKey, BigDecimal debitAmount, BigDecimal creditAmount) {
+    }
+
+    private record Snapshot(long id, BigDecimal debitAmount, BigDecimal creditAmount) {
+    }
+}
@@ -42,6 +42,8 @@ public class CommandStrategyProvider {
 
     private final ApplicationContext applicationContext;
     private static final Map<CommandContext, String> commandStrategies = new ConcurrentHashMap<>();
+    private final CommandStrategyRouter router = new CommandStrategyRouter();
+    private final Map<String, CommandStrategy> strategyBeans = new ConcurrentHashMap<>();
 
     /**
      * Regex pattern for specifying any number of query params or not specific any query param
@@ -81,7 +83,7 @@ public class CommandStrategyProvider {
     /**
      * Constructs a CommandStrategyProvider with argument of ApplicationContext type. It also initializes
      * commandStrategies using init() function by filling it with available CommandStrategies in
-     * {@link org.apache.fineract.batch.command.internal}.
+     * {@link org.apache.fineract.batch.command.internal} and compiles them into a {@link CommandStrategyRouter}.
      *
      * @param applicationContext
      */
@@ -89,6 +91,7 @@ public class CommandStrategyProvider {
 
         // calls init() function of this class.
         init();
+        commandStrategies.forEach(router::register);
 
         this.applicationContext = applicationContext;
     }
@@ -113,21 +116,19 @@ public class CommandStrategyProvider {
     }
 
     private CommandStrategy internalGetCommandStrategy(CommandContext commandContext) {
-        if (commandStrategies.containsKey(commandContext)) {
-            return (CommandStrategy) this.applicationContext.getBean(commandStrategies.get(commandContext));
+        String beanName = router.resolve(commandContext);
+        if (beanName == null) {
+            return new UnknownCommandStrategy();
         }
-
-        for (Map.Entry<CommandContext, String> entry : commandStrategies.entrySet()) {
-            if (commandContext.matcher(entry.getKey())) {
-                return (CommandStrategy) applicationContext.getBean(commandStrategies.get(entry.getKey()));
-            }
-        }
-        return new UnknownCommandStrategy();
+        // command strategies are singletons, no need to go through the application context on every request
+        return strategyBeans.computeIfAbsent(beanName, name -> (CommandStrategy) applicationContext.getBean(name));
     }
 
     /**
      * Contains various available command strategies in {@link org.apache.fineract.batch.command.internal}. Any new
      * command Strategy will have to be added within this function in order to initiate it within the constructor.
+     * Resources are {@code \/} separated segment regexes optionally followed by a query regex, see
+     * {@link CommandStrategyRouter}.
      */
     private static void init() {
         commandStrategies.put(CommandContext.resource("v1\\/clients").method(POST).build(), "createClientCommandStrategy");
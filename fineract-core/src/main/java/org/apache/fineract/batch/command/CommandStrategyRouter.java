@@ -0,0 +1,140 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.batch.command;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Path segment trie compiled from the regex based {@link CommandContext} routes of the {@link CommandStrategyProvider}.
+ *
+ * A route resource is a sequence of segment regexes separated by {@code \/}, optionally followed by a query regex
+ * starting with {@code \?} or {@code (\?}. Segment regexes must not match {@code /} or {@code ?}. Plain segments (e.g.
+ * {@code loans}, {@code external-id}) become literal children, the others are matched with their precompiled pattern.
+ * Resolving a url walks the trie once per segment instead of evaluating every route regex against the whole url.
+ */
+final class CommandStrategyRouter {
+
+    private static final String SEGMENT_SEPARATOR = "\\/";
+    private static final Pattern LITERAL_SEGMENT = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final Node root = new Node();
+
+    /**
+     * Registers the given route.
+     *
+     * @param route
+     *            the route, its resource is a regex
+     * @param beanName
+     *            the name of the command strategy bean serving the route
+     */
+    void register(CommandContext route, String beanName) {
+        String resource = route.getResource();
+        Pattern queryPattern = null;
+        int queryStart = resource.indexOf("(\\?");
+        if (queryStart < 0) {
+            queryStart = resource.indexOf("\\?");
+        }
+        if (queryStart >= 0) {
+            queryPattern = Pattern.compile(resource.substring(queryStart));
+            resource = resource.substring(0, queryStart);
+        }
+        Node node = root;
+        for (String segment : resource.split(Pattern.quote(SEGMENT_SEPARATOR), -1)) {
+            node = node.child(segment);
+        }
+        node.endpoints.add(new Endpoint(route.getMethod(), queryPattern, beanName));
+    }
+
+    /**
+     * Returns the name of the command strategy bean serving the given relative url and method, or null if there is none.
+     */
+    String resolve(CommandContext commandContext) {
+        String resource = commandContext.getResource();
+        int queryStart = resource.indexOf('?');
+        String path = queryStart < 0 ? resource : resource.substring(0, queryStart);
+        String query = queryStart < 0 ? "" : resource.substring(queryStart);
+        return resolve(root, path.split("/", -1), 0, commandContext.getMethod(), query);
+    }
+
+    private static String resolve(Node node, String[] segments, int index, String method, String query) {
+        if (index == segments.length) {
+            for (Endpoint endpoint : node.endpoints) {
+                if (endpoint.matches(method, query)) {
+                    return endpoint.beanName();
+                }
+            }
+            return null;
+        }
+        String segment = segments[index];
+        Node literalChild = node.literalChildren.get(segment);
+        if (literalChild != null) {
+            String beanName = resolve(literalChild, segments, index + 1, method, query);
+            if (beanName != null) {
+                return beanName;
+            }
+        }
+        for (PatternChild patternChild : node.patternChildren) {
+            if (patternChild.pattern().matcher(segment).matches()) {
+                String beanName = resolve(patternChild.node(), segments, index + 1, method, query);
+                if (beanName != null) {
+                    return beanName;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literalChildren = new HashMap<>();
+        private final List<PatternChild> patternChildren = new ArrayList<>();
+        private final List<Endpoint> endpoints = new ArrayList<>();
+
+        private Node child(String segmentRegex) {
+            if (LITERAL_SEGMENT.matcher(segmentRegex).matches()) {
+                return literalChildren.computeIfAbsent(segmentRegex, key -> new Node());
+            }
+            for (PatternChild patternChild : patternChildren) {
+                if (patternChild.pattern().pattern().equals(segmentRegex)) {
+                    return patternChild.node();
+                }
+            }
+            PatternChild patternChild = new PatternChild(Pattern.compile(segmentRegex), new Node());
+            patternChildren.add(patternChild);
+            return patternChild.node();
+        }
+    }
+
+    private record PatternChild(Pattern pattern, Node node) {
+    }
+
+    private record Endpoint(String method, Pattern queryPattern, String beanName) {
+
+        private boolean matches(String requestMethod, String query) {
+            if (!method.equals(requestMethod)) {
+                return false;
+            }
+            return queryPattern == null ? query.isEmpty() : queryPattern.matcher(query).matches();
+        }
+    }
+}
@@ -33,7 +33,9 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -86,6 +88,7 @@ public class BatchApiServiceImpl implements BatchApiService {
     private final ResolutionHelper resolutionHelper;
     private final PlatformTransactionManager transactionManager;
     private final ErrorHandler errorHandler;
+    private final BatchRequestExecutor batchRequestExecutor;
 
     private final List<BatchFilter> batchFilters;
 
@@ -117,19 +120,62 @@ public class BatchApiServiceImpl implements BatchApiService {
             return responseList;
         }
 
-        for (BatchRequestNode rootNode : batchRequestNodes) {
-            if (enclosingTransaction) {
-                this.callRequestRecursive(rootNode.getRequest(), rootNode, responseList, uriInfo, enclosingTransaction);
-            } else {
-                List<BatchResponse> localResponseList = new ArrayList<>();
-                this.callRequestRecursive(rootNode.getRequest(), rootNode, localResponseList, uriInfo, enclosingTransaction);
-                responseList.addAll(localResponseList);
+        if (!enclosingTransaction && batchRequestExecutor.isEnabled() && batchRequestNodes.size() > 1) {
+            responseList.addAll(callRootRequestsInParallel(batchRequestNodes, uriInfo));
+        } else {
+            for (BatchRequestNode rootNode : batchRequestNodes) {
+                if (enclosingTransaction) {
+                    this.callRequestRecursive(rootNode.getRequest(), rootNode, responseList, uriInfo, enclosingTransaction);
+                } else {
+                    List<BatchResponse> localResponseList = new ArrayList<>();
+                    this.callRequestRecursive(rootNode.getRequest(), rootNode, localResponseList, uriInfo, enclosingTransaction);
+                    responseList.addAll(localResponseList);
+                }
             }
         }
         Collections.sort(responseList, Comparator.comparing(BatchResponse::getRequestId));
         return responseList;
     }
 
+    /**
+     * Executes the independent dependency trees concurrently, each of them in its own transactions. Trees whose root
+     * requests target the same resource (e.g. the same loan) are still executed one after the other, so they do not
+     * compete for the same rows.
+     *
+     * @param rootNodes
+     *            the root nodes of the independent dependency trees
+     * @param uriInfo
+     * @return the responses of all the requests
+     */
+    private List<BatchResponse> callRootRequestsInParallel(List<BatchRequestNode> rootNodes, UriInfo uriInfo) {
+        Map<String, List<BatchRequestNode>> rootNodesByResource = rootNodes.stream()
+                .collect(Collectors.groupingBy(rootNode -> resourceKey(rootNode.getRequest()), LinkedHashMap::new, Collectors.toList()));
+        List<Supplier<List<BatchResponse>>> tasks = new ArrayList<>(rootNodesByResource.size());
+        for (List<BatchRequestNode> resourceRootNodes : rootNodesByResource.values()) {
+            tasks.add(() -> {
+                List<BatchResponse> localResponseList = new ArrayList<>();
+                for (BatchRequestNode rootNode : resourceRootNodes) {
+                    this.callRequestRecursive(rootNode.getRequest(), rootNode, localResponseList, uriInfo, false);
+                }
+                return localResponseList;
+            });
+        }
+        return batchRequestExecutor.invokeAll(tasks).stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * Returns the resource the request is addressed to: the first two path segments of the relative url (three for
+     * external id based urls), e.g. {@code loans/1} for {@code loans/1/transactions?command=repayment}.
+     */
+    static String resourceKey(BatchRequest request) {
+        String relativeUrl = Optional.ofNullable(request.getRelativeUrl()).orElse("");
+        int queryStart = relativeUrl.indexOf('?');
+        String path = queryStart < 0 ? relativeUrl : relativeUrl.substring(0, queryStart);
+        String[] segments = path.replaceFirst("^/+", "").split("/");
+        int length = segments.length > 2 && "external-id".equals(segments[1]) ? 3 : Math.min(2, segments.length);
+        return String.join("/", Arrays.asList(segments).subList(0, length));
+    }
+
     /**
      * Executes the request and call child requests recursively.
      *
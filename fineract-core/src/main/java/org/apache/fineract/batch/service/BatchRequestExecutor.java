@@ -0,0 +1,125 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.batch.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
+import org.apache.fineract.infrastructure.core.service.CallerContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded pool used to execute the independent root requests of a batch concurrently, see
+ * {@code fineract.batch.parallel.*}.
+ *
+ * The tasks run with the tenant, business date, security, request and logging context of the submitting thread. When
+ * the queue is full the task runs on the submitting thread instead.
+ */
+@Slf4j
+@Component
+public class BatchRequestExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+
+    public BatchRequestExecutor(FineractProperties fineractProperties) {
+        FineractProperties.FineractBatchParallelProperties properties = Optional.ofNullable(fineractProperties.getBatch())
+                .map(FineractProperties.FineractBatchProperties::getParallel).orElse(null);
+        if (properties != null && properties.isEnabled()) {
+            int threadCount = Math.max(1, properties.getThreadCount());
+            int queueCapacity = Math.max(1, properties.getQueueCapacity());
+            this.executor = new ThreadPoolExecutor(threadCount, threadCount, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("batch-request-"));
+            this.executor.allowCoreThreadTimeOut(true);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return executor != null;
+    }
+
+    /**
+     * Executes the given tasks concurrently and returns their results in the order of the tasks. Waits for all the tasks
+     * to finish; if any of them failed, the failure of the first failed task is rethrown.
+     */
+    public <T> List<T> invokeAll(List<Supplier<T>> tasks) {
+        CallerContext callerContext = CallerContext.capture();
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<T> task : tasks) {
+            futures.add(submit(task, callerContext));
+        }
+        List<T> results = new ArrayList<>(tasks.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, CallerContext callerContext) {
+        try {
+            return CompletableFuture.supplyAsync(() -> callerContext.call(() -> callInOwnTransaction(task)), executor);
+        } catch (RejectedExecutionException e) {
+            log.debug("Batch request pool is saturated, executing on the calling thread");
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+    }
+
+    private static <T> T callInOwnTransaction(Supplier<T> task) {
+        BatchRequestContextHolder.setEnclosingTransaction(Optional.empty());
+        try {
+            return task.get();
+        } finally {
+            BatchRequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
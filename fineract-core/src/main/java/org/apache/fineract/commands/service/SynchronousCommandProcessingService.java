@@ -44,7 +44,9 @@ import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDoma
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.JdbcStatementOrigin;
 import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
 import org.apache.fineract.infrastructure.core.exception.AbstractIdempotentCommandException;
 import org.apache.fineract.infrastructure.core.exception.IdempotentCommandProcessFailedException;
@@ -55,6 +57,8 @@ import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.hooks.event.HookEvent;
 import org.apache.fineract.infrastructure.hooks.event.HookEventSource;
+import org.apache.fineract.infrastructure.hooks.service.HookEventDispatcher;
+import org.apache.fineract.infrastructure.hooks.service.HookSubscriptionIndex;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.context.ApplicationContext;
@@ -79,6 +83,8 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     private final IdempotencyKeyResolver idempotencyKeyResolver;
     private final IdempotencyKeyGenerator idempotencyKeyGenerator;
     private final CommandSourceService commandSourceService;
+    private final HookSubscriptionIndex hookSubscriptionIndex;
+    private final HookEventDispatcher hookEventDispatcher;
 
     private final FineractRequestContextHolder fineractRequestContextHolder;
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
@@ -106,6 +112,7 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         setIdempotencyKeyStoreFlag(true);
 
         final CommandProcessingResult result;
+        final String previousOrigin = JdbcStatementOrigin.set("command:" + wrapper.taskPermissionName());
         try {
             result = findCommandHandler(wrapper).processCommand(command);
         } catch (Throwable t) { // NOSONAR
@@ -113,6 +120,8 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
             commandSourceService.saveFailed(source);
             publishHookErrorEvent(wrapper, command, t);
             throw t;
+        } finally {
+            JdbcStatementOrigin.restore(previousOrigin);
         }
         CommandSource initialCommandSource = commandSourceService.findCommandSource(wrapper, idempotencyKey);
 
@@ -164,10 +173,22 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     }
 
     private void publishHookErrorEvent(CommandWrapper wrapper, JsonCommand command, Throwable t) {
+        if (!hasHookSubscribers(wrapper.entityName(), wrapper.actionName())) {
+            return;
+        }
         ErrorInfo ex = commandSourceService.generateErrorException(t);
         publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, gson.toJson(ex));
     }
 
+    private boolean hasHookSubscribers(String entityName, String actionName) {
+        try {
+            return hookSubscriptionIndex.hasSubscribers(entityName, actionName);
+        } catch (Exception e) {
+            log.error("Error", e);
+            return false;
+        }
+    }
+
     private void exceptionWhenTheRequestAlreadyProcessed(CommandWrapper wrapper, String idempotencyKey) {
         CommandSource existingCommand = commandSourceService.findCommandSource(wrapper, idempotencyKey);
         if (existingCommand != null) {
@@ -280,34 +301,40 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     private void publishHookEvent(final String entityName, final String actionName, JsonCommand command, final Object result) {
 
         try {
-            final AppUser appUser = context.authenticatedUser(CommandWrapper.wrap(actionName, entityName, null, null));
-
-            final HookEventSource hookEventSource = new HookEventSource(entityName, actionName);
-
+            final String json = command.json();
             // TODO: Add support for publishing array events
-            if (command.json() != null && command.json().startsWith("{")) {
+            if (json == null || !json.startsWith("{") || !hookSubscriptionIndex.hasSubscribers(entityName, actionName)) {
+                return;
+            }
+
+            final AppUser appUser = context.authenticatedUser(CommandWrapper.wrap(actionName, entityName, null, null));
+            final Object response = result instanceof CommandProcessingResult commandProcessingResult
+                    ? CommandProcessingResult.fromCommandProcessingResult(commandProcessingResult)
+                    : result;
+            final String timestamp = Instant.now().toString();
+            final FineractContext fineractContext = ThreadLocalContextUtil.getContext();
+
+            hookEventDispatcher.dispatch(fineractContext, () -> {
+                final HookEventSource hookEventSource = new HookEventSource(entityName, actionName);
                 Type type = new TypeToken<Map<String, Object>>() {
 
                 }.getType();
-                Map<String, Object> myMap = gson.fromJson(command.json(), type);
+                Map<String, Object> myMap = gson.fromJson(json, type);
 
                 Map<String, Object> reqmap = new HashMap<>();
                 reqmap.put("entityName", entityName);
                 reqmap.put("actionName", actionName);
-                reqmap.put("createdBy", context.authenticatedUser().getId());
-                reqmap.put("createdByName", context.authenticatedUser().getUsername());
-                reqmap.put("createdByFullName", context.authenticatedUser().getDisplayName());
+                reqmap.put("createdBy", appUser.getId());
+                reqmap.put("createdByName", appUser.getUsername());
+                reqmap.put("createdByFullName", appUser.getDisplayName());
 
                 reqmap.put("request", myMap);
-                if (result instanceof CommandProcessingResult) {
-                    CommandProcessingResult resultCopy = CommandProcessingResult
-                            .fromCommandProcessingResult((CommandProcessingResult) result);
-
+                if (response instanceof CommandProcessingResult resultCopy) {
                     reqmap.put("officeId", resultCopy.getOfficeId());
                     reqmap.put("clientId", resultCopy.getClientId());
                     resultCopy.setOfficeId(null);
                     reqmap.put("response", resultCopy);
-                } else if (result instanceof ErrorInfo ex) {
+                } else if (response instanceof ErrorInfo ex) {
                     reqmap.put("status", "Exception");
 
                     Map<String, Object> errorMap = gson.fromJson(ex.getMessage(), type);
@@ -317,15 +344,14 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
                     reqmap.put("response", errorMap);
                 }
 
-                reqmap.put("timestamp", Instant.now().toString());
+                reqmap.put("timestamp", timestamp);
 
                 final String serializedResult = toApiResultJsonSerializer.serialize(reqmap);
 
-                final HookEvent applicationEvent = new HookEvent(hookEventSource, serializedResult, appUser,
-                        ThreadLocalContextUtil.getContext());
+                final HookEvent applicationEvent = new HookEvent(hookEventSource, serializedResult, appUser, fineractContext);
 
                 applicationContext.publishEvent(applicationEvent);
-            }
+            });
         } catch (Exception e) {
             log.error("Error", e);
         }
@@ -0,0 +1,50 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.businessdate.domain;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>
+ * Wrapper for {@link BusinessDateRepository} that holds the stored business dates of the tenant in memory, so they do
+ * not have to be read from the database on every request. The entry of the tenant is evicted by every business date
+ * change made through the business date write service.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessDateRepositoryWrapper {
+
+    private final BusinessDateRepository repository;
+
+    @Cacheable(value = "businessDates", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier()")
+    public Map<BusinessDateType, LocalDate> findAllStoredDates() {
+        Map<BusinessDateType, LocalDate> businessDates = new EnumMap<>(BusinessDateType.class);
+        for (BusinessDate businessDate : repository.findAll()) {
+            businessDates.put(businessDate.getType(), businessDate.getDate());
+        }
+        return Collections.unmodifiableMap(businessDates);
+    }
+}
@@ -43,6 +43,7 @@ import org.apache.fineract.infrastructure.core.exception.AbstractPlatformDomainR
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -55,6 +56,7 @@ public class BusinessDateWritePlatformServiceImpl implements BusinessDateWritePl
     private final ConfigurationDomainService configurationDomainService;
 
     @Override
+    @CacheEvict(value = "businessDates", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier()")
     public CommandProcessingResult updateBusinessDate(@NotNull final JsonCommand command) {
         BusinessDateData data = dataValidator.validateAndParseUpdate(command);
         Map<String, Object> changes = new HashMap<>();
@@ -64,6 +66,7 @@ public class BusinessDateWritePlatformServiceImpl implements BusinessDateWritePl
     }
 
     @Override
+    @CacheEvict(value = "businessDates", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier()")
     public void adjustDate(BusinessDateData data, Map<String, Object> changes) {
         boolean isCOBDateAdjustmentEnabled = configurationDomainService.isCOBDateAdjustmentEnabled();
         boolean isBusinessDateEnabled = configurationDomainService.isBusinessDateEnabled();
@@ -79,11 +82,13 @@ public class BusinessDateWritePlatformServiceImpl implements BusinessDateWritePl
     }
 
     @Override
+    @CacheEvict(value = "businessDates", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier()")
     public void increaseCOBDateByOneDay() throws JobExecutionException {
         increaseDateByTypeByOneDay(BusinessDateType.COB_DATE);
     }
 
     @Override
+    @CacheEvict(value = "businessDates", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier()")
     public void increaseBusinessDateByOneDay() throws JobExecutionException {
         increaseDateByTypeByOneDay(BusinessDateType.BUSINESS_DATE);
     }
@@ -0,0 +1,47 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.data;
+
+import lombok.Data;
+
+/**
+ * A cache eviction performed on one node that the other nodes of a multi node deployment have to replay on their own
+ * near caches.
+ */
+@Data
+public final class CacheInvalidationData {
+
+    private final String cacheName;
+    /**
+     * Key of the evicted entry, <code>null</code> when the whole cache was cleared.
+     */
+    private final String cacheKey;
+
+    public static CacheInvalidationData evict(final String cacheName, final String cacheKey) {
+        return new CacheInvalidationData(cacheName, cacheKey);
+    }
+
+    public static CacheInvalidationData clear(final String cacheName) {
+        return new CacheInvalidationData(cacheName, null);
+    }
+
+    public boolean isClear() {
+        return this.cacheKey == null;
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+
+/**
+ * Transport used by the {@link MultiNodeCacheManager} to broadcast cache evictions to the other nodes of the cluster.
+ *
+ * The channel to use is selected by the <code>fineract.cache.multi-node.invalidation-channel</code> property matching
+ * {@link #getName()}.
+ */
+public interface CacheInvalidationChannel {
+
+    String getName();
+
+    void publish(CacheInvalidationData invalidation);
+
+    /**
+     * Starts delivering the invalidations published by the other nodes to the given listener. Invalidations published
+     * by this node are not delivered back.
+     */
+    void start(Consumer<CacheInvalidationData> listener);
+
+    void stop();
+}
@@ -0,0 +1,99 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+
+/**
+ * Near cache of a single node. Reads and writes stay local, evictions are applied locally and broadcast to the other
+ * nodes through the {@link MultiNodeCacheManager}.
+ */
+@RequiredArgsConstructor
+class InvalidationPublishingCache implements Cache {
+
+    private final Cache delegate;
+    private final MultiNodeCacheManager cacheManager;
+
+    @Override
+    public String getName() {
+        return this.delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        return this.delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(final Object key, final Class<T> type) {
+        return this.delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        return this.delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        this.delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        return this.delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(final Object key) {
+        this.delegate.evict(key);
+        this.cacheManager.publishEviction(this.delegate, key);
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        final boolean evicted = this.delegate.evictIfPresent(key);
+        this.cacheManager.publishEviction(this.delegate, key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        this.delegate.clear();
+        this.cacheManager.publishClear(this.delegate);
+    }
+
+    @Override
+    public boolean invalidate() {
+        final boolean invalidated = this.delegate.invalidate();
+        this.cacheManager.publishClear(this.delegate);
+        return invalidated;
+    }
+
+    Cache getDelegate() {
+        return this.delegate;
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CacheInvalidationChannel} backed by the <code>cache_invalidation</code> table of the tenant store database,
+ * which is shared by every node of the cluster.
+ *
+ * Published invalidations are inserted as rows and every node polls the rows added since its last poll. Identifiers
+ * that are skipped by a poll (because the inserting transaction was not yet visible) are re-checked for a few polls, so
+ * a late commit does not lose an invalidation. Rows older than the configured retention are deleted periodically.
+ */
+@Slf4j
+@Component
+public class JdbcCacheInvalidationChannel implements CacheInvalidationChannel, DisposableBean {
+
+    public static final String NAME = "jdbc";
+
+    private static final String SELECT_COLUMNS = "select id, cache_name, cache_key, origin_node from cache_invalidation ";
+    private static final int MISSING_ID_POLL_ATTEMPTS = 10;
+    private static final int MAX_TRACKED_MISSING_IDS = 1000;
+    private static final long CLEANUP_INTERVAL_MILLIS = 60_000L;
+    private static final RowMapper<InvalidationRow> ROW_MAPPER = (rs, rowNum) -> new InvalidationRow(rs.getLong("id"),
+            rs.getString("cache_name"), rs.getString("cache_key"), rs.getString("origin_node"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final FineractProperties fineractProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, Integer> missingIds = new LinkedHashMap<>();
+
+    private ScheduledExecutorService poller;
+    private ScheduledFuture<?> pollTask;
+    private Consumer<CacheInvalidationData> listener;
+    private long lastSeenId;
+    private long lastCleanupMillis;
+
+    public JdbcCacheInvalidationChannel(@Qualifier("hikariTenantDataSource") final DataSource dataSource,
+            final FineractProperties fineractProperties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(this.jdbcTemplate);
+        this.fineractProperties = fineractProperties;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void publish(final CacheInvalidationData invalidation) {
+        this.jdbcTemplate.update("insert into cache_invalidation (cache_name, cache_key, origin_node, created_at) values (?, ?, ?, ?)",
+                invalidation.getCacheName(), invalidation.getCacheKey(), this.nodeId, LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    @Override
+    public synchronized void start(final Consumer<CacheInvalidationData> listener) {
+        if (this.poller != null) {
+            return;
+        }
+        this.listener = listener;
+        final Long maxId = this.jdbcTemplate.queryForObject("select max(id) from cache_invalidation", Long.class);
+        this.lastSeenId = maxId == null ? 0L : maxId;
+        this.missingIds.clear();
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cache-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long pollIntervalMillis = Math.max(100L, getProperties().getPollIntervalMillis());
+        this.pollTask = this.poller.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Started polling cache invalidations of node {} every {}ms", this.nodeId, pollIntervalMillis);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (this.poller != null) {
+            this.pollTask.cancel(false);
+            this.pollTask = null;
+            this.poller.shutdownNow();
+            this.poller = null;
+            this.listener = null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (final Exception e) {
+            log.warn("Error occurred while polling cache invalidations", e);
+        }
+    }
+
+    synchronized void poll() {
+        if (this.listener == null) {
+            return;
+        }
+        pollMissingIds();
+        final List<InvalidationRow> rows = this.jdbcTemplate.query(SELECT_COLUMNS + "where id > ? order by id", ROW_MAPPER,
+                this.lastSeenId);
+        for (final InvalidationRow row : rows) {
+            for (long id = this.lastSeenId + 1; id < row.id() && this.missingIds.size() < MAX_TRACKED_MISSING_IDS; id++) {
+                this.missingIds.put(id, MISSING_ID_POLL_ATTEMPTS);
+            }
+            this.lastSeenId = row.id();
+            apply(row);
+        }
+        cleanupIfDue();
+    }
+
+    private void pollMissingIds() {
+        if (this.missingIds.isEmpty()) {
+            return;
+        }
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("ids", new ArrayList<>(this.missingIds.keySet()));
+        final List<InvalidationRow> rows = this.namedParameterJdbcTemplate.query(SELECT_COLUMNS + "where id in (:ids)", parameters,
+                ROW_MAPPER);
+        for (final InvalidationRow row : rows) {
+            this.missingIds.remove(row.id());
+            apply(row);
+        }
+        final Iterator<Map.Entry<Long, Integer>> iterator = this.missingIds.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Long, Integer> entry = iterator.next();
+            if (entry.getValue() <= 1) {
+                iterator.remove();
+            } else {
+                entry.setValue(entry.getValue() - 1);
+            }
+        }
+    }
+
+    private void apply(final InvalidationRow row) {
+        if (this.nodeId.equals(row.originNode())) {
+            return;
+        }
+        this.listener.accept(new CacheInvalidationData(row.cacheName(), row.cacheKey()));
+    }
+
+    private void cleanupIfDue() {
+        final long now = System.currentTimeMillis();
+        if (now - this.lastCleanupMillis < CLEANUP_INTERVAL_MILLIS) {
+            return;
+        }
+        this.lastCleanupMillis = now;
+        final LocalDateTime threshold = LocalDateTime.now(ZoneOffset.UTC).minusSeconds(getProperties().getRetentionSeconds());
+        final int deleted = this.jdbcTemplate.update("delete from cache_invalidation where created_at < ?", threshold);
+        log.debug("Deleted {} expired cache invalidations", deleted);
+    }
+
+    private FineractProperties.FineractMultiNodeCacheProperties getProperties() {
+        return this.fineractProperties.getCache().getMultiNode();
+    }
+
+    private record InvalidationRow(long id, String cacheName, String cacheKey, String originNode) {}
+}
@@ -0,0 +1,192 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link CacheManager} used for {@link org.apache.fineract.infrastructure.cache.domain.CacheType#MULTI_NODE}.
+ *
+ * Every node keeps its own near cache (the Ehcache regions, or an in-memory map for regions Ehcache does not define)
+ * and broadcasts its evictions through the configured {@link CacheInvalidationChannel}. Evictions made inside a
+ * transaction are broadcast after the transaction committed, so other nodes can not reload the old state in between.
+ */
+@Slf4j
+@Component(value = "multiNodeCacheManager")
+public class MultiNodeCacheManager implements CacheManager {
+
+    private final CacheManager nearCacheManager;
+    private final List<CacheInvalidationChannel> channels;
+    private final FineractProperties fineractProperties;
+    private final ConcurrentMap<String, InvalidationPublishingCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Consumer<CacheInvalidationData>> invalidationListeners = new ConcurrentHashMap<>();
+
+    private volatile CacheInvalidationChannel channel;
+
+    public MultiNodeCacheManager(@Qualifier("ehCacheManager") final CacheManager nearCacheManager,
+            final List<CacheInvalidationChannel> channels, final FineractProperties fineractProperties) {
+        this.nearCacheManager = nearCacheManager;
+        this.channels = channels;
+        this.fineractProperties = fineractProperties;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        return this.caches.computeIfAbsent(name, cacheName -> new InvalidationPublishingCache(getNearCache(cacheName), this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        final Set<String> cacheNames = new LinkedHashSet<>(this.nearCacheManager.getCacheNames());
+        cacheNames.addAll(this.caches.keySet());
+        return cacheNames;
+    }
+
+    /**
+     * Clears the near caches and starts listening to the invalidations of the other nodes.
+     */
+    public synchronized void activate() {
+        if (this.channel != null) {
+            return;
+        }
+        final CacheInvalidationChannel resolvedChannel = resolveChannel();
+        getCacheNames().forEach(cacheName -> getNearCache(cacheName).clear());
+        // invalidations of the other nodes were not received while inactive
+        this.invalidationListeners.forEach((name, listener) -> listener.accept(CacheInvalidationData.clear(name)));
+        resolvedChannel.start(this::applyRemoteInvalidation);
+        this.channel = resolvedChannel;
+        log.info("Multi node cache activated with {} invalidation channel", resolvedChannel.getName());
+    }
+
+    public synchronized void deactivate() {
+        if (this.channel != null) {
+            this.channel.stop();
+            this.channel = null;
+        }
+    }
+
+    /**
+     * Returns whether the invalidations are exchanged with the other nodes.
+     */
+    public boolean isActive() {
+        return this.channel != null;
+    }
+
+    /**
+     * Registers the listener of the invalidations with the given name, for node local state that is not kept in a
+     * {@link Cache}. The listener receives the invalidations of the other nodes and, after commit, those published by
+     * this node.
+     */
+    public void addInvalidationListener(final String name, final Consumer<CacheInvalidationData> listener) {
+        this.invalidationListeners.put(name, listener);
+    }
+
+    /**
+     * Broadcasts the given invalidation to the other nodes, if the multi node cache is active.
+     */
+    public void publishInvalidation(final CacheInvalidationData invalidation) {
+        publish(invalidation);
+    }
+
+    void publishEviction(final Cache cache, final Object key) {
+        if (key instanceof String stringKey) {
+            publish(CacheInvalidationData.evict(cache.getName(), stringKey));
+        } else {
+            // only string keys can be transported, fall back to clearing the region on the other nodes
+            publish(CacheInvalidationData.clear(cache.getName()));
+        }
+    }
+
+    void publishClear(final Cache cache) {
+        publish(CacheInvalidationData.clear(cache.getName()));
+    }
+
+    void applyRemoteInvalidation(final CacheInvalidationData invalidation) {
+        final Consumer<CacheInvalidationData> listener = this.invalidationListeners.get(invalidation.getCacheName());
+        if (listener != null) {
+            listener.accept(invalidation);
+            return;
+        }
+        final Cache cache = getNearCache(invalidation.getCacheName());
+        if (invalidation.isClear()) {
+            cache.clear();
+        } else {
+            cache.evict(invalidation.getCacheKey());
+        }
+    }
+
+    private void publish(final CacheInvalidationData invalidation) {
+        final CacheInvalidationChannel currentChannel = this.channel;
+        if (currentChannel == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    // evict again locally, the old state might have been reloaded before the commit
+                    applyRemoteInvalidation(invalidation);
+                    publishSafely(currentChannel, invalidation);
+                }
+            });
+        } else {
+            publishSafely(currentChannel, invalidation);
+        }
+    }
+
+    private void publishSafely(final CacheInvalidationChannel currentChannel, final CacheInvalidationData invalidation) {
+        try {
+            currentChannel.publish(invalidation);
+        } catch (final Exception e) {
+            log.error("Error occurred while publishing cache invalidation {}", invalidation, e);
+        }
+    }
+
+    private Cache getNearCache(final String name) {
+        final InvalidationPublishingCache cache = this.caches.get(name);
+        if (cache != null) {
+            return cache.getDelegate();
+        }
+        final Cache nearCache = this.nearCacheManager.getCache(name);
+        return nearCache != null ? nearCache : new ConcurrentMapCache(name);
+    }
+
+    private CacheInvalidationChannel resolveChannel() {
+        final String channelName = this.fineractProperties.getCache().getMultiNode().getInvalidationChannel();
+        return this.channels.stream().filter(candidate -> candidate.getName().equalsIgnoreCase(channelName)).findFirst()
+                .orElseThrow(() -> new IllegalStateException("No cache invalidation channel available with name " + channelName));
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Holds an immutable snapshot per tenant, which is loaded on demand and replaced as a whole.
+ *
+ * The snapshot of a tenant is dropped once a change is committed and loaded again on the next lookup. A snapshot
+ * loaded while a change was being committed is returned to its caller but not kept, so it can not hide the change.
+ * Changes made through other nodes become visible when the snapshot expires; without a time to live every lookup loads
+ * the snapshot.
+ */
+public final class TenantSnapshotHolder<T> {
+
+    private final Supplier<T> loader;
+    private final LongSupplier timeToLiveInNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, TenantState<T>> tenantStates = new ConcurrentHashMap<>();
+
+    public TenantSnapshotHolder(Supplier<T> loader, LongSupplier timeToLiveInNanos) {
+        this(loader, timeToLiveInNanos, System::nanoTime);
+    }
+
+    TenantSnapshotHolder(Supplier<T> loader, LongSupplier timeToLiveInNanos, LongSupplier nanoClock) {
+        this.loader = loader;
+        this.timeToLiveInNanos = timeToLiveInNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the snapshot of the current tenant, loading it if this node does not have a valid one.
+     */
+    public T get() {
+        long timeToLive = timeToLiveInNanos.getAsLong();
+        if (timeToLive <= 0) {
+            return loader.get();
+        }
+        TenantState<T> state = tenantStates.computeIfAbsent(getTenantIdentifier(), key -> new TenantState<>());
+        long now = nanoClock.getAsLong();
+        long generation;
+        synchronized (state) {
+            if (state.snapshot != null && now - state.loadedAt < timeToLive) {
+                return state.snapshot;
+            }
+            generation = state.generation;
+        }
+        T snapshot = loader.get();
+        synchronized (state) {
+            if (state.generation == generation) {
+                state.snapshot = snapshot;
+                state.loadedAt = now;
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops the snapshot of the current tenant once the running transaction is committed, or immediately when there is
+     * no transaction in progress.
+     */
+    public void invalidate() {
+        final String tenantIdentifier = getTenantIdentifier();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    invalidate(tenantIdentifier);
+                }
+            });
+        } else {
+            invalidate(tenantIdentifier);
+        }
+    }
+
+    private void invalidate(String tenantIdentifier) {
+        TenantState<T> state = tenantStates.computeIfAbsent(tenantIdentifier, key -> new TenantState<>());
+        synchronized (state) {
+            state.generation++;
+            state.snapshot = null;
+        }
+    }
+
+    private static String getTenantIdentifier() {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+    }
+
+    private static final class TenantState<T> {
+
+        private long generation;
+        private T snapshot;
+        private long loadedAt;
+    }
+}
@@ -74,6 +74,14 @@ public class FineractProperties {
 
     private FineractModulesProperties module;
 
+    private FineractCacheProperties cache;
+
+    private FineractHookProperties hook;
+
+    private FineractBatchProperties batch;
+
+    private FineractBulkImportProperties bulkImport;
+
     @Getter
     @Setter
     public static class FineractTenantProperties {
@@ -281,7 +289,26 @@ public class FineractProperties {
     public static class FineractExternalEventsProperties {
 
         private boolean enabled;
+        private int configurationCacheTtlSeconds;
         private FineractExternalEventsProducerProperties producer;
+        private FineractExternalEventsSenderProperties sender;
+        private FineractExternalEventsPurgeProperties purge;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsPurgeProperties {
+
+        private int chunkSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsSenderProperties {
+
+        private boolean streamingEnabled;
+        private int maxBatchesPerRun;
+        private int serializationThreadCount;
     }
 
     @Getter
@@ -359,6 +386,7 @@ public class FineractProperties {
     public static class FineractReportProperties {
 
         private FineractExportProperties export;
+        private int streamFetchSize;
     }
 
     @Getter
@@ -382,6 +410,9 @@ public class FineractProperties {
 
         private int stuckRetryThreshold;
         private boolean loanCobEnabled;
+        private boolean loanCobBulkLoadEnabled;
+        private String loanCobPartitioningStrategy;
+        private int runningBalanceThreadCount;
     }
 
     @Getter
@@ -404,6 +435,17 @@ public class FineractProperties {
     public static class FineractDatabaseProperties {
 
         private String defaultMasterPassword;
+        private FineractDatabaseMonitoringProperties monitoring;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractDatabaseMonitoringProperties {
+
+        private boolean enabled;
+        private long slowStatementThresholdMillis;
+        private int slowStatementBufferSize;
+        private int maxStatementShapes;
     }
 
     @Getter
@@ -418,6 +460,17 @@ public class FineractProperties {
     public static class FineractApiProperties {
 
         private FineractBodyItemSizeLimitProperties bodyItemSizeLimit;
+        private FineractApiRequestLogProperties requestLog;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractApiRequestLogProperties {
+
+        private boolean enabled;
+        private int queueCapacity;
+        private boolean metricsEnabled;
+        private boolean percentileHistogram;
     }
 
     @Getter
@@ -439,6 +492,7 @@ public class FineractProperties {
     public static class UserNotificationSystemProperties {
 
         private boolean enabled;
+        private int unreadRefreshSeconds;
     }
 
     @Getter
@@ -446,6 +500,18 @@ public class FineractProperties {
     public static class FineractLoanProperties {
 
         private FineractTransactionProcessorProperties transactionProcessor;
+        private FineractLoanLockRegistryProperties lockRegistry;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanLockRegistryProperties {
+
+        /**
+         * How long the COB hard locks loaded for a tenant are trusted without checking again, 0 disables the registry.
+         * The registry is only used while the multi node cache is active.
+         */
+        private long refreshIntervalMillis;
     }
 
     @Getter
@@ -483,6 +549,16 @@ public class FineractProperties {
     public static class FineractSecurityBasicAuth {
 
         private boolean enabled;
+        private FineractSecurityBasicAuthCredentialCache credentialCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSecurityBasicAuthCredentialCache {
+
+        private boolean enabled;
+        private int maxSize;
+        private int ttlSeconds;
     }
 
     @Getter
@@ -528,4 +604,66 @@ public class FineractProperties {
     public static class FineractInvestorModuleProperties extends AbstractFineractModuleProperties {
 
     }
+
+    @Getter
+    @Setter
+    public static class FineractCacheProperties {
+
+        private FineractMultiNodeCacheProperties multiNode;
+        private int businessDateTtlSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractMultiNodeCacheProperties {
+
+        private String invalidationChannel;
+        private long pollIntervalMillis;
+        private int retentionSeconds;
+        /**
+         * JMS topic or Kafka topic the invalidations are exchanged on by the jms and kafka channels.
+         */
+        private String topicName;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBatchProperties {
+
+        private FineractBatchParallelProperties parallel;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBatchParallelProperties {
+
+        private boolean enabled;
+        private int threadCount;
+        private int queueCapacity;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBulkImportProperties {
+
+        private int threadCount;
+        private int queueCapacity;
+        private int progressInterval;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHookProperties {
+
+        private int subscriptionIndexTtlSeconds;
+        private FineractHookDispatcherProperties dispatcher;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHookDispatcherProperties {
+
+        private int threadCount;
+        private int queueCapacity;
+    }
 }
@@ -0,0 +1,294 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.data.SlowStatementData;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.data.StatementStatisticsData;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the statements executed through the tenant connections of the
+ * {@link org.apache.fineract.infrastructure.core.service.database.RoutingDataSource}, see
+ * {@code fineract.database.monitoring.*}.
+ *
+ * Statements are grouped by their shape: the SQL with the literals and the parameter lists replaced by a single
+ * {@code ?}. For every statement the following is recorded:
+ * <ul>
+ * <li>the {@code fineract.jdbc.statements} timer and the {@code fineract.jdbc.statement.rows} summary, tagged with the
+ * tenant and the operation (select, insert, update, delete, other),</li>
+ * <li>the execution count, total and max time and row count of its shape, for at most the configured number of
+ * shapes,</li>
+ * <li>statements slower than the threshold, with their {@link JdbcStatementOrigin}, in a fixed size ring buffer.</li>
+ * </ul>
+ * The time spent waiting for a pooled connection is recorded in the {@code fineract.jdbc.connection.wait} timer. Query
+ * times include fetching the rows, they are recorded when the result set is closed.
+ */
+@Component
+public class JdbcStatementMonitor {
+
+    static final int MAX_SHAPE_LENGTH = 2000;
+    private static final int MAX_CACHED_SHAPES = 10_000;
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\)(\\s*,\\s*\\(\\?\\))+");
+    private static final String NO_TENANT = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long slowThresholdNanos;
+    private final int maxStatementShapes;
+    private final AtomicReferenceArray<SlowStatementData> slowStatements;
+    private final AtomicLong slowStatementCursor = new AtomicLong();
+    private final Map<String, String> shapeCache = new ConcurrentHashMap<>();
+    private final Map<ShapeKey, ShapeStatistics> shapeStatistics = new ConcurrentHashMap<>();
+    private final Map<MeterKey, StatementMeters> meters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> connectionWaitTimers = new ConcurrentHashMap<>();
+
+    public JdbcStatementMonitor(FineractProperties fineractProperties, MeterRegistry meterRegistry) {
+        this(Optional.ofNullable(fineractProperties.getDatabase()).map(FineractProperties.FineractDatabaseProperties::getMonitoring)
+                .orElseGet(FineractProperties.FineractDatabaseMonitoringProperties::new), meterRegistry);
+    }
+
+    JdbcStatementMonitor(FineractProperties.FineractDatabaseMonitoringProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = properties.isEnabled();
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSlowStatementThresholdMillis());
+        this.maxStatementShapes = Math.max(0, properties.getMaxStatementShapes());
+        this.slowStatements = new AtomicReferenceArray<>(Math.max(1, properties.getSlowStatementBufferSize()));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns a connection recording the statements executed through the given connection of the current tenant.
+     *
+     * @param connection
+     *            the pooled connection
+     * @param waitNanos
+     *            the time it took to obtain the connection from the pool
+     */
+    public Connection monitor(Connection connection, long waitNanos) {
+        final String tenant = currentTenant();
+        connectionWaitTimers.computeIfAbsent(tenant, key -> Timer.builder("fineract.jdbc.connection.wait")
+                .description("Time spent waiting for a pooled tenant connection").tag("tenant", key).register(meterRegistry))
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+        return MonitoringJdbcProxies.connection(connection, this, tenant);
+    }
+
+    void record(String tenant, String sql, long durationNanos, long rows) {
+        final String shape = shapeOf(sql);
+        final String operation = operationOf(shape);
+        final StatementMeters statementMeters = meters.computeIfAbsent(new MeterKey(tenant, operation),
+                key -> new StatementMeters(
+                        Timer.builder("fineract.jdbc.statements").description("Execution time of the JDBC statements")
+                                .tag("tenant", key.tenant()).tag("operation", key.operation()).register(meterRegistry),
+                        DistributionSummary.builder("fineract.jdbc.statement.rows")
+                                .description("Number of rows returned or affected by the JDBC statements").tag("tenant", key.tenant())
+                                .tag("operation", key.operation()).register(meterRegistry)));
+        statementMeters.timer().record(durationNanos, TimeUnit.NANOSECONDS);
+        statementMeters.rows().record(rows);
+
+        final ShapeKey shapeKey = new ShapeKey(tenant, shape);
+        ShapeStatistics statistics = shapeStatistics.get(shapeKey);
+        if (statistics == null && shapeStatistics.size() < maxStatementShapes) {
+            statistics = shapeStatistics.computeIfAbsent(shapeKey, key -> new ShapeStatistics(operation));
+        }
+        if (statistics != null) {
+            statistics.record(durationNanos, rows);
+        }
+
+        if (durationNanos >= slowThresholdNanos) {
+            final int slot = (int) (slowStatementCursor.getAndIncrement() % slowStatements.length());
+            slowStatements.set(slot, new SlowStatementData(tenant, JdbcStatementOrigin.get(), operation, shape,
+                    DateUtils.getLocalDateTimeOfSystem(), TimeUnit.NANOSECONDS.toMillis(durationNanos), rows));
+        }
+    }
+
+    /**
+     * Returns the captured slow statements of the current tenant, slowest first.
+     */
+    public List<SlowStatementData> retrieveSlowStatements() {
+        final String tenant = currentTenant();
+        final List<SlowStatementData> result = new ArrayList<>();
+        for (int i = 0; i < slowStatements.length(); i++) {
+            final SlowStatementData statement = slowStatements.get(i);
+            if (statement != null && statement.getTenant().equals(tenant)) {
+                result.add(statement);
+            }
+        }
+        result.sort(Comparator.comparingLong(SlowStatementData::getDurationMillis).reversed());
+        return result;
+    }
+
+    /**
+     * Returns the statistics of the statement shapes of the current tenant with the highest total time first.
+     */
+    public List<StatementStatisticsData> retrieveStatementStatistics(int limit) {
+        final String tenant = currentTenant();
+        final List<StatementStatisticsData> result = new ArrayList<>();
+        shapeStatistics.forEach((key, statistics) -> {
+            if (key.tenant().equals(tenant)) {
+                result.add(statistics.toData(key));
+            }
+        });
+        result.sort(Comparator.comparingLong(StatementStatisticsData::getTotalMillis).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, Math.max(0, limit))) : result;
+    }
+
+    private String shapeOf(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        final String cached = shapeCache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        final String shape = normalize(sql);
+        if (shapeCache.size() < MAX_CACHED_SHAPES) {
+            shapeCache.put(sql, shape);
+        }
+        return shape;
+    }
+
+    /**
+     * Replaces the string and number literals with {@code ?}, collapses the whitespace and the parameter lists.
+     */
+    static String normalize(String sql) {
+        final StringBuilder shape = new StringBuilder(Math.min(sql.length(), MAX_SHAPE_LENGTH));
+        final int length = sql.length();
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length && shape.length() < MAX_SHAPE_LENGTH) {
+            final char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = shape.length() > 0;
+                i++;
+                continue;
+            }
+            final boolean separated = pendingSpace || shape.length() == 0 || !isIdentifierPart(shape.charAt(shape.length() - 1));
+            if (pendingSpace) {
+                shape.append(' ');
+                pendingSpace = false;
+            }
+            if (c == '\'') {
+                i = skipStringLiteral(sql, i + 1);
+                shape.append('?');
+            } else if (Character.isDigit(c) && separated) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                shape.append('?');
+            } else {
+                shape.append(c);
+                i++;
+            }
+        }
+        return ROW_LIST.matcher(PARAMETER_LIST.matcher(shape).replaceAll("?")).replaceAll("(?)");
+    }
+
+    private static int skipStringLiteral(String sql, int from) {
+        int i = from;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    static String operationOf(String shape) {
+        final int end = shape.indexOf(' ');
+        final String keyword = (end < 0 ? shape : shape.substring(0, end)).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+
+    private static String currentTenant() {
+        final FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        return tenant == null ? NO_TENANT : Objects.requireNonNullElse(tenant.getTenantIdentifier(), NO_TENANT);
+    }
+
+    private record MeterKey(String tenant, String operation) {
+    }
+
+    private record StatementMeters(Timer timer, DistributionSummary rows) {
+    }
+
+    private record ShapeKey(String tenant, String shape) {
+    }
+
+    private static final class ShapeStatistics {
+
+        private final String operation;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final LongAdder rows = new LongAdder();
+
+        private ShapeStatistics(String operation) {
+            this.operation = operation;
+        }
+
+        private void record(long durationNanos, long rowCount) {
+            executions.increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulate(durationNanos);
+            rows.add(rowCount);
+        }
+
+        private StatementStatisticsData toData(ShapeKey key) {
+            return new StatementStatisticsData(key.tenant(), operation, key.shape(), executions.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()), TimeUnit.NANOSECONDS.toMillis(maxNanos.get()), rows.sum());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.jdbc;
+
+/**
+ * Describes what the current thread is executing statements for (a command handler, a COB business step, a report),
+ * so slow statements captured by the {@link JdbcStatementMonitor} can be traced back to their origin.
+ *
+ * Usage:
+ *
+ * <pre>
+ * String previous = JdbcStatementOrigin.set("report:" + name);
+ * try {
+ *     ...
+ * } finally {
+ *     JdbcStatementOrigin.restore(previous);
+ * }
+ * </pre>
+ */
+public final class JdbcStatementOrigin {
+
+    private static final ThreadLocal<String> ORIGIN = new ThreadLocal<>();
+
+    private JdbcStatementOrigin() {}
+
+    /**
+     * Sets the origin of the current thread.
+     *
+     * @return the previous origin, to be passed to {@link #restore(String)}
+     */
+    public static String set(String origin) {
+        String previous = ORIGIN.get();
+        ORIGIN.set(origin);
+        return previous;
+    }
+
+    public static void restore(String previous) {
+        if (previous == null) {
+            ORIGIN.remove();
+        } else {
+            ORIGIN.set(previous);
+        }
+    }
+
+    public static String get() {
+        return ORIGIN.get();
+    }
+}
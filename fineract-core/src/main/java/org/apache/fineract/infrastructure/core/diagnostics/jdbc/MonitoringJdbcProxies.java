@@ -0,0 +1,242 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+
+/**
+ * JDK proxies of the JDBC connection, statement and result set interfaces reporting the executed statements to the
+ * {@link JdbcStatementMonitor}. Every other call is delegated to the wrapped object unchanged.
+ */
+final class MonitoringJdbcProxies {
+
+    private static final ClassLoader CLASS_LOADER = MonitoringJdbcProxies.class.getClassLoader();
+
+    private MonitoringJdbcProxies() {}
+
+    static Connection connection(Connection target, JdbcStatementMonitor monitor, String tenant) {
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[] { Connection.class },
+                new ConnectionHandler(target, monitor, tenant));
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return "equals".equals(method.getName()) ? Boolean.valueOf(proxy == args[0]) : Integer.valueOf(System.identityHashCode(proxy));
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return ("equals".equals(method.getName()) && method.getParameterCount() == 1)
+                || ("hashCode".equals(method.getName()) && method.getParameterCount() == 0);
+    }
+
+    private record ConnectionHandler(Connection target, JdbcStatementMonitor monitor, String tenant) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            final Object result = delegate(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> statement(proxy, method, result, null);
+                case "prepareStatement", "prepareCall" -> statement(proxy, method, result, (String) args[0]);
+                default -> result;
+            };
+        }
+
+        private Object statement(Object connectionProxy, Method method, Object statement, String sql) {
+            return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[] { method.getReturnType() },
+                    new StatementHandler(statement, connectionProxy, monitor, tenant, sql));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final Object connectionProxy;
+        private final JdbcStatementMonitor monitor;
+        private final String tenant;
+        private final String preparedSql;
+        private String batchSql;
+        private ResultSetHandler openResultSet;
+
+        private StatementHandler(Object target, Object connectionProxy, JdbcStatementMonitor monitor, String tenant, String preparedSql) {
+            this.target = target;
+            this.connectionProxy = connectionProxy;
+            this.monitor = monitor;
+            this.tenant = tenant;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            final String name = method.getName();
+            switch (name) {
+                case "getConnection":
+                    return connectionProxy;
+                case "addBatch":
+                    if (batchSql == null && args != null && args.length == 1) {
+                        batchSql = (String) args[0];
+                    }
+                    return delegate(target, method, args);
+                case "close":
+                    finishResultSet();
+                    return delegate(target, method, args);
+                case "executeQuery":
+                    return executeQuery(proxy, method, args);
+                case "execute", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch":
+                    return execute(method, args);
+                default:
+                    return delegate(target, method, args);
+            }
+        }
+
+        private Object executeQuery(Object proxy, Method method, Object[] args) throws Throwable {
+            finishResultSet();
+            final String sql = sqlOf(args);
+            final long start = System.nanoTime();
+            final ResultSet resultSet;
+            try {
+                resultSet = (ResultSet) delegate(target, method, args);
+            } catch (Throwable t) { // NOSONAR
+                monitor.record(tenant, sql, System.nanoTime() - start, 0L);
+                throw t;
+            }
+            openResultSet = new ResultSetHandler(resultSet, proxy, monitor, tenant, sql, start);
+            return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[] { ResultSet.class }, openResultSet);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            final String sql = "executeBatch".equals(method.getName()) || "executeLargeBatch".equals(method.getName())
+                    ? (preparedSql == null ? batchSql : preparedSql)
+                    : sqlOf(args);
+            final long start = System.nanoTime();
+            Object result = null;
+            try {
+                result = delegate(target, method, args);
+                return result;
+            } finally {
+                monitor.record(tenant, sql, System.nanoTime() - start, rowsOf(result));
+                if (result instanceof int[] || result instanceof long[]) {
+                    batchSql = null;
+                }
+            }
+        }
+
+        private String sqlOf(Object[] args) {
+            return args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql;
+        }
+
+        private static long rowsOf(Object result) {
+            if (result instanceof Integer count) {
+                return Math.max(0, count);
+            } else if (result instanceof Long count) {
+                return Math.max(0, count);
+            } else if (result instanceof int[] counts) {
+                long rows = 0;
+                for (int count : counts) {
+                    rows += Math.max(0, count);
+                }
+                return rows;
+            } else if (result instanceof long[] counts) {
+                long rows = 0;
+                for (long count : counts) {
+                    rows += Math.max(0, count);
+                }
+                return rows;
+            }
+            return 0L;
+        }
+
+        private void finishResultSet() {
+            if (openResultSet != null) {
+                openResultSet.finish();
+                openResultSet = null;
+            }
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final Object statementProxy;
+        private final JdbcStatementMonitor monitor;
+        private final String tenant;
+        private final String sql;
+        private final long start;
+        private long rows;
+        private boolean finished;
+
+        private ResultSetHandler(ResultSet target, Object statementProxy, JdbcStatementMonitor monitor, String tenant, String sql,
+                long start) {
+            this.target = target;
+            this.statementProxy = statementProxy;
+            this.monitor = monitor;
+            this.tenant = tenant;
+            this.sql = sql;
+            this.start = start;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            final String name = method.getName();
+            if ("next".equals(name)) {
+                final Object hasNext = delegate(target, method, args);
+                if (Boolean.TRUE.equals(hasNext)) {
+                    rows++;
+                }
+                return hasNext;
+            } else if ("getStatement".equals(name)) {
+                return statementProxy;
+            } else if ("close".equals(name)) {
+                try {
+                    return delegate(target, method, args);
+                } finally {
+                    finish();
+                }
+            }
+            return delegate(target, method, args);
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                monitor.record(tenant, sql, System.nanoTime() - start, rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.jdbc.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.JdbcStatementMonitor;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.data.SlowStatementData;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.data.StatementStatisticsData;
+import org.apache.fineract.infrastructure.core.serialization.DefaultToApiJsonSerializer;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.springframework.stereotype.Component;
+
+@Path("/v1/jdbc-statements")
+@Consumes({ MediaType.APPLICATION_JSON })
+@Produces({ MediaType.APPLICATION_JSON })
+@Component
+@Tag(name = "JDBC Statements", description = "Statement statistics and slow statements of the current tenant recorded by this node when "
+        + "fineract.database.monitoring.enabled is set. Statements are shown in their normalized shape without literal values.")
+@RequiredArgsConstructor
+public class JdbcStatementsApiResource {
+
+    private static final String RESOURCE_NAME_FOR_PERMISSIONS = "JDBCSTATEMENT";
+
+    private final PlatformSecurityContext context;
+    private final JdbcStatementMonitor jdbcStatementMonitor;
+    private final DefaultToApiJsonSerializer<SlowStatementData> slowStatementSerializer;
+    private final DefaultToApiJsonSerializer<StatementStatisticsData> statisticsSerializer;
+
+    @GET
+    @Path("slow")
+    @Operation(summary = "Retrieve Slow Statements", description = "Returns the most recent statements which took longer than "
+            + "fineract.database.monitoring.slow-statement-threshold-millis, slowest first, with the command, COB business step or "
+            + "report they were executed for.\n\nExample Requests:\n\njdbc-statements/slow")
+    public String retrieveSlowStatements() {
+        this.context.authenticatedUser().validateHasReadPermission(RESOURCE_NAME_FOR_PERMISSIONS);
+
+        return this.slowStatementSerializer.serialize(this.jdbcStatementMonitor.retrieveSlowStatements());
+    }
+
+    @GET
+    @Path("statistics")
+    @Operation(summary = "Retrieve Statement Statistics", description = "Returns the execution statistics per statement shape, the "
+            + "highest total time first.\n\nExample Requests:\n\njdbc-statements/statistics?limit=20")
+    public String retrieveStatementStatistics(
+            @QueryParam("limit") @DefaultValue("100") @Parameter(description = "limit") final Integer limit) {
+        this.context.authenticatedUser().validateHasReadPermission(RESOURCE_NAME_FOR_PERMISSIONS);
+
+        return this.statisticsSerializer.serialize(this.jdbcStatementMonitor.retrieveStatementStatistics(limit));
+    }
+}
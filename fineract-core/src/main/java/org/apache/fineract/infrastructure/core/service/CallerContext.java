@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * The thread bound state of a caller (tenant and business date context, authentication, request attributes and logging
+ * context) captured to run tasks with it on pooled threads.
+ *
+ * The state is applied before the task and cleared after it, so it is not left behind on the pooled thread. Tasks must
+ * not be run with it on the capturing thread itself.
+ */
+public final class CallerContext {
+
+    private final FineractContext fineractContext;
+    private final Authentication authentication;
+    private final RequestAttributes requestAttributes;
+    private final Map<String, String> mdc;
+
+    private CallerContext(FineractContext fineractContext, Authentication authentication, RequestAttributes requestAttributes,
+            Map<String, String> mdc) {
+        this.fineractContext = fineractContext;
+        this.authentication = authentication;
+        this.requestAttributes = requestAttributes;
+        this.mdc = mdc;
+    }
+
+    /**
+     * Captures the state of the current thread, which must have a {@link FineractContext}.
+     */
+    public static CallerContext capture() {
+        return new CallerContext(ThreadLocalContextUtil.getContext(), SecurityContextHolder.getContext().getAuthentication(),
+                RequestContextHolder.getRequestAttributes(), MDC.getCopyOfContextMap());
+    }
+
+    public <T> T call(Supplier<T> task) {
+        apply();
+        try {
+            return task.get();
+        } finally {
+            clear();
+        }
+    }
+
+    public void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public Runnable wrap(Runnable task) {
+        return () -> run(task);
+    }
+
+    private void apply() {
+        ThreadLocalContextUtil.init(fineractContext);
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(authentication);
+        SecurityContextHolder.setContext(securityContext);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+    }
+
+    private static void clear() {
+        MDC.clear();
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+        ThreadLocalContextUtil.reset();
+    }
+}
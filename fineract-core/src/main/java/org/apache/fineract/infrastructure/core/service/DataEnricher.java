@@ -18,9 +18,19 @@
  */
 package org.apache.fineract.infrastructure.core.service;
 
+import java.util.List;
+
 public interface DataEnricher<T> {
 
     boolean isDataTypeSupported(Class<T> dataType);
 
     void enrich(T data);
+
+    /**
+     * Enriches all the given data at once, e.g. the items of a bulk event. Enrichers doing lookups per data should
+     * override it to resolve the lookups of all the data together.
+     */
+    default void enrichAll(List<T> data) {
+        data.forEach(this::enrich);
+    }
 }
@@ -19,7 +19,9 @@
 package org.apache.fineract.infrastructure.core.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -42,4 +44,26 @@ public class DataEnricherProcessor {
         }
         return source;
     }
+
+    /**
+     * Enriches all the given sources, passing every enricher all the sources it supports in a single call.
+     */
+    public <T> List<T> enrichAll(List<T> sources) {
+        Map<Class<?>, List<T>> sourcesByType = new LinkedHashMap<>();
+        for (T source : sources) {
+            sourcesByType.computeIfAbsent(source.getClass(), type -> new ArrayList<>()).add(source);
+        }
+        for (DataEnricher enhancer : enhancers) {
+            List<T> supportedSources = new ArrayList<>();
+            for (Map.Entry<Class<?>, List<T>> entry : sourcesByType.entrySet()) {
+                if (enhancer.isDataTypeSupported(entry.getKey())) {
+                    supportedSources.addAll(entry.getValue());
+                }
+            }
+            if (!supportedSources.isEmpty()) {
+                enhancer.enrichAll(supportedSources);
+            }
+        }
+        return sources;
+    }
 }
@@ -22,6 +22,7 @@ import static java.lang.String.format;
 
 import jakarta.validation.constraints.NotNull;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -204,6 +205,39 @@ public class DatabaseSpecificSQLGenerator {
         }
     }
 
+    /**
+     * Returns a parameterised insert of the key and value columns which, if a row with the same key already exists,
+     * overwrites the value columns of that row instead.
+     */
+    public String upsert(String table, List<String> keyColumns, List<String> valueColumns) {
+        return upsert(table, keyColumns, valueColumns, false);
+    }
+
+    /**
+     * Returns a parameterised insert of the key and value columns which, if a row with the same key already exists, adds
+     * the inserted values to the value columns of that row instead.
+     */
+    public String upsertIncrement(String table, List<String> keyColumns, List<String> valueColumns) {
+        return upsert(table, keyColumns, valueColumns, true);
+    }
+
+    private String upsert(String table, List<String> keyColumns, List<String> valueColumns, boolean increment) {
+        String columns = String.join(", ", keyColumns) + ", " + String.join(", ", valueColumns);
+        String parameters = String.join(", ", Collections.nCopies(keyColumns.size() + valueColumns.size(), "?"));
+        String insert = format("INSERT INTO %s (%s) VALUES (%s)", table, columns, parameters);
+        if (databaseTypeResolver.isMySQL()) {
+            String assignment = increment ? "%1$s = %1$s + VALUES(%1$s)" : "%1$s = VALUES(%1$s)";
+            return insert + " ON DUPLICATE KEY UPDATE "
+                    + valueColumns.stream().map(column -> format(assignment, column)).collect(Collectors.joining(", "));
+        } else if (databaseTypeResolver.isPostgreSQL()) {
+            String assignment = increment ? "%1$s = %2$s.%1$s + EXCLUDED.%1$s" : "%1$s = EXCLUDED.%1$s";
+            return insert + format(" ON CONFLICT (%s) DO UPDATE SET ", String.join(", ", keyColumns))
+                    + valueColumns.stream().map(column -> format(assignment, column, table)).collect(Collectors.joining(", "));
+        } else {
+            throw new IllegalStateException("Database type is not supported for upsert " + databaseTypeResolver.databaseType());
+        }
+    }
+
     public String alias(@NotNull String field, String alias) {
         return Strings.isEmpty(alias) ? field : (alias + '.') + field;
     }
@@ -21,6 +21,7 @@ package org.apache.fineract.infrastructure.core.service.database;
 import java.sql.Connection;
 import java.sql.SQLException;
 import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.JdbcStatementMonitor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.AbstractDataSource;
@@ -35,6 +36,9 @@ import org.springframework.stereotype.Service;
  *
  * The {@link RoutingDataSourceService} is responsible for returning the appropriate {@link DataSource} for the tenant
  * of this request.
+ *
+ * When {@code fineract.database.monitoring.enabled} is set, the connections are wrapped by the
+ * {@link JdbcStatementMonitor}.
  */
 @Service(value = "dataSource")
 @Primary
@@ -42,10 +46,18 @@ public class RoutingDataSource extends AbstractDataSource {
 
     @Autowired
     private RoutingDataSourceServiceFactory dataSourceServiceFactory;
+    @Autowired
+    private JdbcStatementMonitor jdbcStatementMonitor;
 
     @Override
     public Connection getConnection() throws SQLException {
-        return determineTargetDataSource().getConnection();
+        final DataSource targetDataSource = determineTargetDataSource();
+        if (!jdbcStatementMonitor.isEnabled()) {
+            return targetDataSource.getConnection();
+        }
+        final long start = System.nanoTime();
+        final Connection connection = targetDataSource.getConnection();
+        return jdbcStatementMonitor.monitor(connection, System.nanoTime() - start);
     }
 
     public DataSource determineTargetDataSource() {
@@ -54,6 +66,12 @@ public class RoutingDataSource extends AbstractDataSource {
 
     @Override
     public Connection getConnection(final String username, final String password) throws SQLException {
-        return determineTargetDataSource().getConnection(username, password);
+        final DataSource targetDataSource = determineTargetDataSource();
+        if (!jdbcStatementMonitor.isEnabled()) {
+            return targetDataSource.getConnection(username, password);
+        }
+        final long start = System.nanoTime();
+        final Connection connection = targetDataSource.getConnection(username, password);
+        return jdbcStatementMonitor.monitor(connection, System.nanoTime() - start);
     }
 }
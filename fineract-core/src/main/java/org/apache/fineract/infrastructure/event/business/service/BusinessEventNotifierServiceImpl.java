@@ -29,7 +29,7 @@ import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.NoExternalEvent;
-import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventConfigurationCache;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
@@ -47,7 +47,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     private final ThreadLocal<List<BusinessEvent<?>>> recordedEvents = ThreadLocal.withInitial(ArrayList::new);
 
     private final ExternalEventService externalEventService;
-    private final ExternalEventConfigurationRepository eventConfigurationRepository;
+    private final ExternalEventConfigurationCache eventConfigurationCache;
     private final FineractProperties fineractProperties;
 
     @Override
@@ -121,7 +121,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     }
 
     private boolean isExternalEventConfiguredForPosting(String eventType) {
-        return eventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(eventType).isEnabled();
+        return eventConfigurationCache.isEnabled(eventType);
     }
 
     private void throwExceptionIfBulkEvent(BusinessEvent<?> businessEvent) {
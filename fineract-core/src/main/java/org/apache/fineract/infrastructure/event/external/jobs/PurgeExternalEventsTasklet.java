@@ -18,10 +18,13 @@
  */
 package org.apache.fineract.infrastructure.event.external.jobs;
 
+import static org.apache.fineract.infrastructure.core.diagnostics.performance.MeasuringUtil.measure;
+
 import java.time.LocalDate;
-import lombok.AllArgsConstructor;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
@@ -29,26 +32,80 @@ import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
-@AllArgsConstructor
 @Component
 public class PurgeExternalEventsTasklet implements Tasklet {
 
     private final ExternalEventRepository repository;
     private final ConfigurationDomainService configurationDomainService;
+    private final FineractProperties fineractProperties;
+    private final TransactionTemplate chunkTransactionTemplate;
+
+    public PurgeExternalEventsTasklet(ExternalEventRepository repository, ConfigurationDomainService configurationDomainService,
+            FineractProperties fineractProperties, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.configurationDomainService = configurationDomainService;
+        this.fineractProperties = fineractProperties;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
             Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveExternalEventsPurgeDaysCriteria();
             LocalDate dateForPurgeCriteria = DateUtils.getBusinessLocalDate().minusDays(numberOfDaysForPurgeCriteria);
-            repository.deleteOlderEventsWithSentStatus(ExternalEventStatus.SENT, dateForPurgeCriteria);
+            int chunkSize = getChunkSize();
+            if (chunkSize > 0) {
+                purgeInChunks(dateForPurgeCriteria, chunkSize);
+            } else {
+                repository.deleteOlderEventsWithSentStatus(ExternalEventStatus.SENT, dateForPurgeCriteria);
+            }
         } catch (Exception e) {
             log.error("Error occurred while purging external events: ", e);
         }
         return RepeatStatus.FINISHED;
     }
 
+    /**
+     * Walks the sent events older than the purge date in id order and deletes them chunk by chunk, each chunk in its
+     * own transaction. This keeps every delete statement short and index driven instead of locking the whole range at
+     * once.
+     */
+    private void purgeInChunks(LocalDate dateForPurgeCriteria, int chunkSize) {
+        PageRequest chunk = PageRequest.ofSize(chunkSize);
+        long lastPurgedId = 0L;
+        long purgedEvents = 0L;
+        while (true) {
+            Long afterId = lastPurgedId;
+            List<Long> ids = repository.findIdsOfOlderEventsWithStatusAndIdGreaterThan(ExternalEventStatus.SENT, dateForPurgeCriteria,
+                    afterId, chunk);
+            if (ids.isEmpty()) {
+                break;
+            }
+            measure(() -> {
+                chunkTransactionTemplate.executeWithoutResult(status -> repository.deleteEventsByIds(ids));
+            }, timeTaken -> {
+                log.debug("Took {}ms to purge {} events", timeTaken.toMillis(), ids.size());
+            });
+            purgedEvents += ids.size();
+            lastPurgedId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        log.debug("Purged {} external events older than {}", purgedEvents, dateForPurgeCriteria);
+    }
+
+    private int getChunkSize() {
+        FineractProperties.FineractExternalEventsPurgeProperties purge = fineractProperties.getEvents().getExternal().getPurge();
+        return purge == null ? 0 : purge.getChunkSize();
+    }
+
 }
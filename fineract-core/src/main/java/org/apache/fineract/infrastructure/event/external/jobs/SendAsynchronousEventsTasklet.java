@@ -19,21 +19,29 @@
 package org.apache.fineract.infrastructure.event.external.jobs;
 
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.apache.fineract.infrastructure.core.diagnostics.performance.MeasuringUtil.measure;
 
 import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.avro.MessageV1;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.CallerContext;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
@@ -48,9 +56,11 @@ import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class SendAsynchronousEventsTasklet implements Tasklet {
 
@@ -60,14 +70,39 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     private final MessageFactory messageFactory;
     private final ByteBufferConverter byteBufferConverter;
     private final ConfigurationDomainService configurationDomainService;
+    private final TransactionTemplate markAsSentTransactionTemplate;
+    private final Counter sentEventsCounter;
+    private final Timer batchSendTimer;
+
+    public SendAsynchronousEventsTasklet(FineractProperties fineractProperties, ExternalEventRepository repository,
+            ExternalEventProducer eventProducer, MessageFactory messageFactory, ByteBufferConverter byteBufferConverter,
+            ConfigurationDomainService configurationDomainService, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.fineractProperties = fineractProperties;
+        this.repository = repository;
+        this.eventProducer = eventProducer;
+        this.messageFactory = messageFactory;
+        this.byteBufferConverter = byteBufferConverter;
+        this.configurationDomainService = configurationDomainService;
+        this.markAsSentTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.markAsSentTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sentEventsCounter = Counter.builder("fineract.external.events.sent").description("Number of external events sent")
+                .register(meterRegistry);
+        this.batchSendTimer = Timer.builder("fineract.external.events.batch").description("Time taken to send a batch of external events")
+                .register(meterRegistry);
+    }
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
             if (isDownstreamChannelEnabled()) {
-                List<ExternalEventView> events = getQueuedEventsBatch();
-                log.debug("Queued events size: {}", events.size());
-                sendEvents(events);
+                if (isStreamingEnabled()) {
+                    sendEventsStreaming();
+                } else {
+                    List<ExternalEventView> events = getQueuedEventsBatch();
+                    log.debug("Queued events size: {}", events.size());
+                    sendEvents(events);
+                }
             }
         } catch (Exception e) {
             log.error("Error occurred while processing events: ", e);
@@ -80,6 +115,72 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
                 || fineractProperties.getEvents().getExternal().getProducer().getKafka().isEnabled();
     }
 
+    private boolean isStreamingEnabled() {
+        FineractProperties.FineractExternalEventsSenderProperties sender = fineractProperties.getEvents().getExternal().getSender();
+        return sender != null && sender.isStreamingEnabled();
+    }
+
+    /**
+     * Sends batches until the queue is drained or the configured number of batches is reached. The next batch is read
+     * while the current one is serialized and sent, and every batch is marked as sent in its own transaction right after
+     * the producer acknowledged it. Batches are sent one after the other, so the order of the events of an aggregate root
+     * is kept.
+     */
+    private void sendEventsStreaming() {
+        FineractProperties.FineractExternalEventsSenderProperties sender = fineractProperties.getEvents().getExternal().getSender();
+        int maxBatches = Math.max(1, sender.getMaxBatchesPerRun());
+        Pageable batchSize = PageRequest.ofSize(getBatchSize());
+        CallerContext callerContext = CallerContext.capture();
+        ExecutorService readExecutor = Executors.newSingleThreadExecutor();
+        ExecutorService serializationExecutor = Executors.newFixedThreadPool(Math.max(1, sender.getSerializationThreadCount()));
+        try {
+            CompletableFuture<List<ExternalEventView>> nextBatch = readBatchAsync(0L, batchSize, callerContext, readExecutor);
+            int sentBatches = 0;
+            while (sentBatches < maxBatches) {
+                List<ExternalEventView> events = nextBatch.join();
+                if (events.isEmpty()) {
+                    break;
+                }
+                sentBatches++;
+                Long lastEventId = events.get(events.size() - 1).getId();
+                nextBatch = sentBatches < maxBatches ? readBatchAsync(lastEventId, batchSize, callerContext, readExecutor)
+                        : CompletableFuture.completedFuture(List.of());
+                log.debug("Queued events size: {}", events.size());
+                Map<Long, List<byte[]>> partitions = generatePartitionsInParallel(events, callerContext, serializationExecutor);
+                List<Long> eventIds = events.stream().map(ExternalEventView::getId).toList();
+                batchSendTimer.record(() -> sendEventsToProducer(partitions));
+                markAsSentTransactionTemplate.executeWithoutResult(status -> markEventsAsSent(eventIds));
+                sentEventsCounter.increment(eventIds.size());
+            }
+            log.debug("Sent {} batches of events", sentBatches);
+        } finally {
+            readExecutor.shutdownNow();
+            serializationExecutor.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<List<ExternalEventView>> readBatchAsync(Long afterEventId, Pageable batchSize, CallerContext callerContext,
+            ExecutorService executor) {
+        return CompletableFuture.supplyAsync(() -> callerContext.call(() -> measure(
+                () -> repository.findByStatusAndIdGreaterThanOrderById(ExternalEventStatus.TO_BE_SENT, afterEventId, batchSize),
+                (events, timeTaken) -> log.debug("Loaded {} events in {}ms", events.size(), timeTaken.toMillis()))), executor);
+    }
+
+    private Map<Long, List<byte[]>> generatePartitionsInParallel(List<ExternalEventView> queuedEvents, CallerContext callerContext,
+            ExecutorService executor) {
+        Map<Long, List<ExternalEventView>> initialPartitions = groupByAggregateRoot(queuedEvents);
+        return measure(() -> {
+            Map<Long, CompletableFuture<List<byte[]>>> futures = new LinkedHashMap<>();
+            initialPartitions.forEach((aggregateRootId, events) -> futures.put(aggregateRootId, CompletableFuture
+                    .supplyAsync(() -> callerContext.call(() -> createMessages(events)), executor)));
+            Map<Long, List<byte[]>> partitions = new LinkedHashMap<>();
+            futures.forEach((aggregateRootId, future) -> partitions.put(aggregateRootId, future.join()));
+            return partitions;
+        }, timeTaken -> {
+            log.debug("Took {}ms to create message partitions", timeTaken.toMillis());
+        });
+    }
+
     private List<ExternalEventView> getQueuedEventsBatch() {
         int readBatchSize = getBatchSize();
         Pageable batchSize = PageRequest.ofSize(readBatchSize);
@@ -112,14 +213,18 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         });
     }
 
-    private Map<Long, List<byte[]>> generatePartitions(List<ExternalEventView> queuedEvents) {
-        Map<Long, List<ExternalEventView>> initialPartitions = queuedEvents.stream().collect(groupingBy(externalEvent -> {
+    private Map<Long, List<ExternalEventView>> groupByAggregateRoot(List<ExternalEventView> queuedEvents) {
+        return queuedEvents.stream().collect(groupingBy(externalEvent -> {
             Long aggregateRootId = externalEvent.getAggregateRootId();
             if (aggregateRootId == null) {
                 aggregateRootId = -1L;
             }
             return aggregateRootId;
-        }));
+        }, LinkedHashMap::new, toList()));
+    }
+
+    private Map<Long, List<byte[]>> generatePartitions(List<ExternalEventView> queuedEvents) {
+        Map<Long, List<ExternalEventView>> initialPartitions = groupByAggregateRoot(queuedEvents);
         Map<Long, List<byte[]>> partitions = measure(
                 () -> initialPartitions.entrySet().stream().collect(toMap(Map.Entry::getKey, e -> createMessages(e.getValue()))),
                 timeTaken -> {
@@ -34,11 +34,21 @@ public interface ExternalEventRepository extends JpaRepository<ExternalEvent, Lo
 
     List<ExternalEventView> findByStatusOrderById(ExternalEventStatus status, Pageable batchSize);
 
+    List<ExternalEventView> findByStatusAndIdGreaterThanOrderById(ExternalEventStatus status, Long id, Pageable batchSize);
+
     @Modifying(flushAutomatically = true)
     @Query("delete from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria")
     void deleteOlderEventsWithSentStatus(@Param("status") ExternalEventStatus status,
             @Param("dateForPurgeCriteria") LocalDate dateForPurgeCriteria);
 
+    @Query("select e.id from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria and e.id > :id order by e.id")
+    List<Long> findIdsOfOlderEventsWithStatusAndIdGreaterThan(@Param("status") ExternalEventStatus status,
+            @Param("dateForPurgeCriteria") LocalDate dateForPurgeCriteria, @Param("id") Long id, Pageable chunkSize);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ExternalEvent e where e.id in :ids")
+    void deleteEventsByIds(@Param("ids") List<Long> ids);
+
     @Modifying
     @Query("UPDATE ExternalEvent e SET e.status = org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus.SENT, e.sentAt = :sentAt WHERE e.id IN :ids")
     void markEventsSent(@Param("ids") List<Long> ids, @Param("sentAt") OffsetDateTime sentAt);
@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.service.TenantSnapshotHolder;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.exception.ExternalEventConfigurationNotFoundException;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventConfiguration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps an immutable snapshot of the external event configurations per tenant, so deciding whether an event has to be
+ * posted does not need a database round-trip.
+ *
+ * The snapshot of a tenant is replaced as a whole: it is dropped once a configuration change is committed and loaded
+ * again on the next lookup. Changes made through other nodes become visible when the snapshot expires.
+ */
+@Slf4j
+@Component
+public class ExternalEventConfigurationCache {
+
+    private final ExternalEventConfigurationRepository repository;
+    private final TenantSnapshotHolder<Map<String, Boolean>> snapshots;
+
+    public ExternalEventConfigurationCache(ExternalEventConfigurationRepository repository, FineractProperties fineractProperties) {
+        this.repository = repository;
+        this.snapshots = new TenantSnapshotHolder<>(this::load,
+                () -> TimeUnit.SECONDS.toNanos(fineractProperties.getEvents().getExternal().getConfigurationCacheTtlSeconds()));
+    }
+
+    public boolean isEnabled(String eventType) {
+        Boolean enabled = snapshots.get().get(eventType);
+        if (enabled == null) {
+            throw new ExternalEventConfigurationNotFoundException(eventType);
+        }
+        return enabled;
+    }
+
+    /**
+     * Drops the snapshot of the current tenant once the running transaction is committed, or immediately when there is
+     * no transaction in progress.
+     */
+    public void invalidate() {
+        snapshots.invalidate();
+    }
+
+    private Map<String, Boolean> load() {
+        Map<String, Boolean> configurations = repository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(ExternalEventConfiguration::getType, ExternalEventConfiguration::isEnabled));
+        log.debug("Loaded {} external event configurations for tenant {}", configurations.size(),
+                ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+        return configurations;
+    }
+}
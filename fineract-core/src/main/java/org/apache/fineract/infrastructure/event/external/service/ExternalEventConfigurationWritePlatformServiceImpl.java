@@ -39,6 +39,7 @@ public class ExternalEventConfigurationWritePlatformServiceImpl implements Exter
 
     private final ExternalEventConfigurationRepository repository;
     private final ExternalEventConfigurationCommandFromApiJsonDeserializer fromApiJsonDeserializer;
+    private final ExternalEventConfigurationCache configurationCache;
 
     @Transactional
     @Override
@@ -58,6 +59,7 @@ public class ExternalEventConfigurationWritePlatformServiceImpl implements Exter
         }
         if (!modifiedConfigurations.isEmpty()) {
             this.repository.saveAll(modifiedConfigurations);
+            this.configurationCache.invalidate();
         }
 
         if (!changedConfigurations.isEmpty()) {
@@ -22,7 +22,6 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +40,8 @@ import org.apache.fineract.infrastructure.event.external.service.serialization.s
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -80,14 +81,7 @@ public class ExternalEventService {
     }
 
     private ExternalEvent handleBulkBusinessEvent(BulkBusinessEvent bulkBusinessEvent) throws IOException {
-        List<BulkMessageItemV1> messages = new ArrayList<>();
-        List<BusinessEvent<?>> events = bulkBusinessEvent.get();
-        for (int i = 0; i < events.size(); i++) {
-            BusinessEvent<?> event = events.get(i);
-            int id = i + 1;
-            BulkMessageItemV1 message = bulkMessageItemFactory.createBulkMessageItem(id, event);
-            messages.add(message);
-        }
+        List<BulkMessageItemV1> messages = bulkMessageItemFactory.createBulkMessageItems(bulkBusinessEvent.get());
         String idempotencyKey = idempotencyKeyGenerator.generate(bulkBusinessEvent);
         BulkMessagePayloadV1 avroDto = new BulkMessagePayloadV1(messages);
         byte[] data = byteBufferConverter.convert(avroDto.toByteBuffer());
@@ -112,6 +106,10 @@ public class ExternalEventService {
 
     private void flushChangesBeforeSerialization() {
         entityManager.flush();
+        // changes kept back by the running transaction, e.g. the arrears aging of a loan COB chunk
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationUtils.triggerFlush();
+        }
     }
 
     @PersistenceContext
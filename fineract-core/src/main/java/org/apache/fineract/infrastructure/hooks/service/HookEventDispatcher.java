@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds and publishes hook events on a bounded pool instead of the request thread.
+ *
+ * When the queue is full the task runs on the calling thread, which slows the producers down instead of dropping hook
+ * events. The queue size and the number of such saturated dispatches are exposed as metrics.
+ */
+@Slf4j
+@Component
+public class HookEventDispatcher implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter dispatchedCounter;
+    private final Counter saturatedCounter;
+
+    public HookEventDispatcher(FineractProperties fineractProperties, MeterRegistry meterRegistry) {
+        FineractProperties.FineractHookDispatcherProperties properties = fineractProperties.getHook().getDispatcher();
+        int threadCount = Math.max(1, properties.getThreadCount());
+        int queueCapacity = Math.max(1, properties.getQueueCapacity());
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("hook-dispatcher-"));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.dispatchedCounter = Counter.builder("fineract.hooks.dispatched").description("Number of hook events dispatched")
+                .register(meterRegistry);
+        this.saturatedCounter = Counter.builder("fineract.hooks.dispatcher.saturated")
+                .description("Number of hook events processed on the calling thread because the dispatcher queue was full")
+                .register(meterRegistry);
+        Gauge.builder("fineract.hooks.dispatcher.queue.size", executor, e -> e.getQueue().size())
+                .description("Number of hook events waiting to be dispatched").register(meterRegistry);
+    }
+
+    /**
+     * Runs the given task asynchronously with the given context bound to the executing thread.
+     */
+    public void dispatch(FineractContext context, Runnable task) {
+        dispatchedCounter.increment();
+        try {
+            executor.execute(() -> {
+                ThreadLocalContextUtil.init(context);
+                try {
+                    runSafely(task);
+                } finally {
+                    ThreadLocalContextUtil.reset();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            saturatedCounter.increment();
+            runSafely(task);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("Error occurred while dispatching hook event", e);
+        }
+    }
+}
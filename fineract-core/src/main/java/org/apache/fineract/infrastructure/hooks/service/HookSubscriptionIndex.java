@@ -0,0 +1,34 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+/**
+ * Index of the entity/action pairs at least one active hook of the current tenant is registered for. It lets the
+ * command processing skip building hook payloads nobody listens to.
+ */
+public interface HookSubscriptionIndex {
+
+    boolean hasSubscribers(String entityName, String actionName);
+
+    /**
+     * Drops the index of the current tenant once the running transaction is committed, it is rebuilt on the next
+     * lookup.
+     */
+    void invalidate();
+}
@@ -49,6 +49,7 @@ public enum JobName {
     UPDATE_EMAIL_OUTBOUND_WITH_CAMPAIGN_MESSAGE("Update Email Outbound with campaign message"), //
     EXECUTE_EMAIL("Execute Email"), //
     UPDATE_TRIAL_BALANCE_DETAILS("Update Trial Balance Details"), //
+    UPDATE_GL_BALANCE_SNAPSHOTS("Update GL Balance Snapshots"), //
     EXECUTE_DIRTY_JOBS("Execute All Dirty Jobs"), //
     INCREASE_BUSINESS_DATE_BY_1_DAY("Increase Business Date by 1 day"), //
     INCREASE_COB_DATE_BY_1_DAY("Increase COB Date by 1 day"), //
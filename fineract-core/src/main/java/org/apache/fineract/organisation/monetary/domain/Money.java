@@ -44,11 +44,14 @@ public class Money implements Comparable<Money> {
         if (monies.length == 0) {
             throw new IllegalArgumentException("Money array must not be empty");
         }
-        Money total = monies[0];
+        if (monies.length == 1) {
+            return monies[0];
+        }
+        final MoneyAccumulator total = MoneyAccumulator.of(monies[0]);
         for (int i = 1; i < monies.length; i++) {
-            total = total.plus(monies[i]);
+            total.plus(monies[i]);
         }
-        return total;
+        return total.toMoney();
     }
 
     public static Money total(final Iterable<? extends Money> monies) {
@@ -56,11 +59,15 @@ public class Money implements Comparable<Money> {
         if (it.hasNext() == false) {
             throw new IllegalArgumentException("Money iterator must not be empty");
         }
-        Money total = it.next();
+        final Money first = it.next();
+        if (it.hasNext() == false) {
+            return first;
+        }
+        final MoneyAccumulator total = MoneyAccumulator.of(first);
         while (it.hasNext()) {
-            total = total.plus(it.next());
+            total.plus(it.next());
         }
-        return total;
+        return total.toMoney();
     }
 
     public static Money of(final MonetaryCurrency currency, final BigDecimal newAmount) {
@@ -91,17 +98,32 @@ public class Money implements Comparable<Money> {
         this.currencyCode = currencyCode;
         this.currencyDigitsAfterDecimal = digitsAfterDecimal;
         this.inMultiplesOf = inMultiplesOf;
+        this.amount = normalize(defaultToZeroIfNull(amount), digitsAfterDecimal, inMultiplesOf);
+    }
 
-        final BigDecimal amountZeroed = defaultToZeroIfNull(amount);
-        final BigDecimal amountStripped = amountZeroed.stripTrailingZeros();
-        BigDecimal amountScaled = amountStripped;
+    /**
+     * Brings an amount to the scale of the currency, rounding it into multiples of the currency when needed.
+     * <p>
+     * Amounts which already have the scale of the currency are returned as they are. Adding, subtracting or negating such
+     * amounts keeps the scale, so most of the arithmetic done on money never needs rounding. Stripping trailing zeros
+     * before setting the scale is not needed either, as the rounding only depends on the numerical value.
+     */
+    static BigDecimal normalize(final BigDecimal amount, final int digitsAfterDecimal, final Integer inMultiplesOf) {
+        BigDecimal amountScaled = amount;
 
         // round monetary amounts into multiplesof say 20/50.
-        if (inMultiplesOf != null && this.currencyDigitsAfterDecimal == 0 && inMultiplesOf > 0 && amountScaled.doubleValue() > 0) {
+        if (isRoundedToMultiples(digitsAfterDecimal, inMultiplesOf) && amountScaled.doubleValue() > 0) {
             final double existingVal = amountScaled.doubleValue();
             amountScaled = BigDecimal.valueOf(roundToMultiplesOf(existingVal, inMultiplesOf));
         }
-        this.amount = amountScaled.setScale(this.currencyDigitsAfterDecimal, MoneyHelper.getRoundingMode());
+        if (amountScaled.scale() == digitsAfterDecimal) {
+            return amountScaled;
+        }
+        return amountScaled.setScale(digitsAfterDecimal, MoneyHelper.getRoundingMode());
+    }
+
+    private static boolean isRoundedToMultiples(final int digitsAfterDecimal, final Integer inMultiplesOf) {
+        return inMultiplesOf != null && digitsAfterDecimal == 0 && inMultiplesOf > 0;
     }
 
     public static double roundToMultiplesOf(final double existingVal, final Integer inMultiplesOf) {
@@ -153,7 +175,7 @@ public class Money implements Comparable<Money> {
     }
 
     public Money copy() {
-        return new Money(this.currencyCode, this.currencyDigitsAfterDecimal, this.amount.stripTrailingZeros(), this.inMultiplesOf);
+        return withAmount(this.amount);
     }
 
     public Money plus(final Iterable<? extends Money> moniesToAdd) {
@@ -162,7 +184,7 @@ public class Money implements Comparable<Money> {
             final Money money = checkCurrencyEqual(moneyProvider);
             total = total.add(money.amount);
         }
-        return Money.of(monetaryCurrency(), total);
+        return withAmount(total);
     }
 
     public Money plus(final Money moneyToAdd) {
@@ -175,7 +197,7 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.add(amountToAdd);
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money plus(final double amountToAdd) {
@@ -183,7 +205,7 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.add(BigDecimal.valueOf(amountToAdd));
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money minus(final Money moneyToSubtract) {
@@ -201,7 +223,7 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.add(amountToAdd);
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money minus(final BigDecimal amountToSubtract) {
@@ -209,7 +231,12 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.subtract(amountToSubtract);
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
+    }
+
+    // same currency, no need to go through a MonetaryCurrency
+    private Money withAmount(final BigDecimal newAmount) {
+        return new Money(this.currencyCode, this.currencyDigitsAfterDecimal, newAmount, this.inMultiplesOf);
     }
 
     private Money checkCurrencyEqual(final Money money) {
@@ -228,7 +255,7 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.divide(valueToDivideBy, roundingMode);
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money dividedBy(final double valueToDivideBy, final RoundingMode roundingMode) {
@@ -236,7 +263,7 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.divide(BigDecimal.valueOf(valueToDivideBy), roundingMode);
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money dividedBy(final long valueToDivideBy, final RoundingMode roundingMode) {
@@ -244,7 +271,7 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.divide(BigDecimal.valueOf(valueToDivideBy), roundingMode);
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money multipliedBy(final BigDecimal valueToMultiplyBy) {
@@ -252,7 +279,7 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.multiply(valueToMultiplyBy);
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money multipliedBy(final double valueToMultiplyBy) {
@@ -260,7 +287,7 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.multiply(BigDecimal.valueOf(valueToMultiplyBy));
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money multipliedBy(final long valueToMultiplyBy) {
@@ -268,7 +295,7 @@ public class Money implements Comparable<Money> {
             return this;
         }
         final BigDecimal newAmount = this.amount.multiply(BigDecimal.valueOf(valueToMultiplyBy));
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money multiplyRetainScale(final BigDecimal valueToMultiplyBy, final RoundingMode roundingMode) {
@@ -277,7 +304,7 @@ public class Money implements Comparable<Money> {
         }
         BigDecimal newAmount = this.amount.multiply(valueToMultiplyBy);
         newAmount = newAmount.setScale(this.currencyDigitsAfterDecimal, roundingMode);
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     public Money multiplyRetainScale(final double valueToMultiplyBy, final RoundingMode roundingMode) {
@@ -286,7 +313,7 @@ public class Money implements Comparable<Money> {
 
     public Money percentageOf(BigDecimal percentage, final RoundingMode roundingMode) {
         final BigDecimal newAmount = this.amount.multiply(percentage).divide(BigDecimal.valueOf(100), roundingMode);
-        return Money.of(monetaryCurrency(), newAmount);
+        return withAmount(newAmount);
     }
 
     @Override
@@ -299,7 +326,7 @@ public class Money implements Comparable<Money> {
     }
 
     public boolean isZero() {
-        return isEqualTo(Money.zero(getCurrency()));
+        return this.amount.signum() == 0;
     }
 
     public boolean isEqualTo(final Money other) {
@@ -319,7 +346,7 @@ public class Money implements Comparable<Money> {
     }
 
     public boolean isGreaterThanZero() {
-        return isGreaterThan(Money.zero(getCurrency()));
+        return this.amount.signum() > 0;
     }
 
     public boolean isLessThan(final Money other) {
@@ -327,7 +354,7 @@ public class Money implements Comparable<Money> {
     }
 
     public boolean isLessThanZero() {
-        return isLessThan(Money.zero(getCurrency()));
+        return this.amount.signum() < 0;
     }
 
     public String getCurrencyCode() {
@@ -367,7 +394,7 @@ public class Money implements Comparable<Money> {
         if (isZero()) {
             return this;
         }
-        return Money.of(monetaryCurrency(), this.amount.negate());
+        return withAmount(this.amount.negate());
     }
 
     public Money abs() {
@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Mutable running total of {@link Money}, for loops which would otherwise create a new Money (and BigDecimal) instance on
+ * every step.
+ * <p>
+ * The result is the same as chaining {@link Money#plus(Money)} and {@link Money#minus(Money)} calls: the amount is brought
+ * to the currency scale after every step, which is a no-op as long as the operands have the scale of the currency.
+ * <p>
+ * Not thread safe.
+ */
+public final class MoneyAccumulator {
+
+    private final Money initial;
+    private final String currencyCode;
+    private final int digitsAfterDecimal;
+    private final Integer inMultiplesOf;
+    private BigDecimal amount;
+    private boolean changed;
+
+    private MoneyAccumulator(final Money initial) {
+        this.initial = initial;
+        this.currencyCode = initial.getCurrencyCode();
+        this.digitsAfterDecimal = initial.getCurrencyDigitsAfterDecimal();
+        this.inMultiplesOf = initial.getCurrencyInMultiplesOf();
+        this.amount = initial.getAmount();
+    }
+
+    public static MoneyAccumulator of(final MonetaryCurrency currency) {
+        return of(Money.zero(currency));
+    }
+
+    public static MoneyAccumulator of(final Money initial) {
+        return new MoneyAccumulator(initial);
+    }
+
+    public MoneyAccumulator plus(final Money moneyToAdd) {
+        return plus(checkCurrencyEqual(moneyToAdd).getAmount());
+    }
+
+    public MoneyAccumulator plus(final BigDecimal amountToAdd) {
+        if (amountToAdd == null || amountToAdd.signum() == 0) {
+            return this;
+        }
+        this.amount = Money.normalize(this.amount.add(amountToAdd), this.digitsAfterDecimal, this.inMultiplesOf);
+        this.changed = true;
+        return this;
+    }
+
+    public MoneyAccumulator minus(final Money moneyToSubtract) {
+        return minus(checkCurrencyEqual(moneyToSubtract).getAmount());
+    }
+
+    public MoneyAccumulator minus(final BigDecimal amountToSubtract) {
+        if (amountToSubtract == null || amountToSubtract.signum() == 0) {
+            return this;
+        }
+        this.amount = Money.normalize(this.amount.subtract(amountToSubtract), this.digitsAfterDecimal, this.inMultiplesOf);
+        this.changed = true;
+        return this;
+    }
+
+    public BigDecimal getAmount() {
+        return Money.normalize(this.amount, this.digitsAfterDecimal, this.inMultiplesOf);
+    }
+
+    public boolean isGreaterThanZero() {
+        return getAmount().signum() > 0;
+    }
+
+    public Money toMoney() {
+        if (!this.changed) {
+            return this.initial;
+        }
+        return Money.of(new MonetaryCurrency(this.currencyCode, this.digitsAfterDecimal, this.inMultiplesOf), this.amount);
+    }
+
+    private Money checkCurrencyEqual(final Money money) {
+        if (this.currencyCode.equals(money.getCurrencyCode()) == false) {
+            throw new UnsupportedOperationException("currencies are different.");
+        }
+        return money;
+    }
+}
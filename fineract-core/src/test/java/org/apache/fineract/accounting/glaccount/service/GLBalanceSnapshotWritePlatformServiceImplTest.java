@@ -0,0 +1,209 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.glaccount.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.glaccount.data.GLBalanceDeltaData;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class GLBalanceSnapshotWritePlatformServiceImplTest {
+
+    private static final LocalDate ENTRY_DATE = LocalDate.of(2023, 3, 15);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseTypeResolver databaseTypeResolver;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Captor
+    private ArgumentCaptor<List<Object[]>> paramsCaptor;
+
+    private GLBalanceSnapshotWritePlatformServiceImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new GLBalanceSnapshotWritePlatformServiceImpl(jdbcTemplate, new DatabaseSpecificSQLGenerator(databaseTypeResolver),
+                transactionManager);
+    }
+
+    @Test
+    void testPostingOnlyInsertsDelta() {
+        underTest.recordJournalEntry(journalEntry(true, new BigDecimal("10.5")));
+
+        Mockito.verify(jdbcTemplate).batchUpdate(startsWith("insert into acc_gl_balance_delta"), paramsCaptor.capture());
+        Assertions.assertEquals(1, paramsCaptor.getValue().size());
+        Assertions.assertArrayEquals(new Object[] { 1L, 2L, "USD", ENTRY_DATE, new BigDecimal("10.5"), BigDecimal.ZERO },
+                paramsCaptor.getValue().get(0));
+        Mockito.verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testDeltasOfSameDayAreInsertedTogether() {
+        underTest.recordDeltas(List.of(GLBalanceDeltaData.instance(1L, 2L, "USD", ENTRY_DATE, false, BigDecimal.TEN),
+                GLBalanceDeltaData.instance(1L, 2L, "USD", ENTRY_DATE, false, BigDecimal.ONE),
+                GLBalanceDeltaData.instance(1L, 3L, "USD", ENTRY_DATE, true, new BigDecimal("11"))));
+
+        Mockito.verify(jdbcTemplate).batchUpdate(startsWith("insert into acc_gl_balance_delta"), paramsCaptor.capture());
+        Assertions.assertEquals(2, paramsCaptor.getValue().size());
+        Assertions.assertArrayEquals(new Object[] { 1L, 2L, "USD", ENTRY_DATE, BigDecimal.ZERO, new BigDecimal("11") },
+                paramsCaptor.getValue().get(0));
+        Assertions.assertArrayEquals(new Object[] { 1L, 3L, "USD", ENTRY_DATE, new BigDecimal("11"), BigDecimal.ZERO },
+                paramsCaptor.getValue().get(1));
+    }
+
+    @Test
+    void testBackdatedPostingRecalculatesLaterCumulativeAmounts() {
+        // calculated snapshots exist for 2023-03-10 (debit 100) and 2023-03-20 (debit 50), a debit of 30 is posted on 2023-03-15
+        Mockito.when(databaseTypeResolver.isMySQL()).thenReturn(true);
+        Mockito.when(jdbcTemplate.query(startsWith("select id, office_id"), any(RowMapper.class))).thenAnswer(rows(List.of(Map.of("id",
+                7L, "office_id", 1L, "account_id", 2L, "currency_code", "USD", "entry_date", Date.valueOf(ENTRY_DATE), "debit_amount",
+                new BigDecimal("30"), "credit_amount", BigDecimal.ZERO))));
+        Mockito.when(jdbcTemplate.query(startsWith("select distinct office_id"), any(RowMapper.class)))
+                .thenAnswer(rows(List.of(Map.of("office_id", 1L, "account_id", 2L, "currency_code", "USD"))));
+        Mockito.when(jdbcTemplate.queryForList(startsWith("select min(snapshot_date)"), eq(LocalDate.class), eq(1L), eq(2L), eq("USD")))
+                .thenReturn(List.of(ENTRY_DATE));
+        Mockito.when(jdbcTemplate.query(startsWith("select id, debit_amount"), any(RowMapper.class), eq(1L), eq(2L), eq("USD"),
+                eq(ENTRY_DATE)))
+                .thenAnswer(rows(List.of(Map.of("id", 11L, "debit_amount", new BigDecimal("30"), "credit_amount", BigDecimal.ZERO),
+                        Map.of("id", 12L, "debit_amount", new BigDecimal("50"), "credit_amount", BigDecimal.ZERO))));
+        Mockito.when(jdbcTemplate.query(startsWith("select cumulative_debit_amount"), any(RowMapper.class), eq(1L), eq(2L), eq("USD"),
+                eq(ENTRY_DATE)))
+                .thenAnswer(rows(List.of(Map.of("cumulative_debit_amount", new BigDecimal("100"), "cumulative_credit_amount",
+                        BigDecimal.ZERO))));
+
+        Assertions.assertEquals(2, underTest.updateCumulativeAmounts());
+
+        Mockito.verify(jdbcTemplate).batchUpdate(contains("ON DUPLICATE KEY UPDATE debit_amount = debit_amount + VALUES(debit_amount)"),
+                paramsCaptor.capture());
+        Assertions.assertArrayEquals(new Object[] { 1L, 2L, "USD", ENTRY_DATE, new BigDecimal("30"), BigDecimal.ZERO },
+                paramsCaptor.getValue().get(0));
+        Mockito.verify(jdbcTemplate).batchUpdate(contains("set is_cumulative_calculated = false"), paramsCaptor.capture());
+        Assertions.assertArrayEquals(new Object[] { 1L, 2L, "USD", ENTRY_DATE }, paramsCaptor.getValue().get(0));
+        Mockito.verify(jdbcTemplate).batchUpdate(eq("delete from acc_gl_balance_delta where id = ?"), paramsCaptor.capture());
+        Assertions.assertArrayEquals(new Object[] { 7L }, paramsCaptor.getValue().get(0));
+        Mockito.verify(jdbcTemplate).batchUpdate(contains("set cumulative_debit_amount = ?"), paramsCaptor.capture());
+        Assertions.assertEquals(2, paramsCaptor.getValue().size());
+        Assertions.assertArrayEquals(new Object[] { new BigDecimal("130"), BigDecimal.ZERO, 11L }, paramsCaptor.getValue().get(0));
+        Assertions.assertArrayEquals(new Object[] { new BigDecimal("180"), BigDecimal.ZERO, 12L }, paramsCaptor.getValue().get(1));
+    }
+
+    @Test
+    void testDeltasAreFoldedWithPostgreSQLUpsert() {
+        Mockito.when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        Mockito.when(jdbcTemplate.query(startsWith("select id, office_id"), any(RowMapper.class))).thenAnswer(rows(List.of(Map.of("id",
+                7L, "office_id", 1L, "account_id", 2L, "currency_code", "USD", "entry_date", Date.valueOf(ENTRY_DATE), "debit_amount",
+                BigDecimal.ZERO, "credit_amount", BigDecimal.TEN))));
+        Mockito.when(jdbcTemplate.query(startsWith("select distinct office_id"), any(RowMapper.class))).thenReturn(List.of());
+
+        underTest.updateCumulativeAmounts();
+
+        Mockito.verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT (office_id, account_id, currency_code, snapshot_date) DO UPDATE SET "
+                + "debit_amount = acc_gl_balance_snapshot.debit_amount + EXCLUDED.debit_amount"), paramsCaptor.capture());
+        Assertions.assertArrayEquals(new Object[] { 1L, 2L, "USD", ENTRY_DATE, BigDecimal.ZERO, BigDecimal.TEN },
+                paramsCaptor.getValue().get(0));
+    }
+
+    @Test
+    void testBalanceFollowsNormalBalanceOfAccountType() {
+        BigDecimal debit = new BigDecimal("100");
+        BigDecimal credit = new BigDecimal("30");
+
+        Assertions.assertEquals(new BigDecimal("70"), GLBalanceSnapshotReadPlatformServiceImpl.balance(GLAccountType.ASSET, debit, credit));
+        Assertions.assertEquals(new BigDecimal("70"),
+                GLBalanceSnapshotReadPlatformServiceImpl.balance(GLAccountType.EXPENSE, debit, credit));
+        Assertions.assertEquals(new BigDecimal("-70"),
+                GLBalanceSnapshotReadPlatformServiceImpl.balance(GLAccountType.LIABILITY, debit, credit));
+        Assertions.assertEquals(new BigDecimal("-70"),
+                GLBalanceSnapshotReadPlatformServiceImpl.balance(GLAccountType.INCOME, debit, credit));
+    }
+
+    /**
+     * Answers a query by mapping the given rows with the row mapper of the query.
+     */
+    private static Answer<List<Object>> rows(List<Map<String, Object>> rows) {
+        return invocation -> {
+            RowMapper<?> rowMapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                result.add(rowMapper.mapRow(resultSet(rows.get(i)), i));
+            }
+            return result;
+        };
+    }
+
+    private static ResultSet resultSet(Map<String, Object> row) {
+        return Mockito.mock(ResultSet.class, invocation -> {
+            Object value = invocation.getArguments().length == 0 ? null : row.get(invocation.getArgument(0));
+            Class<?> type = invocation.getMethod().getReturnType();
+            if (type == long.class) {
+                return value == null ? 0L : ((Number) value).longValue();
+            }
+            if (type == boolean.class) {
+                return false;
+            }
+            return value;
+        });
+    }
+
+    private static JournalEntry journalEntry(boolean debit, BigDecimal amount) {
+        Office office = Mockito.mock(Office.class);
+        Mockito.when(office.getId()).thenReturn(1L);
+        GLAccount account = Mockito.mock(GLAccount.class);
+        Mockito.when(account.getId()).thenReturn(2L);
+        JournalEntry journalEntry = Mockito.mock(JournalEntry.class);
+        Mockito.when(journalEntry.getOffice()).thenReturn(office);
+        Mockito.when(journalEntry.getGlAccount()).thenReturn(account);
+        Mockito.when(journalEntry.getCurrencyCode()).thenReturn("USD");
+        Mockito.when(journalEntry.getTransactionDate()).thenReturn(ENTRY_DATE);
+        Mockito.when(journalEntry.isDebitEntry()).thenReturn(debit);
+        Mockito.when(journalEntry.getAmount()).thenReturn(amount);
+        return journalEntry;
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.batch.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.fineract.batch.domain.BatchRequest;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class BatchRequestExecutorTest {
+
+    private BatchRequestExecutor underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties.FineractBatchParallelProperties parallel = new FineractProperties.FineractBatchParallelProperties();
+        parallel.setEnabled(true);
+        parallel.setThreadCount(4);
+        parallel.setQueueCapacity(100);
+        FineractProperties.FineractBatchProperties batch = new FineractProperties.FineractBatchProperties();
+        batch.setParallel(parallel);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setBatch(batch);
+        underTest = new BatchRequestExecutor(fineractProperties);
+
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, 1, 1))));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("mifos", "password"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.destroy();
+        ThreadLocalContextUtil.reset();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testResultsAreInTaskOrderAndContextIsPropagated() {
+        List<Supplier<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int index = i;
+            tasks.add(() -> index + ":" + ThreadLocalContextUtil.getTenant().getTenantIdentifier() + ":"
+                    + ThreadLocalContextUtil.getBusinessDate() + ":" + SecurityContextHolder.getContext().getAuthentication().getName());
+        }
+
+        List<String> results = underTest.invokeAll(tasks);
+
+        Assertions.assertEquals(20, results.size());
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertEquals(i + ":default:2023-01-01:mifos", results.get(i));
+        }
+        Assertions.assertEquals("default", ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+    }
+
+    @Test
+    void testFirstFailureIsRethrownAfterAllTasksFinished() {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        List<Supplier<String>> tasks = List.of(() -> {
+            executed.add("first");
+            return "first";
+        }, () -> {
+            throw new IllegalStateException("second");
+        }, () -> {
+            executed.add("third");
+            return "third";
+        });
+
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> underTest.invokeAll(tasks));
+
+        Assertions.assertEquals("second", exception.getMessage());
+        Assertions.assertEquals(2, executed.size());
+    }
+
+    @Test
+    void testResourceKey() {
+        Assertions.assertEquals("loans/1",
+                BatchApiServiceImpl.resourceKey(new BatchRequest().setRelativeUrl("loans/1/transactions?command=repayment")));
+        Assertions.assertEquals("loans/external-id/abc",
+                BatchApiServiceImpl.resourceKey(new BatchRequest().setRelativeUrl("loans/external-id/abc/transactions?command=repayment")));
+        Assertions.assertEquals("clients", BatchApiServiceImpl.resourceKey(new BatchRequest().setRelativeUrl("clients")));
+        Assertions.assertEquals("loans/2", BatchApiServiceImpl.resourceKey(new BatchRequest().setRelativeUrl("/loans/2?associations=all")));
+    }
+}
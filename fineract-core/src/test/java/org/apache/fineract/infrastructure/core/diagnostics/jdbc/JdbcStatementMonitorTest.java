@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.data.SlowStatementData;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.data.StatementStatisticsData;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class JdbcStatementMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcStatementMonitor underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties.FineractDatabaseMonitoringProperties properties = new FineractProperties.FineractDatabaseMonitoringProperties();
+        properties.setEnabled(true);
+        properties.setSlowStatementThresholdMillis(100);
+        properties.setSlowStatementBufferSize(2);
+        properties.setMaxStatementShapes(10);
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new JdbcStatementMonitor(properties, meterRegistry);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testStatementsAreNormalized() {
+        Assertions.assertEquals("select * from m_loan2 l where l.id in (?) and l.name = ? and l.amount > ? limit ?",
+                JdbcStatementMonitor.normalize("select  *\n from m_loan2 l where l.id in (?, ?,?) and l.name = 'O''Brien' "
+                        + "and l.amount > 15.5 limit 10"));
+        Assertions.assertEquals("insert into t (a, b) values (?)",
+                JdbcStatementMonitor.normalize("insert into t (a, b) values (?, 1), (?, 2)"));
+        Assertions.assertEquals("update", JdbcStatementMonitor.operationOf("UPDATE t set a = ?"));
+        Assertions.assertEquals("other", JdbcStatementMonitor.operationOf("call proc(?)"));
+    }
+
+    @Test
+    void testQueryIsRecordedWithRowCountWhenResultSetIsClosed() throws SQLException {
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(connection.prepareStatement("select * from m_loan where id = ?")).thenReturn(statement);
+        Mockito.when(statement.executeQuery()).thenReturn(resultSet);
+        Mockito.when(resultSet.next()).thenReturn(true, true, false);
+
+        Connection monitored = underTest.monitor(connection, 1_000L);
+        PreparedStatement monitoredStatement = monitored.prepareStatement("select * from m_loan where id = ?");
+        ResultSet monitoredResultSet = monitoredStatement.executeQuery();
+        while (monitoredResultSet.next()) {
+            Assertions.assertSame(monitoredStatement, monitoredResultSet.getStatement());
+        }
+        Assertions.assertEquals(0L, meterRegistry.get("fineract.jdbc.statements").timer().count());
+        monitoredResultSet.close();
+
+        Assertions.assertSame(monitored, monitoredStatement.getConnection());
+        Assertions.assertEquals(1L, meterRegistry.get("fineract.jdbc.statements").tag("tenant", "default").tag("operation", "select")
+                .timer().count());
+        Assertions.assertEquals(2.0, meterRegistry.get("fineract.jdbc.statement.rows").summary().totalAmount());
+        Assertions.assertEquals(1L, meterRegistry.get("fineract.jdbc.connection.wait").timer().count());
+        List<StatementStatisticsData> statistics = underTest.retrieveStatementStatistics(10);
+        Assertions.assertEquals(1, statistics.size());
+        Assertions.assertEquals("select * from m_loan where id = ?", statistics.get(0).getStatement());
+        Assertions.assertEquals(1L, statistics.get(0).getExecutions());
+        Assertions.assertEquals(2L, statistics.get(0).getRows());
+    }
+
+    @Test
+    void testUpdateIsRecordedWithAffectedRows() throws SQLException {
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(connection.prepareStatement("update m_loan set version = ?")).thenReturn(statement);
+        Mockito.when(statement.executeUpdate()).thenReturn(3);
+
+        underTest.monitor(connection, 0L).prepareStatement("update m_loan set version = ?").executeUpdate();
+
+        Assertions.assertEquals(3.0, meterRegistry.get("fineract.jdbc.statement.rows").tag("operation", "update").summary().totalAmount());
+    }
+
+    @Test
+    void testSlowStatementsAreKeptInRingBufferPerTenant() {
+        String previous = JdbcStatementOrigin.set("report:Active Loans");
+        try {
+            underTest.record("default", "select 1", 150_000_000L, 1);
+            underTest.record("default", "select 2", 50_000_000L, 1);
+            underTest.record("default", "select 3", 300_000_000L, 1);
+            underTest.record("other", "select 4", 200_000_000L, 1);
+        } finally {
+            JdbcStatementOrigin.restore(previous);
+        }
+
+        List<SlowStatementData> slowStatements = underTest.retrieveSlowStatements();
+
+        Assertions.assertEquals(1, slowStatements.size());
+        Assertions.assertEquals(300L, slowStatements.get(0).getDurationMillis());
+        Assertions.assertEquals("report:Active Loans", slowStatements.get(0).getOrigin());
+        Assertions.assertNull(JdbcStatementOrigin.get());
+    }
+}
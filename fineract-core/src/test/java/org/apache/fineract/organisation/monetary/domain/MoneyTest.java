@@ -0,0 +1,150 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+class MoneyTest {
+
+    private static final MockedStatic<MoneyHelper> MONEY_HELPER = Mockito.mockStatic(MoneyHelper.class);
+    private static final List<MonetaryCurrency> CURRENCIES = List.of(new MonetaryCurrency("USD", 2, null),
+            new MonetaryCurrency("KWD", 3, 0), new MonetaryCurrency("JPY", 0, null), new MonetaryCurrency("HUF", 0, 50));
+    private static RoundingMode roundingMode = RoundingMode.HALF_EVEN;
+
+    @BeforeAll
+    public static void init() {
+        MONEY_HELPER.when(MoneyHelper::getRoundingMode).thenAnswer(invocation -> roundingMode);
+    }
+
+    @AfterAll
+    public static void destruct() {
+        MONEY_HELPER.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, names = { "HALF_EVEN", "HALF_UP", "HALF_DOWN", "UP", "DOWN", "CEILING", "FLOOR" })
+    public void arithmeticIsIdenticalToNormalizingEveryResult(RoundingMode mode) {
+        roundingMode = mode;
+        Random random = new Random(42);
+        for (MonetaryCurrency currency : CURRENCIES) {
+            for (int i = 0; i < 2000; i++) {
+                BigDecimal first = randomAmount(random);
+                BigDecimal second = randomAmount(random);
+                BigDecimal factor = BigDecimal.valueOf(random.nextInt(100_000), random.nextInt(6));
+                Money money = Money.of(currency, first);
+                Money other = Money.of(currency, second);
+
+                assertIdentical(reference(first, currency), money.getAmount());
+                assertIdentical(reference(money.getAmount().add(other.getAmount()), currency), money.plus(other).getAmount());
+                assertIdentical(reference(money.getAmount().subtract(other.getAmount()), currency), money.minus(other).getAmount());
+                assertIdentical(reference(money.getAmount().add(second), currency), money.plus(second).getAmount());
+                assertIdentical(reference(money.getAmount().multiply(factor), currency), money.multipliedBy(factor).getAmount());
+                assertIdentical(reference(money.getAmount().negate(), currency), money.negated().getAmount());
+                if (factor.signum() != 0) {
+                    assertIdentical(reference(money.getAmount().divide(factor, mode), currency), money.dividedBy(factor, mode).getAmount());
+                }
+                assertEquals(money.getAmount().signum() == 0, money.isZero());
+                assertEquals(money.getAmount().signum() > 0, money.isGreaterThanZero());
+                assertEquals(money.getAmount().signum() < 0, money.isLessThanZero());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, names = { "HALF_EVEN", "HALF_UP", "DOWN" })
+    public void accumulatorIsIdenticalToChainedOperations(RoundingMode mode) {
+        roundingMode = mode;
+        Random random = new Random(7);
+        for (MonetaryCurrency currency : CURRENCIES) {
+            List<Money> monies = new ArrayList<>();
+            Money expected = Money.zero(currency);
+            MoneyAccumulator accumulator = MoneyAccumulator.of(currency);
+            for (int i = 0; i < 1000; i++) {
+                Money money = Money.of(currency, randomAmount(random));
+                BigDecimal raw = randomAmount(random);
+                monies.add(money);
+                if (i % 3 == 0) {
+                    expected = expected.minus(money);
+                    accumulator.minus(money);
+                } else {
+                    expected = expected.plus(money).plus(raw);
+                    accumulator.plus(money).plus(raw);
+                }
+                assertIdentical(expected.getAmount(), accumulator.getAmount());
+            }
+            assertIdentical(expected.getAmount(), accumulator.toMoney().getAmount());
+
+            Money chained = monies.get(0);
+            for (Money money : monies.subList(1, monies.size())) {
+                chained = chained.plus(money);
+            }
+            assertIdentical(chained.getAmount(), Money.total(monies).getAmount());
+            assertIdentical(chained.getAmount(), Money.total(monies.toArray(new Money[0])).getAmount());
+        }
+    }
+
+    @Test
+    public void totalOfSingleMoneyIsTheMoneyItself() {
+        Money money = Money.of(CURRENCIES.get(0), BigDecimal.TEN);
+        assertSame(money, Money.total(List.of(money)));
+        assertSame(money, Money.total(money));
+        assertSame(money, MoneyAccumulator.of(money).plus(BigDecimal.ZERO).toMoney());
+    }
+
+    @Test
+    public void accumulatorRejectsDifferentCurrency() {
+        MoneyAccumulator accumulator = MoneyAccumulator.of(CURRENCIES.get(0));
+        Money other = Money.of(CURRENCIES.get(1), BigDecimal.ONE);
+        assertThrows(UnsupportedOperationException.class, () -> accumulator.plus(other));
+    }
+
+    private static BigDecimal randomAmount(Random random) {
+        return BigDecimal.valueOf(random.nextLong() % 100_000_000L, random.nextInt(9));
+    }
+
+    // the normalization Money used to do: strip the trailing zeros, round to multiples, set the scale of the currency
+    private static BigDecimal reference(BigDecimal amount, MonetaryCurrency currency) {
+        BigDecimal amountScaled = amount.stripTrailingZeros();
+        Integer inMultiplesOf = currency.getCurrencyInMultiplesOf();
+        if (inMultiplesOf != null && currency.getDigitsAfterDecimal() == 0 && inMultiplesOf > 0 && amountScaled.doubleValue() > 0) {
+            amountScaled = BigDecimal.valueOf(Money.roundToMultiplesOf(amountScaled.doubleValue(), inMultiplesOf));
+        }
+        return amountScaled.setScale(currency.getDigitsAfterDecimal(), roundingMode);
+    }
+
+    private static void assertIdentical(BigDecimal expected, BigDecimal actual) {
+        assertEquals(expected.scale(), actual.scale());
+        assertEquals(expected.unscaledValue(), actual.unscaledValue());
+    }
+}
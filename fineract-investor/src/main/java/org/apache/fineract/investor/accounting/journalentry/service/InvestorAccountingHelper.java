@@ -28,6 +28,7 @@ import org.apache.fineract.accounting.common.AccountingConstants.FinancialActivi
 import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccount;
 import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepositoryWrapper;
 import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.glaccount.service.GLBalanceSnapshotWritePlatformService;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
@@ -50,6 +51,7 @@ public class InvestorAccountingHelper {
     private final ProductToGLAccountMappingRepository accountMappingRepository;
     private final FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository;
     private final GLClosureRepository closureRepository;
+    private final GLBalanceSnapshotWritePlatformService glBalanceSnapshotWritePlatformService;
 
     /**
      * @param officeId
@@ -96,7 +98,9 @@ public class InvestorAccountingHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.CREDIT, amount, null, PortfolioProductType.LOAN.getValue(), loanId, null, null, null,
                 null, null);
-        return this.glJournalEntryRepository.saveAndFlush(journalEntry);
+        final JournalEntry savedJournalEntry = this.glJournalEntryRepository.saveAndFlush(journalEntry);
+        this.glBalanceSnapshotWritePlatformService.recordJournalEntry(savedJournalEntry);
+        return savedJournalEntry;
     }
 
     private JournalEntry createDebitJournalEntryForInvestor(final Office office, final String currencyCode, final GLAccount account,
@@ -107,7 +111,9 @@ public class InvestorAccountingHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.DEBIT, amount, null, PortfolioProductType.LOAN.getValue(), loanId, null, null, null, null,
                 null);
-        return this.glJournalEntryRepository.saveAndFlush(journalEntry);
+        final JournalEntry savedJournalEntry = this.glJournalEntryRepository.saveAndFlush(journalEntry);
+        this.glBalanceSnapshotWritePlatformService.recordJournalEntry(savedJournalEntry);
+        return savedJournalEntry;
     }
 
     public GLAccount getLinkedGLAccountForLoanProduct(final Long loanProductId, final int accountMappingTypeId) {
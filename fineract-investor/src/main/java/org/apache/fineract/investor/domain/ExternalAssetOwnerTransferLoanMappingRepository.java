@@ -32,6 +32,12 @@ public interface ExternalAssetOwnerTransferLoanMappingRepository extends JpaRepo
 
     Optional<ExternalAssetOwnerTransferLoanMapping> findByLoanId(Long loanId);
 
+    @Query("SELECT mapping.ownerTransfer.owner.id FROM ExternalAssetOwnerTransferLoanMapping mapping WHERE mapping.loanId = :loanId")
+    Optional<Long> findOwnerIdByLoanId(@Param("loanId") Long loanId);
+
+    @Query("SELECT MAX(mapping.id) FROM ExternalAssetOwnerTransferLoanMapping mapping")
+    Long findMaxId();
+
     @Query("SELECT mapping FROM ExternalAssetOwnerTransferLoanMapping mapping WHERE mapping.ownerTransfer.externalLoanId =:externalLoanId")
     Optional<ExternalAssetOwnerTransferLoanMapping> findByLoanExternalId(@Param("externalLoanId") ExternalId externalLoanId);
 
@@ -19,6 +19,7 @@
 package org.apache.fineract.investor.domain;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
@@ -47,6 +48,10 @@ public interface ExternalAssetOwnerTransferRepository
     @Query("select m.ownerTransfer.owner from ExternalAssetOwnerTransferLoanMapping m where m.loanId = :loanId")
     Optional<ExternalAssetOwner> findActiveOwnerByLoanId(@Param("loanId") Long loanId);
 
+    @Query("select t from ExternalAssetOwnerTransfer t join fetch t.owner where t.id in "
+            + "(select m.ownerTransfer.id from ExternalAssetOwnerTransferLoanMapping m where m.loanId in :loanIds)")
+    List<ExternalAssetOwnerTransfer> findActiveByLoanIdIn(@Param("loanIds") Collection<Long> loanIds);
+
     @Query("SELECT t FROM ExternalAssetOwnerTransfer t WHERE t.loanId = :loanId AND t.effectiveDateTo > :effectiveDate order by t.id desc")
     List<ExternalAssetOwnerTransfer> findEffectiveTransfersOrderByIdDesc(@Param("loanId") Long loanId,
             @Param("effectiveDate") LocalDate effectiveDate);
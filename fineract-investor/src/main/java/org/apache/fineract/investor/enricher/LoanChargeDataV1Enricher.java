@@ -18,18 +18,21 @@
  */
 package org.apache.fineract.investor.enricher;
 
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.avro.loan.v1.LoanChargeDataV1;
 import org.apache.fineract.infrastructure.core.service.DataEnricher;
 import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.support.ExternalIdMapper;
-import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransfer;
+import org.apache.fineract.investor.service.LoanOwnershipResolver;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class LoanChargeDataV1Enricher implements DataEnricher<LoanChargeDataV1> {
 
-    private final ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+    private final LoanOwnershipResolver loanOwnershipResolver;
     private final ExternalIdMapper externalIdMapper;
 
     @Override
@@ -39,7 +42,21 @@ public class LoanChargeDataV1Enricher implements DataEnricher<LoanChargeDataV1>
 
     @Override
     public void enrich(LoanChargeDataV1 data) {
-        externalAssetOwnerTransferRepository.findActiveOwnerByLoanId(data.getLoanId())
-                .ifPresent(owner -> data.setExternalOwnerId(externalIdMapper.mapExternalId(owner.getExternalId())));
+        enrichAll(List.of(data));
+    }
+
+    @Override
+    public void enrichAll(List<LoanChargeDataV1> data) {
+        Map<Long, ExternalAssetOwnerTransfer> activeTransfers = loanOwnershipResolver
+                .findActiveTransfers(data.stream().map(LoanChargeDataV1::getLoanId).toList());
+        if (activeTransfers.isEmpty()) {
+            return;
+        }
+        for (LoanChargeDataV1 item : data) {
+            ExternalAssetOwnerTransfer transfer = item.getLoanId() == null ? null : activeTransfers.get(item.getLoanId());
+            if (transfer != null) {
+                item.setExternalOwnerId(externalIdMapper.mapExternalId(transfer.getOwner().getExternalId()));
+            }
+        }
     }
 }
@@ -18,8 +18,11 @@
  */
 package org.apache.fineract.investor.enricher;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.avro.loan.v1.LoanTransactionAdjustmentDataV1;
+import org.apache.fineract.avro.loan.v1.LoanTransactionDataV1;
 import org.apache.fineract.infrastructure.core.service.DataEnricher;
 import org.springframework.stereotype.Component;
 
@@ -36,11 +39,22 @@ public class LoanTransactionAdjustmentDataV1Enricher implements DataEnricher<Loa
 
     @Override
     public void enrich(LoanTransactionAdjustmentDataV1 data) {
-        if (data.getTransactionToAdjust() != null) {
-            loanTransactionDataV1Enricher.enrich(data.getTransactionToAdjust());
+        enrichAll(List.of(data));
+    }
+
+    @Override
+    public void enrichAll(List<LoanTransactionAdjustmentDataV1> data) {
+        List<LoanTransactionDataV1> transactions = new ArrayList<>();
+        for (LoanTransactionAdjustmentDataV1 item : data) {
+            if (item.getTransactionToAdjust() != null) {
+                transactions.add(item.getTransactionToAdjust());
+            }
+            if (item.getNewTransactionDetail() != null) {
+                transactions.add(item.getNewTransactionDetail());
+            }
         }
-        if (data.getNewTransactionDetail() != null) {
-            loanTransactionDataV1Enricher.enrich(data.getNewTransactionDetail());
+        if (!transactions.isEmpty()) {
+            loanTransactionDataV1Enricher.enrichAll(transactions);
         }
     }
 }
@@ -19,19 +19,24 @@
 package org.apache.fineract.investor.service;
 
 import jakarta.annotation.PostConstruct;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.PortfolioProductType;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.investor.config.InvestorModuleIsEnabledCondition;
-import org.apache.fineract.investor.domain.ExternalAssetOwnerJournalEntryMapping;
-import org.apache.fineract.investor.domain.ExternalAssetOwnerJournalEntryMappingRepository;
-import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferLoanMappingRepository;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRepository;
 import org.springframework.context.annotation.Conditional;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -39,10 +44,13 @@ import org.springframework.stereotype.Service;
 @Conditional(InvestorModuleIsEnabledCondition.class)
 public class ExternalAssetOwnerJournalEntryServiceImpl implements ExternalAssetOwnerJournalEntryService {
 
+    private static final String INSERT_MAPPING_SQL = "INSERT INTO m_external_asset_owner_journal_entry_mapping "
+            + "(journal_entry_id, owner_id, created_by, created_on_utc, last_modified_by, last_modified_on_utc) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final BusinessEventNotifierService businessEventNotifierService;
-    private final ExternalAssetOwnerJournalEntryMappingRepository externalAssetOwnerJournalEntryMappingRepository;
-    private final ExternalAssetOwnerTransferLoanMappingRepository externalAssetOwnerTransferLoanMappingRepository;
+    private final LoanOwnershipResolver loanOwnershipResolver;
     private final LoanTransactionRepository loanTransactionRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @PostConstruct
     public void addListeners() {
@@ -50,6 +58,23 @@ public class ExternalAssetOwnerJournalEntryServiceImpl implements ExternalAssetO
                 new HandleLoanJournalEntryCreatedBusinessEvent());
     }
 
+    private Long getLoanId(JournalEntry journalEntry) {
+        if (PortfolioProductType.LOAN.getValue().equals(journalEntry.getEntityType()) && journalEntry.getEntityId() != null) {
+            return journalEntry.getEntityId();
+        }
+        return loanTransactionRepository.findLoanIdById(journalEntry.getLoanTransactionId()).orElseThrow();
+    }
+
+    private Object[] toMappingRow(JournalEntry journalEntry, Long ownerId) {
+        Long userId = journalEntry.getCreatedBy().orElse(null);
+        OffsetDateTime createdDate = journalEntry.getCreatedDate().orElseGet(DateUtils::getOffsetDateTimeOfTenantWithMostPrecision);
+        return new Object[] { journalEntry.getId(), ownerId, userId, createdDate, userId, createdDate };
+    }
+
+    private void insertMappings(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(INSERT_MAPPING_SQL, rows);
+    }
+
     private class HandleLoanJournalEntryCreatedBusinessEvent implements BusinessEventListener<LoanJournalEntryCreatedBusinessEvent> {
 
         @Override
@@ -59,13 +84,55 @@ public class ExternalAssetOwnerJournalEntryServiceImpl implements ExternalAssetO
         }
 
         private void createMapping(JournalEntry journalEntry) {
-            Long loanId = loanTransactionRepository.findLoanIdById(journalEntry.getLoanTransactionId()).orElseThrow();
-            externalAssetOwnerTransferLoanMappingRepository.findByLoanId(loanId).ifPresent(transferLoanMapping -> {
-                ExternalAssetOwnerJournalEntryMapping mapping = new ExternalAssetOwnerJournalEntryMapping();
-                mapping.setJournalEntry(journalEntry);
-                mapping.setOwner(transferLoanMapping.getOwnerTransfer().getOwner());
-                externalAssetOwnerJournalEntryMappingRepository.saveAndFlush(mapping);
-            });
+            Long ownerId = loanOwnershipResolver.findActiveOwnerId(getLoanId(journalEntry));
+            if (ownerId == null) {
+                return;
+            }
+            Object[] row = toMappingRow(journalEntry, ownerId);
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                insertMappings(List.of(row));
+                return;
+            }
+            PendingOwnerMappings pendingOwnerMappings = (PendingOwnerMappings) TransactionSynchronizationManager
+                    .getResource(ExternalAssetOwnerJournalEntryServiceImpl.this);
+            if (pendingOwnerMappings == null) {
+                pendingOwnerMappings = new PendingOwnerMappings();
+                TransactionSynchronizationManager.bindResource(ExternalAssetOwnerJournalEntryServiceImpl.this, pendingOwnerMappings);
+                TransactionSynchronizationManager.registerSynchronization(pendingOwnerMappings);
+            }
+            pendingOwnerMappings.rows.add(row);
+        }
+    }
+
+    /**
+     * Owner mappings of the journal entries created by the current transaction, inserted in one batch before it commits.
+     */
+    private final class PendingOwnerMappings implements TransactionSynchronization {
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!rows.isEmpty()) {
+                log.debug("Inserting {} external asset owner journal entry mappings", rows.size());
+                insertMappings(rows);
+                rows.clear();
+            }
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ExternalAssetOwnerJournalEntryServiceImpl.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ExternalAssetOwnerJournalEntryServiceImpl.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ExternalAssetOwnerJournalEntryServiceImpl.this);
         }
     }
 }
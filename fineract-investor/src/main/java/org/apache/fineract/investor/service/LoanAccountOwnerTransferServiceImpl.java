@@ -60,6 +60,7 @@ public class LoanAccountOwnerTransferServiceImpl implements LoanAccountOwnerTran
     private final ExternalAssetOwnerTransferLoanMappingRepository externalAssetOwnerTransferLoanMappingRepository;
     private final AccountingService accountingService;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final LoanOwnershipResolver loanOwnershipResolver;
 
     @Override
     public void handleLoanClosedOrOverpaid(Loan loan) {
@@ -108,6 +109,7 @@ public class LoanAccountOwnerTransferServiceImpl implements LoanAccountOwnerTran
         buybackTransfer = updatePendingBuybackTransfer(loan, buybackTransfer);
 
         externalAssetOwnerTransferLoanMappingRepository.deleteByLoanIdAndOwnerTransfer(loan.getId(), activeTransfer);
+        loanOwnershipResolver.ownershipChanged(loan.getId());
         accountingService.createJournalEntriesForBuybackAssetTransfer(loan, buybackTransfer);
 
         businessEventNotifierService.notifyPostBusinessEvent(new LoanOwnershipTransferBusinessEvent(buybackTransfer, loan));
@@ -0,0 +1,167 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.investor.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransfer;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferLoanMappingRepository;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Resolves the active external asset owner and transfer of the loans touched by the current transaction.
+ *
+ * Within a transaction (an API request or a COB chunk) the owner of a loan is looked up once, and no loan is looked up
+ * while the tenant has no loan owned by an external asset owner. Ownership changes made by the transaction itself have
+ * to be reported with {@link #ownershipChanged(Long)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanOwnershipResolver {
+
+    private final ExternalAssetOwnerTransferLoanMappingRepository externalAssetOwnerTransferLoanMappingRepository;
+    private final ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+
+    /**
+     * Returns the id of the active owner of the given loan, or null if the loan is not owned by an external asset owner.
+     */
+    public Long findActiveOwnerId(Long loanId) {
+        TransactionOwnerships ownerships = getTransactionOwnerships();
+        if (ownerships == null) {
+            return externalAssetOwnerTransferLoanMappingRepository.findOwnerIdByLoanId(loanId).orElse(null);
+        }
+        if (!isAnyLoanOwned(ownerships)) {
+            return null;
+        }
+        return ownerships.ownerIds.computeIfAbsent(loanId, externalAssetOwnerTransferLoanMappingRepository::findOwnerIdByLoanId)
+                .orElse(null);
+    }
+
+    /**
+     * Returns the active transfers of the given loans by loan id; loans not owned by an external asset owner are left out.
+     * The loans not resolved yet by the current transaction are looked up with a single query.
+     */
+    public Map<Long, ExternalAssetOwnerTransfer> findActiveTransfers(Collection<Long> loanIds) {
+        Set<Long> uniqueLoanIds = loanIds.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (uniqueLoanIds.isEmpty()) {
+            return Map.of();
+        }
+        TransactionOwnerships ownerships = getTransactionOwnerships();
+        if (ownerships == null) {
+            return loadActiveTransfers(uniqueLoanIds);
+        }
+        if (!isAnyLoanOwned(ownerships)) {
+            return Map.of();
+        }
+        List<Long> unresolvedLoanIds = new ArrayList<>();
+        for (Long loanId : uniqueLoanIds) {
+            if (!ownerships.activeTransfers.containsKey(loanId)) {
+                unresolvedLoanIds.add(loanId);
+            }
+        }
+        if (!unresolvedLoanIds.isEmpty()) {
+            Map<Long, ExternalAssetOwnerTransfer> loadedTransfers = loadActiveTransfers(unresolvedLoanIds);
+            for (Long loanId : unresolvedLoanIds) {
+                ownerships.activeTransfers.put(loanId, Optional.ofNullable(loadedTransfers.get(loanId)));
+            }
+        }
+        Map<Long, ExternalAssetOwnerTransfer> activeTransfers = new HashMap<>();
+        for (Long loanId : uniqueLoanIds) {
+            ownerships.activeTransfers.get(loanId).ifPresent(transfer -> activeTransfers.put(loanId, transfer));
+        }
+        return activeTransfers;
+    }
+
+    /**
+     * Records that the owner of the given loan was changed by the current transaction, so it is looked up again.
+     */
+    public void ownershipChanged(Long loanId) {
+        TransactionOwnerships ownerships = getTransactionOwnerships();
+        if (ownerships != null) {
+            ownerships.ownerIds.remove(loanId);
+            ownerships.activeTransfers.remove(loanId);
+            ownerships.anyLoanOwned = null;
+        }
+    }
+
+    private boolean isAnyLoanOwned(TransactionOwnerships ownerships) {
+        if (ownerships.anyLoanOwned == null) {
+            ownerships.anyLoanOwned = externalAssetOwnerTransferLoanMappingRepository.findMaxId() != null;
+        }
+        return ownerships.anyLoanOwned;
+    }
+
+    private Map<Long, ExternalAssetOwnerTransfer> loadActiveTransfers(Collection<Long> loanIds) {
+        return externalAssetOwnerTransferRepository.findActiveByLoanIdIn(loanIds).stream()
+                .collect(Collectors.toMap(ExternalAssetOwnerTransfer::getLoanId, Function.identity(), (first, second) -> first));
+    }
+
+    private TransactionOwnerships getTransactionOwnerships() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        TransactionOwnerships ownerships = (TransactionOwnerships) TransactionSynchronizationManager.getResource(this);
+        if (ownerships == null) {
+            ownerships = new TransactionOwnerships(this);
+            TransactionSynchronizationManager.bindResource(this, ownerships);
+            TransactionSynchronizationManager.registerSynchronization(ownerships);
+        }
+        return ownerships;
+    }
+
+    private static final class TransactionOwnerships implements TransactionSynchronization {
+
+        private final Object key;
+        private final Map<Long, Optional<Long>> ownerIds = new HashMap<>();
+        private final Map<Long, Optional<ExternalAssetOwnerTransfer>> activeTransfers = new HashMap<>();
+        private Boolean anyLoanOwned;
+
+        private TransactionOwnerships(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(key);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(key, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(key);
+        }
+    }
+}
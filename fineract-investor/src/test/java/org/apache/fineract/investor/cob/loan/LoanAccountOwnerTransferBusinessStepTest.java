@@ -51,6 +51,7 @@ import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferLoanMapping
 import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
 import org.apache.fineract.investor.domain.LoanOwnershipTransferBusinessEvent;
 import org.apache.fineract.investor.service.AccountingService;
+import org.apache.fineract.investor.service.LoanOwnershipResolver;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanSummary;
 import org.jetbrains.annotations.NotNull;
@@ -76,6 +77,8 @@ public class LoanAccountOwnerTransferBusinessStepTest {
 
     @Mock
     private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private LoanOwnershipResolver loanOwnershipResolver;
 
     @Mock
     private AccountingService accountingService;
@@ -87,7 +90,7 @@ public class LoanAccountOwnerTransferBusinessStepTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, actualDate)));
         underTest = new LoanAccountOwnerTransferBusinessStep(externalAssetOwnerTransferRepository,
-                externalAssetOwnerTransferLoanMappingRepository, accountingService, businessEventNotifierService);
+                externalAssetOwnerTransferLoanMappingRepository, accountingService, businessEventNotifierService, loanOwnershipResolver);
     }
 
     @Test
@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.investor.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransfer;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferLoanMappingRepository;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanOwnershipResolverTest {
+
+    @Mock
+    private ExternalAssetOwnerTransferLoanMappingRepository externalAssetOwnerTransferLoanMappingRepository;
+    @Mock
+    private ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+
+    private LoanOwnershipResolver underTest;
+
+    @BeforeEach
+    public void setUp() {
+        underTest = new LoanOwnershipResolver(externalAssetOwnerTransferLoanMappingRepository, externalAssetOwnerTransferRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(underTest);
+    }
+
+    @Test
+    public void testOwnerIsLookedUpDirectlyWithoutTransaction() {
+        when(externalAssetOwnerTransferLoanMappingRepository.findOwnerIdByLoanId(1L)).thenReturn(Optional.of(10L));
+
+        assertEquals(10L, underTest.findActiveOwnerId(1L));
+        assertEquals(10L, underTest.findActiveOwnerId(1L));
+
+        verify(externalAssetOwnerTransferLoanMappingRepository, times(2)).findOwnerIdByLoanId(1L);
+        verify(externalAssetOwnerTransferLoanMappingRepository, never()).findMaxId();
+    }
+
+    @Test
+    public void testLoansAreNotLookedUpWhenNoLoanIsOwned() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertNull(underTest.findActiveOwnerId(1L));
+        assertNull(underTest.findActiveOwnerId(2L));
+
+        verify(externalAssetOwnerTransferLoanMappingRepository, times(1)).findMaxId();
+        verify(externalAssetOwnerTransferLoanMappingRepository, never()).findOwnerIdByLoanId(anyLong());
+    }
+
+    @Test
+    public void testOwnerIsLookedUpOncePerTransactionUntilOwnershipChanges() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(externalAssetOwnerTransferLoanMappingRepository.findMaxId()).thenReturn(5L);
+        when(externalAssetOwnerTransferLoanMappingRepository.findOwnerIdByLoanId(1L)).thenReturn(Optional.of(10L), Optional.empty());
+
+        assertEquals(10L, underTest.findActiveOwnerId(1L));
+        assertEquals(10L, underTest.findActiveOwnerId(1L));
+        verify(externalAssetOwnerTransferLoanMappingRepository, times(1)).findOwnerIdByLoanId(1L);
+
+        underTest.ownershipChanged(1L);
+
+        assertNull(underTest.findActiveOwnerId(1L));
+        verify(externalAssetOwnerTransferLoanMappingRepository, times(2)).findOwnerIdByLoanId(1L);
+        verify(externalAssetOwnerTransferLoanMappingRepository, times(2)).findMaxId();
+    }
+
+    @Test
+    public void testActiveTransfersAreLoadedWithOneQueryAndRememberedPerTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        ExternalAssetOwnerTransfer transfer = mock(ExternalAssetOwnerTransfer.class);
+        when(transfer.getLoanId()).thenReturn(1L);
+        when(externalAssetOwnerTransferLoanMappingRepository.findMaxId()).thenReturn(5L);
+        when(externalAssetOwnerTransferRepository.findActiveByLoanIdIn(List.of(1L, 2L))).thenReturn(List.of(transfer));
+
+        assertEquals(Map.of(1L, transfer), underTest.findActiveTransfers(Arrays.asList(1L, 2L, 1L, null)));
+        assertEquals(Map.of(1L, transfer), underTest.findActiveTransfers(List.of(2L, 1L)));
+
+        verify(externalAssetOwnerTransferRepository, times(1)).findActiveByLoanIdIn(anyCollection());
+    }
+
+    @Test
+    public void testActiveTransfersAreNotLoadedWhenNoLoanIsOwned() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertTrue(underTest.findActiveTransfers(List.of(1L, 2L)).isEmpty());
+
+        verify(externalAssetOwnerTransferRepository, never()).findActiveByLoanIdIn(anyCollection());
+    }
+}
@@ -101,6 +101,18 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     String FIND_ALL_LOAN_IDS_BY_STATUS_ID = "SELECT loan.id FROM Loan loan WHERE loan.loanStatus = :statusId";
 
+    // The bulk fetch queries below are meant to be executed after each other within the same persistence context: each of them
+    // initializes a single collection, so loading a chunk of loans does not end up in a cartesian product or N+1 selects
+    String FIND_ALL_BY_IDS_FETCH_REPAYMENT_SCHEDULE_INSTALLMENTS = "select distinct loan from Loan loan left join fetch loan.repaymentScheduleInstallments where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_FETCH_TRANSACTIONS = "select distinct loan from Loan loan left join fetch loan.loanTransactions where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_FETCH_CHARGES = "select distinct loan from Loan loan left join fetch loan.charges where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_FETCH_TERM_VARIATIONS = "select distinct loan from Loan loan left join fetch loan.loanTermVariations where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_FETCH_DISBURSEMENT_DETAILS = "select distinct loan from Loan loan left join fetch loan.disbursementDetails where loan.id IN :loanIds";
+
     @Query(FIND_GROUP_LOANS_DISBURSED_AFTER)
     List<Loan> getGroupLoansDisbursedAfter(@Param("disbursementDate") LocalDate disbursementDate, @Param("groupId") Long groupId,
             @Param("loanType") Integer loanType);
@@ -227,4 +239,19 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     @Query(FIND_ALL_LOAN_IDS_BY_STATUS_ID)
     List<Long> findLoanIdByStatusId(@Param("statusId") Integer statusId);
+
+    @Query(FIND_ALL_BY_IDS_FETCH_REPAYMENT_SCHEDULE_INSTALLMENTS)
+    List<Loan> findAllByIdsFetchRepaymentScheduleInstallments(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_FETCH_TRANSACTIONS)
+    List<Loan> findAllByIdsFetchTransactions(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_FETCH_CHARGES)
+    List<Loan> findAllByIdsFetchCharges(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_FETCH_TERM_VARIATIONS)
+    List<Loan> findAllByIdsFetchTermVariations(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_FETCH_DISBURSEMENT_DETAILS)
+    List<Loan> findAllByIdsFetchDisbursementDetails(@Param("loanIds") Collection<Long> loanIds);
 }
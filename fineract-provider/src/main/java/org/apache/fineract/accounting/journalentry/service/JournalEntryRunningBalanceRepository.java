@@ -0,0 +1,196 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads and writes the journal entry rows and the {@code acc_gl_running_balance_checkpoint} rows the running balance
+ * calculation works on. The organization running balance is stored with {@code office_id = 0} in the checkpoint table.
+ */
+@Repository
+public class JournalEntryRunningBalanceRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final JournalEntryRowMapper entryMapper = new JournalEntryRowMapper();
+
+    public JournalEntryRunningBalanceRepository(JdbcTemplate jdbcTemplate, DatabaseSpecificSQLGenerator sqlGenerator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlGenerator = sqlGenerator;
+    }
+
+    /**
+     * Returns the accounts having entries (of the office, if given) whose running balance is not calculated yet.
+     */
+    public List<Long> retrieveAccountIdsWithUncalculatedEntries(Long officeId) {
+        if (officeId == null) {
+            return jdbcTemplate.queryForList(
+                    "select distinct je.account_id from acc_gl_journal_entry je where je.is_running_balance_calculated=false", Long.class);
+        }
+        return jdbcTemplate.queryForList("select distinct je.account_id from acc_gl_journal_entry je "
+                + "where je.is_running_balance_calculated=false and je.office_id=?", Long.class, officeId);
+    }
+
+    public EntryPosition findFirstUncalculatedEntry(long accountId, Long officeId) {
+        String sql = "select je.entry_date, je.id from acc_gl_journal_entry je where je.is_running_balance_calculated=false "
+                + "and je.account_id=? " + (officeId == null ? "" : "and je.office_id=? ") + "order by je.entry_date, je.id "
+                + sqlGenerator.limit(1);
+        Object[] params = officeId == null ? new Object[] { accountId } : new Object[] { accountId, officeId };
+        List<EntryPosition> positions = jdbcTemplate.query(sql,
+                (rs, rowNum) -> new EntryPosition(JdbcSupport.getLocalDate(rs, "entry_date"), rs.getLong("id")), params);
+        return positions.isEmpty() ? null : positions.get(0);
+    }
+
+    public GLAccountType retrieveAccountType(long accountId) {
+        Integer classification = jdbcTemplate.queryForObject("select classification_enum from acc_gl_account where id=?", Integer.class,
+                accountId);
+        return GLAccountType.fromInt(classification);
+    }
+
+    /**
+     * Returns at most {@code limit} entries of the account (and office, if given) following the given position, ordered by
+     * entry date and id.
+     */
+    public List<JournalEntryRow> retrieveEntriesAfter(long accountId, Long officeId, EntryPosition after, int limit) {
+        String sql = entryMapper.schema(officeId != null) + sqlGenerator.limit(limit);
+        Object[] params = officeId == null ? new Object[] { accountId, after.entryDate(), after.entryDate(), after.id() }
+                : new Object[] { accountId, officeId, after.entryDate(), after.entryDate(), after.id() };
+        return jdbcTemplate.query(sql, entryMapper, params);
+    }
+
+    /**
+     * Returns the checkpoints of the account by office id.
+     */
+    public Map<Long, RunningBalanceCheckpoint> retrieveCheckpoints(long accountId) {
+        Map<Long, RunningBalanceCheckpoint> checkpoints = new HashMap<>();
+        jdbcTemplate.query("select office_id, entry_date, journal_entry_id, running_balance from acc_gl_running_balance_checkpoint "
+                + "where account_id=?", rs -> {
+                    checkpoints.put(rs.getLong("office_id"), new RunningBalanceCheckpoint(rs.getBigDecimal("running_balance"),
+                            new EntryPosition(JdbcSupport.getLocalDate(rs, "entry_date"), rs.getLong("journal_entry_id"))));
+                }, accountId);
+        return checkpoints;
+    }
+
+    /**
+     * Returns the running balance of the last entry of the account (organization wide when officeId is 0) before the given
+     * position, or null if there is none.
+     */
+    public RunningBalanceCheckpoint findLastRunningBalanceBefore(long accountId, long officeId, EntryPosition position) {
+        boolean organization = officeId == JournalEntryRunningBalanceUpdateServiceImpl.ORGANIZATION_OFFICE_ID;
+        String sql = "select je.entry_date, je.id, " + (organization ? "je.organization_running_balance" : "je.office_running_balance")
+                + " as running_balance from acc_gl_journal_entry je where je.account_id=? " + (organization ? "" : "and je.office_id=? ")
+                + "and (je.entry_date < ? or (je.entry_date = ? and je.id < ?)) order by je.entry_date desc, je.id desc "
+                + sqlGenerator.limit(1);
+        Object[] params = organization ? new Object[] { accountId, position.entryDate(), position.entryDate(), position.id() }
+                : new Object[] { accountId, officeId, position.entryDate(), position.entryDate(), position.id() };
+        List<RunningBalanceCheckpoint> previous = jdbcTemplate.query(sql,
+                (rs, rowNum) -> new RunningBalanceCheckpoint(rs.getBigDecimal("running_balance"),
+                        new EntryPosition(JdbcSupport.getLocalDate(rs, "entry_date"), rs.getLong("id"))),
+                params);
+        return previous.isEmpty() ? null : previous.get(0);
+    }
+
+    public void updateRunningBalances(List<CalculatedRunningBalance> balances, Long userId, OffsetDateTime modifiedOn) {
+        List<Object[]> params = new ArrayList<>(balances.size());
+        for (CalculatedRunningBalance balance : balances) {
+            params.add(new Object[] { Boolean.TRUE, balance.organizationRunningBalance(), balance.officeRunningBalance(), userId,
+                    modifiedOn, balance.entryId() });
+        }
+        jdbcTemplate.batchUpdate("UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
+                + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?", params);
+    }
+
+    public void updateOfficeRunningBalances(List<CalculatedRunningBalance> balances, Long userId, OffsetDateTime modifiedOn) {
+        List<Object[]> params = new ArrayList<>(balances.size());
+        for (CalculatedRunningBalance balance : balances) {
+            params.add(new Object[] { balance.officeRunningBalance(), userId, modifiedOn, balance.entryId() });
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE acc_gl_journal_entry SET office_running_balance=?, last_modified_by=?, last_modified_on_utc=? WHERE id=?",
+                params);
+    }
+
+    public void updateCheckpoints(long accountId, Map<Long, RunningBalanceCheckpoint> checkpoints) {
+        jdbcTemplate.batchUpdate("UPDATE acc_gl_running_balance_checkpoint SET entry_date=?, journal_entry_id=?, "
+                + "running_balance=? WHERE account_id=? AND office_id=?", checkpointParams(accountId, checkpoints));
+    }
+
+    public void insertCheckpoints(long accountId, Map<Long, RunningBalanceCheckpoint> checkpoints) {
+        jdbcTemplate.batchUpdate("INSERT INTO acc_gl_running_balance_checkpoint (entry_date, journal_entry_id, running_balance, "
+                + "account_id, office_id) VALUES (?, ?, ?, ?, ?)", checkpointParams(accountId, checkpoints));
+    }
+
+    private static List<Object[]> checkpointParams(long accountId, Map<Long, RunningBalanceCheckpoint> checkpoints) {
+        List<Object[]> params = new ArrayList<>(checkpoints.size());
+        for (Map.Entry<Long, RunningBalanceCheckpoint> checkpoint : checkpoints.entrySet()) {
+            EntryPosition position = checkpoint.getValue().position();
+            params.add(new Object[] { position.entryDate(), position.id(), checkpoint.getValue().runningBalance(), accountId,
+                    checkpoint.getKey() });
+        }
+        return params;
+    }
+
+    public record EntryPosition(LocalDate entryDate, long id) {
+
+        boolean isBefore(EntryPosition other) {
+            int dateComparison = entryDate.compareTo(other.entryDate);
+            return dateComparison < 0 || (dateComparison == 0 && id < other.id);
+        }
+    }
+
+    public record JournalEntryRow(long id, long officeId, LocalDate entryDate, int entryType, BigDecimal amount) {
+    }
+
+    public record RunningBalanceCheckpoint(BigDecimal runningBalance, EntryPosition position) {
+    }
+
+    public record CalculatedRunningBalance(long entryId, BigDecimal organizationRunningBalance, BigDecimal officeRunningBalance) {
+    }
+
+    private static final class JournalEntryRowMapper implements RowMapper<JournalEntryRow> {
+
+        public String schema(boolean officeFiltered) {
+            return "select je.id as id, je.office_id as officeId, je.entry_date as entryDate, je.type_enum as entryType, "
+                    + "je.amount as amount from acc_gl_journal_entry je where je.account_id=? "
+                    + (officeFiltered ? "and je.office_id=? " : "")
+                    + "and (je.entry_date > ? or (je.entry_date = ? and je.id > ?)) order by je.entry_date, je.id ";
+        }
+
+        @Override
+        public JournalEntryRow mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            return new JournalEntryRow(rs.getLong("id"), rs.getLong("officeId"), JdbcSupport.getLocalDate(rs, "entryDate"),
+                    JdbcSupport.getInteger(rs, "entryType"), rs.getBigDecimal("amount"));
+        }
+    }
+}
@@ -19,64 +19,99 @@
 package org.apache.fineract.accounting.journalentry.service;
 
 import java.math.BigDecimal;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.accounting.common.AccountingEnumerations;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
 import org.apache.fineract.accounting.journalentry.api.JournalEntryJsonInputParams;
-import org.apache.fineract.accounting.journalentry.data.JournalEntryData;
 import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryRunningBalanceRepository.CalculatedRunningBalance;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryRunningBalanceRepository.EntryPosition;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryRunningBalanceRepository.JournalEntryRow;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryRunningBalanceRepository.RunningBalanceCheckpoint;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
-import org.apache.fineract.infrastructure.core.data.EnumOptionData;
-import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
-import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Calculates the running balances of the journal entries GL account by GL account.
+ *
+ * The entries of an account are read in pages of {@value #BATCH_SIZE}, ordered by entry date and id, starting from the
+ * first entry of the account whose running balance is not calculated yet. The balances the calculation starts from are
+ * taken from {@code acc_gl_running_balance_checkpoint}, which holds the organization ({@code office_id = 0}) and office
+ * running balance of every account as of the last entry processed, or from the last calculated entry when a backdated
+ * entry was posted before the checkpoint. Every account is processed in its own transaction; with
+ * {@code fineract.job.running-balance-thread-count} greater than 1 the accounts are processed concurrently on the
+ * {@value TaskExecutorConstant#RUNNING_BALANCE_TASK_EXECUTOR_BEAN_NAME}.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntryRunningBalanceUpdateService {
 
-    private final JdbcTemplate jdbcTemplate;
+    static final long ORGANIZATION_OFFICE_ID = 0L;
+    private static final int BATCH_SIZE = 1000;
+
+    private final JournalEntryRunningBalanceRepository runningBalanceRepository;
 
     private final OfficeRepositoryWrapper officeRepositoryWrapper;
 
     private final JournalEntryDataValidator dataValidator;
 
     private final FromJsonHelper fromApiJsonHelper;
-    private final DatabaseSpecificSQLGenerator sqlGenerator;
-
-    private final GLJournalEntryMapper entryMapper = new GLJournalEntryMapper();
 
     private final PlatformSecurityContext platformSecurityContext;
 
+    private final TransactionTemplate accountTransactionTemplate;
+    private final ThreadPoolTaskExecutor taskExecutor;
+    private final int threadCount;
+
+    public JournalEntryRunningBalanceUpdateServiceImpl(JournalEntryRunningBalanceRepository runningBalanceRepository,
+            OfficeRepositoryWrapper officeRepositoryWrapper, JournalEntryDataValidator dataValidator, FromJsonHelper fromApiJsonHelper,
+            PlatformSecurityContext platformSecurityContext, PlatformTransactionManager transactionManager,
+            @Qualifier(TaskExecutorConstant.RUNNING_BALANCE_TASK_EXECUTOR_BEAN_NAME) ThreadPoolTaskExecutor taskExecutor,
+            FineractProperties fineractProperties) {
+        this.runningBalanceRepository = runningBalanceRepository;
+        this.officeRepositoryWrapper = officeRepositoryWrapper;
+        this.dataValidator = dataValidator;
+        this.fromApiJsonHelper = fromApiJsonHelper;
+        this.platformSecurityContext = platformSecurityContext;
+        this.accountTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.accountTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.taskExecutor = taskExecutor;
+        this.threadCount = Math.max(1, fineractProperties.getJob().getRunningBalanceThreadCount());
+    }
+
     @Override
     public void updateRunningBalance() {
-        String dateFinder = "select MIN(je.entry_date) as entityDate from acc_gl_journal_entry  je "
-                + "where je.is_running_balance_calculated=false ";
-        try {
-            LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class);
-            updateOrganizationRunningBalance(entityDate);
-        } catch (EmptyResultDataAccessException e) {
+        List<Long> accountIds = runningBalanceRepository.retrieveAccountIdsWithUncalculatedEntries(null);
+        if (accountIds.isEmpty()) {
             log.debug("No results found for updation of running balance ");
+            return;
         }
+        final Long userId = platformSecurityContext.authenticatedUser().getId();
+        forEachAccount(accountIds, accountId -> updateOrganizationRunningBalance(accountId, userId));
     }
 
     @Override
@@ -90,141 +125,167 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
             updateRunningBalance();
         } else {
             this.officeRepositoryWrapper.findOneWithNotFoundDetection(officeId);
-            String dateFinder = "select MIN(je.entry_date) as entityDate " + "from acc_gl_journal_entry  je "
-                    + "where je.is_running_balance_calculated=false  and je.office_id=?";
-            try {
-                LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class, officeId);
-                updateRunningBalance(officeId, entityDate);
-            } catch (EmptyResultDataAccessException e) {
+            List<Long> accountIds = runningBalanceRepository.retrieveAccountIdsWithUncalculatedEntries(officeId);
+            if (accountIds.isEmpty()) {
                 log.debug("No results found for updation of office running balance with office id: {}", officeId);
+            } else {
+                final Long userId = platformSecurityContext.authenticatedUser().getId();
+                forEachAccount(accountIds, accountId -> updateOfficeRunningBalance(accountId, officeId, userId));
             }
             commandProcessingResultBuilder.withOfficeId(officeId);
         }
         return commandProcessingResultBuilder.build();
     }
 
-    private void updateOrganizationRunningBalance(LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
-        Map<Long, Map<Long, BigDecimal>> officesRunningBalance = new HashMap<>();
-
-        final String organizationRunningBalanceQuery = "select je.organization_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(organizationRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-
-        for (Map<String, Object> entries : list) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString()); // Drizzle
-                                                                                  // is
-                                                                                  // returning
-                                                                                  // Big
-                                                                                  // Integer
-                                                                                  // where
-                                                                                  // as
-                                                                                  // MySQL
-                                                                                  // returns
-                                                                                  // Long.
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
+    /**
+     * Processes the accounts in their own transactions. Concurrently, at most {@code threadCount} workers are submitted to
+     * the shared executor, each of them taking the next account from the queue until it is empty.
+     */
+    private void forEachAccount(List<Long> accountIds, LongConsumer accountTask) {
+        if (threadCount == 1 || accountIds.size() == 1) {
+            for (Long accountId : accountIds) {
+                accountTransactionTemplate.executeWithoutResult(status -> accountTask.accept(accountId));
             }
+            return;
         }
-
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId,je.office_id as officeId "
-                + "from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by office_id,account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by office_id,account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> officesRunningBalanceList = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-        for (Map<String, Object> entries : officesRunningBalanceList) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString());
-            Long officeId = Long.parseLong(entries.get("officeId").toString());
-            Map<Long, BigDecimal> runningBalance;
-            if (officesRunningBalance.containsKey(officeId)) {
-                runningBalance = officesRunningBalance.get(officeId);
-            } else {
-                runningBalance = new HashMap<>();
-                officesRunningBalance.put(officeId, runningBalance);
-            }
-            if (!runningBalance.containsKey(accountId)) {
-                runningBalance.put(accountId, (BigDecimal) entries.get("runningBalance"));
+        final Queue<Long> remainingAccountIds = new ConcurrentLinkedQueue<>(accountIds);
+        final int workerCount = Math.min(threadCount, accountIds.size());
+        List<Future<?>> futures = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            futures.add(taskExecutor.submit(() -> {
+                try {
+                    Long accountId;
+                    while ((accountId = remainingAccountIds.poll()) != null) {
+                        final long currentAccountId = accountId;
+                        accountTransactionTemplate.executeWithoutResult(status -> accountTask.accept(currentAccountId));
+                    }
+                } catch (RuntimeException e) {
+                    // the other workers stop as well, the job fails with the first error
+                    remainingAccountIds.clear();
+                    throw e;
+                }
+            }));
+        }
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException
+                            : new IllegalStateException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                remainingAccountIds.clear();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while updating running balances", e);
             }
         }
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.organizationRunningBalanceSchema(), entryMapper, entityDate);
-        if (entryDataList.size() > 0) {
-            // run a batch update of 1000 SQL statements at a time
-            final int batchUpdateSize = 1000;
-            List<Object[]> params = new ArrayList<>();
-            int batchIndex = 0;
-            String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
-                    + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
-            for (int index = 0; index < entryDataList.size(); index++) {
-                JournalEntryData entryData = entryDataList.get(index);
-                Map<Long, BigDecimal> officeRunningBalanceMap;
-                if (officesRunningBalance.containsKey(entryData.getOfficeId())) {
-                    officeRunningBalanceMap = officesRunningBalance.get(entryData.getOfficeId());
-                } else {
-                    officeRunningBalanceMap = new HashMap<>();
-                    officesRunningBalance.put(entryData.getOfficeId(), officeRunningBalanceMap);
-                }
-                BigDecimal officeRunningBalance = calculateRunningBalance(entryData, officeRunningBalanceMap);
-                BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
+    private void updateOrganizationRunningBalance(long accountId, Long userId) {
+        final EntryPosition start = runningBalanceRepository.findFirstUncalculatedEntry(accountId, null);
+        if (start == null) {
+            return;
+        }
+        final GLAccountType accountType = runningBalanceRepository.retrieveAccountType(accountId);
+        final Map<Long, RunningBalanceCheckpoint> checkpoints = runningBalanceRepository.retrieveCheckpoints(accountId);
+        final RunningBalance organizationBalance = seedRunningBalance(accountId, ORGANIZATION_OFFICE_ID, start, checkpoints);
+        final Map<Long, RunningBalance> officeBalances = new HashMap<>();
+        final OffsetDateTime modifiedOn = DateUtils.getOffsetDateTimeOfTenantWithMostPrecision();
 
-                params.add(new Object[] { Boolean.TRUE, runningBalance, officeRunningBalance,
-                        platformSecurityContext.authenticatedUser().getId(), DateUtils.getOffsetDateTimeOfTenantWithMostPrecision(),
-                        entryData.getId() });
-                batchIndex++;
-                if (batchIndex == batchUpdateSize || index == entryDataList.size() - 1) {
-                    this.jdbcTemplate.batchUpdate(sql, params);
-                    // reset counter and string array
-                    batchIndex = 0;
-                    params.clear();
-                }
+        readEntries(accountId, null, start, page -> {
+            List<CalculatedRunningBalance> balances = new ArrayList<>(page.size());
+            for (JournalEntryRow entry : page) {
+                RunningBalance officeBalance = officeBalances.computeIfAbsent(entry.officeId(),
+                        officeId -> seedRunningBalance(accountId, officeId, start, checkpoints));
+                BigDecimal amount = signedAmount(accountType, entry);
+                organizationBalance.add(entry, amount);
+                officeBalance.add(entry, amount);
+                balances.add(new CalculatedRunningBalance(entry.id(), organizationBalance.balance, officeBalance.balance));
             }
-        }
+            runningBalanceRepository.updateRunningBalances(balances, userId, modifiedOn);
+        });
 
+        officeBalances.put(ORGANIZATION_OFFICE_ID, organizationBalance);
+        saveCheckpoints(accountId, officeBalances, checkpoints);
     }
 
-    private void updateRunningBalance(Long officeId, LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
+    private void updateOfficeRunningBalance(long accountId, Long officeId, Long userId) {
+        final EntryPosition start = runningBalanceRepository.findFirstUncalculatedEntry(accountId, officeId);
+        if (start == null) {
+            return;
+        }
+        final GLAccountType accountType = runningBalanceRepository.retrieveAccountType(accountId);
+        final RunningBalance officeBalance = seedRunningBalance(accountId, officeId, start,
+                runningBalanceRepository.retrieveCheckpoints(accountId));
+        final OffsetDateTime modifiedOn = DateUtils.getOffsetDateTimeOfTenantWithMostPrecision();
 
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where office_id=?  and entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where office_id=? and entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
+        readEntries(accountId, officeId, start, page -> {
+            List<CalculatedRunningBalance> balances = new ArrayList<>(page.size());
+            for (JournalEntryRow entry : page) {
+                officeBalance.add(entry, signedAmount(accountType, entry));
+                balances.add(new CalculatedRunningBalance(entry.id(), null, officeBalance.balance));
+            }
+            runningBalanceRepository.updateOfficeRunningBalances(balances, userId, modifiedOn);
+        });
+    }
 
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                officeId, entityDate, officeId, entityDate);
-        for (Map<String, Object> entries : list) {
-            Long accountId = (Long) entries.get("accountId");
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
+    /**
+     * Reads the entries of the account (and office) from the given position on, page by page. The next page starts after
+     * the last entry of the previous one, so no result set is kept open while the page is being written.
+     */
+    private void readEntries(long accountId, Long officeId, EntryPosition start, Consumer<List<JournalEntryRow>> pageHandler) {
+        EntryPosition last = new EntryPosition(start.entryDate(), start.id() - 1);
+        List<JournalEntryRow> page;
+        do {
+            page = runningBalanceRepository.retrieveEntriesAfter(accountId, officeId, last, BATCH_SIZE);
+            if (!page.isEmpty()) {
+                pageHandler.accept(page);
+                JournalEntryRow lastEntry = page.get(page.size() - 1);
+                last = new EntryPosition(lastEntry.entryDate(), lastEntry.id());
             }
-        }
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.officeRunningBalanceSchema(), entryMapper, officeId,
-                entityDate);
-        List<Object[]> params = new ArrayList<>();
+        } while (page.size() == BATCH_SIZE);
+    }
 
-        String sql = "UPDATE acc_gl_journal_entry SET office_running_balance=?, last_modified_by=?, last_modified_on_utc=? WHERE id=?";
-        for (JournalEntryData entryData : entryDataList) {
-            BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-            params.add(new Object[] { runningBalance, platformSecurityContext.authenticatedUser().getId(),
-                    DateUtils.getOffsetDateTimeOfTenantWithMostPrecision(), entryData.getId() });
+    /**
+     * Returns the running balance of the account (organization wide when officeId is 0) right before the given position:
+     * the checkpoint if it precedes the position, otherwise the balance of the last entry before the position.
+     */
+    private RunningBalance seedRunningBalance(long accountId, long officeId, EntryPosition start,
+            Map<Long, RunningBalanceCheckpoint> checkpoints) {
+        RunningBalanceCheckpoint checkpoint = checkpoints.get(officeId);
+        if (checkpoint == null || !checkpoint.position().isBefore(start)) {
+            checkpoint = runningBalanceRepository.findLastRunningBalanceBefore(accountId, officeId, start);
         }
-        this.jdbcTemplate.batchUpdate(sql, params);
+        return checkpoint == null ? new RunningBalance(BigDecimal.ZERO, null)
+                : new RunningBalance(checkpoint.runningBalance(), checkpoint.position());
     }
 
-    private BigDecimal calculateRunningBalance(JournalEntryData entry, Map<Long, BigDecimal> runningBalanceMap) {
-        BigDecimal runningBalance = BigDecimal.ZERO;
-        if (runningBalanceMap.containsKey(entry.getGlAccountId())) {
-            runningBalance = runningBalanceMap.get(entry.getGlAccountId());
+    /**
+     * Updates the checkpoints the account already had and inserts the others. The existing ones are known from the
+     * checkpoints read at the start, the update counts of a batch are not reliable on every driver.
+     */
+    private void saveCheckpoints(long accountId, Map<Long, RunningBalance> balances, Map<Long, RunningBalanceCheckpoint> existing) {
+        Map<Long, RunningBalanceCheckpoint> updates = new HashMap<>();
+        Map<Long, RunningBalanceCheckpoint> inserts = new HashMap<>();
+        for (Map.Entry<Long, RunningBalance> balance : balances.entrySet()) {
+            RunningBalanceCheckpoint checkpoint = new RunningBalanceCheckpoint(balance.getValue().balance, balance.getValue().position);
+            (existing.containsKey(balance.getKey()) ? updates : inserts).put(balance.getKey(), checkpoint);
         }
-        GLAccountType accountType = GLAccountType.fromInt(entry.getGlAccountType().getId().intValue());
-        JournalEntryType entryType = JournalEntryType.fromInt(entry.getEntryType().getId().intValue());
+        if (!updates.isEmpty()) {
+            runningBalanceRepository.updateCheckpoints(accountId, updates);
+        }
+        if (!inserts.isEmpty()) {
+            runningBalanceRepository.insertCheckpoints(accountId, inserts);
+        }
+    }
+
+    static BigDecimal signedAmount(GLAccountType accountType, JournalEntryRow entry) {
+        JournalEntryType entryType = JournalEntryType.fromInt(entry.entryType());
         boolean isIncrease = false;
         switch (accountType) {
             case ASSET:
@@ -241,46 +302,22 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
                 }
             break;
         }
-        if (isIncrease) {
-            runningBalance = runningBalance.add(entry.getAmount());
-        } else {
-            runningBalance = runningBalance.subtract(entry.getAmount());
-        }
-        runningBalanceMap.put(entry.getGlAccountId(), runningBalance);
-        return runningBalance;
+        return isIncrease ? entry.amount() : entry.amount().negate();
     }
 
-    private static final class GLJournalEntryMapper implements RowMapper<JournalEntryData> {
+    private static final class RunningBalance {
 
-        public String officeRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId,je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.office_id=? and je.entry_date >= ? order by je.entry_date,je.id";
-        }
+        private BigDecimal balance;
+        private EntryPosition position;
 
-        public String organizationRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId," + "je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId  "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.entry_date >= ? order by je.entry_date,je.id";
+        private RunningBalance(BigDecimal balance, EntryPosition position) {
+            this.balance = balance;
+            this.position = position;
         }
 
-        @Override
-        public JournalEntryData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
-
-            final Long id = rs.getLong("id");
-            final Long glAccountId = rs.getLong("glAccountId");
-            final Long officeId = rs.getLong("officeId");
-            final int accountTypeId = JdbcSupport.getInteger(rs, "classification");
-            final EnumOptionData accountType = AccountingEnumerations.gLAccountType(accountTypeId);
-            final BigDecimal amount = rs.getBigDecimal("amount");
-            final int entryTypeId = JdbcSupport.getInteger(rs, "entryType");
-            final EnumOptionData entryType = AccountingEnumerations.journalEntryType(entryTypeId);
-
-            return new JournalEntryData(id, officeId, null, null, glAccountId, null, accountType, null, entryType, amount, null, null, null,
-                    null, null, null, null, null, null, null, null, null, null, null, null);
+        private void add(JournalEntryRow entry, BigDecimal amount) {
+            balance = balance.add(amount);
+            position = new EntryPosition(entry.entryDate(), entry.id());
         }
     }
-
 }
@@ -32,6 +32,7 @@ import org.apache.fineract.cob.domain.BatchBusinessStepRepository;
 import org.apache.fineract.cob.exceptions.BusinessStepException;
 import org.apache.fineract.cob.service.ReloaderService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.JdbcStatementOrigin;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -67,17 +68,22 @@ public class COBBusinessStepServiceImpl implements COBBusinessStepService {
                 businessEventNotifierService.startExternalEventRecording();
             }
 
+            boolean firstStep = true;
             for (String businessStep : executionMap.values()) {
+                final String previousOrigin = JdbcStatementOrigin.set("cob:" + businessStep);
                 try {
                     ThreadLocalContextUtil.setActionContext(ActionContext.COB);
                     COBBusinessStep<S> businessStepBean = (COBBusinessStep<S>) applicationContext.getBean(businessStep);
-                    item = reloaderService.reload(item);
+                    // the item is always reloaded before the first step, later only when its state was invalidated
+                    item = firstStep ? reloaderService.reload(item) : reloaderService.reloadIfRequired(item);
+                    firstStep = false;
                     item = businessStepBean.execute(item);
                 } catch (Exception e) {
                     throw new BusinessStepException("Error happened during business step execution", e);
                 } finally {
                     // Fallback to COB action context after each business step
                     ThreadLocalContextUtil.setActionContext(ActionContext.COB);
+                    JdbcStatementOrigin.restore(previousOrigin);
                 }
             }
             if (bulkEventEnabled) {
@@ -33,6 +33,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LoanAccountLockRepository;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.service.LoanLockRegistry;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.springframework.beans.factory.InitializingBean;
@@ -48,6 +49,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 public class InternalLoanAccountLockApiResource implements InitializingBean {
 
     private final LoanAccountLockRepository loanAccountLockRepository;
+    private final LoanLockRegistry loanLockRegistry;
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -80,6 +82,7 @@ public class InternalLoanAccountLockApiResource implements InitializingBean {
             loanAccountLock.setError(error, error);
         }
         loanAccountLockRepository.save(loanAccountLock);
+        loanLockRegistry.locksPlaced();
         return Response.status(Response.Status.ACCEPTED).build();
     }
 
@@ -20,10 +20,12 @@ package org.apache.fineract.cob.domain;
 
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LoanAccountLockRepository
         extends CustomLoanAccountLockRepository, JpaRepository<LoanAccountLock, Long>, JpaSpecificationExecutor<LoanAccountLock> {
@@ -36,6 +38,9 @@ public interface LoanAccountLockRepository
 
     boolean existsByLoanIdAndLockOwner(Long loanId, LockOwner lockOwner);
 
+    @Query("select lck.loanId from LoanAccountLock lck where lck.lockOwner in :lockOwners")
+    List<Long> findLoanIdsByLockOwnerIn(@Param("lockOwners") List<LockOwner> lockOwners, Pageable pageable);
+
     @Query("""
             delete from LoanAccountLock lck where lck.lockPlacedOnCobBusinessDate is not null and lck.error is not null and
             lck.lockOwner in (org.apache.fineract.cob.domain.LockOwner.LOAN_COB_CHUNK_PROCESSING,org.apache.fineract.cob.domain.LockOwner.LOAN_INLINE_COB_PROCESSING)
@@ -18,7 +18,13 @@
  */
 package org.apache.fineract.cob.loan;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -30,7 +36,11 @@ import org.apache.fineract.portfolio.loanaccount.exception.LoanNotFoundException
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterChunk;
+import org.springframework.batch.core.annotation.AfterChunkError;
 import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeChunk;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.ItemReader;
 
 @Slf4j
@@ -40,24 +50,123 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
     protected final LoanRepository loanRepository;
 
     @Setter(AccessLevel.PROTECTED)
-    private LinkedBlockingQueue<Long> remainingData;
+    private LinkedBlockingDeque<Long> remainingData;
+
+    /**
+     * Number of loans loaded together with their collections in one round, which is the size of the chunk. A round
+     * only takes the loans still missing from the chunk. With the default value of 1 every loan is fetched separately
+     * and its collections are lazily loaded by the business steps.
+     */
+    @Setter
+    private int prefetchSize = 1;
+
+    // The prefetched loans are attached to the persistence context of the chunk being processed by the current thread,
+    // so they must never be handed over to another thread
+    private final ThreadLocal<PrefetchedLoans> prefetchedLoans = ThreadLocal.withInitial(PrefetchedLoans::new);
 
     @Override
     public Loan read() throws Exception {
+        if (prefetchSize > 1) {
+            return readPrefetched();
+        }
         final Long loanId = remainingData.poll();
         if (loanId != null) {
-            try {
-                return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
-            } catch (Exception e) {
-                throw new LoanReadException(loanId, e);
-            }
+            return findLoan(loanId);
         }
         return null;
     }
 
+    @BeforeChunk
+    public void beforeChunk(@NotNull ChunkContext chunkContext) {
+        returnPrefetchedLoanIds();
+    }
+
+    @AfterChunk
+    public void afterChunk(@NotNull ChunkContext chunkContext) {
+        returnPrefetchedLoanIds();
+    }
+
+    @AfterChunkError
+    public void afterChunkError(@NotNull ChunkContext chunkContext) {
+        returnPrefetchedLoanIds();
+    }
+
     @AfterStep
     public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        prefetchedLoans.remove();
         return ExitStatus.COMPLETED;
     }
 
+    private Loan readPrefetched() throws LoanReadException {
+        PrefetchedLoans prefetched = prefetchedLoans.get();
+        if (prefetched.loanIds.isEmpty()) {
+            prefetched.loans.clear();
+            // a skipped read is followed by one more read, so the loans still missing from the chunk are counted
+            remainingData.drainTo(prefetched.loanIds, Math.max(1, prefetchSize - prefetched.readCount));
+            if (!prefetched.loanIds.isEmpty()) {
+                prefetch(prefetched);
+            }
+        }
+        final Long loanId = prefetched.loanIds.poll();
+        if (loanId == null) {
+            return null;
+        }
+        Loan loan = prefetched.loans.remove(loanId);
+        loan = loan != null ? loan : findLoan(loanId);
+        prefetched.readCount++;
+        return loan;
+    }
+
+    private void prefetch(PrefetchedLoans prefetched) throws LoanReadException {
+        List<Long> ids = new ArrayList<>(prefetched.loanIds);
+        try {
+            loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(ids).forEach(loan -> prefetched.loans.put(loan.getId(), loan));
+            loanRepository.findAllByIdsFetchTransactions(ids);
+            loanRepository.findAllByIdsFetchCharges(ids);
+            loanRepository.findAllByIdsFetchTermVariations(ids);
+            loanRepository.findAllByIdsFetchDisbursementDetails(ids);
+        } catch (Exception e) {
+            // the failed query may have marked the chunk transaction rollback-only, so the loans are not read one by one in
+            // it: the failure is reported for the first loan of the round and the others are given back to be read again
+            log.warn("Bulk loading of {} loans failed", ids.size(), e);
+            prefetched.loans.clear();
+            Long failedLoanId = prefetched.loanIds.poll();
+            giveBack(prefetched.loanIds);
+            throw new LoanReadException(failedLoanId, e);
+        }
+    }
+
+    /**
+     * Gives the loans prefetched by the current thread but not read back, as they belong to the persistence context of
+     * a finished chunk, and forgets the prefetched loans of the thread.
+     */
+    private void returnPrefetchedLoanIds() {
+        PrefetchedLoans prefetched = prefetchedLoans.get();
+        if (!prefetched.loanIds.isEmpty()) {
+            log.debug("Returning {} prefetched but not processed loan ids", prefetched.loanIds.size());
+            giveBack(prefetched.loanIds);
+        }
+        prefetchedLoans.remove();
+    }
+
+    // the loans are put back at the head of the queue, in their original order
+    private void giveBack(Deque<Long> loanIds) {
+        loanIds.descendingIterator().forEachRemaining(remainingData::addFirst);
+        loanIds.clear();
+    }
+
+    private Loan findLoan(Long loanId) throws LoanReadException {
+        try {
+            return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+        } catch (Exception e) {
+            throw new LoanReadException(loanId, e);
+        }
+    }
+
+    private static final class PrefetchedLoans {
+
+        private final Deque<Long> loanIds = new ArrayDeque<>();
+        private final Map<Long, Loan> loans = new HashMap<>();
+        private int readCount;
+    }
 }
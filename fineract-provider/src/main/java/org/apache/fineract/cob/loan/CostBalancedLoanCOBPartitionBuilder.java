@@ -0,0 +1,71 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.cob.data.LoanCOBPartition;
+
+/**
+ * Cuts the loans, visited in ascending id order, into consecutive id ranges of roughly equal estimated cost.
+ * <p>
+ * A partition is closed once the cumulative cost of all the loans visited so far reaches its share of the total cost, so
+ * rounding does not add up over the partitions, and a single expensive loan never delays more than one partition.
+ */
+class CostBalancedLoanCOBPartitionBuilder {
+
+    private final long totalCost;
+    private final long numberOfPartitions;
+    private final List<LoanCOBPartition> partitions = new ArrayList<>();
+
+    private long cumulativeCost;
+    private long minId;
+    private long maxId;
+    private long count;
+
+    CostBalancedLoanCOBPartitionBuilder(long totalCost, long numberOfPartitions) {
+        this.totalCost = totalCost;
+        this.numberOfPartitions = Math.max(1L, numberOfPartitions);
+    }
+
+    void add(long loanId, long cost) {
+        if (count == 0) {
+            minId = loanId;
+        }
+        maxId = loanId;
+        count++;
+        cumulativeCost += cost;
+        // the last partition takes whatever is left
+        if (partitions.size() < numberOfPartitions - 1 && cumulativeCost * numberOfPartitions >= totalCost * (partitions.size() + 1)) {
+            closePartition();
+        }
+    }
+
+    List<LoanCOBPartition> build() {
+        if (count > 0) {
+            closePartition();
+        }
+        return partitions;
+    }
+
+    private void closePartition() {
+        partitions.add(new LoanCOBPartition(minId, maxId, (long) partitions.size(), count));
+        count = 0;
+    }
+}
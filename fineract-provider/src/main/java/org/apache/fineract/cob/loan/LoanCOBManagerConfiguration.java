@@ -22,6 +22,7 @@ import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.conditions.LoanCOBManagerCondition;
 import org.apache.fineract.cob.listener.COBExecutionListenerRunner;
+import org.apache.fineract.cob.service.LoanLockRegistry;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -74,12 +75,14 @@ public class LoanCOBManagerConfiguration {
     private BusinessEventNotifierService businessEventNotifierService;
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
+    @Autowired
+    private LoanLockRegistry loanLockRegistry;
 
     @Bean
     @JobScope
     public LoanCOBPartitioner partitioner() {
         return new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer,
-                LoanCOBConstant.NUMBER_OF_DAYS_BEHIND);
+                loanLockRegistry, LoanCOBConstant.NUMBER_OF_DAYS_BEHIND);
     }
 
     @Bean
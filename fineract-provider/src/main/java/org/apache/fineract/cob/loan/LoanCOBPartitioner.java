@@ -31,6 +31,7 @@ import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.data.LoanCOBPartition;
+import org.apache.fineract.cob.service.LoanLockRegistry;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.jetbrains.annotations.NotNull;
@@ -55,6 +56,7 @@ public class LoanCOBPartitioner implements Partitioner {
     private final RetrieveLoanIdService retrieveLoanIdService;
     private final JobOperator jobOperator;
     private final JobExplorer jobExplorer;
+    private final LoanLockRegistry loanLockRegistry;
 
     private final Long numberOfDays;
 
@@ -79,6 +81,8 @@ public class LoanCOBPartitioner implements Partitioner {
             stopJobExecution();
             return Map.of();
         }
+        // the partitioned loans are about to be locked, the API filter has to check their locks from now on
+        loanLockRegistry.locksPlaced();
         StopWatch sw = new StopWatch();
         sw.start();
         List<LoanCOBPartition> loanCOBPartitions = new ArrayList<>(retrieveLoanIdService.retrieveLoanCOBPartitions(numberOfDays,
@@ -0,0 +1,56 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.util.Locale;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * How the loans to be processed by Loan COB are split into partitions.
+ */
+public enum LoanCOBPartitioningStrategy {
+
+    /**
+     * Partitions of equal loan count, computed with a row_number() window over all the eligible loans.
+     */
+    ROW_NUMBER,
+    /**
+     * Partitions of equal loan count, computed by scanning the eligible loan ids page by page.
+     */
+    LOAN_COUNT,
+    /**
+     * Partitions of equal estimated cost, where the cost of a loan is 1 + its number of installments.
+     */
+    INSTALLMENT_COUNT,
+    /**
+     * Partitions of equal estimated cost, where the cost of a loan is 1 + its number of non reversed transactions.
+     */
+    TRANSACTION_COUNT;
+
+    public static LoanCOBPartitioningStrategy fromProperty(String value) {
+        if (StringUtils.isBlank(value)) {
+            return ROW_NUMBER;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    public boolean isCostWeighted() {
+        return this == INSTALLMENT_COUNT || this == TRANSACTION_COUNT;
+    }
+}
@@ -177,7 +177,12 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemReader cobWorkerItemReader() {
-        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        if (fineractProperties.getJob().isLoanCobBulkLoadEnabled()) {
+            loanItemReader.setPrefetchSize(propertyService.getChunkSize(JobName.LOAN_COB.name()));
+        }
+        return loanItemReader;
     }
 
     @Bean
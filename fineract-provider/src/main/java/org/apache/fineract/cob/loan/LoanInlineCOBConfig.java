@@ -23,6 +23,7 @@ import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.common.ResetContextTasklet;
 import org.apache.fineract.cob.conditions.LoanCOBEnabledCondition;
 import org.apache.fineract.cob.listener.InlineCOBLoanItemListener;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.jobs.domain.CustomJobParameterRepository;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -67,6 +68,8 @@ public class LoanInlineCOBConfig {
 
     @Autowired
     private LoanLockingService loanLockingService;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     public InlineLoanCOBBuildExecutionContextTasklet inlineLoanCOBBuildExecutionContextTasklet() {
@@ -98,7 +101,11 @@ public class LoanInlineCOBConfig {
 
     @Bean
     public InlineCOBLoanItemReader inlineCobWorkerItemReader() {
-        return new InlineCOBLoanItemReader(loanRepository);
+        InlineCOBLoanItemReader inlineCOBLoanItemReader = new InlineCOBLoanItemReader(loanRepository);
+        if (fineractProperties.getJob().isLoanCobBulkLoadEnabled()) {
+            inlineCOBLoanItemReader.setPrefetchSize(propertyService.getChunkSize(JobName.LOAN_COB.name()));
+        }
+        return inlineCOBLoanItemReader;
     }
 
     @Bean
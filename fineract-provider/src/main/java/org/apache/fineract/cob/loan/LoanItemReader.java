@@ -22,7 +22,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.data.LoanCOBParameter;
@@ -68,7 +68,7 @@ public class LoanItemReader extends AbstractLoanItemReader {
                 loanIds.retainAll(lockedByCOBChunkProcessingAccountIds);
             }
         }
-        setRemainingData(new LinkedBlockingQueue<>(loanIds));
+        setRemainingData(new LinkedBlockingDeque<>(loanIds));
     }
 
     private List<Long> getLoanIdsLockedWithChunkProcessingLock(List<Long> loanIds) {
@@ -26,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LoanAccountLockRepository;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.service.LoanLockRegistry;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -60,9 +61,11 @@ public class LoanLockingServiceImpl implements LoanLockingService {
     private final JdbcTemplate jdbcTemplate;
     private final FineractProperties fineractProperties;
     private final LoanAccountLockRepository loanAccountLockRepository;
+    private final LoanLockRegistry loanLockRegistry;
 
     @Override
     public void upgradeLock(List<Long> accountsToLock, LockOwner lockOwner) {
+        loanLockRegistry.locksPlaced();
         jdbcTemplate.batchUpdate("""
                     UPDATE m_loan_account_locks SET version= version + 1, lock_owner = ?, lock_placed_on = ? WHERE loan_id = ?
                 """, accountsToLock, getInClauseParameterSizeLimit(), (ps, id) -> {
@@ -93,6 +96,7 @@ public class LoanLockingServiceImpl implements LoanLockingService {
     @Override
     public void applyLock(List<Long> loanIds, LockOwner lockOwner) {
         LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
+        loanLockRegistry.locksPlaced();
         jdbcTemplate.batchUpdate(BATCH_LOAN_LOCK_INSERT, loanIds, loanIds.size(), (PreparedStatement ps, Long loanId) -> {
             ps.setLong(1, loanId);
             ps.setLong(2, 1);
@@ -29,6 +29,7 @@ import org.apache.fineract.cob.data.LoanIdAndExternalIdAndAccountNo;
 import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -36,13 +37,23 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 @RequiredArgsConstructor
 public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdService {
 
+    private static final List<Integer> NON_CLOSED_LOAN_STATUSES = List.of(100, 200, 300, 303, 304);
+    private static final int LOAN_ID_PAGE_SIZE = 10_000;
+
     private final LoanRepository loanRepository;
 
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    private final LoanCOBPartitioningStrategy partitioningStrategy;
+
     @Override
     public List<LoanCOBPartition> retrieveLoanCOBPartitions(Long numberOfDays, LocalDate businessDate, boolean isCatchUp,
             int partitionSize) {
+        if (partitioningStrategy != LoanCOBPartitioningStrategy.ROW_NUMBER) {
+            return retrieveBalancedLoanCOBPartitions(numberOfDays, businessDate, isCatchUp, partitionSize);
+        }
         StringBuilder sql = new StringBuilder();
         sql.append("select min(id) as min, max(id) as max, page, count(id) as count from ");
         sql.append("  (select floor(((row_number() over(order by id))-1) / :pageSize) as page, t.* from ");
@@ -58,15 +69,80 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
 
         MapSqlParameterSource parameters = new MapSqlParameterSource();
         parameters.addValue("pageSize", partitionSize);
-        parameters.addValue("statusIds", List.of(100, 200, 300, 303, 304));
+        parameters.addValue("statusIds", NON_CLOSED_LOAN_STATUSES);
         parameters.addValue("businessDate", businessDate.minusDays(numberOfDays));
         return namedParameterJdbcTemplate.query(sql.toString(), parameters, RetrieveAllNonClosedLoanIdServiceImpl::mapRow);
     }
 
+    /**
+     * Builds the partitions without a window function over all the eligible loans: the totals are aggregated first, then
+     * the eligible loan ids (and their cost) are read in id order, one page at a time, and cut into partitions of equal
+     * cost. The number of partitions is the same as with partitions of partitionSize loans, only the boundaries move.
+     */
+    private List<LoanCOBPartition> retrieveBalancedLoanCOBPartitions(Long numberOfDays, LocalDate businessDate, boolean isCatchUp,
+            int partitionSize) {
+        String eligibleLoans = "l.loan_status_id in (:statusIds) and "
+                + (isCatchUp ? "l.last_closed_business_date = :businessDate"
+                        : "(l.last_closed_business_date = :businessDate or l.last_closed_business_date is null)");
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("statusIds", NON_CLOSED_LOAN_STATUSES);
+        parameters.addValue("businessDate", businessDate.minusDays(numberOfDays));
+
+        long[] totals = namedParameterJdbcTemplate.queryForObject(buildTotalsQuery(eligibleLoans), parameters,
+                (rs, rowNum) -> new long[] { rs.getLong("loan_count"), rs.getLong("extra_cost") });
+        if (totals == null || totals[0] == 0) {
+            return List.of();
+        }
+        long loanCount = totals[0];
+        long numberOfPartitions = (loanCount + partitionSize - 1) / partitionSize;
+        CostBalancedLoanCOBPartitionBuilder builder = new CostBalancedLoanCOBPartitionBuilder(loanCount + totals[1],
+                numberOfPartitions);
+
+        String pageQuery = buildPageQuery(eligibleLoans);
+        long lastId = 0;
+        List<LoanIdAndCost> page;
+        do {
+            parameters.addValue("lastId", lastId);
+            page = namedParameterJdbcTemplate.query(pageQuery, parameters,
+                    (rs, rowNum) -> new LoanIdAndCost(rs.getLong("id"), 1 + rs.getLong("extra_cost")));
+            for (LoanIdAndCost loan : page) {
+                builder.add(loan.id(), loan.cost());
+                lastId = loan.id();
+            }
+        } while (page.size() == LOAN_ID_PAGE_SIZE);
+        return builder.build();
+    }
+
+    private String buildTotalsQuery(String eligibleLoans) {
+        return switch (partitioningStrategy) {
+            case INSTALLMENT_COUNT -> "select count(l.id) as loan_count, coalesce(sum(l.number_of_repayments), 0) as extra_cost "
+                    + "from m_loan l where " + eligibleLoans;
+            case TRANSACTION_COUNT -> "select (select count(l.id) from m_loan l where " + eligibleLoans + ") as loan_count, "
+                    + "(select count(t.id) from m_loan_transaction t join m_loan l on l.id = t.loan_id where t.is_reversed = false and "
+                    + eligibleLoans + ") as extra_cost";
+            default -> "select count(l.id) as loan_count, 0 as extra_cost from m_loan l where " + eligibleLoans;
+        };
+    }
+
+    private String buildPageQuery(String eligibleLoans) {
+        String query = switch (partitioningStrategy) {
+            case INSTALLMENT_COUNT -> "select l.id as id, l.number_of_repayments as extra_cost from m_loan l where " + eligibleLoans
+                    + " and l.id > :lastId order by l.id";
+            case TRANSACTION_COUNT -> "select l.id as id, count(t.id) as extra_cost from m_loan l "
+                    + "left join m_loan_transaction t on t.loan_id = l.id and t.is_reversed = false where " + eligibleLoans
+                    + " and l.id > :lastId group by l.id order by l.id";
+            default -> "select l.id as id, 0 as extra_cost from m_loan l where " + eligibleLoans + " and l.id > :lastId order by l.id";
+        };
+        return query + " " + sqlGenerator.limit(LOAN_ID_PAGE_SIZE);
+    }
+
     private static LoanCOBPartition mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new LoanCOBPartition(rs.getLong("min"), rs.getLong("max"), rs.getLong("page"), rs.getLong("count"));
     }
 
+    private record LoanIdAndCost(long id, long cost) {
+    }
+
     @Override
     public List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindDate(LocalDate businessDate, List<Long> loanIds) {
         return loanRepository.findAllNonClosedLoansBehindByLoanIds(businessDate, loanIds);
@@ -18,6 +18,8 @@
  */
 package org.apache.fineract.cob.loan;
 
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -34,9 +36,16 @@ public class RetrieveLoanIdConfiguration {
     @Autowired
     private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
+    @Autowired
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+
+    @Autowired
+    private FineractProperties fineractProperties;
+
     @Bean
     @ConditionalOnMissingBean
     public RetrieveLoanIdService retrieveLoanIdService() {
-        return new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository, namedParameterJdbcTemplate);
+        return new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository, namedParameterJdbcTemplate, sqlGenerator,
+                LoanCOBPartitioningStrategy.fromProperty(fineractProperties.getJob().getLoanCobPartitioningStrategy()));
     }
 }
@@ -18,22 +18,24 @@
  */
 package org.apache.fineract.cob.loan;
 
-import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
-import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingUpdateHandler;
+import org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingService;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class UpdateLoanArrearsAgingBusinessStep implements LoanCOBBusinessStep {
 
-    private final LoanArrearsAgeingUpdateHandler loanArrearsAgeingUpdateHandler;
+    private final LoanArrearsAgingService loanArrearsAgingService;
 
+    /**
+     * The arrears aging details are calculated from the state of the loan at this step and written together with the
+     * ones of the other loans of the chunk, see {@link LoanArrearsAgingService#bufferLoanArrearsAgeingDetails(Loan)}.
+     */
     @Override
     public Loan execute(Loan loan) {
-        Long loanId = loan.getId();
-        loanArrearsAgeingUpdateHandler.updateLoanArrearsAgeingDetails(Arrays.asList(loanId));
+        loanArrearsAgingService.bufferLoanArrearsAgeingDetails(loan);
         return loan;
     }
 
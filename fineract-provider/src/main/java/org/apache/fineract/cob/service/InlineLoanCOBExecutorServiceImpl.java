@@ -94,6 +94,7 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
     private final PlatformSecurityContext context;
     private final RetrieveLoanIdService retrieveLoanIdService;
     private final FineractProperties fineractProperties;
+    private final LoanLockRegistry loanLockRegistry;
 
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
 
@@ -220,6 +221,7 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
             @Override
             protected void doInTransactionWithoutResult(@NotNull TransactionStatus status) {
                 List<LoanAccountLock> loanAccountLocks = getLoanAccountLocks(loanIds, businessDate);
+                loanLockRegistry.locksPlaced();
                 loanAccountLocks.forEach(loanAccountLock -> {
                     try {
                         loanAccountLock.setNewLockOwner(LockOwner.LOAN_INLINE_COB_PROCESSING);
@@ -0,0 +1,173 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+import org.apache.fineract.infrastructure.cache.service.MultiNodeCacheManager;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Node local registry of the loan accounts hard locked by the Loan COB, so that the Loan COB API filter does not have
+ * to look up the locks of every requested loan outside of COB.
+ *
+ * The hard locked loan ids of a tenant are loaded with a single query when there are only a few of them, typically the
+ * loans whose COB failed, and are trusted for the configured refresh interval. Placing hard locks, or partitioning the
+ * loans for COB, makes the tenant unverified on this node right away and on the other nodes through the multi node
+ * cache. As other nodes can only be notified through it, the registry is used only while the multi node cache is
+ * active.
+ */
+@Component
+public class LoanLockRegistry {
+
+    public static final String INVALIDATION_NAME = "loanHardLocks";
+
+    static final int MAX_TRACKED_LOCKS = 100;
+
+    private static final List<LockOwner> HARD_LOCK_OWNERS = List.of(LockOwner.LOAN_COB_CHUNK_PROCESSING,
+            LockOwner.LOAN_INLINE_COB_PROCESSING);
+
+    private final LoanAccountLockRepository loanAccountLockRepository;
+    private final MultiNodeCacheManager multiNodeCacheManager;
+    private final long refreshIntervalMillis;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, TenantLockState> tenantLockStates = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LoanLockRegistry(LoanAccountLockRepository loanAccountLockRepository, MultiNodeCacheManager multiNodeCacheManager,
+            FineractProperties fineractProperties) {
+        this(loanAccountLockRepository, multiNodeCacheManager,
+                Optional.ofNullable(fineractProperties.getLoan()).map(FineractProperties.FineractLoanProperties::getLockRegistry)
+                        .map(FineractProperties.FineractLoanLockRegistryProperties::getRefreshIntervalMillis).orElse(0L),
+                System::currentTimeMillis);
+    }
+
+    LoanLockRegistry(LoanAccountLockRepository loanAccountLockRepository, MultiNodeCacheManager multiNodeCacheManager,
+            long refreshIntervalMillis, LongSupplier clock) {
+        this.loanAccountLockRepository = loanAccountLockRepository;
+        this.multiNodeCacheManager = multiNodeCacheManager;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.clock = clock;
+        multiNodeCacheManager.addInvalidationListener(INVALIDATION_NAME, this::applyInvalidation);
+    }
+
+    /**
+     * Returns whether none of the given loan accounts of the current tenant is hard locked. When this node does not know
+     * the hard locks, they are loaded from the database; a false result means the locks of the loans have to be checked
+     * one by one.
+     */
+    public boolean isLockFree(Collection<Long> loanIds) {
+        if (refreshIntervalMillis <= 0 || !multiNodeCacheManager.isActive()) {
+            return false;
+        }
+        TenantLockState state = getTenantLockState(getTenantIdentifier());
+        long now = clock.getAsLong();
+        long generation;
+        synchronized (state) {
+            if (now < state.validUntil) {
+                return isLockFree(state.hardLockedLoanIds, loanIds);
+            }
+            generation = state.generation;
+        }
+        List<Long> hardLockedLoanIds = loanAccountLockRepository.findLoanIdsByLockOwnerIn(HARD_LOCK_OWNERS,
+                PageRequest.of(0, MAX_TRACKED_LOCKS + 1));
+        if (hardLockedLoanIds.size() > MAX_TRACKED_LOCKS) {
+            // COB is running, the locks are checked one by one
+            return false;
+        }
+        Set<Long> lockedLoanIds = Set.copyOf(hardLockedLoanIds);
+        synchronized (state) {
+            // locks placed while the database was being checked must not be hidden by this result
+            if (state.generation == generation) {
+                state.hardLockedLoanIds = lockedLoanIds;
+                state.validUntil = now + refreshIntervalMillis;
+            }
+        }
+        return isLockFree(lockedLoanIds, loanIds);
+    }
+
+    /**
+     * Records that hard locks are being placed on loan accounts of the current tenant. Within a transaction the tenant
+     * is made unverified again after the commit, as a check running before the commit could not see the locks yet.
+     */
+    public void locksPlaced() {
+        String tenantIdentifier = getTenantIdentifier();
+        invalidate(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    invalidate(tenantIdentifier);
+                }
+            });
+        }
+        multiNodeCacheManager.publishInvalidation(CacheInvalidationData.evict(INVALIDATION_NAME, tenantIdentifier));
+    }
+
+    void applyInvalidation(CacheInvalidationData invalidation) {
+        if (invalidation.isClear()) {
+            tenantLockStates.keySet().forEach(this::invalidate);
+        } else {
+            invalidate(invalidation.getCacheKey());
+        }
+    }
+
+    private void invalidate(String tenantIdentifier) {
+        TenantLockState state = getTenantLockState(tenantIdentifier);
+        synchronized (state) {
+            state.generation++;
+            state.hardLockedLoanIds = Set.of();
+            state.validUntil = Long.MIN_VALUE;
+        }
+    }
+
+    private static boolean isLockFree(Set<Long> hardLockedLoanIds, Collection<Long> loanIds) {
+        return loanIds.stream().noneMatch(hardLockedLoanIds::contains);
+    }
+
+    private TenantLockState getTenantLockState(String tenantIdentifier) {
+        return tenantLockStates.computeIfAbsent(tenantIdentifier, key -> new TenantLockState());
+    }
+
+    private static String getTenantIdentifier() {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+    }
+
+    private static final class TenantLockState {
+
+        private long generation;
+        private Set<Long> hardLockedLoanIds = Set.of();
+        private long validUntil = Long.MIN_VALUE;
+    }
+}
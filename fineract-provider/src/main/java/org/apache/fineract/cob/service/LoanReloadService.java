@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.cob.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -29,6 +30,7 @@ import org.springframework.stereotype.Component;
 public class LoanReloadService implements ReloadService<Loan> {
 
     private final LoanAssembler loanAssembler;
+    private final EntityManager entityManager;
 
     @Override
     public <S extends AbstractPersistableCustom> boolean canReload(S input) {
@@ -40,4 +42,11 @@ public class LoanReloadService implements ReloadService<Loan> {
         return loanAssembler.assembleFrom(input.getId());
     }
 
+    @Override
+    public boolean isReloadRequired(Loan input) {
+        // Changes flushed by the previous business steps are already reflected by the managed instance, it only has to be
+        // fetched again when it is not part of the current persistence context anymore
+        return !entityManager.contains(input);
+    }
+
 }
@@ -25,4 +25,12 @@ public interface ReloadService<S extends AbstractPersistableCustom> {
     <X extends AbstractPersistableCustom> boolean canReload(X input);
 
     S reload(S input);
+
+    /**
+     * Tells whether an item which was already reloaded once during the current COB run has to be fetched again, because
+     * its in-memory state might not reflect the database anymore (e.g. it got detached from the persistence context).
+     */
+    default boolean isReloadRequired(S input) {
+        return true;
+    }
 }
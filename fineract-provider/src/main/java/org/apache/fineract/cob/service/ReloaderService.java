@@ -18,24 +18,53 @@
  */
 package org.apache.fineract.cob.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class ReloaderService {
 
     private final List<ReloadService> reloadServices;
+    private final Counter reloadedCounter;
+    private final Counter reloadAvoidedCounter;
+
+    public ReloaderService(List<ReloadService> reloadServices, MeterRegistry meterRegistry) {
+        this.reloadServices = reloadServices;
+        this.reloadedCounter = Counter.builder("fineract.cob.reload").tag("result", "reloaded")
+                .description("Number of items reloaded before a COB business step").register(meterRegistry);
+        this.reloadAvoidedCounter = Counter.builder("fineract.cob.reload").tag("result", "avoided")
+                .description("Number of item reloads skipped before a COB business step").register(meterRegistry);
+    }
 
     public <S extends AbstractPersistableCustom> S reload(S input) {
         for (ReloadService reloadService : reloadServices) {
             if (reloadService.canReload(input)) {
+                reloadedCounter.increment();
                 return (S) reloadService.reload(input);
             }
         }
         return input;
     }
+
+    /**
+     * Reloads the item only if its in-memory state was invalidated since the last reload. Meant to be used between the
+     * business steps of the same COB run, after the item was reloaded once with {@link #reload(AbstractPersistableCustom)}.
+     */
+    public <S extends AbstractPersistableCustom> S reloadIfRequired(S input) {
+        for (ReloadService reloadService : reloadServices) {
+            if (reloadService.canReload(input)) {
+                if (reloadService.isReloadRequired(input)) {
+                    reloadedCounter.increment();
+                    return (S) reloadService.reload(input);
+                }
+                reloadAvoidedCounter.increment();
+                return input;
+            }
+        }
+        return input;
+    }
 }
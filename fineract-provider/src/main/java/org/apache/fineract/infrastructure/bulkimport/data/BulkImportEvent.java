@@ -32,10 +32,16 @@ public final class BulkImportEvent extends FineractEvent {
 
     private final String dateFormat;
 
-    private BulkImportEvent(final Object source, final Workbook workbook, final Long importId, final String locale, final String dateFormat,
-            FineractContext context) {
+    private final ImportFormatType format;
+
+    private final byte[] content;
+
+    private BulkImportEvent(final Object source, final Workbook workbook, final ImportFormatType format, final byte[] content,
+            final Long importId, final String locale, final String dateFormat, FineractContext context) {
         super(source, context);
         this.workbook = workbook;
+        this.format = format;
+        this.content = content;
         this.importId = importId;
         this.locale = locale;
         this.dateFormat = dateFormat;
@@ -43,13 +49,33 @@ public final class BulkImportEvent extends FineractEvent {
 
     public static BulkImportEvent instance(final Object source, final Workbook workbook, final Long importId, final String locale,
             final String dateFormat, FineractContext context) {
-        return new BulkImportEvent(source, workbook, importId, locale, dateFormat, context);
+        return new BulkImportEvent(source, workbook, null, null, importId, locale, dateFormat, context);
+    }
+
+    /**
+     * Event of an import processed while the given file is streamed, without loading it into a workbook.
+     */
+    public static BulkImportEvent streamingInstance(final Object source, final ImportFormatType format, final byte[] content,
+            final Long importId, final String locale, final String dateFormat, FineractContext context) {
+        return new BulkImportEvent(source, null, format, content, importId, locale, dateFormat, context);
+    }
+
+    public boolean isStreaming() {
+        return format != null;
     }
 
     public Workbook getWorkbook() {
         return workbook;
     }
 
+    public ImportFormatType getFormat() {
+        return format;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
     public Long getImportId() {
         return importId;
     }
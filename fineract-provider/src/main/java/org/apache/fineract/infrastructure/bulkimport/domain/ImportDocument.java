@@ -101,6 +101,23 @@ public class ImportDocument extends AbstractPersistableCustom {
         this.failureCount = errorCount;
     }
 
+    /**
+     * Records the progress of a running import: the number of rows read so far and the counts of the processed ones.
+     */
+    public void updateProgress(final Integer totalRecords, final Integer successCount, final Integer errorCount) {
+        this.totalRecords = totalRecords;
+        this.successCount = successCount;
+        this.failureCount = errorCount;
+    }
+
+    /**
+     * Completes an import which stopped before all of its rows were processed, keeping the last recorded progress.
+     */
+    public void complete(final LocalDateTime endTime) {
+        this.endTime = endTime;
+        this.completed = Boolean.TRUE;
+    }
+
     public Document getDocument() {
         return this.document;
     }
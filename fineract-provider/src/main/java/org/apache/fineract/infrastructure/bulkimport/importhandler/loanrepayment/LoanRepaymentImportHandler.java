@@ -23,20 +23,30 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
 import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
 import org.apache.fineract.infrastructure.bulkimport.constants.LoanRepaymentConstants;
 import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
+import org.apache.fineract.infrastructure.bulkimport.streaming.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.streaming.ImportRowReader;
+import org.apache.fineract.infrastructure.bulkimport.streaming.StreamingImportHandler;
 import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
 import org.apache.fineract.portfolio.loanaccount.data.LoanTransactionData;
 import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+import org.apache.fineract.portfolio.paymenttype.data.PaymentTypeData;
+import org.apache.fineract.portfolio.paymenttype.service.PaymentTypeReadPlatformService;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
@@ -48,7 +58,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
-public class LoanRepaymentImportHandler implements ImportHandler {
+public class LoanRepaymentImportHandler implements ImportHandler, StreamingImportHandler {
 
     public static final String SEPARATOR = "-";
     public static final String EMPTY_STR = "";
@@ -56,12 +66,14 @@ public class LoanRepaymentImportHandler implements ImportHandler {
     private final LoanReadPlatformService loanReadPlatformService;
 
     private final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    private final PaymentTypeReadPlatformService paymentTypeReadPlatformService;
 
     @Autowired
     public LoanRepaymentImportHandler(final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService,
-            final LoanReadPlatformService loanReadPlatformService) {
+            final LoanReadPlatformService loanReadPlatformService, final PaymentTypeReadPlatformService paymentTypeReadPlatformService) {
         this.commandsSourceWritePlatformService = commandsSourceWritePlatformService;
         this.loanReadPlatformService = loanReadPlatformService;
+        this.paymentTypeReadPlatformService = paymentTypeReadPlatformService;
     }
 
     @Override
@@ -120,15 +132,7 @@ public class LoanRepaymentImportHandler implements ImportHandler {
 
         for (LoanTransactionData loanRepayment : loanRepayments) {
             try {
-
-                JsonObject loanRepaymentJsonob = gsonBuilder.create().toJsonTree(loanRepayment).getAsJsonObject();
-                loanRepaymentJsonob.remove("manuallyReversed");
-                String payload = loanRepaymentJsonob.toString();
-                final CommandWrapper commandRequest = new CommandWrapperBuilder() //
-                        .loanRepaymentTransaction(loanRepayment.getAccountId()) //
-                        .withJson(payload) //
-                        .build(); //
-                commandsSourceWritePlatformService.logCommandSource(commandRequest);
+                importLoanRepayment(gsonBuilder, loanRepayment);
                 successCount++;
                 Cell statusCell = loanRepaymentSheet.getRow(loanRepayment.getRowIndex()).createCell(LoanRepaymentConstants.STATUS_COL);
                 statusCell.setCellValue(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
@@ -149,4 +153,86 @@ public class LoanRepaymentImportHandler implements ImportHandler {
         return Count.instance(successCount, errorCount);
     }
 
+    private void importLoanRepayment(final GsonBuilder gsonBuilder, final LoanTransactionData loanRepayment) {
+        JsonObject loanRepaymentJsonob = gsonBuilder.create().toJsonTree(loanRepayment).getAsJsonObject();
+        loanRepaymentJsonob.remove("manuallyReversed");
+        String payload = loanRepaymentJsonob.toString();
+        final CommandWrapper commandRequest = new CommandWrapperBuilder() //
+                .loanRepaymentTransaction(loanRepayment.getAccountId()) //
+                .withJson(payload) //
+                .build(); //
+        commandsSourceWritePlatformService.logCommandSource(commandRequest);
+    }
+
+    @Override
+    public GlobalEntityType getEntityType() {
+        return GlobalEntityType.LOAN_TRANSACTIONS;
+    }
+
+    @Override
+    public String getSheetName() {
+        return TemplatePopulateImportConstants.LOAN_REPAYMENT_SHEET_NAME;
+    }
+
+    @Override
+    public int getStatusColumn() {
+        return LoanRepaymentConstants.STATUS_COL;
+    }
+
+    @Override
+    public RowImporter createRowImporter(final String locale, final String dateFormat) {
+        // the Extras sheet is not available in CSV files, the repayment types are looked up by name instead
+        Map<String, Long> paymentTypeIds = new HashMap<>();
+        for (PaymentTypeData paymentType : this.paymentTypeReadPlatformService.retrieveAllPaymentTypes()) {
+            paymentTypeIds.putIfAbsent(paymentType.getName().trim(), paymentType.getId());
+        }
+        return new LoanRepaymentRowImporter(paymentTypeIds, locale, dateFormat);
+    }
+
+    private final class LoanRepaymentRowImporter implements RowImporter {
+
+        private final Map<String, Long> paymentTypeIds;
+        private final Map<String, Long> loanIds = new ConcurrentHashMap<>();
+        private final String locale;
+        private final String dateFormat;
+        private final DateTimeFormatter dateFormatter;
+        private final GsonBuilder gsonBuilder;
+
+        private LoanRepaymentRowImporter(final Map<String, Long> paymentTypeIds, final String locale, final String dateFormat) {
+            this.paymentTypeIds = paymentTypeIds;
+            this.locale = locale;
+            this.dateFormat = dateFormat;
+            this.dateFormatter = ImportRowReader.dateFormatter(locale, dateFormat);
+            this.gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
+            this.gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
+        }
+
+        @Override
+        public boolean isImportable(final ImportRow row) {
+            return row.getString(LoanRepaymentConstants.AMOUNT_COL) != null && !TemplatePopulateImportConstants.STATUS_CELL_IMPORTED
+                    .equals(row.getString(LoanRepaymentConstants.STATUS_COL));
+        }
+
+        @Override
+        public String getOrderingKey(final ImportRow row) {
+            String loanAccountInfo = row.getString(LoanRepaymentConstants.LOAN_ACCOUNT_NO_COL);
+            return loanAccountInfo == null ? null : Splitter.on(SEPARATOR).splitToList(loanAccountInfo).get(0);
+        }
+
+        @Override
+        public void importRow(final ImportRow row) {
+            String loanAccountNo = getOrderingKey(row);
+            Long loanAccountId = loanAccountNo == null ? null
+                    : loanIds.computeIfAbsent(loanAccountNo, loanReadPlatformService::retrieveLoanIdByAccountNumber);
+            String repaymentType = row.getString(LoanRepaymentConstants.REPAYMENT_TYPE_COL);
+            Long repaymentTypeId = repaymentType == null ? null : paymentTypeIds.get(repaymentType);
+            LoanTransactionData loanRepayment = LoanTransactionData.importInstance(row.getBigDecimal(LoanRepaymentConstants.AMOUNT_COL),
+                    row.getLocalDate(LoanRepaymentConstants.REPAID_ON_DATE_COL, dateFormatter), repaymentTypeId,
+                    row.getString(LoanRepaymentConstants.ACCOUNT_NO_COL), row.getInteger(LoanRepaymentConstants.CHECK_NO_COL),
+                    row.getInteger(LoanRepaymentConstants.ROUTING_CODE_COL), row.getInteger(LoanRepaymentConstants.RECEIPT_NO_COL),
+                    row.getInteger(LoanRepaymentConstants.BANK_NO_COL), loanAccountId, EMPTY_STR, row.rowIndex(), locale, dateFormat);
+            importLoanRepayment(gsonBuilder, loanRepayment);
+        }
+    }
+
 }
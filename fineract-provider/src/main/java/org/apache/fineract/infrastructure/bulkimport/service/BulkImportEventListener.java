@@ -21,8 +21,13 @@ package org.apache.fineract.infrastructure.bulkimport.service;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
@@ -53,14 +58,17 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
     private final ApplicationContext applicationContext;
     private final ImportDocumentRepository importRepository;
     private final DocumentWritePlatformService documentService;
+    private final StreamingBulkImportProcessor streamingBulkImportProcessor;
 
     @Autowired
     public BulkImportEventListener(final TenantDetailsService tenantDetailsService, final ApplicationContext context,
-            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService) {
+            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService,
+            final StreamingBulkImportProcessor streamingBulkImportProcessor) {
         this.tenantDetailsService = tenantDetailsService;
         this.applicationContext = context;
         this.importRepository = importRepository;
         this.documentService = documentService;
+        this.streamingBulkImportProcessor = streamingBulkImportProcessor;
     }
 
     @Override
@@ -69,6 +77,10 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         ImportHandler importHandler = null;
         final ImportDocument importDocument = this.importRepository.findById(event.getImportId()).orElse(null);
         final GlobalEntityType entityType = GlobalEntityType.fromInt(importDocument.getEntityType());
+        if (event.isStreaming()) {
+            processStreamingImport(event, importDocument, entityType);
+            return;
+        }
 
         switch (entityType) {
             case OFFICES:
@@ -138,16 +150,6 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         importDocument.update(DateUtils.getLocalDateTimeOfTenant(), count.getSuccessCount(), count.getErrorCount());
         this.importRepository.saveAndFlush(importDocument);
 
-        final Set<String> modifiedParams = new HashSet<>();
-        modifiedParams.add("fileName");
-        modifiedParams.add("size");
-        modifiedParams.add("type");
-        modifiedParams.add("location");
-        Document document = importDocument.getDocument();
-
-        DocumentCommand documentCommand = new DocumentCommand(modifiedParams, document.getId(), entityType.name(), null, document.getName(),
-                document.getFileName(), document.getSize(), URLConnection.guessContentTypeFromName(document.getFileName()), null, null);
-
         final ByteArrayOutputStream bos = new ByteArrayOutputStream();
         try {
             try {
@@ -160,7 +162,54 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         }
         byte[] bytes = bos.toByteArray();
         ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
-        this.documentService.updateDocument(documentCommand, bis);
+        updateDocument(importDocument, entityType, bis, false);
+    }
+
+    private void processStreamingImport(final BulkImportEvent event, final ImportDocument importDocument,
+            final GlobalEntityType entityType) {
+        Path output = null;
+        try {
+            output = Files.createTempFile("bulk-import-", "." + event.getFormat().name().toLowerCase(Locale.ROOT));
+            final Count count;
+            try (OutputStream os = Files.newOutputStream(output)) {
+                count = this.streamingBulkImportProcessor.process(importDocument, entityType, event.getFormat(), event.getContent(),
+                        event.getLocale(), event.getDateFormat(), os);
+            }
+            importDocument.update(DateUtils.getLocalDateTimeOfTenant(), count.getSuccessCount(), count.getErrorCount());
+            this.importRepository.saveAndFlush(importDocument);
+            try (InputStream is = Files.newInputStream(output)) {
+                updateDocument(importDocument, entityType, is, true);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Problem occurred in processStreamingImport function", e);
+            importDocument.complete(DateUtils.getLocalDateTimeOfTenant());
+            this.importRepository.saveAndFlush(importDocument);
+        } finally {
+            if (output != null) {
+                try {
+                    Files.deleteIfExists(output);
+                } catch (IOException io) {
+                    LOG.warn("Unable to delete temporary import result file {}", output, io);
+                }
+            }
+        }
+    }
+
+    private void updateDocument(final ImportDocument importDocument, final GlobalEntityType entityType, final InputStream content,
+            final boolean contentValidated) {
+        final Set<String> modifiedParams = new HashSet<>();
+        modifiedParams.add("fileName");
+        modifiedParams.add("size");
+        modifiedParams.add("type");
+        modifiedParams.add("location");
+        Document document = importDocument.getDocument();
+
+        DocumentCommand documentCommand = new DocumentCommand(modifiedParams, document.getId(), entityType.name(), null, document.getName(),
+                document.getFileName(), document.getSize(), URLConnection.guessContentTypeFromName(document.getFileName()), null, null);
+        // the result file has the format of the imported file, whose extension and type were verified for streaming imports
+        documentCommand.setContentValidated(contentValidated);
+
+        this.documentService.updateDocument(documentCommand, content);
     }
 
 }
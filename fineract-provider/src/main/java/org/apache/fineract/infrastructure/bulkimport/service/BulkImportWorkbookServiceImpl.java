@@ -29,11 +29,14 @@ import java.net.URLConnection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collection;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
 import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
 import org.apache.fineract.infrastructure.bulkimport.data.ImportData;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
@@ -70,17 +73,20 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
     private final DocumentRepository documentRepository;
     private final ImportDocumentRepository importDocumentRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final StreamingBulkImportProcessor streamingBulkImportProcessor;
 
     @Autowired
     public BulkImportWorkbookServiceImpl(final ApplicationContext applicationContext, final PlatformSecurityContext securityContext,
             final DocumentWritePlatformService documentWritePlatformService, final DocumentRepository documentRepository,
-            final ImportDocumentRepository importDocumentRepository, final JdbcTemplate jdbcTemplate) {
+            final ImportDocumentRepository importDocumentRepository, final JdbcTemplate jdbcTemplate,
+            final StreamingBulkImportProcessor streamingBulkImportProcessor) {
         this.applicationContext = applicationContext;
         this.securityContext = securityContext;
         this.documentWritePlatformService = documentWritePlatformService;
         this.documentRepository = documentRepository;
         this.importDocumentRepository = importDocumentRepository;
         this.jdbcTemplate = jdbcTemplate;
+        this.streamingBulkImportProcessor = streamingBulkImportProcessor;
     }
 
     @Override
@@ -96,6 +102,10 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
                 final Tika tika = new Tika();
                 final TikaInputStream tikaInputStream = TikaInputStream.get(bis);
                 final String fileType = tika.detect(tikaInputStream);
+                final ImportFormatType streamingFormat = getStreamingFormat(fileDetail.getFileName(), fileType);
+                if (streamingFormat != null) {
+                    return publishStreamingEvent(entity, fileDetail, bytes, streamingFormat, locale, dateFormat);
+                }
                 if (!fileType.contains("msoffice") && !fileType.contains("application/vnd.ms-excel")) {
                     // We had a problem where we tried to upload the downloaded
                     // file from the import options, it was somehow changed the
@@ -184,21 +194,61 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
             final InputStream clonedInputStreamWorkbook, final GlobalEntityType entityType, final Workbook workbook, final String locale,
             final String dateFormat) {
 
+        // only the content type is checked for workbooks, the document whitelists still apply to them
+        final ImportDocument importDocument = createImportDocument(fileDetail, clonedInputStreamWorkbook, entityType,
+                ImportHandlerUtils.getNumberOfRows(workbook.getSheetAt(0), primaryColumn), false);
+        BulkImportEvent event = BulkImportEvent.instance(this, workbook, importDocument.getId(), locale, dateFormat,
+                ThreadLocalContextUtil.getContext());
+        applicationContext.publishEvent(event);
+        return importDocument.getId();
+    }
+
+    /**
+     * XLSX and CSV files of the entities having a streaming import handler are imported without loading them into a
+     * workbook; the number of records is only known once the file has been read.
+     */
+    private Long publishStreamingEvent(final String entity, final FormDataContentDisposition fileDetail, final byte[] bytes,
+            final ImportFormatType format, final String locale, final String dateFormat) {
+        final GlobalEntityType entityType = Arrays.stream(GlobalEntityType.values())
+                .filter(type -> entity.trim().equalsIgnoreCase(type.toString())).findFirst()
+                .filter(this.streamingBulkImportProcessor::isSupported)
+                .orElseThrow(() -> new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension",
+                        "Uploaded file extension is not supported for " + entity + " imports."));
+
+        // getStreamingFormat verified both the extension and the content type
+        final ImportDocument importDocument = createImportDocument(fileDetail, new ByteArrayInputStream(bytes), entityType, null, true);
+        BulkImportEvent event = BulkImportEvent.streamingInstance(this, format, bytes, importDocument.getId(), locale, dateFormat,
+                ThreadLocalContextUtil.getContext());
+        applicationContext.publishEvent(event);
+        return importDocument.getId();
+    }
+
+    private ImportDocument createImportDocument(final FormDataContentDisposition fileDetail, final InputStream inputStream,
+            final GlobalEntityType entityType, final Integer totalRecords, final boolean contentValidated) {
         final String fileName = fileDetail.getFileName();
 
         final Long documentId = this.documentWritePlatformService.createInternalDocument(
                 DocumentWritePlatformServiceJpaRepositoryImpl.DocumentManagementEntity.IMPORT.name(),
-                this.securityContext.authenticatedUser().getId(), null, clonedInputStreamWorkbook,
-                URLConnection.guessContentTypeFromName(fileName), fileName, null, fileName);
+                this.securityContext.authenticatedUser().getId(), null, inputStream, URLConnection.guessContentTypeFromName(fileName),
+                fileName, null, fileName, contentValidated);
         final Document document = this.documentRepository.findById(documentId).orElse(null);
 
         final ImportDocument importDocument = ImportDocument.instance(document, DateUtils.getLocalDateTimeOfTenant(), entityType.getValue(),
-                this.securityContext.authenticatedUser(), ImportHandlerUtils.getNumberOfRows(workbook.getSheetAt(0), primaryColumn));
+                this.securityContext.authenticatedUser(), totalRecords);
         this.importDocumentRepository.saveAndFlush(importDocument);
-        BulkImportEvent event = BulkImportEvent.instance(this, workbook, importDocument.getId(), locale, dateFormat,
-                ThreadLocalContextUtil.getContext());
-        applicationContext.publishEvent(event);
-        return importDocument.getId();
+        return importDocument;
+    }
+
+    private static ImportFormatType getStreamingFormat(final String fileName, final String fileType) {
+        final String extension = FilenameUtils.getExtension(fileName);
+        if (ImportFormatType.XLSX.name().equalsIgnoreCase(extension)
+                && (fileType.contains("ooxml") || fileType.contains("openxmlformats"))) {
+            return ImportFormatType.XLSX;
+        }
+        if (ImportFormatType.CSV.name().equalsIgnoreCase(extension) && fileType.startsWith("text/")) {
+            return ImportFormatType.CSV;
+        }
+        return null;
     }
 
     @Override
@@ -0,0 +1,222 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
+import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.streaming.ImportResultWriter;
+import org.apache.fineract.infrastructure.bulkimport.streaming.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.streaming.ImportRowReader;
+import org.apache.fineract.infrastructure.bulkimport.streaming.StreamingImportHandler;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.CallerContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports XLSX and CSV files row by row, see {@code fineract.bulk-import.*}.
+ *
+ * The rows are read with a streaming reader and handed to a pool of workers through bounded queues, so the reader waits
+ * when the workers fall behind. Rows with the same ordering key are always imported by the same worker, in the order
+ * of the file. The counts of the import document are updated while the import runs, and the result file is written by
+ * reading the imported file a second time.
+ */
+@Slf4j
+@Service
+public class StreamingBulkImportProcessor {
+
+    private static final long PROGRESS_WAIT_SECONDS = 1L;
+
+    private final Map<GlobalEntityType, StreamingImportHandler> importHandlers = new EnumMap<>(GlobalEntityType.class);
+    private final ImportDocumentRepository importRepository;
+    private final int threadCount;
+    private final int queueCapacity;
+    private final int progressInterval;
+
+    public StreamingBulkImportProcessor(Optional<List<StreamingImportHandler>> importHandlers, ImportDocumentRepository importRepository,
+            FineractProperties fineractProperties) {
+        importHandlers.orElse(List.of()).forEach(importHandler -> this.importHandlers.put(importHandler.getEntityType(), importHandler));
+        this.importRepository = importRepository;
+        FineractProperties.FineractBulkImportProperties properties = Optional.ofNullable(fineractProperties.getBulkImport())
+                .orElseGet(FineractProperties.FineractBulkImportProperties::new);
+        this.threadCount = Math.max(1, properties.getThreadCount());
+        this.queueCapacity = Math.max(1, properties.getQueueCapacity());
+        this.progressInterval = Math.max(1, properties.getProgressInterval());
+    }
+
+    public boolean isSupported(GlobalEntityType entityType) {
+        return importHandlers.containsKey(entityType);
+    }
+
+    /**
+     * Imports the rows of the given file and writes the result file to the output. When reading the file fails, the rows
+     * read before the failure are still imported and their counts are saved before the failure is rethrown.
+     */
+    public Count process(ImportDocument importDocument, GlobalEntityType entityType, ImportFormatType format, byte[] content,
+            String locale, String dateFormat, OutputStream output) throws IOException {
+        StreamingImportHandler importHandler = importHandlers.get(entityType);
+        ImportRowReader reader = ImportRowReader.of(format, content, ImportRowReader.dateFormatter(locale, dateFormat));
+        StreamingImportHandler.RowImporter rowImporter = importHandler.createRowImporter(locale, dateFormat);
+        ImportProgress progress = new ImportProgress(importDocument);
+        StripedExecutor executor = new StripedExecutor(threadCount, queueCapacity, CallerContext.capture());
+        try {
+            reader.read(importHandler.getSheetName(), row -> {
+                if (row.rowIndex() > TemplatePopulateImportConstants.ROWHEADER_INDEX && rowImporter.isImportable(row)) {
+                    progress.readCount++;
+                    executor.execute(rowImporter.getOrderingKey(row), () -> importRow(rowImporter, row, progress));
+                    if (progress.getProcessedCount() - progress.savedProcessedCount >= progressInterval) {
+                        saveProgress(progress);
+                    }
+                }
+            });
+        } finally {
+            awaitTermination(executor, progress);
+            saveProgress(progress);
+        }
+        ImportResultWriter.write(format, reader, importHandler.getSheetName(), importHandler.getStatusColumn(), progress.statuses, output);
+        return Count.instance(progress.successCount.get(), progress.errorCount.get());
+    }
+
+    private void importRow(StreamingImportHandler.RowImporter rowImporter, ImportRow row, ImportProgress progress) {
+        try {
+            rowImporter.importRow(row);
+            progress.statuses.put(row.rowIndex(), TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
+            progress.successCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.error("Problem occurred while importing row {}", row.rowIndex(), e);
+            progress.statuses.put(row.rowIndex(), ImportHandlerUtils.getErrorMessage(e));
+            progress.errorCount.incrementAndGet();
+        }
+    }
+
+    private void awaitTermination(StripedExecutor executor, ImportProgress progress) {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(PROGRESS_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                saveProgress(progress);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            throw new IllegalStateException("Interrupted while waiting for the import to finish", e);
+        }
+    }
+
+    private void saveProgress(ImportProgress progress) {
+        int successCount = progress.successCount.get();
+        int errorCount = progress.errorCount.get();
+        progress.importDocument.updateProgress(progress.readCount, successCount, errorCount);
+        importRepository.saveAndFlush(progress.importDocument);
+        progress.savedProcessedCount = successCount + errorCount;
+    }
+
+    /**
+     * State of a running import. The counters are updated by the workers, the rest only by the reading thread.
+     */
+    private static final class ImportProgress {
+
+        private final ImportDocument importDocument;
+        private final Map<Integer, String> statuses = new ConcurrentHashMap<>();
+        private final AtomicInteger successCount = new AtomicInteger();
+        private final AtomicInteger errorCount = new AtomicInteger();
+        private int readCount;
+        private int savedProcessedCount;
+
+        private ImportProgress(ImportDocument importDocument) {
+            this.importDocument = importDocument;
+        }
+
+        private int getProcessedCount() {
+            return successCount.get() + errorCount.get();
+        }
+    }
+
+    /**
+     * Single threaded executors, one per worker, each with a bounded queue. Submitting to a full queue waits for
+     * capacity.
+     */
+    private static final class StripedExecutor {
+
+        private final List<ThreadPoolExecutor> stripes;
+        private final CallerContext callerContext;
+        private int nextStripe;
+
+        private StripedExecutor(int threadCount, int queueCapacity, CallerContext callerContext) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("bulk-import-");
+            int stripeCapacity = Math.max(1, queueCapacity / threadCount);
+            this.stripes = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                stripes.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(stripeCapacity), threadFactory,
+                        StripedExecutor::waitForCapacity));
+            }
+            this.callerContext = callerContext;
+        }
+
+        private void execute(String orderingKey, Runnable task) {
+            int stripe = orderingKey == null ? Math.floorMod(nextStripe++, stripes.size())
+                    : Math.floorMod(orderingKey.hashCode(), stripes.size());
+            stripes.get(stripe).execute(callerContext.wrap(task));
+        }
+
+        private void shutdown() {
+            stripes.forEach(ThreadPoolExecutor::shutdown);
+        }
+
+        private void shutdownNow() {
+            stripes.forEach(ThreadPoolExecutor::shutdownNow);
+        }
+
+        private boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            for (ThreadPoolExecutor stripe : stripes) {
+                if (!stripe.awaitTermination(timeout, unit)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static void waitForCapacity(Runnable task, ThreadPoolExecutor executor) {
+            try {
+                executor.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for import capacity", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * Reads the records of a CSV file, the first record is the header row.
+ */
+final class CsvImportRowReader implements ImportRowReader {
+
+    private final byte[] content;
+
+    CsvImportRowReader(byte[] content) {
+        this.content = content;
+    }
+
+    @Override
+    public void read(String sheetName, Consumer<ImportRow> consumer) throws IOException {
+        try (CSVParser parser = CSVParser.parse(new ByteArrayInputStream(content), StandardCharsets.UTF_8, CSVFormat.DEFAULT)) {
+            for (CSVRecord record : parser) {
+                consumer.accept(new ImportRow((int) record.getRecordNumber() - 1, record.toList()));
+            }
+        }
+    }
+}
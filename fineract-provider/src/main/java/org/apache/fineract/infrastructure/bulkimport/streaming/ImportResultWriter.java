@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Writes the result file of a streaming import: the rows of the imported sheet read again from the imported file, with
+ * the import status of every row in the status column. XLSX results are written with SXSSF, which keeps only a window
+ * of rows in memory.
+ */
+public final class ImportResultWriter {
+
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private ImportResultWriter() {
+
+    }
+
+    /**
+     * Writes the result file.
+     *
+     * @param statuses
+     *            the import status of the processed rows by row index, either
+     *            {@link TemplatePopulateImportConstants#STATUS_CELL_IMPORTED} or the error message
+     */
+    public static void write(ImportFormatType format, ImportRowReader reader, String sheetName, int statusColumn,
+            Map<Integer, String> statuses, OutputStream output) throws IOException {
+        if (format == ImportFormatType.CSV) {
+            writeCsv(reader, sheetName, statusColumn, statuses, output);
+        } else {
+            writeXlsx(reader, sheetName, statusColumn, statuses, output);
+        }
+    }
+
+    private static void writeXlsx(ImportRowReader reader, String sheetName, int statusColumn, Map<Integer, String> statuses,
+            OutputStream output) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        try {
+            Sheet sheet = workbook.createSheet(sheetName);
+            CellStyle importedStyle = ImportHandlerUtils.getCellStyle(workbook, IndexedColors.LIGHT_GREEN);
+            CellStyle errorStyle = ImportHandlerUtils.getCellStyle(workbook, IndexedColors.RED);
+            reader.read(sheetName, importRow -> {
+                Row row = sheet.createRow(importRow.rowIndex());
+                List<String> cells = getResultCells(importRow, statusColumn, statuses);
+                for (int column = 0; column < cells.size(); column++) {
+                    if (cells.get(column) != null) {
+                        row.createCell(column).setCellValue(cells.get(column));
+                    }
+                }
+                String status = statuses.get(importRow.rowIndex());
+                if (status != null) {
+                    boolean imported = TemplatePopulateImportConstants.STATUS_CELL_IMPORTED.equals(status);
+                    Cell statusCell = row.getCell(statusColumn);
+                    statusCell.setCellStyle(imported ? importedStyle : errorStyle);
+                }
+            });
+            sheet.setColumnWidth(statusColumn, TemplatePopulateImportConstants.SMALL_COL_SIZE);
+            workbook.write(output);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static void writeCsv(ImportRowReader reader, String sheetName, int statusColumn, Map<Integer, String> statuses,
+            OutputStream output) throws IOException {
+        CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(output, StandardCharsets.UTF_8), CSVFormat.DEFAULT);
+        try {
+            reader.read(sheetName, importRow -> {
+                try {
+                    printer.printRecord(getResultCells(importRow, statusColumn, statuses));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        printer.flush();
+    }
+
+    private static List<String> getResultCells(ImportRow importRow, int statusColumn, Map<Integer, String> statuses) {
+        String status = importRow.rowIndex() == TemplatePopulateImportConstants.ROWHEADER_INDEX
+                ? TemplatePopulateImportConstants.STATUS_COL_REPORT_HEADER
+                : statuses.get(importRow.rowIndex());
+        if (status == null) {
+            return importRow.cells();
+        }
+        List<String> cells = new ArrayList<>(importRow.cells());
+        while (cells.size() <= statusColumn) {
+            cells.add(null);
+        }
+        cells.set(statusColumn, status);
+        return cells;
+    }
+}
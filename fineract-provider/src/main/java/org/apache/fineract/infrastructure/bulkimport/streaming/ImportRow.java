@@ -0,0 +1,72 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.streaming;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+
+/**
+ * A row of an imported sheet. Cells are kept as text: numbers are plain numbers and dates of XLSX files are formatted
+ * with the date format of the import, so XLSX and CSV rows are read the same way.
+ */
+public record ImportRow(int rowIndex, List<String> cells) {
+
+    public String getString(int column) {
+        if (column >= cells.size() || cells.get(column) == null) {
+            return null;
+        }
+        String value = cells.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    public BigDecimal getBigDecimal(int column) {
+        String value = getString(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new GeneralPlatformDomainRuleException("error.msg.import.invalid.number",
+                    "Invalid number " + value + " in column " + (column + 1), value, column, e);
+        }
+    }
+
+    public Integer getInteger(int column) {
+        BigDecimal value = getBigDecimal(column);
+        return value == null ? null : value.intValue();
+    }
+
+    public LocalDate getLocalDate(int column, DateTimeFormatter dateFormatter) {
+        String value = getString(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value, dateFormatter);
+        } catch (DateTimeParseException e) {
+            throw new GeneralPlatformDomainRuleException("error.msg.import.invalid.date",
+                    "Invalid date " + value + " in column " + (column + 1), value, column, e);
+        }
+    }
+}
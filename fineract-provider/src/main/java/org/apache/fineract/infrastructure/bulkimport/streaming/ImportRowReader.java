@@ -0,0 +1,51 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.streaming;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.fineract.infrastructure.core.serialization.JsonParserHelper;
+
+/**
+ * Reads the rows of an imported file one at a time, without loading the whole file into memory.
+ */
+public interface ImportRowReader {
+
+    /**
+     * Passes the rows of the given sheet to the consumer in the order of the file. CSV files have a single sheet, the
+     * sheet name is ignored for them.
+     */
+    void read(String sheetName, Consumer<ImportRow> consumer) throws IOException;
+
+    static ImportRowReader of(ImportFormatType format, byte[] content, DateTimeFormatter dateFormatter) {
+        return switch (format) {
+            case XLSX -> new XlsxImportRowReader(content, dateFormatter);
+            case CSV -> new CsvImportRowReader(content);
+            default -> throw new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension",
+                    "Uploaded file extension is not supported for streaming import.");
+        };
+    }
+
+    static DateTimeFormatter dateFormatter(String locale, String dateFormat) {
+        return DateTimeFormatter.ofPattern(dateFormat, JsonParserHelper.localeFromString(locale));
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.streaming;
+
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+
+/**
+ * Import handler able to import the rows of an XLSX or CSV file one at a time while the file is streamed, see
+ * {@link org.apache.fineract.infrastructure.bulkimport.service.StreamingBulkImportProcessor}.
+ */
+public interface StreamingImportHandler {
+
+    GlobalEntityType getEntityType();
+
+    String getSheetName();
+
+    int getStatusColumn();
+
+    /**
+     * Returns the importer of the rows of one import. It is used by several threads at the same time.
+     */
+    RowImporter createRowImporter(String locale, String dateFormat);
+
+    interface RowImporter {
+
+        /**
+         * Returns false for the rows to be skipped, e.g. blank or already imported rows.
+         */
+        boolean isImportable(ImportRow row);
+
+        /**
+         * Rows with the same ordering key (e.g. the same loan account) are imported one after the other, in the order of
+         * the file.
+         */
+        String getOrderingKey(ImportRow row);
+
+        /**
+         * Imports the row, failures are reported by throwing an exception.
+         */
+        void importRow(ImportRow row);
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Reads a sheet of an XLSX file with the SAX based event API of POI, so only the row being read is kept in memory.
+ */
+final class XlsxImportRowReader implements ImportRowReader {
+
+    private final byte[] content;
+    private final DataFormatter dataFormatter;
+
+    XlsxImportRowReader(byte[] content, DateTimeFormatter dateFormatter) {
+        this.content = content;
+        this.dataFormatter = new ImportDataFormatter(dateFormatter);
+    }
+
+    @Override
+    public void read(String sheetName, Consumer<ImportRow> consumer) throws IOException {
+        try {
+            OPCPackage opcPackage = OPCPackage.open(new ByteArrayInputStream(content));
+            try {
+                XSSFReader xssfReader = new XSSFReader(opcPackage);
+                ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+                StylesTable styles = xssfReader.getStylesTable();
+                XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+                while (sheets.hasNext()) {
+                    try (InputStream sheet = sheets.next()) {
+                        if (sheetName.equals(sheets.getSheetName())) {
+                            XMLReader xmlReader = XMLHelper.newXMLReader();
+                            xmlReader.setContentHandler(
+                                    new XSSFSheetXMLHandler(styles, sharedStrings, new RowCollector(consumer), dataFormatter, false));
+                            xmlReader.parse(new InputSource(sheet));
+                            return;
+                        }
+                    }
+                }
+            } finally {
+                opcPackage.revert();
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Unable to read sheet " + sheetName, e);
+        }
+        throw new GeneralPlatformDomainRuleException("error.msg.import.sheet.not.found", "Sheet " + sheetName + " not found.", sheetName);
+    }
+
+    /**
+     * Formats numeric cells as plain numbers and date cells with the date format of the import.
+     */
+    private static final class ImportDataFormatter extends DataFormatter {
+
+        private final DateTimeFormatter dateFormatter;
+
+        private ImportDataFormatter(DateTimeFormatter dateFormatter) {
+            this.dateFormatter = dateFormatter;
+        }
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().format(dateFormatter);
+            }
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private static final class RowCollector implements SheetContentsHandler {
+
+        private final Consumer<ImportRow> consumer;
+        private List<String> cells;
+
+        private RowCollector(Consumer<ImportRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            consumer.accept(new ImportRow(rowNum, cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference == null ? cells.size() : new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            cells.add(formattedValue);
+        }
+    }
+}
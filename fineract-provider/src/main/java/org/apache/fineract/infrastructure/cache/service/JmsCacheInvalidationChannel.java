@@ -0,0 +1,145 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Message;
+import jakarta.jms.MessageListener;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.command.ActiveMQTopic;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CacheInvalidationChannel} exchanging the invalidations on a JMS topic of the broker configured for the
+ * external events.
+ *
+ * Every node subscribes to the topic with a non durable subscriber and filters out its own invalidations with a
+ * message selector. Invalidations published while a node is not subscribed are not delivered to it, the
+ * {@link MultiNodeCacheManager} clears the near caches when the channel is started.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "fineract.events.external.producer.jms.enabled", havingValue = "true")
+public class JmsCacheInvalidationChannel implements CacheInvalidationChannel, DisposableBean {
+
+    public static final String NAME = "jms";
+
+    static final String CACHE_NAME = "cacheName";
+    static final String CACHE_KEY = "cacheKey";
+    static final String ORIGIN_NODE = "originNode";
+
+    private final JmsTemplate jmsTemplate;
+    private final ConnectionFactory listenerConnectionFactory;
+    private final FineractProperties fineractProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private DefaultMessageListenerContainer listenerContainer;
+
+    @Autowired
+    public JmsCacheInvalidationChannel(@Qualifier("externalEventConnectionFactory") final CachingConnectionFactory connectionFactory,
+            final FineractProperties fineractProperties) {
+        // the listener container manages its own connection, the caching factory is only used to publish
+        this(new JmsTemplate(connectionFactory), connectionFactory.getTargetConnectionFactory(), fineractProperties);
+    }
+
+    JmsCacheInvalidationChannel(final JmsTemplate jmsTemplate, final ConnectionFactory listenerConnectionFactory,
+            final FineractProperties fineractProperties) {
+        this.jmsTemplate = jmsTemplate;
+        this.listenerConnectionFactory = listenerConnectionFactory;
+        this.fineractProperties = fineractProperties;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void publish(final CacheInvalidationData invalidation) {
+        this.jmsTemplate.send(getTopic(), session -> {
+            final MapMessage message = session.createMapMessage();
+            message.setString(CACHE_NAME, invalidation.getCacheName());
+            message.setString(CACHE_KEY, invalidation.getCacheKey());
+            message.setStringProperty(ORIGIN_NODE, this.nodeId);
+            return message;
+        });
+    }
+
+    @Override
+    public synchronized void start(final Consumer<CacheInvalidationData> listener) {
+        if (this.listenerContainer != null) {
+            return;
+        }
+        final DefaultMessageListenerContainer container = new DefaultMessageListenerContainer();
+        container.setConnectionFactory(this.listenerConnectionFactory);
+        container.setDestination(getTopic());
+        container.setPubSubDomain(true);
+        container.setMessageSelector(ORIGIN_NODE + " <> '" + this.nodeId + "'");
+        container.setMessageListener((MessageListener) message -> onMessage(message, listener));
+        container.afterPropertiesSet();
+        container.start();
+        this.listenerContainer = container;
+        log.info("Started listening to cache invalidations of node {} on JMS topic {}", this.nodeId, getTopic().getTopicName());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (this.listenerContainer != null) {
+            this.listenerContainer.shutdown();
+            this.listenerContainer = null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+
+    String getNodeId() {
+        return this.nodeId;
+    }
+
+    void onMessage(final Message message, final Consumer<CacheInvalidationData> listener) {
+        try {
+            if (!(message instanceof MapMessage mapMessage) || this.nodeId.equals(message.getStringProperty(ORIGIN_NODE))) {
+                return;
+            }
+            listener.accept(new CacheInvalidationData(mapMessage.getString(CACHE_NAME), mapMessage.getString(CACHE_KEY)));
+        } catch (final JMSException e) {
+            log.warn("Error occurred while reading cache invalidation message", e);
+        }
+    }
+
+    private ActiveMQTopic getTopic() {
+        return new ActiveMQTopic(this.fineractProperties.getCache().getMultiNode().getTopicName());
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CacheInvalidationChannel} exchanging the invalidations on a Kafka topic of the cluster configured for the
+ * external events.
+ *
+ * The record value is the cache name, the evicted key and the publishing node are sent as headers. Every node consumes
+ * the topic in a consumer group of its own, starting from the latest offset, and skips its own invalidations.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "fineract.events.external.producer.kafka.enabled", havingValue = "true")
+public class KafkaCacheInvalidationChannel implements CacheInvalidationChannel, DisposableBean {
+
+    public static final String NAME = "kafka";
+
+    static final String CACHE_KEY_HEADER = "cacheKey";
+    static final String ORIGIN_NODE_HEADER = "originNode";
+
+    private final KafkaTemplate<Long, byte[]> kafkaTemplate;
+    private final FineractProperties fineractProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private KafkaMessageListenerContainer<Long, byte[]> listenerContainer;
+
+    public KafkaCacheInvalidationChannel(final KafkaTemplate<Long, byte[]> externalEventsKafkaTemplate,
+            final FineractProperties fineractProperties) {
+        this.kafkaTemplate = externalEventsKafkaTemplate;
+        this.fineractProperties = fineractProperties;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void publish(final CacheInvalidationData invalidation) {
+        final ProducerRecord<Long, byte[]> record = new ProducerRecord<>(getTopicName(), invalidation.getCacheName().getBytes(UTF_8));
+        if (!invalidation.isClear()) {
+            record.headers().add(CACHE_KEY_HEADER, invalidation.getCacheKey().getBytes(UTF_8));
+        }
+        record.headers().add(ORIGIN_NODE_HEADER, this.nodeId.getBytes(UTF_8));
+        try {
+            this.kafkaTemplate.send(record).get(getKafkaProperties().getTimeoutInSeconds(), TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing cache invalidation " + invalidation, e);
+        } catch (final ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Could not publish cache invalidation " + invalidation, e);
+        }
+    }
+
+    @Override
+    public synchronized void start(final Consumer<CacheInvalidationData> listener) {
+        if (this.listenerContainer != null) {
+            return;
+        }
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, getKafkaProperties().getBootstrapServers());
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, getTopicName() + "-" + this.nodeId);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, LongDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        final ContainerProperties containerProperties = new ContainerProperties(getTopicName());
+        containerProperties.setMessageListener((MessageListener<Long, byte[]>) consumerRecord -> onRecord(consumerRecord, listener));
+        final KafkaMessageListenerContainer<Long, byte[]> container = new KafkaMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(properties), containerProperties);
+        container.setBeanName("cacheInvalidationListenerContainer");
+        container.start();
+        this.listenerContainer = container;
+        log.info("Started listening to cache invalidations of node {} on Kafka topic {}", this.nodeId, getTopicName());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (this.listenerContainer != null) {
+            this.listenerContainer.stop();
+            this.listenerContainer = null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+
+    String getNodeId() {
+        return this.nodeId;
+    }
+
+    void onRecord(final ConsumerRecord<Long, byte[]> consumerRecord, final Consumer<CacheInvalidationData> listener) {
+        final Header originNode = consumerRecord.headers().lastHeader(ORIGIN_NODE_HEADER);
+        if (originNode != null && this.nodeId.equals(new String(originNode.value(), UTF_8))) {
+            return;
+        }
+        final Header cacheKey = consumerRecord.headers().lastHeader(CACHE_KEY_HEADER);
+        listener.accept(new CacheInvalidationData(new String(consumerRecord.value(), UTF_8),
+                cacheKey == null ? null : new String(cacheKey.value(), UTF_8)));
+    }
+
+    private String getTopicName() {
+        return this.fineractProperties.getCache().getMultiNode().getTopicName();
+    }
+
+    private FineractProperties.FineractExternalEventsProducerKafkaProperties getKafkaProperties() {
+        return this.fineractProperties.getEvents().getExternal().getProducer().getKafka();
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.external.config.ExternalEventsKafkaTopicAutoCreateCondition;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+@Conditional(ExternalEventsKafkaTopicAutoCreateCondition.class)
+public class KafkaCacheInvalidationTopicConfig {
+
+    @Autowired
+    private FineractProperties fineractProperties;
+
+    /**
+     * Single partition topic, so the invalidations of a node are consumed in the order they were published.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "fineract.cache.multi-node.invalidation-channel", havingValue = KafkaCacheInvalidationChannel.NAME)
+    public NewTopic cacheInvalidationTopic() {
+        FineractProperties.KafkaTopicProperties eventTopicProperties = fineractProperties.getEvents().getExternal().getProducer()
+                .getKafka().getTopic();
+        return TopicBuilder.name(fineractProperties.getCache().getMultiNode().getTopicName()).partitions(1)
+                .replicas(eventTopicProperties.getReplicas()).build();
+    }
+}
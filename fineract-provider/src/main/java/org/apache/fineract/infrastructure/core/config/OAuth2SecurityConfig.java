@@ -30,13 +30,12 @@ import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadP
 import org.apache.fineract.infrastructure.cache.service.CacheWritePlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.exceptionmapper.OAuth2ExceptionEntryPoint;
-import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
 import org.apache.fineract.infrastructure.security.data.FineractJwtAuthenticationToken;
-import org.apache.fineract.infrastructure.security.data.PlatformRequestLog;
 import org.apache.fineract.infrastructure.security.filter.InsecureTwoFactorAuthenticationFilter;
 import org.apache.fineract.infrastructure.security.filter.TenantAwareTenantIdentifierFilter;
 import org.apache.fineract.infrastructure.security.filter.TwoFactorAuthenticationFilter;
 import org.apache.fineract.infrastructure.security.service.BasicAuthTenantDetailsService;
+import org.apache.fineract.infrastructure.security.service.PlatformRequestLogger;
 import org.apache.fineract.infrastructure.security.service.TenantAwareJpaPlatformUserDetailsService;
 import org.apache.fineract.infrastructure.security.service.TwoFactorService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -82,7 +81,7 @@ public class OAuth2SecurityConfig {
     private BasicAuthTenantDetailsService basicAuthTenantDetailsService;
 
     @Autowired
-    private ToApiJsonSerializer<PlatformRequestLog> toApiJsonSerializer;
+    private PlatformRequestLogger platformRequestLogger;
 
     @Autowired
     private ConfigurationDomainService configurationDomainService;
@@ -132,7 +131,7 @@ public class OAuth2SecurityConfig {
     }
 
     public TenantAwareTenantIdentifierFilter tenantAwareTenantIdentifierFilter() {
-        return new TenantAwareTenantIdentifierFilter(basicAuthTenantDetailsService, toApiJsonSerializer, configurationDomainService,
+        return new TenantAwareTenantIdentifierFilter(basicAuthTenantDetailsService, platformRequestLogger, configurationDomainService,
                 cacheWritePlatformService, businessDateReadPlatformService);
     }
 
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.core.config;
 
+import org.apache.fineract.infrastructure.core.service.CallerContextTaskDecorator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -47,4 +48,16 @@ public class TaskExecutorConfig {
         threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorMaxPoolSize());
         return threadPoolTaskExecutor;
     }
+
+    @Bean(TaskExecutorConstant.RUNNING_BALANCE_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor runningBalanceThreadPoolTaskExecutor() {
+        int threadCount = Math.max(1, fineractProperties.getJob().getRunningBalanceThreadCount());
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setThreadNamePrefix("running-balance-");
+        threadPoolTaskExecutor.setCorePoolSize(threadCount);
+        threadPoolTaskExecutor.setMaxPoolSize(threadCount);
+        threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
+        threadPoolTaskExecutor.setTaskDecorator(new CallerContextTaskDecorator());
+        return threadPoolTaskExecutor;
+    }
 }
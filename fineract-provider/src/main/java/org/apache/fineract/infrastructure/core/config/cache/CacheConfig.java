@@ -23,10 +23,12 @@ import java.time.Duration;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
 import javax.cache.spi.CachingProvider;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
 import org.ehcache.config.builders.ExpiryPolicyBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.cache.support.NoOpCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -36,13 +38,17 @@ import org.springframework.context.annotation.Configuration;
 public class CacheConfig {
 
     public static final String CONFIG_BY_NAME_CACHE_NAME = "configByName";
+    public static final String BUSINESS_DATES_CACHE_NAME = "businessDates";
+
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     public TransactionBoundCacheManager defaultCacheManager(JCacheCacheManager ehCacheManager) {
         SpecifiedCacheSupportingCacheManager cacheManager = new SpecifiedCacheSupportingCacheManager();
         cacheManager.setNoOpCacheManager(new NoOpCacheManager());
         cacheManager.setDelegateCacheManager(ehCacheManager);
-        cacheManager.setSupportedCaches(CONFIG_BY_NAME_CACHE_NAME);
+        cacheManager.setSupportedCaches(CONFIG_BY_NAME_CACHE_NAME, BUSINESS_DATES_CACHE_NAME);
         return new TransactionBoundCacheManager(cacheManager);
     }
 
@@ -81,6 +87,15 @@ public class CacheConfig {
 
         cacheManager.createCache("userTFAccessToken", accessTokenTemplate);
 
+        // Nodes which did not change the business date only see the change once their entry expired
+        javax.cache.configuration.Configuration<Object, Object> businessDateTemplate = Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(1000))
+                        .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(
+                                Duration.ofSeconds(Math.max(1, fineractProperties.getCache().getBusinessDateTtlSeconds()))))
+                        .build());
+
+        cacheManager.createCache(BUSINESS_DATES_CACHE_NAME, businessDateTemplate);
+
         return cacheManager;
     }
 }
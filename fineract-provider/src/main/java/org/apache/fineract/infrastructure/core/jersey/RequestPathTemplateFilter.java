@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.jersey;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.ext.Provider;
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.security.service.PlatformRequestLogger;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.uri.UriTemplate;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores the path template of the matched resource method (e.g. {@code /v1/loans/{loanId}}) in the
+ * {@link PlatformRequestLogger#PATH_TEMPLATE_ATTRIBUTE} request attribute, so requests can be timed per endpoint
+ * instead of per URL.
+ */
+@Provider
+@Component
+@Scope("singleton")
+public class RequestPathTemplateFilter implements ContainerRequestFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (requestContext.getUriInfo() instanceof ExtendedUriInfo uriInfo) {
+            requestContext.setProperty(PlatformRequestLogger.PATH_TEMPLATE_ATTRIBUTE, toPath(uriInfo.getMatchedTemplates()));
+        }
+    }
+
+    /**
+     * Joins the matched templates, which Jersey returns starting with the most specific one.
+     */
+    static String toPath(List<UriTemplate> matchedTemplates) {
+        final StringBuilder path = new StringBuilder();
+        for (int i = matchedTemplates.size() - 1; i >= 0; i--) {
+            final String template = StringUtils.strip(matchedTemplates.get(i).getTemplate(), "/");
+            if (!template.isEmpty()) {
+                path.append('/').append(template);
+            }
+        }
+        return path.length() == 0 ? "/" : path.toString();
+    }
+}
@@ -18,24 +18,26 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.service;
 
-import static java.lang.String.format;
 import static org.apache.fineract.infrastructure.core.service.database.JdbcJavaType.DATE;
 import static org.apache.fineract.infrastructure.core.service.database.JdbcJavaType.DATETIME;
 import static org.apache.fineract.infrastructure.core.service.database.JdbcJavaType.TIMESTAMP;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.CODELOOKUP;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.DECIMAL;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.INTEGER;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.TIME;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseIndependentQueryService;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
@@ -48,12 +50,16 @@ import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeader
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnValueData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.exception.DatatableNotFoundException;
+import org.apache.fineract.infrastructure.dataqueries.service.export.JsonGenericResultsetWriter;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
@@ -65,6 +71,8 @@ public class GenericDataServiceImpl implements GenericDataService {
     private final DatabaseIndependentQueryService databaseIndependentQueryService;
     private final DatatableKeywordGenerator datatableKeywordGenerator;
     private final DatabaseTypeResolver databaseTypeResolver;
+    private final FineractProperties fineractProperties;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     public GenericResultsetData fillGenericResultSet(final String sql) {
@@ -92,6 +100,77 @@ public class GenericDataServiceImpl implements GenericDataService {
         }
     }
 
+    @Override
+    public void streamGenericResultSet(final String sql, final GenericResultsetStreamHandler handler) throws IOException {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // PostgreSQL only fetches with a cursor when auto-commit is off
+        transactionTemplate.setReadOnly(true);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((Connection connection) -> {
+                final PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, // NOSONAR
+                        ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fineractProperties.getReport().getStreamFetchSize());
+                return statement;
+            }, (PreparedStatementCallback<Void>) statement -> {
+                streamRows(statement, handler);
+                return null;
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (DataAccessException e) {
+            log.error("Reporting error: {}", e.getMessage());
+            throw new PlatformDataIntegrityException("error.msg.report.unknown.data.integrity.issue", e.getClass().getName(), e);
+        }
+    }
+
+    private void streamRows(final PreparedStatement statement, final GenericResultsetStreamHandler handler) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            final ResultSetMetaData rsmd = rs.getMetaData();
+            final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>();
+            for (int i = 0; i < rsmd.getColumnCount(); i++) {
+                columnHeaders.add(ResultsetColumnHeaderData.basic(rsmd.getColumnName(i + 1), rsmd.getColumnTypeName(i + 1),
+                        databaseTypeResolver.databaseType()));
+            }
+            handler.start(columnHeaders);
+            while (rs.next()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Streaming the result set was interrupted");
+                }
+                final List<Object> columnValues = new ArrayList<>(columnHeaders.size());
+                for (int i = 0; i < columnHeaders.size(); i++) {
+                    columnValues.add(toColumnValue(columnHeaders.get(i).getColumnType(), rs.getObject(i + 1)));
+                }
+                handler.row(columnValues);
+            }
+            handler.end();
+        } catch (IOException e) {
+            // the consumer is gone, stop the database from producing the rest of the result
+            cancel(statement);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void cancel(final PreparedStatement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            log.debug("Could not cancel statement: {}", e.getMessage());
+        }
+    }
+
+    private static Object toColumnValue(final JdbcJavaType colType, final Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (colType == DATE && value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        if ((colType == DATETIME || colType == TIMESTAMP) && value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value;
+    }
+
     @Override
     public List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(final String tableName) {
         final SqlRowSet columnDefinitions = getTableMetaData(tableName);
@@ -197,68 +276,18 @@ public class GenericDataServiceImpl implements GenericDataService {
 
     @Override
     public String generateJsonFromGenericResultsetData(final GenericResultsetData grs) {
-        final StringBuilder writer = new StringBuilder();
-
-        writer.append("[");
-
-        final List<ResultsetColumnHeaderData> columnHeaders = grs.getColumnHeaders();
-
-        final List<ResultsetRowData> data = grs.getData();
-        List<Object> row;
-        Integer rSize;
-        final String doubleQuote = "\"";
-        final String slashDoubleQuote = "\\\"";
-        ResultsetColumnHeaderData.DisplayType colDisplayType;
-        Object currVal;
-
-        for (int i = 0; i < data.size(); i++) {
-            writer.append("\n{");
-
-            row = data.get(i).getRow();
-            rSize = row.size();
-            for (int j = 0; j < rSize; j++) {
-                ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
-                writer.append(doubleQuote + columnHeader.getColumnName() + doubleQuote + ": ");
-                colDisplayType = columnHeader.getColumnDisplayType();
-                final JdbcJavaType colType = columnHeader.getColumnType();
-                if (colDisplayType == null) {
-                    colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
-                }
-                currVal = row.get(j);
-                if (currVal != null && colDisplayType != null) {
-                    if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
-                        final LocalDate localDate = (LocalDate) currVal;
-                        writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
-                    } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
-                        final LocalDateTime localDateTime = (LocalDateTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
-                                localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(),
-                                localDateTime.getSecond(), localDateTime.getNano()));
-                    } else if (colDisplayType == TIME) {
-                        final LocalTime localTime = (LocalTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
-                                localTime.getNano()));
-                    } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
-                        writer.append(currVal);
-                    } else {
-                        writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
-                    }
-                } else {
-                    writer.append("null");
-                }
-                if (j < (rSize - 1)) {
-                    writer.append(",\n");
-                }
-            }
-
-            if (i < (data.size() - 1)) {
-                writer.append("},");
-            } else {
-                writer.append("}");
+        final StringWriter writer = new StringWriter();
+        try {
+            final JsonGenericResultsetWriter jsonWriter = new JsonGenericResultsetWriter(writer);
+            jsonWriter.start(grs.getColumnHeaders());
+            for (final ResultsetRowData row : grs.getData()) {
+                jsonWriter.row(row.getRow());
             }
+            jsonWriter.end();
+        } catch (IOException e) {
+            // StringWriter does not throw
+            throw new UncheckedIOException(e);
         }
-
-        writer.append("\n]");
         return writer.toString();
     }
 
@@ -23,12 +23,13 @@ import com.lowagie.text.PageSize;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
 import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -40,10 +41,9 @@ import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.diagnostics.jdbc.JdbcStatementOrigin;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
@@ -55,6 +55,9 @@ import org.apache.fineract.infrastructure.dataqueries.data.ReportParameterJoinDa
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.exception.ReportNotFoundException;
+import org.apache.fineract.infrastructure.dataqueries.service.export.CsvGenericResultsetWriter;
+import org.apache.fineract.infrastructure.dataqueries.service.export.GsonGenericResultsetWriter;
+import org.apache.fineract.infrastructure.dataqueries.service.export.JsonGenericResultsetWriter;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.infrastructure.security.service.SqlInjectionPreventerService;
 import org.apache.fineract.infrastructure.security.utils.LogParameterEscapeUtil;
@@ -81,28 +84,48 @@ public class ReadReportingServiceImpl implements ReadReportingService {
     @Override
     public StreamingOutput retrieveReportCSV(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
+        final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
         return out -> {
-            try {
-                final GenericResultsetData result = retrieveGenericResultset(name, type, queryParams, isSelfServiceUserReport);
-                generateCsvFileBuffer(result, out);
-            } catch (final Exception e) {
-                throw new PlatformDataIntegrityException("error.msg.exception.error", e.getMessage(), e);
-            }
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            streamReport(name, type, sql, new CsvGenericResultsetWriter(writer));
         };
     }
 
-    private void generateCsvFileBuffer(final GenericResultsetData result, OutputStream out) throws IOException {
-        try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
-            final List<ResultsetColumnHeaderData> columnHeaders = result.getColumnHeaders();
-            final List<ResultsetRowData> data = result.getData();
-            final List<String> header = new ArrayList<>();
-            for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
-                header.add(columnHeader.getColumnName());
-            }
-            printer.printRecord(header);
-            for (final ResultsetRowData row : data) {
-                printer.printRecord(row.getRow());
-            }
+    @Override
+    public StreamingOutput retrieveReportJSON(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport, final boolean genericResultSet, final boolean prettyPrint) {
+        final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
+        return out -> {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            streamReport(name, type, sql,
+                    genericResultSet ? new GsonGenericResultsetWriter(writer, prettyPrint) : new JsonGenericResultsetWriter(writer));
+        };
+    }
+
+    private void streamReport(final String name, final String type, final String sql, final GenericResultsetStreamHandler handler)
+            throws IOException {
+        final long startTime = System.currentTimeMillis();
+        if (log.isDebugEnabled()) {
+            log.debug("STARTING REPORT: {}   Type: {}", LogParameterEscapeUtil.escapeLogParameter(name),
+                    LogParameterEscapeUtil.escapeLogParameter(type));
+        }
+        final String previousOrigin = JdbcStatementOrigin.set("report:" + name);
+        try {
+            this.genericDataService.streamGenericResultSet(sql, handler);
+        } catch (final IOException e) {
+            // the client went away, the query has been cancelled
+            log.debug("Streaming report {} was aborted: {}", LogParameterEscapeUtil.escapeLogParameter(name), e.getMessage());
+            throw e;
+        } catch (final PlatformDataIntegrityException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new PlatformDataIntegrityException("error.msg.exception.error", e.getMessage(), e);
+        } finally {
+            JdbcStatementOrigin.restore(previousOrigin);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("FINISHING Report/Request Name: {} - {}     Elapsed Time: {}", LogParameterEscapeUtil.escapeLogParameter(name),
+                    type.replaceAll("[\n\r\t]", "_"), System.currentTimeMillis() - startTime);
         }
     }
 
@@ -118,7 +141,13 @@ public class ReadReportingServiceImpl implements ReadReportingService {
 
         final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
 
-        final GenericResultsetData result = this.genericDataService.fillGenericResultSet(sql);
+        final GenericResultsetData result;
+        final String previousOrigin = JdbcStatementOrigin.set("report:" + name);
+        try {
+            result = this.genericDataService.fillGenericResultSet(sql);
+        } finally {
+            JdbcStatementOrigin.restore(previousOrigin);
+        }
 
         final long elapsed = System.currentTimeMillis() - startTime;
         if (log.isDebugEnabled()) {
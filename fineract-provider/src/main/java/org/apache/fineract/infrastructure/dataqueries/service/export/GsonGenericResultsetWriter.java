@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service.export;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericResultsetStreamHandler;
+
+/**
+ * Writes the rows in the serialized form of {@link GenericResultsetData}, one row at a time.
+ */
+public class GsonGenericResultsetWriter implements GenericResultsetStreamHandler {
+
+    private static final Gson GSON = GoogleGsonSerializerHelper.createGsonBuilder(false).create();
+    private static final Gson PRETTY_GSON = GoogleGsonSerializerHelper.createGsonBuilder(true).create();
+    private static final Type COLUMN_HEADERS_TYPE = new TypeToken<List<ResultsetColumnHeaderData>>() {}.getType();
+
+    private final Gson gson;
+    private final JsonWriter jsonWriter;
+
+    public GsonGenericResultsetWriter(final Writer writer, final boolean prettyPrint) throws IOException {
+        this.gson = prettyPrint ? PRETTY_GSON : GSON;
+        this.jsonWriter = gson.newJsonWriter(writer);
+    }
+
+    @Override
+    public void start(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+        jsonWriter.beginObject();
+        jsonWriter.name("columnHeaders");
+        toJson(columnHeaders, COLUMN_HEADERS_TYPE);
+        jsonWriter.name("data");
+        jsonWriter.beginArray();
+    }
+
+    @Override
+    public void row(final List<Object> row) throws IOException {
+        toJson(ResultsetRowData.create(row), ResultsetRowData.class);
+    }
+
+    @Override
+    public void end() throws IOException {
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
+
+    private void toJson(final Object value, final Type type) throws IOException {
+        try {
+            gson.toJson(value, type, jsonWriter);
+        } catch (JsonIOException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        }
+    }
+}
@@ -36,6 +36,7 @@ public class DocumentCommand {
     private String type;
     private String location;
     private Integer storageType;
+    private boolean contentValidated;
 
     private final Set<String> modifiedParameters;
 
@@ -117,6 +118,17 @@ public class DocumentCommand {
         this.storageType = storageType;
     }
 
+    public boolean isContentValidated() {
+        return this.contentValidated;
+    }
+
+    /**
+     * Marks the content as validated by the feature storing it, the content whitelists are not applied to it.
+     */
+    public void setContentValidated(final boolean contentValidated) {
+        this.contentValidated = contentValidated;
+    }
+
     public boolean isNameChanged() {
         return this.modifiedParameters.contains("name");
     }
@@ -60,6 +60,17 @@ public class FileSystemContentPathSanitizer implements ContentPathSanitizer {
 
     @Override
     public String sanitize(String path, BufferedInputStream is) {
+        return sanitize(path, is, true);
+    }
+
+    /**
+     * Sanitizes the path of content validated by the feature storing it, without applying the content whitelists.
+     */
+    public String sanitizeWithoutWhitelists(String path) {
+        return sanitize(path, null, false);
+    }
+
+    private String sanitize(String path, BufferedInputStream is, boolean whitelisted) {
         try {
             if (OVERWRITE_SIBLING_IMAGE.matcher(path).matches()) {
                 throw new RuntimeException(String.format("Trying to overwrite another resource's image: %s", path));
@@ -73,7 +84,7 @@ public class FileSystemContentPathSanitizer implements ContentPathSanitizer {
                 log.debug("Path: {} -> {} ({})", path, sanitizedPath, fileName);
             }
 
-            if (fineractProperties.getContent().isRegexWhitelistEnabled()) {
+            if (whitelisted && fineractProperties.getContent().isRegexWhitelistEnabled()) {
                 boolean matches = regexWhitelist.stream().anyMatch(p -> p.matcher(fileName).matches());
 
                 if (!matches) {
@@ -81,7 +92,7 @@ public class FileSystemContentPathSanitizer implements ContentPathSanitizer {
                 }
             }
 
-            if (is != null && fineractProperties.getContent().isMimeWhitelistEnabled()) {
+            if (whitelisted && is != null && fineractProperties.getContent().isMimeWhitelistEnabled()) {
                 Tika tika = new Tika();
                 String extensionMimeType = tika.detect(fileName);
 
@@ -57,14 +57,14 @@ public class FileSystemContentRepository implements ContentRepository {
         final String fileLocation = generateFileParentDirectory(documentCommand.getParentEntityType(), documentCommand.getParentEntityId())
                 + File.separator + fileName;
 
-        return writeFileToFileSystem(fileName, uploadedInputStream, fileLocation);
+        return writeFileToFileSystem(fileName, uploadedInputStream, fileLocation, documentCommand.isContentValidated());
     }
 
     @Override
     public String saveImage(final InputStream uploadedInputStream, final Long resourceId, final String imageName, final Long fileSize) {
         ContentRepositoryUtils.validateFileSizeWithinPermissibleRange(fileSize, imageName);
         final String fileLocation = generateClientImageParentDirectory(resourceId) + File.separator + imageName;
-        return writeFileToFileSystem(imageName, uploadedInputStream, fileLocation);
+        return writeFileToFileSystem(imageName, uploadedInputStream, fileLocation, false);
     }
 
     @Override
@@ -74,7 +74,7 @@ public class FileSystemContentRepository implements ContentRepository {
         String base64EncodedImageString = base64EncodedImage.getBase64EncodedString();
         try {
             final InputStream toUploadInputStream = new ByteArrayInputStream(Base64.getMimeDecoder().decode(base64EncodedImageString));
-            return writeFileToFileSystem(imageName, toUploadInputStream, fileLocation);
+            return writeFileToFileSystem(imageName, toUploadInputStream, fileLocation, false);
         } catch (IllegalArgumentException iae) {
             log.error("IllegalArgumentException due to invalid Base64 encoding: {}", base64EncodedImageString, iae);
             throw iae;
@@ -150,9 +150,11 @@ public class FileSystemContentRepository implements ContentRepository {
         Files.createParentDirs(new File(sanitizedPath));
     }
 
-    private String writeFileToFileSystem(final String fileName, final InputStream uploadedInputStream, final String fileLocation) {
+    private String writeFileToFileSystem(final String fileName, final InputStream uploadedInputStream, final String fileLocation,
+            final boolean contentValidated) {
         try (BufferedInputStream bis = new BufferedInputStream(uploadedInputStream)) {
-            String sanitizedPath = pathSanitizer.sanitize(fileLocation, bis);
+            String sanitizedPath = contentValidated ? pathSanitizer.sanitizeWithoutWhitelists(fileLocation)
+                    : pathSanitizer.sanitize(fileLocation, bis);
             makeDirectories(sanitizedPath);
             FileUtils.copyInputStreamToFile(bis, new File(sanitizedPath)); // NOSONAR
             return sanitizedPath;
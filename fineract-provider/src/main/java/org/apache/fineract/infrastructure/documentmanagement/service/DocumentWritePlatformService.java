@@ -34,8 +34,12 @@ public interface DocumentWritePlatformService {
     @PreAuthorize(value = "hasAnyAuthority('ALL_FUNCTIONS', 'DELETE_DOCUMENT')")
     CommandProcessingResult deleteDocument(DocumentCommand documentCommand);
 
+    /**
+     * Stores a document created by the platform itself. The content whitelists are only skipped when the caller has
+     * verified both the extension and the detected content type of the file ({@code contentValidated}).
+     */
     @PreAuthorize(value = "hasAnyAuthority('ALL_FUNCTIONS', 'CREATE_DOCUMENT')")
     Long createInternalDocument(String entityType, Long entityId, Long fileSize, InputStream inputStream, String mimeType, String name,
-            String description, String fileName);
+            String description, String fileName, boolean contentValidated);
 
 }
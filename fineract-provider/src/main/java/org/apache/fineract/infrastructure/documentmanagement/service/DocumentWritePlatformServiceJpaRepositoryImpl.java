@@ -90,10 +90,11 @@ public class DocumentWritePlatformServiceJpaRepositoryImpl implements DocumentWr
     @Transactional
     @Override
     public Long createInternalDocument(final String entityType, final Long entityId, final Long fileSize, final InputStream inputStream,
-            final String mimeType, final String name, final String description, final String fileName) {
+            final String mimeType, final String name, final String description, final String fileName, final boolean contentValidated) {
 
         final DocumentCommand documentCommand = new DocumentCommand(null, null, entityType, entityId, name, fileName, fileSize, mimeType,
                 description, null);
+        documentCommand.setContentValidated(contentValidated);
 
         final Long documentId = createDocument(documentCommand, inputStream);
 
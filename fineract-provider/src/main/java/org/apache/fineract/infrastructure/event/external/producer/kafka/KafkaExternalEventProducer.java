@@ -20,6 +20,8 @@ package org.apache.fineract.infrastructure.event.external.producer.kafka;
 
 import static org.apache.fineract.infrastructure.core.diagnostics.performance.MeasuringUtil.measure;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -50,6 +52,9 @@ public class KafkaExternalEventProducer implements ExternalEventProducer {
     @Autowired
     private FineractProperties fineractProperties;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     public void sendEvents(Map<Long, List<byte[]>> partitions) throws AcknowledgementTimeoutException {
         FineractProperties.FineractExternalEventsProducerKafkaProperties kafkaProperties = fineractProperties.getEvents().getExternal()
@@ -72,11 +77,11 @@ public class KafkaExternalEventProducer implements ExternalEventProducer {
                 throw new RuntimeException("Could not send the messages", exception);
             }
         }, timeTaken -> {
-            if (log.isDebugEnabled()) {
-                int eventCount = partitions.values().stream().map(Collection::size).reduce(0, Integer::sum);
-                int msgPerSec = (int) (((double) eventCount / timeTaken.toMillis()) * 1000);
-                log.debug("Sent messages with {} msg/s", msgPerSec);
-            }
+            int eventCount = partitions.values().stream().map(Collection::size).reduce(0, Integer::sum);
+            int msgPerSec = (int) (((double) eventCount / Math.max(1, timeTaken.toMillis())) * 1000);
+            DistributionSummary.builder("fineract.external.events.kafka.throughput").baseUnit("messages/s")
+                    .description("Throughput of the external event batches sent to Kafka").register(meterRegistry).record(msgPerSec);
+            log.debug("Sent messages with {} msg/s", msgPerSec);
         });
     }
 }
@@ -33,6 +33,7 @@ import org.apache.fineract.infrastructure.hooks.data.HookData;
 import org.apache.fineract.infrastructure.hooks.data.HookTemplateData;
 import org.apache.fineract.infrastructure.hooks.domain.Hook;
 import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.event.HookEventSource;
 import org.apache.fineract.infrastructure.hooks.exception.HookNotFoundException;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.springframework.cache.annotation.Cacheable;
@@ -73,11 +74,19 @@ public class HookReadPlatformServiceImpl implements HookReadPlatformService {
     }
 
     @Override
-    @Cacheable(value = "hooks", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat('HK')")
+    @Cacheable(value = "hooks", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat('HK').concat(#entityName).concat(':').concat(#actionName)")
     public List<Hook> retrieveHooksByEvent(final String entityName, final String actionName) {
         return hookRepository.findAllHooksListeningToEvent(entityName, actionName);
     }
 
+    @Override
+    public List<HookEventSource> retrieveSubscribedEvents() {
+        final String sql = "select distinct re.entity_name, re.action_name from m_hook h"
+                + " inner join m_hook_registered_events re on h.id = re.hook_id where h.is_active = ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new HookEventSource(rs.getString("entity_name"), rs.getString("action_name")),
+                true); // NOSONAR
+    }
+
     @Override
     public HookData retrieveNewHookDetails(final String templateName) {
 
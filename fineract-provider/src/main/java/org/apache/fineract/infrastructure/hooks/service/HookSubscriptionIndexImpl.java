@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.service.TenantSnapshotHolder;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps an immutable snapshot of the subscribed entity/action pairs per tenant.
+ *
+ * The snapshot of a tenant is dropped once a hook change is committed and loaded again on the next lookup. Changes made
+ * through other nodes become visible when the snapshot expires.
+ */
+@Slf4j
+@Service
+public class HookSubscriptionIndexImpl implements HookSubscriptionIndex {
+
+    private final HookReadPlatformService hookReadPlatformService;
+    private final TenantSnapshotHolder<Set<String>> snapshots;
+
+    public HookSubscriptionIndexImpl(HookReadPlatformService hookReadPlatformService, FineractProperties fineractProperties) {
+        this.hookReadPlatformService = hookReadPlatformService;
+        this.snapshots = new TenantSnapshotHolder<>(this::load,
+                () -> TimeUnit.SECONDS.toNanos(fineractProperties.getHook().getSubscriptionIndexTtlSeconds()));
+    }
+
+    @Override
+    public boolean hasSubscribers(final String entityName, final String actionName) {
+        return snapshots.get().contains(toKey(entityName, actionName));
+    }
+
+    @Override
+    public void invalidate() {
+        snapshots.invalidate();
+    }
+
+    private Set<String> load() {
+        final Set<String> events = hookReadPlatformService.retrieveSubscribedEvents().stream()
+                .map(event -> toKey(event.getEntityName(), event.getActionName())).collect(Collectors.toUnmodifiableSet());
+        log.debug("Loaded {} hook subscriptions for tenant {}", events.size(), ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+        return events;
+    }
+
+    private static String toKey(final String entityName, final String actionName) {
+        return entityName + ":" + actionName;
+    }
+}
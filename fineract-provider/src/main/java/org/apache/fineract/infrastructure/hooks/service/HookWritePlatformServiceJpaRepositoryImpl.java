@@ -80,6 +80,7 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
     private final HookCommandFromApiJsonDeserializer fromApiJsonDeserializer;
     private final FromJsonHelper fromApiJsonHelper;
     private final ProcessorHelper processorHelper;
+    private final HookSubscriptionIndex hookSubscriptionIndex;
 
     @Transactional
     @Override
@@ -107,6 +108,7 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
             validateHookRules(template, config, allEvents);
 
             this.hookRepository.saveAndFlush(hook);
+            this.hookSubscriptionIndex.invalidate();
 
             return new CommandProcessingResultBuilder().withCommandId(command.commandId()).withEntityId(hook.getId()).build();
         } catch (final JpaSystemException | DataIntegrityViolationException dve) {
@@ -163,6 +165,7 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
                 }
 
                 this.hookRepository.saveAndFlush(hook);
+                this.hookSubscriptionIndex.invalidate();
             }
 
             return new CommandProcessingResultBuilder() //
@@ -189,6 +192,7 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
         final Hook hook = retrieveHookBy(hookId);
         try {
             this.hookRepository.delete(hook);
+            this.hookSubscriptionIndex.invalidate();
         } catch (final JpaSystemException | DataIntegrityViolationException e) {
             throw new PlatformDataIntegrityException("error.msg.unknown.data.integrity.issue",
                     "Unknown data integrity issue with resource: " + e.getMostSpecificCause(), e);
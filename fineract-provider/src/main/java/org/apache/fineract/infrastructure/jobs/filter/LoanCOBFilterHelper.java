@@ -33,6 +33,7 @@ import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.cob.service.InlineLoanCOBExecutorServiceImpl;
 import org.apache.fineract.cob.service.LoanAccountLockService;
+import org.apache.fineract.cob.service.LoanLockRegistry;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
@@ -60,6 +61,7 @@ public class LoanCOBFilterHelper {
     private final LoanRepository loanRepository;
     private final FineractProperties fineractProperties;
     private final RetrieveLoanIdService retrieveLoanIdService;
+    private final LoanLockRegistry loanLockRegistry;
 
     private final LoanRescheduleRequestRepository loanRescheduleRequestRepository;
 
@@ -127,6 +129,9 @@ public class LoanCOBFilterHelper {
     }
 
     private boolean isLoanHardLocked(List<Long> loanIds) {
+        if (loanIds.isEmpty() || loanLockRegistry.isLockFree(loanIds)) {
+            return false;
+        }
         return loanIds.stream().anyMatch(loanAccountLockService::isLoanHardLocked);
     }
 
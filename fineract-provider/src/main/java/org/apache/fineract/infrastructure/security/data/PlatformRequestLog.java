@@ -18,42 +18,26 @@
  */
 package org.apache.fineract.infrastructure.security.data;
 
-import jakarta.servlet.http.HttpServletRequest;
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import lombok.experimental.Accessors;
-import org.apache.commons.lang3.time.StopWatch;
-
 /**
  * Immutable data object representing platform API request used for logging/debugging.
+ *
+ * @param startTime
+ *            the epoch millis the request was received at
+ * @param totalTime
+ *            the time spent processing the request in millis
+ * @param tenant
+ *            the tenant identifier, or null if the request did not resolve a tenant
+ * @param user
+ *            the authenticated user name, or null
+ * @param method
+ *            the HTTP method
+ * @param path
+ *            the matched resource path template, e.g. {@code /v1/loans/{loanId}}, or {@code UNKNOWN}
+ * @param uri
+ *            the request URI without the query string
+ * @param status
+ *            the HTTP response status
  */
-@Data
-@NoArgsConstructor
-@Accessors(chain = true)
-public final class PlatformRequestLog {
-
-    @SuppressWarnings("unused")
-    private long startTime;
-    @SuppressWarnings("unused")
-    private long totalTime;
-    @SuppressWarnings("unused")
-    private String method;
-    @SuppressWarnings("unused")
-    private String url;
-    @SuppressWarnings("unused")
-    private Map<String, String[]> parameters;
-
-    public static PlatformRequestLog from(final StopWatch task, final HttpServletRequest request) throws IOException {
-        final String requestUrl = request.getRequestURL().toString();
-
-        final Map<String, String[]> parameters = new HashMap<>(request.getParameterMap());
-        parameters.remove("password");
-        parameters.remove("_");
-
-        return new PlatformRequestLog().setStartTime(task.getStartTime()).setTotalTime(task.getTime()).setMethod(request.getMethod())
-                .setUrl(requestUrl).setParameters(parameters);
-    }
+public record PlatformRequestLog(long startTime, long totalTime, String tenant, String user, String method, String path, String uri,
+        int status) {
 }
@@ -26,19 +26,16 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.util.HashMap;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.time.StopWatch;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadPlatformService;
 import org.apache.fineract.infrastructure.cache.domain.CacheType;
 import org.apache.fineract.infrastructure.cache.service.CacheWritePlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
-import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
-import org.apache.fineract.infrastructure.security.data.PlatformRequestLog;
 import org.apache.fineract.infrastructure.security.exception.InvalidTenantIdentifierException;
 import org.apache.fineract.infrastructure.security.service.BasicAuthTenantDetailsService;
+import org.apache.fineract.infrastructure.security.service.PlatformRequestLogger;
 import org.apache.fineract.notification.service.UserNotificationService;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -63,11 +60,10 @@ import org.springframework.security.web.util.matcher.RequestMatcher;
  * If multi-tenant and basic auth credentials are invalid, a http error response is returned.
  */
 
-@Slf4j
 public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFilter {
 
     private static boolean firstRequestProcessed = false;
-    private final ToApiJsonSerializer<PlatformRequestLog> toApiJsonSerializer;
+    private final PlatformRequestLogger platformRequestLogger;
     private final ConfigurationDomainService configurationDomainService;
     private final CacheWritePlatformService cacheWritePlatformService;
     private final UserNotificationService userNotificationService;
@@ -81,12 +77,12 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
     private RequestMatcher requestMatcher = AnyRequestMatcher.INSTANCE;
 
     public TenantAwareBasicAuthenticationFilter(final AuthenticationManager authenticationManager,
-            final AuthenticationEntryPoint authenticationEntryPoint, ToApiJsonSerializer<PlatformRequestLog> toApiJsonSerializer,
+            final AuthenticationEntryPoint authenticationEntryPoint, PlatformRequestLogger platformRequestLogger,
             ConfigurationDomainService configurationDomainService, CacheWritePlatformService cacheWritePlatformService,
             UserNotificationService userNotificationService, BasicAuthTenantDetailsService basicAuthTenantDetailsService,
             BusinessDateReadPlatformService businessDateReadPlatformService) {
         super(authenticationManager, authenticationEntryPoint);
-        this.toApiJsonSerializer = toApiJsonSerializer;
+        this.platformRequestLogger = platformRequestLogger;
         this.configurationDomainService = configurationDomainService;
         this.cacheWritePlatformService = cacheWritePlatformService;
         this.userNotificationService = userNotificationService;
@@ -98,8 +94,7 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        final StopWatch task = new StopWatch();
-        task.start();
+        final long startNanos = System.nanoTime();
 
         try {
             ThreadLocalContextUtil.reset();
@@ -141,7 +136,9 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
                         System.setProperty("baseUrl", baseUrl);
 
                         final boolean ehcacheEnabled = this.configurationDomainService.isEhcacheEnabled();
-                        if (ehcacheEnabled) {
+                        if (this.configurationDomainService.isDistributedCacheEnabled()) {
+                            this.cacheWritePlatformService.switchToCache(CacheType.MULTI_NODE);
+                        } else if (ehcacheEnabled) {
                             this.cacheWritePlatformService.switchToCache(CacheType.SINGLE_NODE);
                         } else {
                             this.cacheWritePlatformService.switchToCache(CacheType.NO_CACHE);
@@ -159,10 +156,9 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
             response.addHeader("WWW-Authenticate", "Basic realm=\"" + "Fineract Platform API" + "\"");
             response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
         } finally {
+            final String tenantIdentifier = PlatformRequestLogger.currentTenantIdentifier();
             ThreadLocalContextUtil.reset();
-            task.stop();
-            final PlatformRequestLog log = PlatformRequestLog.from(task, request);
-            TenantAwareBasicAuthenticationFilter.log.debug("{}", this.toApiJsonSerializer.serialize(log));
+            this.platformRequestLogger.record(request, response, startNanos, tenantIdentifier);
         }
     }
 
@@ -0,0 +1,165 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the credentials that were recently verified against the (deliberately slow) password encoder, so repeated
+ * HTTP Basic requests of the same user can skip the hash match.
+ *
+ * Only an HMAC-SHA256 of the stored password hash and the presented password is kept, keyed by tenant and username. The
+ * HMAC key is random and never leaves the memory of this process, so a leaked entry can not be used to guess passwords
+ * offline. Since the stored hash is part of the digest, a changed password never matches a cached entry, even if the
+ * change did not go through {@link #evict(String)}. The user itself is still loaded and checked (enabled, locked, roles) on every
+ * request, only the password match is cached.
+ */
+@Component
+public class BasicAuthCredentialCache {
+
+    private static final String DIGEST_ALGORITHM = "HmacSHA256";
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final SecretKeySpec digestKey;
+    private final Map<String, VerifiedCredential> credentials = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public BasicAuthCredentialCache(FineractProperties fineractProperties, MeterRegistry meterRegistry) {
+        this(fineractProperties.getSecurity().getBasicauth().getCredentialCache(), meterRegistry, System::nanoTime);
+    }
+
+    BasicAuthCredentialCache(FineractProperties.FineractSecurityBasicAuthCredentialCache properties, MeterRegistry meterRegistry,
+            LongSupplier nanoClock) {
+        this.enabled = properties != null && properties.isEnabled() && properties.getMaxSize() > 0 && properties.getTtlSeconds() > 0;
+        this.maxSize = properties == null ? 0 : properties.getMaxSize();
+        this.ttlNanos = properties == null ? 0 : TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+        this.nanoClock = nanoClock;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.digestKey = new SecretKeySpec(key, DIGEST_ALGORITHM);
+        this.hitCounter = Counter.builder("fineract.security.basicauth.credential.cache").tag("result", "hit")
+                .description("Number of Basic auth requests whose password match was served from the cache").register(meterRegistry);
+        this.missCounter = Counter.builder("fineract.security.basicauth.credential.cache").tag("result", "miss")
+                .description("Number of Basic auth requests whose password had to be matched by the password encoder")
+                .register(meterRegistry);
+        Gauge.builder("fineract.security.basicauth.credential.cache.size", credentials, Map::size)
+                .description("Number of verified credentials currently cached").register(meterRegistry);
+    }
+
+    /**
+     * Returns true if the given password was verified against the given stored password hash of the user of the current
+     * tenant within the configured time to live.
+     */
+    public boolean isVerified(String username, String encodedPassword, String rawPassword) {
+        if (!enabled) {
+            return false;
+        }
+        String key = key(username);
+        VerifiedCredential credential = credentials.get(key);
+        if (credential != null && credential.getExpiresAt() - nanoClock.getAsLong() > 0
+                && MessageDigest.isEqual(credential.getDigest(), digest(encodedPassword, rawPassword))) {
+            hitCounter.increment();
+            return true;
+        }
+        if (credential != null) {
+            credentials.remove(key, credential);
+        }
+        missCounter.increment();
+        return false;
+    }
+
+    /**
+     * Records that the given password was successfully matched against the given stored password hash.
+     */
+    public void put(String username, String encodedPassword, String rawPassword) {
+        if (!enabled) {
+            return;
+        }
+        String key = key(username);
+        if (credentials.size() >= maxSize && !credentials.containsKey(key)) {
+            removeExpired();
+            if (credentials.size() >= maxSize) {
+                // Full with live entries: this credential is simply matched by the password encoder again next time
+                return;
+            }
+        }
+        credentials.put(key, new VerifiedCredential(digest(encodedPassword, rawPassword), nanoClock.getAsLong() + ttlNanos));
+    }
+
+    /**
+     * Forgets the verified credential of the given user of the current tenant.
+     */
+    public void evict(String username) {
+        if (enabled && username != null) {
+            credentials.remove(key(username));
+        }
+    }
+
+    private void removeExpired() {
+        long now = nanoClock.getAsLong();
+        credentials.values().removeIf(credential -> credential.getExpiresAt() - now <= 0);
+    }
+
+    private static String key(String username) {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier() + '\u0000' + username;
+    }
+
+    private byte[] digest(String encodedPassword, String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class VerifiedCredential {
+
+        private final byte[] digest;
+        private final long expiresAt;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * {@link DaoAuthenticationProvider} which consults the {@link BasicAuthCredentialCache} before running the password
+ * encoder. Loading the user and the pre and post authentication checks are not affected.
+ */
+public class CachingDaoAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final BasicAuthCredentialCache credentialCache;
+
+    public CachingDaoAuthenticationProvider(BasicAuthCredentialCache credentialCache) {
+        this.credentialCache = credentialCache;
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        Object credentials = authentication.getCredentials();
+        String encodedPassword = userDetails.getPassword();
+        if (credentials == null || encodedPassword == null) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+        String presentedPassword = credentials.toString();
+        if (credentialCache.isVerified(userDetails.getUsername(), encodedPassword, presentedPassword)) {
+            return;
+        }
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        credentialCache.put(userDetails.getUsername(), encodedPassword, presentedPassword);
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.security.data.PlatformRequestLog;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the timing of the platform API requests, see {@code fineract.api.request-log.*}.
+ *
+ * Every request is recorded in the {@code fineract.api.requests} timer, tagged with the tenant, method, matched path
+ * template and status. When the access log is enabled, a {@link PlatformRequestLog} is also written on a single
+ * background thread; requests arriving while its queue is full are counted and not logged, so a slow appender never
+ * holds up the request threads. Nothing is allocated for the access log while it is disabled.
+ */
+@Slf4j
+@Component
+public class PlatformRequestLogger implements DisposableBean {
+
+    /**
+     * Request attribute holding the path template of the resource method the request was matched to.
+     */
+    public static final String PATH_TEMPLATE_ATTRIBUTE = PlatformRequestLogger.class.getName() + ".pathTemplate";
+    static final String UNKNOWN_PATH = "UNKNOWN";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean metricsEnabled;
+    private final boolean percentileHistogram;
+    private final ThreadPoolExecutor executor;
+
+    public PlatformRequestLogger(FineractProperties fineractProperties, MeterRegistry meterRegistry) {
+        this(Optional.ofNullable(fineractProperties.getApi()).map(FineractProperties.FineractApiProperties::getRequestLog)
+                .orElseGet(FineractProperties.FineractApiRequestLogProperties::new), meterRegistry);
+    }
+
+    PlatformRequestLogger(FineractProperties.FineractApiRequestLogProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.metricsEnabled = properties.isMetricsEnabled();
+        this.percentileHistogram = properties.isPercentileHistogram();
+        if (properties.isEnabled()) {
+            final Counter droppedCounter = Counter.builder("fineract.api.request.log.dropped")
+                    .description("Number of request log records dropped because the request log queue was full").register(meterRegistry);
+            this.executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())), new CustomizableThreadFactory("request-log-"),
+                    (task, e) -> droppedCounter.increment());
+            this.executor.allowCoreThreadTimeOut(true);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Returns the tenant identifier bound to the current thread, or null. Has to be called before the thread local
+     * context of the request is reset.
+     */
+    public static String currentTenantIdentifier() {
+        FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        return tenant == null ? null : tenant.getTenantIdentifier();
+    }
+
+    /**
+     * Records a finished request.
+     *
+     * @param request
+     *            the request
+     * @param response
+     *            the response, its status is recorded
+     * @param startNanos
+     *            the {@link System#nanoTime()} the request processing started at
+     * @param tenantIdentifier
+     *            the tenant of the request, or null
+     */
+    public void record(HttpServletRequest request, HttpServletResponse response, long startNanos, String tenantIdentifier) {
+        if (!metricsEnabled && executor == null) {
+            return;
+        }
+        final long durationNanos = System.nanoTime() - startNanos;
+        final Object pathTemplate = request.getAttribute(PATH_TEMPLATE_ATTRIBUTE);
+        final String path = pathTemplate == null ? UNKNOWN_PATH : pathTemplate.toString();
+        final int status = response.getStatus();
+
+        if (metricsEnabled) {
+            Timer.builder("fineract.api.requests").description("Processing time of the platform API requests")
+                    .tag("tenant", tenantIdentifier == null ? NONE : tenantIdentifier).tag("method", request.getMethod())
+                    .tag("path", path).tag("status", Integer.toString(status)).publishPercentileHistogram(percentileHistogram)
+                    .register(meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+        if (executor != null) {
+            final long totalTime = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            final PlatformRequestLog requestLog = new PlatformRequestLog(System.currentTimeMillis() - totalTime, totalTime,
+                    tenantIdentifier, authentication == null ? null : authentication.getName(), request.getMethod(), path,
+                    request.getRequestURI(), status);
+            executor.execute(() -> write(requestLog));
+        }
+    }
+
+    private static void write(PlatformRequestLog requestLog) {
+        log.info("tenant={} user={} method={} path={} uri={} status={} startTime={} totalTime={}ms", requestLog.tenant(),
+                requestLog.user(), requestLog.method(), requestLog.path(), requestLog.uri(), requestLog.status(), requestLog.startTime(),
+                requestLog.totalTime());
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.notification.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per tenant and user flag telling whether the user has unread notifications.
+ *
+ * The flag is set when notifications are written for the user and cleared when the user reads them, so on the node
+ * doing the change it is always up to date. Notifications written by other nodes are picked up when the flag is older
+ * than the configured refresh interval and is reloaded from the database.
+ */
+@Component
+public class UnreadNotificationCache {
+
+    private final Map<Long, Map<Long, CacheNotificationResponseHeader>> tenantNotificationResponseHeaderCache = new ConcurrentHashMap<>();
+    private final long refreshSeconds;
+    private final LongSupplier secondsClock;
+
+    @Autowired
+    public UnreadNotificationCache(FineractProperties fineractProperties) {
+        this(fineractProperties.getNotification().getUserNotificationSystem().getUnreadRefreshSeconds(),
+                () -> System.currentTimeMillis() / 1000L);
+    }
+
+    UnreadNotificationCache(long refreshSeconds, LongSupplier secondsClock) {
+        this.refreshSeconds = refreshSeconds;
+        this.secondsClock = secondsClock;
+    }
+
+    /**
+     * Returns the flag of the given user of the current tenant, or null if it is unknown or has to be reloaded.
+     */
+    public Boolean get(Long appUserId) {
+        CacheNotificationResponseHeader header = getTenantCache().get(appUserId);
+        if (header == null || secondsClock.getAsLong() - header.getLastFetch() >= refreshSeconds) {
+            return null;
+        }
+        return header.hasNotifications();
+    }
+
+    public void put(Long appUserId, boolean hasNotifications) {
+        getTenantCache().put(appUserId, new CacheNotificationResponseHeader(hasNotifications, secondsClock.getAsLong()));
+    }
+
+    public void markUnread(Collection<Long> appUserIds) {
+        for (Long appUserId : appUserIds) {
+            put(appUserId, true);
+        }
+    }
+
+    private Map<Long, CacheNotificationResponseHeader> getTenantCache() {
+        return tenantNotificationResponseHeaderCache.computeIfAbsent(ThreadLocalContextUtil.getTenant().getId(),
+                tenantId -> new ConcurrentHashMap<>());
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.notification.cache.UnreadNotificationCache;
 import org.apache.fineract.notification.domain.Notification;
 import org.apache.fineract.notification.domain.NotificationMapper;
 import org.apache.fineract.useradministration.domain.AppUser;
@@ -39,6 +40,7 @@ public class NotificationWritePlatformServiceImpl implements NotificationWritePl
     private final NotificationGeneratorReadRepositoryWrapper notificationGeneratorReadRepositoryWrapper;
     private final AppUserRepository appUserRepository;
     private final NotificationMapperWritePlatformService notificationMapperWritePlatformService;
+    private final UnreadNotificationCache unreadNotificationCache;
 
     private Long insertIntoNotificationGenerator(String objectType, Long objectIdentifier, String action, Long actorId,
             String notificationContent, boolean isSystemGenerated) {
@@ -58,6 +60,7 @@ public class NotificationWritePlatformServiceImpl implements NotificationWritePl
                 isSystemGenerated);
 
         insertIntoNotificationMapper(userIds, generatedNotificationId);
+        this.unreadNotificationCache.markUnread(userIds);
         return generatedNotificationId;
     }
 
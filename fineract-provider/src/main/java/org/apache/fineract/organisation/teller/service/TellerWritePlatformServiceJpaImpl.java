@@ -27,6 +27,7 @@ import org.apache.fineract.accounting.common.AccountingConstants.FinancialActivi
 import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccount;
 import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepositoryWrapper;
 import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.glaccount.service.GLBalanceSnapshotWritePlatformService;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
@@ -76,6 +77,7 @@ public class TellerWritePlatformServiceJpaImpl implements TellerWritePlatformSer
     private final JournalEntryRepository glJournalEntryRepository;
     private final FinancialActivityAccountRepositoryWrapper financialActivityAccountRepositoryWrapper;
     private final CashierTransactionDataValidator cashierTransactionDataValidator;
+    private final GLBalanceSnapshotWritePlatformService glBalanceSnapshotWritePlatformService;
 
     @Override
     @Transactional
@@ -434,8 +436,8 @@ public class TellerWritePlatformServiceJpaImpl implements TellerWritePlatformSer
                                              // Savings
                                              // Txn
 
-            this.glJournalEntryRepository.saveAndFlush(debitJournalEntry);
-            this.glJournalEntryRepository.saveAndFlush(creditJournalEntry);
+            this.glBalanceSnapshotWritePlatformService.recordJournalEntry(this.glJournalEntryRepository.saveAndFlush(debitJournalEntry));
+            this.glBalanceSnapshotWritePlatformService.recordJournalEntry(this.glJournalEntryRepository.saveAndFlush(creditJournalEntry));
 
             return new CommandProcessingResultBuilder() //
                     .withCommandId(command.commandId()) //
@@ -21,7 +21,6 @@ package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -31,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgingData;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePeriodData;
 import org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingService;
 import org.springframework.dao.DataAccessException;
@@ -55,55 +55,41 @@ public class LoanArrearsAgeingUpdateHandler {
     }
 
     private void deleteLoanArrearsAgingDetails(List<Long> loanIds) {
-        // delete existing record for loan from m_loan_arrears_aging table
-        for (Long loanId : loanIds) {
-            jdbcTemplate.update("delete from m_loan_arrears_aging where loan_id=?", loanId);
-        }
+        // delete existing records for loans from m_loan_arrears_aging table
+        final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        namedJdbcTemplate.update("delete from m_loan_arrears_aging where loan_id in (:loanIds)",
+                new MapSqlParameterSource("loanIds", loanIds));
     }
 
     public void updateLoanArrearsAgeingDetailsForAllLoans() {
         truncateLoanArrearsAgingDetails();
         String insertSQLStatement = buildQueryForInsertAgeingDetails(Boolean.TRUE);
-        List<String> insertStatements = updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans();
-        insertStatements.add(0, insertSQLStatement);
-        final int[] records = this.jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]));
-        if (log.isDebugEnabled()) {
-            int result = 0;
-            for (int record : records) {
-                result += record;
-            }
-            log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
-        }
+        final int recordsUpdatedWithoutOriginalSchedule = this.jdbcTemplate.update(insertSQLStatement);
+        List<LoanArrearsAgingData> arrearsAgeingDetails = updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans();
+        loanArrearsAgingService.saveArrearsAgeingDetails(arrearsAgeingDetails);
+        log.debug("Records affected by updateLoanArrearsAgeingDetails: {}",
+                recordsUpdatedWithoutOriginalSchedule + arrearsAgeingDetails.size());
     }
 
     public void updateLoanArrearsAgeingDetails(List<Long> loanIdsForUpdate) {
-
+        if (loanIdsForUpdate.isEmpty()) {
+            return;
+        }
         deleteLoanArrearsAgingDetails(loanIdsForUpdate);
         String insertSQLStatement = buildQueryForInsertAgeingDetails(Boolean.FALSE);
         List<Object[]> batch = new ArrayList<Object[]>();
-        if (!loanIdsForUpdate.isEmpty()) {
-            for (Long loanId : loanIdsForUpdate) {
-                Object[] values = new Object[] { loanId };
-                batch.add(values);
-            }
+        for (Long loanId : loanIdsForUpdate) {
+            Object[] values = new Object[] { loanId };
+            batch.add(values);
         }
         final int[] recordsUpdatedWithoutOriginalSchedule = this.jdbcTemplate.batchUpdate(insertSQLStatement, batch);
-        int[] recordsUpdatedWithOriginalSchedule = new int[0];
-        List<String> insertStatements = updateLoanArrearsAgeingDetailsWithOriginalSchedule(loanIdsForUpdate);
-        if (!insertStatements.isEmpty()) {
-            recordsUpdatedWithOriginalSchedule = this.jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]));
-
-        }
+        List<LoanArrearsAgingData> arrearsAgeingDetails = updateLoanArrearsAgeingDetailsWithOriginalSchedule(loanIdsForUpdate);
+        loanArrearsAgingService.saveArrearsAgeingDetails(arrearsAgeingDetails);
         if (log.isDebugEnabled()) {
-            int result = 0;
+            int result = arrearsAgeingDetails.size();
             for (int recordWithoutOriginalSchedule : recordsUpdatedWithoutOriginalSchedule) {
                 result += recordWithoutOriginalSchedule;
             }
-            if (recordsUpdatedWithOriginalSchedule.length > 0) {
-                for (int recordWithOriginalSchedule : recordsUpdatedWithOriginalSchedule) {
-                    result += recordWithOriginalSchedule;
-                }
-            }
             log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
         }
 
@@ -147,37 +133,28 @@ public class LoanArrearsAgeingUpdateHandler {
         return insertSqlStatementBuilder.toString();
     }
 
-    private List<String> updateLoanArrearsAgeingDetailsWithOriginalSchedule(List<Long> loanIdsForUpdate) {
-        List<String> insertStatement = new ArrayList<>();
+    private List<LoanArrearsAgingData> updateLoanArrearsAgeingDetailsWithOriginalSchedule(List<Long> loanIdsForUpdate) {
         String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(Boolean.FALSE);
-        List<Object> loanIdsForQuery = new ArrayList<>();
-        for (Long loanId : loanIdsForUpdate) {
-            loanIdsForQuery.add(loanId);
-        }
-        List<Long> loanIds = this.jdbcTemplate.queryForList(sqlForLoanIdentifiers, loanIdsForQuery.toArray(), new int[] { Types.BIGINT },
+        final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        List<Long> loanIds = namedJdbcTemplate.queryForList(sqlForLoanIdentifiers, new MapSqlParameterSource("loanIds", loanIdsForUpdate),
                 Long.class);
-        if (!loanIds.isEmpty()) {
-            Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
-            List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
-            loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
-            loanArrearsAgingService.createInsertStatements(insertStatement, scheduleDate, true);
-        }
-
-        return insertStatement;
+        return calculateArrearsAgeingDetailsWithOriginalSchedule(loanIds);
     }
 
-    private List<String> updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans() {
-        List<String> insertStatement = new ArrayList<>();
+    private List<LoanArrearsAgingData> updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans() {
         String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(Boolean.TRUE);
         List<Long> loanIds = this.jdbcTemplate.queryForList(sqlForLoanIdentifiers, Long.class);
-        if (!loanIds.isEmpty()) {
-            Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
-            List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
-            loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
-            loanArrearsAgingService.createInsertStatements(insertStatement, scheduleDate, true);
-        }
+        return calculateArrearsAgeingDetailsWithOriginalSchedule(loanIds);
+    }
 
-        return insertStatement;
+    private List<LoanArrearsAgingData> calculateArrearsAgeingDetailsWithOriginalSchedule(List<Long> loanIds) {
+        if (loanIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
+        List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
+        loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
+        return loanArrearsAgingService.calculateArrearsAgeingDetails(scheduleDate);
     }
 
     private String buildQueryForLoanIdentifiersWithOriginalSchedule(boolean isForAllLoans) {
@@ -188,7 +165,7 @@ public class LoanArrearsAgeingUpdateHandler {
                 "inner join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id and prd.arrears_based_on_original_schedule = true  ");
         loanIdentifier.append("WHERE ml.loan_status_id = 300 ");
         if (!isForAllLoans) {
-            loanIdentifier.append(" and ml.id IN (?)");
+            loanIdentifier.append(" and ml.id IN (:loanIds)");
         }
         loanIdentifier.append(" and mr.completed_derived is false  and mr.duedate < ")
                 .append(sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day"))
@@ -18,8 +18,10 @@
  */
 package org.apache.fineract.portfolio.loanaccount.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgingData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePeriodData;
 
@@ -31,8 +33,22 @@ public interface LoanArrearsAgingService {
 
     void updateLoanArrearsAgeingDetails(Loan loan);
 
-    void createInsertStatements(List<String> insertStatement, Map<Long, List<LoanSchedulePeriodData>> scheduleDate,
-            boolean isInsertStatement);
+    /**
+     * Updates the arrears aging details of the given loans at once, as the loan COB does for a chunk: only active loans
+     * are in arrears and their installments are overdue after the grace on arrears ageing of the loan.
+     */
+    void updateLoanArrearsAgeingDetails(Collection<Loan> loans);
+
+    /**
+     * Calculates the arrears aging details of the given loan from its current state, as the loan COB does for every loan
+     * of a chunk. The details of the loans of the running transaction are written together, before an external event is
+     * serialized and at the latest when the transaction is committed.
+     */
+    void bufferLoanArrearsAgeingDetails(Loan loan);
+
+    List<LoanArrearsAgingData> calculateArrearsAgeingDetails(Map<Long, List<LoanSchedulePeriodData>> scheduleDate);
+
+    void saveArrearsAgeingDetails(Collection<LoanArrearsAgingData> arrearsAgeingDetails);
 
     void updateScheduleWithPaidDetail(Map<Long, List<LoanSchedulePeriodData>> scheduleDate, List<Map<String, Object>> loanSummary);
 }
@@ -23,11 +23,16 @@ import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
@@ -49,6 +54,7 @@ import org.apache.fineract.infrastructure.event.business.domain.loan.transaction
 import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanUndoWrittenOffBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanWaiveInterestBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgingData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
@@ -58,14 +64,21 @@ import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleP
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
 
-    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final String ARREARS_AGING_TABLE = "m_loan_arrears_aging";
+    private static final List<String> ARREARS_AGING_KEY_COLUMNS = List.of("loan_id");
+    private static final List<String> ARREARS_AGING_COLUMNS = List.of("principal_overdue_derived", "interest_overdue_derived",
+            "fee_charges_overdue_derived", "penalty_charges_overdue_derived", "total_overdue_derived", "overdue_since_date_derived");
 
     private final JdbcTemplate jdbcTemplate;
     private final BusinessEventNotifierService businessEventNotifierService;
@@ -99,55 +112,119 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
 
     @Override
     public void updateLoanArrearsAgeingDetailsWithOriginalSchedule(final Loan loan) {
-        int count = this.jdbcTemplate.queryForObject("select count(mla.loan_id) from m_loan_arrears_aging mla where mla.loan_id =?",
-                Integer.class, loan.getId());
-        List<String> updateStatement = new ArrayList<>();
-        OriginalScheduleExtractor originalScheduleExtractor = new OriginalScheduleExtractor(loan.getId().toString(), sqlGenerator);
-        Map<Long, List<LoanSchedulePeriodData>> scheduleDate = this.jdbcTemplate.query(originalScheduleExtractor.schema,
-                originalScheduleExtractor);
-        if (scheduleDate.size() > 0) {
-            List<Map<String, Object>> transactions = getLoanSummary(loan.getId(), loan.getLoanSummary());
-            updateScheduleWithPaidDetail(scheduleDate, transactions);
-            createInsertStatements(updateStatement, scheduleDate, count == 0);
-            if (updateStatement.size() == 1) {
-                this.jdbcTemplate.update(updateStatement.get(0));
-            } else {
-                String deletestatement = "DELETE FROM m_loan_arrears_aging WHERE  loan_id=?";
-                this.jdbcTemplate.update(deletestatement, loan.getId()); // NOSONAR
-            }
-        }
+        List<LoanArrearsAgingData> arrearsAgeingDetails = calculateArrearsAgeingDetailsWithOriginalSchedule(
+                Map.of(loan.getId(), getLoanSummary(loan.getId(), loan.getLoanSummary())));
+        writeArrearsAgeingDetails(List.of(loan.getId()), arrearsAgeingDetails);
     }
 
     @Override
     public Map<Long, List<LoanSchedulePeriodData>> getScheduleDate(String loanId) {
-        OriginalScheduleExtractor originalScheduleExtractor = new OriginalScheduleExtractor(loanId, sqlGenerator);
-        return this.jdbcTemplate.query(originalScheduleExtractor.schema, originalScheduleExtractor);
+        return getScheduleDate(Arrays.stream(loanId.split(",")).map(String::trim).map(Long::valueOf).toList());
     }
 
     @Override
     public void updateLoanArrearsAgeingDetails(final Loan loan) {
-        int count = this.jdbcTemplate.queryForObject("select count(mla.loan_id) from m_loan_arrears_aging mla where mla.loan_id =?",
-                Integer.class, loan.getId());
-        String updateStatement = constructUpdateStatement(loan, count == 0);
-        if (updateStatement == null) {
-            String deletestatement = "DELETE FROM m_loan_arrears_aging WHERE  loan_id=?";
-            this.jdbcTemplate.update(deletestatement, loan.getId()); // NOSONAR
-        } else {
-            this.jdbcTemplate.update(updateStatement);
+        LoanArrearsAgingData arrearsAgeingDetails = calculateArrearsAgeingDetails(loan, DateUtils.getBusinessLocalDate());
+        writeArrearsAgeingDetails(List.of(loan.getId()), arrearsAgeingDetails == null ? List.of() : List.of(arrearsAgeingDetails));
+    }
+
+    @Override
+    public void updateLoanArrearsAgeingDetails(final Collection<Loan> loans) {
+        PendingArrearsAgeingDetails pending = new PendingArrearsAgeingDetails();
+        LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        for (Loan loan : loans) {
+            addArrearsAgeingDetails(pending, loan, businessDate);
+        }
+        writeArrearsAgeingDetails(pending);
+    }
+
+    @Override
+    public void bufferLoanArrearsAgeingDetails(final Loan loan) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateLoanArrearsAgeingDetails(List.of(loan));
+            return;
+        }
+        PendingArrearsAgeingDetails pending = (PendingArrearsAgeingDetails) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingArrearsAgeingDetails();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingArrearsAgeingDetailsWriter(pending));
+        }
+        addArrearsAgeingDetails(pending, loan, DateUtils.getBusinessLocalDate());
+    }
+
+    /**
+     * Calculates the arrears aging details of the loan from its current state, the ones of loans based on the original
+     * schedule are completed from the schedule history when they are written.
+     */
+    private void addArrearsAgeingDetails(final PendingArrearsAgeingDetails pending, final Loan loan, final LocalDate businessDate) {
+        Long loanId = loan.getId();
+        pending.loanIds.add(loanId);
+        pending.arrearsAgeingDetails.remove(loanId);
+        pending.originalScheduleLoanSummaries.remove(loanId);
+        if (!loan.isOpen()) {
+            return;
+        }
+        // interest recalculation re-amortizes missed amounts, so these loans may be in arrears only against the original
+        // schedule
+        if (isArrearsBasedOnOriginalSchedule(loan)) {
+            pending.originalScheduleLoanSummaries.put(loanId, getLoanSummary(loanId, loan.getLoanSummary()));
+            return;
         }
+        Integer graceOnArrearsAgeing = loan.repaymentScheduleDetail().getGraceOnArrearsAgeing();
+        LoanArrearsAgingData loanArrearsAgeingDetails = calculateArrearsAgeingDetails(loan,
+                graceOnArrearsAgeing == null ? businessDate : businessDate.minusDays(graceOnArrearsAgeing));
+        if (loanArrearsAgeingDetails != null) {
+            pending.arrearsAgeingDetails.put(loanId, loanArrearsAgeingDetails);
+        }
+    }
+
+    private void writeArrearsAgeingDetails(final PendingArrearsAgeingDetails pending) {
+        if (pending.loanIds.isEmpty()) {
+            return;
+        }
+        List<LoanArrearsAgingData> arrearsAgeingDetails = new ArrayList<>(pending.arrearsAgeingDetails.values());
+        arrearsAgeingDetails.addAll(calculateArrearsAgeingDetailsWithOriginalSchedule(pending.originalScheduleLoanSummaries));
+        writeArrearsAgeingDetails(new ArrayList<>(pending.loanIds), arrearsAgeingDetails);
+        pending.clear();
+    }
+
+    @Override
+    public void saveArrearsAgeingDetails(final Collection<LoanArrearsAgingData> arrearsAgeingDetails) {
+        if (arrearsAgeingDetails.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(arrearsAgeingDetails.size());
+        for (LoanArrearsAgingData loanArrearsAgeingDetails : arrearsAgeingDetails) {
+            batch.add(new Object[] { loanArrearsAgeingDetails.getLoanId(), loanArrearsAgeingDetails.getPrincipalOverdue(),
+                    loanArrearsAgeingDetails.getInterestOverdue(), loanArrearsAgeingDetails.getFeeChargesOverdue(),
+                    loanArrearsAgeingDetails.getPenaltyChargesOverdue(), loanArrearsAgeingDetails.getTotalOverdue(),
+                    loanArrearsAgeingDetails.getOverdueSinceDate() });
+        }
+        this.jdbcTemplate.batchUpdate(sqlGenerator.upsert(ARREARS_AGING_TABLE, ARREARS_AGING_KEY_COLUMNS, ARREARS_AGING_COLUMNS), batch);
+    }
+
+    /**
+     * Upserts the given arrears aging details and deletes the ones of the other given loans, which are not in arrears.
+     */
+    private void writeArrearsAgeingDetails(final Collection<Long> loanIds, final List<LoanArrearsAgingData> arrearsAgeingDetails) {
+        Set<Long> loanIdsInArrears = arrearsAgeingDetails.stream().map(LoanArrearsAgingData::getLoanId).collect(Collectors.toSet());
+        List<Long> loanIdsNotInArrears = loanIds.stream().filter(loanId -> !loanIdsInArrears.contains(loanId)).toList();
+        if (!loanIdsNotInArrears.isEmpty()) {
+            new NamedParameterJdbcTemplate(jdbcTemplate).update("DELETE FROM m_loan_arrears_aging WHERE loan_id IN (:loanIds)",
+                    new MapSqlParameterSource("loanIds", loanIdsNotInArrears));
+        }
+        saveArrearsAgeingDetails(arrearsAgeingDetails);
     }
 
-    private String constructUpdateStatement(final Loan loan, boolean isInsertStatement) {
-        String updateSql = null;
-        List<LoanRepaymentScheduleInstallment> installments = loan.getRepaymentScheduleInstallments();
+    private LoanArrearsAgingData calculateArrearsAgeingDetails(final Loan loan, final LocalDate overdueBefore) {
         BigDecimal principalOverdue = BigDecimal.ZERO;
         BigDecimal interestOverdue = BigDecimal.ZERO;
         BigDecimal feeOverdue = BigDecimal.ZERO;
         BigDecimal penaltyOverdue = BigDecimal.ZERO;
-        LocalDate businessDate = DateUtils.getBusinessLocalDate();
-        LocalDate overDueSince = businessDate;
-        for (LoanRepaymentScheduleInstallment installment : installments) {
-            if (installment.getDueDate().isBefore(businessDate)) {
+        LocalDate overDueSince = DateUtils.getBusinessLocalDate();
+        for (LoanRepaymentScheduleInstallment installment : loan.getRepaymentScheduleInstallments()) {
+            if (installment.getDueDate().isBefore(overdueBefore)) {
                 principalOverdue = principalOverdue.add(installment.getPrincipalOutstanding(loan.getCurrency()).getAmount());
                 interestOverdue = interestOverdue.add(installment.getInterestOutstanding(loan.getCurrency()).getAmount());
                 feeOverdue = feeOverdue.add(installment.getFeeChargesOutstanding(loan.getCurrency()).getAmount());
@@ -160,19 +237,31 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
 
         BigDecimal totalOverDue = principalOverdue.add(interestOverdue).add(feeOverdue).add(penaltyOverdue);
         if (totalOverDue.compareTo(BigDecimal.ZERO) > 0) {
-            if (isInsertStatement) {
-                updateSql = constructInsertStatement(loan.getId(), principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                        overDueSince);
-            } else {
-                updateSql = constructUpdateStatement(loan.getId(), principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                        overDueSince);
-            }
+            return new LoanArrearsAgingData(loan.getId(), principalOverdue, interestOverdue, feeOverdue, penaltyOverdue, overDueSince);
         }
-        return updateSql;
+        return null;
     }
 
-    private List<Map<String, Object>> getLoanSummary(final Long loanId, final LoanSummary loanSummary) {
-        List<Map<String, Object>> transactionDetail = new ArrayList<>();
+    private List<LoanArrearsAgingData> calculateArrearsAgeingDetailsWithOriginalSchedule(
+            final Map<Long, Map<String, Object>> loanSummaries) {
+        if (loanSummaries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(new ArrayList<>(loanSummaries.keySet()));
+        if (scheduleDate.isEmpty()) {
+            return List.of();
+        }
+        updateScheduleWithPaidDetail(scheduleDate, new ArrayList<>(loanSummaries.values()));
+        return calculateArrearsAgeingDetails(scheduleDate);
+    }
+
+    private Map<Long, List<LoanSchedulePeriodData>> getScheduleDate(final Collection<Long> loanIds) {
+        OriginalScheduleExtractor originalScheduleExtractor = new OriginalScheduleExtractor(sqlGenerator);
+        return new NamedParameterJdbcTemplate(jdbcTemplate).query(originalScheduleExtractor.schema,
+                new MapSqlParameterSource("loanIds", loanIds), originalScheduleExtractor);
+    }
+
+    private Map<String, Object> getLoanSummary(final Long loanId, final LoanSummary loanSummary) {
         Map<String, Object> transactionMap = new HashMap<>();
 
         transactionMap.put("loanId", loanId);
@@ -184,14 +273,13 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
         transactionMap.put("feeAmtWaived", loanSummary.getTotalFeeChargesWaived());
         transactionMap.put("penaltyAmtPaid", loanSummary.getTotalPenaltyChargesRepaid());
         transactionMap.put("penaltyAmtWaived", loanSummary.getTotalPenaltyChargesWaived());
-        transactionDetail.add(transactionMap);
-        return transactionDetail;
+        return transactionMap;
 
     }
 
     @Override
-    public void createInsertStatements(List<String> insertStatement, Map<Long, List<LoanSchedulePeriodData>> scheduleDate,
-            boolean isInsertStatement) {
+    public List<LoanArrearsAgingData> calculateArrearsAgeingDetails(Map<Long, List<LoanSchedulePeriodData>> scheduleDate) {
+        List<LoanArrearsAgingData> arrearsAgeingDetails = new ArrayList<>();
         for (Map.Entry<Long, List<LoanSchedulePeriodData>> entry : scheduleDate.entrySet()) {
             final Long loanId = entry.getKey();
             BigDecimal principalOverdue = BigDecimal.ZERO;
@@ -217,49 +305,11 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
                 }
             }
             if (principalOverdue.compareTo(BigDecimal.ZERO) > 0) {
-                String sqlStatement = null;
-                if (isInsertStatement) {
-                    sqlStatement = constructInsertStatement(loanId, principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                            overDueSince);
-                } else {
-                    sqlStatement = constructUpdateStatement(loanId, principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                            overDueSince);
-                }
-                insertStatement.add(sqlStatement);
+                arrearsAgeingDetails
+                        .add(new LoanArrearsAgingData(loanId, principalOverdue, interestOverdue, feeOverdue, penaltyOverdue, overDueSince));
             }
-
         }
-    }
-
-    private String constructInsertStatement(final Long loanId, BigDecimal principalOverdue, BigDecimal interestOverdue,
-            BigDecimal feeOverdue, BigDecimal penaltyOverdue, LocalDate overDueSince) {
-        final StringBuilder insertStatementBuilder = new StringBuilder(900);
-        insertStatementBuilder.append("INSERT INTO m_loan_arrears_aging(loan_id,principal_overdue_derived,interest_overdue_derived,")
-                .append("fee_charges_overdue_derived,penalty_charges_overdue_derived,total_overdue_derived,overdue_since_date_derived) VALUES(");
-        insertStatementBuilder.append(loanId).append(",");
-        insertStatementBuilder.append(principalOverdue).append(",");
-        insertStatementBuilder.append(interestOverdue).append(",");
-        insertStatementBuilder.append(feeOverdue).append(",");
-        insertStatementBuilder.append(penaltyOverdue).append(",");
-        BigDecimal totalOverDue = principalOverdue.add(interestOverdue).add(feeOverdue).add(penaltyOverdue);
-        insertStatementBuilder.append(totalOverDue).append(",'");
-        insertStatementBuilder.append(this.formatter.format(overDueSince)).append("')");
-        return insertStatementBuilder.toString();
-    }
-
-    private String constructUpdateStatement(final Long loanId, BigDecimal principalOverdue, BigDecimal interestOverdue,
-            BigDecimal feeOverdue, BigDecimal penaltyOverdue, LocalDate overDueSince) {
-        final StringBuilder insertStatementBuilder = new StringBuilder(900);
-        insertStatementBuilder.append("UPDATE m_loan_arrears_aging SET principal_overdue_derived=");
-        insertStatementBuilder.append(principalOverdue).append(", interest_overdue_derived=");
-        insertStatementBuilder.append(interestOverdue).append(", fee_charges_overdue_derived=");
-        insertStatementBuilder.append(feeOverdue).append(", penalty_charges_overdue_derived=");
-        insertStatementBuilder.append(penaltyOverdue).append(", total_overdue_derived=");
-        BigDecimal totalOverDue = principalOverdue.add(interestOverdue).add(feeOverdue).add(penaltyOverdue);
-        insertStatementBuilder.append(totalOverDue).append(",overdue_since_date_derived= '");
-        insertStatementBuilder.append(this.formatter.format(overDueSince)).append("' ");
-        insertStatementBuilder.append("WHERE  loan_id=").append(loanId);
-        return insertStatementBuilder.toString();
+        return arrearsAgeingDetails;
     }
 
     @Override
@@ -338,7 +388,7 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
 
         private final String schema;
 
-        OriginalScheduleExtractor(final String loanIdsAsString, DatabaseSpecificSQLGenerator sqlGenerator) {
+        OriginalScheduleExtractor(DatabaseSpecificSQLGenerator sqlGenerator) {
             final StringBuilder scheduleDetail = new StringBuilder();
             scheduleDetail.append("select ml.id as loanId, mr.duedate as dueDate, mr.principal_amount as principalAmount, ");
             scheduleDetail.append(
@@ -346,7 +396,7 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
             scheduleDetail.append("from m_loan ml  INNER JOIN m_loan_repayment_schedule_history mr on mr.loan_id = ml.id ");
             scheduleDetail.append("where mr.duedate  < "
                     + sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day") + " and ");
-            scheduleDetail.append("ml.id IN(").append(loanIdsAsString).append(") and  mr.version = (");
+            scheduleDetail.append("ml.id IN(:loanIds) and  mr.version = (");
             scheduleDetail.append("select max(lrs.version) from m_loan_repayment_schedule_history lrs where mr.loan_id = lrs.loan_id");
             scheduleDetail.append(") order by ml.id,mr.duedate");
             this.schema = scheduleDetail.toString();
@@ -385,15 +435,65 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
         }
     }
 
+    private static boolean isArrearsBasedOnOriginalSchedule(Loan loan) {
+        return loan.isOpen() && loan.repaymentScheduleDetail().isInterestRecalculationEnabled()
+                && loan.loanProduct().isArrearsBasedOnOriginalSchedule();
+    }
+
     private void handleArrearsForLoan(Loan loan) {
-        if (loan != null && loan.isOpen() && loan.repaymentScheduleDetail().isInterestRecalculationEnabled()
-                && loan.loanProduct().isArrearsBasedOnOriginalSchedule()) {
+        if (loan != null && isArrearsBasedOnOriginalSchedule(loan)) {
             updateLoanArrearsAgeingDetailsWithOriginalSchedule(loan);
         } else {
             updateLoanArrearsAgeingDetails(loan);
         }
     }
 
+    /**
+     * Arrears aging details calculated by the loan COB which are not written yet.
+     */
+    private static final class PendingArrearsAgeingDetails {
+
+        private final Set<Long> loanIds = new LinkedHashSet<>();
+        private final Map<Long, LoanArrearsAgingData> arrearsAgeingDetails = new LinkedHashMap<>();
+        private final Map<Long, Map<String, Object>> originalScheduleLoanSummaries = new LinkedHashMap<>();
+
+        private void clear() {
+            loanIds.clear();
+            arrearsAgeingDetails.clear();
+            originalScheduleLoanSummaries.clear();
+        }
+    }
+
+    /**
+     * Writes the pending arrears aging details of a transaction before an external event is serialized, so the event
+     * carries them, and at the latest right before the transaction is committed. They are dropped when the transaction
+     * is rolled back.
+     */
+    private final class PendingArrearsAgeingDetailsWriter implements TransactionSynchronization {
+
+        private final PendingArrearsAgeingDetails pending;
+
+        private PendingArrearsAgeingDetailsWriter(PendingArrearsAgeingDetails pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void flush() {
+            writeArrearsAgeingDetails(pending);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writeArrearsAgeingDetails(pending);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            pending.clear();
+            TransactionSynchronizationManager.unbindResourceIfPossible(LoanArrearsAgingServiceImpl.this);
+        }
+    }
+
     private class RefundEventListener implements BusinessEventListener<LoanRefundPostBusinessEvent> {
 
         @SuppressWarnings("unused")
@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.annotation.AfterChunk;
+import org.springframework.batch.core.annotation.AfterChunkError;
+import org.springframework.batch.core.annotation.BeforeChunk;
+import org.springframework.batch.core.annotation.OnSkipInRead;
+import org.springframework.batch.core.annotation.OnSkipInWrite;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Runs every chunk as the system user, on whichever thread the chunk is processed, and reports the savings accounts
+ * which were skipped because their interest could not be posted.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostInterestForSavingItemListener {
+
+    private final AppUserRepositoryWrapper userRepository;
+
+    @BeforeChunk
+    public void beforeChunk(@NotNull ChunkContext context) {
+        AppUser user = userRepository.fetchSystemUser();
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(user, user.getPassword(),
+                new NullAuthoritiesMapper().mapAuthorities(user.getAuthorities()));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterChunk
+    public void afterChunk(@NotNull ChunkContext context) {
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterChunkError
+    public void afterChunkError(@NotNull ChunkContext context) {
+        SecurityContextHolder.clearContext();
+    }
+
+    @OnSkipInRead
+    public void onSkipInRead(@NotNull Throwable t) {
+        log.error("Reading savings accounts for interest posting failed", t);
+    }
+
+    @OnSkipInWrite
+    public void onSkipInWrite(@NotNull Long savingsId, @NotNull Throwable t) {
+        log.error("Interest posting failed for savings account {}", savingsId, t);
+    }
+}
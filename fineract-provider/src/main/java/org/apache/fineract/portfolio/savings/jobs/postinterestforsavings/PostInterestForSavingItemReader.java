@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType.ACTIVE;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+/**
+ * Reads the ids of the active savings accounts of a partition page by page.
+ *
+ * The id of the last account handed out is stored in the step execution context on every commit, so a restarted
+ * partition continues after the last committed chunk. Accounts posted before a restart are skipped anyway as their
+ * interest posted till date no longer qualifies them for posting.
+ */
+@RequiredArgsConstructor
+public class PostInterestForSavingItemReader implements ItemStreamReader<Long> {
+
+    private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    private final Long minSavingsId;
+    private final Long maxSavingsId;
+    private final int pageSize;
+
+    /**
+     * Has to be switched off when the chunks are processed by multiple threads, the last read id is not the last
+     * committed one then.
+     */
+    @Setter
+    private boolean saveState = true;
+
+    private final Deque<Long> page = new ArrayDeque<>();
+    private Long lastFetchedSavingsId;
+    private Long lastReadSavingsId;
+    private boolean exhausted;
+
+    @Override
+    public void open(@NotNull ExecutionContext executionContext) {
+        lastFetchedSavingsId = minSavingsId - 1;
+        if (saveState && executionContext.containsKey(PostInterestForSavingConstant.LAST_READ_SAVINGS_ID)) {
+            lastFetchedSavingsId = executionContext.getLong(PostInterestForSavingConstant.LAST_READ_SAVINGS_ID);
+        }
+        lastReadSavingsId = lastFetchedSavingsId;
+        exhausted = maxSavingsId == 0L;
+        page.clear();
+    }
+
+    @Override
+    public synchronized Long read() {
+        if (page.isEmpty() && !exhausted) {
+            page.addAll(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE.getValue(), pageSize, lastFetchedSavingsId,
+                    maxSavingsId));
+            exhausted = page.size() < pageSize;
+            if (!page.isEmpty()) {
+                lastFetchedSavingsId = page.getLast();
+            }
+        }
+        Long savingsId = page.poll();
+        if (savingsId != null) {
+            lastReadSavingsId = savingsId;
+        }
+        return savingsId;
+    }
+
+    @Override
+    public synchronized void update(@NotNull ExecutionContext executionContext) {
+        if (saveState) {
+            executionContext.putLong(PostInterestForSavingConstant.LAST_READ_SAVINGS_ID, lastReadSavingsId);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPoster;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Posts the interest of a chunk of savings accounts with the batch updates of {@link SavingsSchedularInterestPoster}.
+ *
+ * The accounts are loaded here rather than by the reader: posting mutates the loaded data, so when a chunk fails and
+ * Spring Batch writes its accounts one by one to find the failing one, each attempt has to start from fresh data.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostInterestForSavingItemWriter implements ItemWriter<Long> {
+
+    private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    private final ApplicationContext applicationContext;
+    private final boolean backdatedTxnsAllowedTill;
+
+    @Override
+    public void write(@NotNull Chunk<? extends Long> chunk) throws Exception {
+        List<SavingsAccountData> savingsAccounts = savingsAccountReadPlatformService
+                .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, new ArrayList<>(chunk.getItems()));
+        if (savingsAccounts.isEmpty()) {
+            return;
+        }
+        log.debug("Posting interest for {} savings accounts", savingsAccounts.size());
+        SavingsSchedularInterestPoster interestPoster = applicationContext.getBean(SavingsSchedularInterestPoster.class);
+        interestPoster.setSavingAccounts(savingsAccounts);
+        interestPoster.setBackdatedTxnsAllowedTill(backdatedTxnsAllowedTill);
+        interestPoster.postInterest();
+    }
+}
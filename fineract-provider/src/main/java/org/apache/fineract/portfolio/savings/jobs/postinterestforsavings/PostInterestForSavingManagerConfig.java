@@ -20,57 +20,56 @@ package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
 
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
-import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
-import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
-import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
-import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPosterTask;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
-import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.config.annotation.EnableBatchIntegration;
+import org.springframework.batch.integration.partition.RemotePartitioningManagerStepBuilderFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.integration.channel.DirectChannel;
 
 @Configuration
-public class PostInterestForSavingConfig {
+@EnableBatchIntegration
+@ConditionalOnProperty(value = "fineract.mode.batch-manager-enabled", havingValue = "true")
+public class PostInterestForSavingManagerConfig {
 
     @Autowired
     private JobRepository jobRepository;
     @Autowired
-    private PlatformTransactionManager transactionManager;
+    private RemotePartitioningManagerStepBuilderFactory stepBuilderFactory;
     @Autowired
-    private SavingsAccountReadPlatformService savingAccountReadPlatformService;
+    private DirectChannel outboundRequests;
     @Autowired
-    private ConfigurationDomainService configurationDomainService;
-    @Autowired
-    private SavingsSchedularInterestPosterTask savingsSchedularInterestPosterTask;
-    @Autowired
-    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
-    @Autowired
-    private SavingsAccountRepositoryWrapper savingsAccountRepository;
-    @Autowired
-    private SavingsAccountAssembler savingAccountAssembler;
+    private PropertyService propertyService;
     @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
     @Autowired
-    private TransactionTemplate transactionTemplate;
+    private ConfigurationDomainService configurationDomainService;
+
+    @Bean
+    @JobScope
+    public PostInterestForSavingPartitioner postInterestForSavingPartitioner() {
+        return new PostInterestForSavingPartitioner(propertyService, savingsAccountReadPlatformService, configurationDomainService);
+    }
 
     @Bean
-    protected Step postInterestForSavingStep(PostInterestForSavingTasklet postInterestForSavingTasklet) {
-        return new StepBuilder(JobName.POST_INTEREST_FOR_SAVINGS.name(), jobRepository)
-                .tasklet(postInterestForSavingTasklet, transactionManager).build();
+    public Step postInterestForSavingStep() {
+        return stepBuilderFactory.get(PostInterestForSavingConstant.PARTITIONER_STEP)
+                .partitioner(PostInterestForSavingConstant.WORKER_STEP, postInterestForSavingPartitioner()).outputChannel(outboundRequests)
+                .build();
     }
 
     @Bean
-    public Job postInterestForSavingJob(PostInterestForSavingTasklet postInterestForSavingTasklet) {
-        return new JobBuilder(JobName.POST_INTEREST_FOR_SAVINGS.name(), jobRepository)
-                .start(postInterestForSavingStep(postInterestForSavingTasklet)).incrementer(new RunIdIncrementer()).build();
+    public Job postInterestForSavingJob() {
+        return new JobBuilder(JobName.POST_INTEREST_FOR_SAVINGS.name(), jobRepository).start(postInterestForSavingStep())
+                .incrementer(new RunIdIncrementer()).build();
     }
 }
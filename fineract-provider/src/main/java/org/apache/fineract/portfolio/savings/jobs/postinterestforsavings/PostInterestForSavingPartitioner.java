@@ -0,0 +1,88 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType.ACTIVE;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.StopWatch;
+
+/**
+ * Splits the active savings accounts into id ranges of at most {@code partition-size} accounts. Every range becomes a
+ * partition of the interest posting job which is executed by one of the batch workers.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostInterestForSavingPartitioner implements Partitioner {
+
+    private final PropertyService propertyService;
+    private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    private final ConfigurationDomainService configurationDomainService;
+
+    @NotNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitionSize = propertyService.getPartitionSize(PostInterestForSavingConstant.JOB_NAME);
+        boolean backdatedTxnsAllowedTill = configurationDomainService.retrievePivotDateConfig();
+        StopWatch sw = new StopWatch();
+        sw.start();
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        long accountCount = 0;
+        Long maxSavingsIdInList = 0L;
+        List<Long> savingsIds;
+        do {
+            savingsIds = savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE.getValue(), partitionSize,
+                    maxSavingsIdInList);
+            if (!savingsIds.isEmpty()) {
+                maxSavingsIdInList = savingsIds.get(savingsIds.size() - 1);
+                accountCount += savingsIds.size();
+                int partitionNo = partitions.size() + 1;
+                partitions.put(PostInterestForSavingConstant.PARTITION_PREFIX + partitionNo,
+                        createPartition(partitionNo, savingsIds.get(0), maxSavingsIdInList, backdatedTxnsAllowedTill));
+            }
+        } while (savingsIds.size() == partitionSize);
+        sw.stop();
+        // if there is no account to post interest for, we still would like to create at least one partition
+        if (partitions.isEmpty()) {
+            partitions.put(PostInterestForSavingConstant.PARTITION_PREFIX + 1, createPartition(1, 0L, 0L, backdatedTxnsAllowedTill));
+        }
+        log.info("PostInterestForSavingPartitioner found {} savings accounts. {} partitions were created using partition size {} in {} ms.",
+                accountCount, partitions.size(), partitionSize, sw.getTotalTimeMillis());
+        return partitions;
+    }
+
+    private ExecutionContext createPartition(int partitionNo, Long minSavingsId, Long maxSavingsId, boolean backdatedTxnsAllowedTill) {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.put(PostInterestForSavingConstant.PARTITION_NAME, PostInterestForSavingConstant.PARTITION_PREFIX + partitionNo);
+        executionContext.putLong(PostInterestForSavingConstant.MIN_SAVINGS_ID, minSavingsId);
+        executionContext.putLong(PostInterestForSavingConstant.MAX_SAVINGS_ID, maxSavingsId);
+        executionContext.put(PostInterestForSavingConstant.BACKDATED_TXNS_ALLOWED_TILL, backdatedTxnsAllowedTill);
+        return executionContext;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import org.apache.fineract.cob.loan.ContextAwareTaskDecorator;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.AlwaysSkipItemSkipPolicy;
+import org.springframework.batch.integration.partition.RemotePartitioningWorkerStepBuilderFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@ConditionalOnProperty(value = "fineract.mode.batch-worker-enabled", havingValue = "true")
+public class PostInterestForSavingWorkerConfig {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RemotePartitioningWorkerStepBuilderFactory stepBuilderFactory;
+    @Autowired
+    private QueueChannel inboundRequests;
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    @Autowired
+    private AppUserRepositoryWrapper userRepository;
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Bean(name = PostInterestForSavingConstant.WORKER_STEP)
+    public Step postInterestForSavingWorkerStep() {
+        return stepBuilderFactory.get("Post interest for savings worker - Step").inputChannel(inboundRequests)
+                .flow(postInterestForSavingFlow()).build();
+    }
+
+    @Bean
+    public Flow postInterestForSavingFlow() {
+        return new FlowBuilder<Flow>("postInterestForSavingFlow").start(postInterestForSavingPartitionStep(null, null)).build();
+    }
+
+    @Bean
+    public TaskExecutor postInterestForSavingTaskExecutor() {
+        if (!isMultiThreaded()) {
+            return new SyncTaskExecutor();
+        }
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("Savings-Interest-Thread-");
+        taskExecutor.setThreadGroupName("Savings-Interest-Thread");
+        taskExecutor.setCorePoolSize(propertyService.getThreadPoolCorePoolSize(PostInterestForSavingConstant.JOB_NAME));
+        taskExecutor.setMaxPoolSize(propertyService.getThreadPoolMaxPoolSize(PostInterestForSavingConstant.JOB_NAME));
+        taskExecutor.setQueueCapacity(propertyService.getThreadPoolQueueCapacity(PostInterestForSavingConstant.JOB_NAME));
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        taskExecutor.setTaskDecorator(new ContextAwareTaskDecorator());
+        return taskExecutor;
+    }
+
+    /**
+     * A chunk failing on one account is written again account by account, so only the failing accounts are skipped
+     * while the interest of the others is posted.
+     */
+    @Bean
+    @StepScope
+    public Step postInterestForSavingPartitionStep(@Value("#{stepExecutionContext['partition']}") String partitionName,
+            TaskExecutor postInterestForSavingTaskExecutor) {
+        SimpleStepBuilder<Long, Long> stepBuilder = new StepBuilder("Post interest for savings - Step:" + partitionName, jobRepository)
+                .<Long, Long>chunk(propertyService.getChunkSize(PostInterestForSavingConstant.JOB_NAME), transactionManager) //
+                .reader(postInterestForSavingItemReader(null, null)) //
+                .writer(postInterestForSavingItemWriter(null)) //
+                .faultTolerant() //
+                .skipPolicy(new AlwaysSkipItemSkipPolicy()) //
+                .listener(postInterestForSavingItemListener());
+
+        if (isMultiThreaded()) {
+            stepBuilder.taskExecutor(postInterestForSavingTaskExecutor);
+        }
+
+        return stepBuilder.build();
+    }
+
+    @Bean
+    public PostInterestForSavingItemListener postInterestForSavingItemListener() {
+        return new PostInterestForSavingItemListener(userRepository);
+    }
+
+    @Bean
+    @StepScope
+    public PostInterestForSavingItemReader postInterestForSavingItemReader(
+            @Value("#{stepExecutionContext['minSavingsId']}") Long minSavingsId,
+            @Value("#{stepExecutionContext['maxSavingsId']}") Long maxSavingsId) {
+        PostInterestForSavingItemReader reader = new PostInterestForSavingItemReader(savingsAccountReadPlatformService, minSavingsId,
+                maxSavingsId, propertyService.getChunkSize(PostInterestForSavingConstant.JOB_NAME));
+        reader.setSaveState(!isMultiThreaded());
+        return reader;
+    }
+
+    @Bean
+    @StepScope
+    public PostInterestForSavingItemWriter postInterestForSavingItemWriter(
+            @Value("#{stepExecutionContext['backdatedTxnsAllowedTill']}") Boolean backdatedTxnsAllowedTill) {
+        return new PostInterestForSavingItemWriter(savingsAccountReadPlatformService, applicationContext,
+                Boolean.TRUE.equals(backdatedTxnsAllowedTill));
+    }
+
+    private boolean isMultiThreaded() {
+        return propertyService.getThreadPoolMaxPoolSize(PostInterestForSavingConstant.JOB_NAME) > 1;
+    }
+}
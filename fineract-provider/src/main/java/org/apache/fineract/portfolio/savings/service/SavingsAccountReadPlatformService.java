@@ -64,8 +64,16 @@ public interface SavingsAccountReadPlatformService {
 
     List<Long> getAccountsIdsByStatusPaged(Integer status, int pageSize, Long maxSavingsIdInList);
 
+    /**
+     * Returns the ids of the accounts with the given status after {@code afterSavingsId} (exclusive) up to
+     * {@code maxSavingsId} (inclusive), in ascending order.
+     */
+    List<Long> getAccountsIdsByStatusPaged(Integer status, int pageSize, Long afterSavingsId, Long maxSavingsId);
+
     List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(boolean backdatedTxnsAllowedTill, int pageSize, Integer status,
             Long maxSavingsId);
 
+    List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(boolean backdatedTxnsAllowedTill, List<Long> savingsIds);
+
     List<SavingsAccountTransactionData> retrieveAllTransactionData(List<String> refNo);
 }
@@ -283,6 +283,32 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
         return savingsAccountDataList;
     }
 
+    @Override
+    public List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(final boolean backdatedTxnsAllowedTill,
+            final List<Long> savingsIds) {
+        if (savingsIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        LocalDate yesterday = DateUtils.getBusinessLocalDate().minusDays(1);
+        String inSql = String.join(",", Collections.nCopies(savingsIds.size(), "?"));
+        String sql = "select " + this.savingAccountMapperForInterestPosting.schema() + "where sa.id in (" + inSql + ") ";
+        if (backdatedTxnsAllowedTill) {
+            sql = sql
+                    + "and (CASE WHEN sa.interest_posted_till_date is not null THEN tr.transaction_date >= sa.interest_posted_till_date ELSE tr.transaction_date >= sa.activatedon_date END) ";
+        }
+        sql = sql + "and (sa.interest_posted_till_date is null or sa.interest_posted_till_date <= ? ) ";
+        sql = sql + "order by sa.id, tr.transaction_date, tr.created_date, tr.id";
+
+        List<Object> params = new ArrayList<>(savingsIds);
+        params.add(yesterday);
+        List<SavingsAccountData> savingsAccountDataList = this.jdbcTemplate.query(sql, this.savingAccountMapperForInterestPosting, // NOSONAR
+                params.toArray());
+        for (SavingsAccountData savingsAccountData : savingsAccountDataList) {
+            this.savingAccountAssembler.assembleSavings(savingsAccountData);
+        }
+        return savingsAccountDataList;
+    }
+
     private static final class SavingAccountMapperForInterestPosting implements ResultSetExtractor<List<SavingsAccountData>> {
 
         private final String schemaSql;
@@ -1807,4 +1833,16 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
             return new ArrayList<>();
         }
     }
+
+    @Override
+    public List<Long> getAccountsIdsByStatusPaged(Integer status, int pageSize, Long afterSavingsId, Long maxSavingsId) {
+        String sql = new StringBuilder().append(" SELECT sa.id FROM m_savings_account sa ")
+                .append(" where sa.id > ? and sa.id <= ? and sa.status_enum  = ? ").append(" order by sa.id limit ?").toString();
+
+        try {
+            return this.jdbcTemplate.queryForList(sql, Long.class, new Object[] { afterSavingsId, maxSavingsId, status, pageSize });
+        } catch (EmptyResultDataAccessException e) {
+            return new ArrayList<>();
+        }
+    }
 }
@@ -30,6 +30,8 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.glaccount.data.GLBalanceDeltaData;
+import org.apache.fineract.accounting.glaccount.service.GLBalanceSnapshotWritePlatformService;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
@@ -57,6 +59,7 @@ public class SavingsSchedularInterestPoster {
     private final JdbcTemplate jdbcTemplate;
     private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
     private final PlatformSecurityContext platformSecurityContext;
+    private final GLBalanceSnapshotWritePlatformService glBalanceSnapshotWritePlatformService;
 
     private final List<SavingsAccountData> savingsAccountDataList = new ArrayList<>();
     private Collection<SavingsAccountData> savingAccounts;
@@ -102,6 +105,7 @@ public class SavingsSchedularInterestPoster {
         Long userId = platformSecurityContext.authenticatedUser().getId();
         String queryForJGLUpdate = batchQueryForJournalEntries();
         List<Object[]> paramsForGLInsertion = new ArrayList<>();
+        List<GLBalanceDeltaData> glBalanceDeltas = new ArrayList<>();
         for (SavingsAccountData savingsAccountData : savingsAccountDataList) {
             String currencyCode = savingsAccountData.getCurrency().getCode();
 
@@ -135,6 +139,13 @@ public class SavingsSchedularInterestPoster {
                                     DateUtils.getOffsetDateTimeOfTenantWithMostPrecision(), false, BigDecimal.ZERO, BigDecimal.ZERO, null,
                                     savingsAccountTransactionData.getTransactionDate(), null, userId, userId,
                                     DateUtils.getBusinessLocalDate() });
+
+                            glBalanceDeltas.add(GLBalanceDeltaData.instance(savingsAccountData.getOfficeId(),
+                                    savingsAccountData.getGlAccountIdForSavingsControl(), currencyCode,
+                                    savingsAccountTransactionData.getTransactionDate(), false, savingsAccountTransactionData.getAmount()));
+                            glBalanceDeltas.add(GLBalanceDeltaData.instance(savingsAccountData.getOfficeId(),
+                                    savingsAccountData.getGlAccountIdForInterestOnSavings(), currencyCode,
+                                    savingsAccountTransactionData.getTransactionDate(), true, savingsAccountTransactionData.getAmount()));
                         }
                     }
                 }
@@ -143,6 +154,7 @@ public class SavingsSchedularInterestPoster {
 
         if (paramsForGLInsertion != null && paramsForGLInsertion.size() > 0) {
             this.jdbcTemplate.batchUpdate(queryForJGLUpdate, paramsForGLInsertion);
+            this.glBalanceSnapshotWritePlatformService.recordDeltas(glBalanceDeltas);
         }
     }
 
@@ -37,6 +37,7 @@ import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuild
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
 import org.apache.fineract.infrastructure.core.service.PlatformEmailSendException;
+import org.apache.fineract.infrastructure.security.service.BasicAuthCredentialCache;
 import org.apache.fineract.infrastructure.security.service.PlatformPasswordEncoder;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.Office;
@@ -82,6 +83,7 @@ public class AppUserWritePlatformServiceJpaRepositoryImpl implements AppUserWrit
     private final AppUserPreviousPasswordRepository appUserPreviewPasswordRepository;
     private final StaffRepositoryWrapper staffRepositoryWrapper;
     private final ClientRepositoryWrapper clientRepositoryWrapper;
+    private final BasicAuthCredentialCache basicAuthCredentialCache;
 
     @Override
     @Transactional
@@ -163,6 +165,8 @@ public class AppUserWritePlatformServiceJpaRepositoryImpl implements AppUserWrit
             this.fromApiJsonDeserializer.validateForUpdate(command.json());
 
             final AppUser userToUpdate = this.appUserRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+            // password, status and role changes must not be served by previously verified credentials
+            this.basicAuthCredentialCache.evict(userToUpdate.getUsername());
 
             final AppUserPreviousPassword currentPasswordToSaveAsPreview = getCurrentPasswordToSaveAsPreview(userToUpdate, command);
 
@@ -276,6 +280,7 @@ public class AppUserWritePlatformServiceJpaRepositoryImpl implements AppUserWrit
             throw new UserNotFoundException(userId);
         }
 
+        this.basicAuthCredentialCache.evict(user.getUsername());
         user.delete();
         this.appUserRepository.save(user);
 
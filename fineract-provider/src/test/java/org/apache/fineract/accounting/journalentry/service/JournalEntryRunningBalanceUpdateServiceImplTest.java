@@ -0,0 +1,356 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryRunningBalanceRepository.CalculatedRunningBalance;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryRunningBalanceRepository.EntryPosition;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryRunningBalanceRepository.JournalEntryRow;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryRunningBalanceRepository.RunningBalanceCheckpoint;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class JournalEntryRunningBalanceUpdateServiceImplTest {
+
+    private static final LocalDate DATE = LocalDate.of(2023, 3, 15);
+    private static final long ACCOUNT_ID = 7L;
+    private static final long ORGANIZATION_OFFICE_ID = JournalEntryRunningBalanceUpdateServiceImpl.ORGANIZATION_OFFICE_ID;
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.<Entry, LocalDate>comparing(entry -> entry.entryDate)
+            .thenComparingLong(entry -> entry.id);
+
+    private final List<Entry> entries = new CopyOnWriteArrayList<>();
+    private final Map<Long, Map<Long, RunningBalanceCheckpoint>> checkpoints = new ConcurrentHashMap<>();
+    private final List<Integer> pageSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> seedQueryOfficeIds = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> updatedCheckpointOfficeIds = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> insertedCheckpointOfficeIds = Collections.synchronizedList(new ArrayList<>());
+
+    private JournalEntryRunningBalanceRepository repository;
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        repository = mock(JournalEntryRunningBalanceRepository.class);
+        when(repository.retrieveAccountIdsWithUncalculatedEntries(any())).thenAnswer(invocation -> entries.stream()
+                .filter(entry -> !entry.runningBalanceCalculated).map(entry -> entry.accountId).distinct().sorted().toList());
+        when(repository.retrieveAccountType(anyLong())).thenReturn(GLAccountType.ASSET);
+        when(repository.findFirstUncalculatedEntry(anyLong(), any())).thenAnswer(invocation -> {
+            Long officeId = invocation.getArgument(1);
+            return entries(invocation.getArgument(0), officeId).filter(entry -> !entry.runningBalanceCalculated).sorted(ENTRY_ORDER)
+                    .findFirst().map(entry -> new EntryPosition(entry.entryDate, entry.id)).orElse(null);
+        });
+        when(repository.retrieveEntriesAfter(anyLong(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            Entry after = position(invocation.getArgument(2));
+            List<JournalEntryRow> page = entries(invocation.getArgument(0), invocation.getArgument(1))
+                    .filter(entry -> ENTRY_ORDER.compare(entry, after) > 0).sorted(ENTRY_ORDER).limit(invocation.<Integer>getArgument(3))
+                    .map(entry -> new JournalEntryRow(entry.id, entry.officeId, entry.entryDate, entry.entryType.getValue(), entry.amount))
+                    .toList();
+            pageSizes.add(page.size());
+            return page;
+        });
+        when(repository.retrieveCheckpoints(anyLong()))
+                .thenAnswer(invocation -> Map.copyOf(checkpoints.getOrDefault(invocation.<Long>getArgument(0), Map.of())));
+        when(repository.findLastRunningBalanceBefore(anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+            long officeId = invocation.getArgument(1);
+            boolean organization = officeId == ORGANIZATION_OFFICE_ID;
+            seedQueryOfficeIds.add(officeId);
+            Entry before = position(invocation.getArgument(2));
+            return entries(invocation.getArgument(0), organization ? null : officeId)
+                    .filter(entry -> ENTRY_ORDER.compare(entry, before) < 0).sorted(ENTRY_ORDER.reversed()).findFirst()
+                    .map(entry -> new RunningBalanceCheckpoint(organization ? entry.organizationBalance : entry.officeBalance,
+                            new EntryPosition(entry.entryDate, entry.id)))
+                    .orElse(null);
+        });
+        doAnswer(invocation -> {
+            for (CalculatedRunningBalance balance : invocation.<List<CalculatedRunningBalance>>getArgument(0)) {
+                Entry entry = entry(balance.entryId());
+                entry.runningBalanceCalculated = true;
+                entry.organizationBalance = balance.organizationRunningBalance();
+                entry.officeBalance = balance.officeRunningBalance();
+            }
+            return null;
+        }).when(repository).updateRunningBalances(any(), any(), any());
+        doAnswer(invocation -> {
+            Map<Long, RunningBalanceCheckpoint> updates = invocation.getArgument(1);
+            updatedCheckpointOfficeIds.addAll(updates.keySet());
+            updates.forEach((officeId, checkpoint) -> assertTrue(
+                    checkpoints.get(invocation.<Long>getArgument(0)).replace(officeId, checkpoint) != null));
+            return null;
+        }).when(repository).updateCheckpoints(anyLong(), any());
+        doAnswer(invocation -> {
+            Map<Long, RunningBalanceCheckpoint> inserts = invocation.getArgument(1);
+            insertedCheckpointOfficeIds.addAll(inserts.keySet());
+            Map<Long, RunningBalanceCheckpoint> accountCheckpoints = checkpoints.computeIfAbsent(invocation.getArgument(0),
+                    accountId -> new ConcurrentHashMap<>());
+            inserts.forEach((officeId, checkpoint) -> assertNull(accountCheckpoints.put(officeId, checkpoint)));
+            return null;
+        }).when(repository).insertCheckpoints(anyLong(), any());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (taskExecutor != null) {
+            taskExecutor.shutdown();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testCheckpointsAreSeededForOrganizationAndEveryOffice() {
+        entries.add(new Entry(1L, 1L, DATE, JournalEntryType.DEBIT, "100"));
+        entries.add(new Entry(2L, 2L, DATE, JournalEntryType.DEBIT, "50"));
+        entries.add(new Entry(3L, 1L, DATE.plusDays(1), JournalEntryType.CREDIT, "30"));
+
+        service(1).updateRunningBalance();
+
+        assertBalances(1L, "100", "100");
+        assertBalances(2L, "150", "50");
+        assertBalances(3L, "120", "70");
+        assertEquals(checkpoint(DATE.plusDays(1), 3L, "120"), checkpoint(ORGANIZATION_OFFICE_ID));
+        assertEquals(checkpoint(DATE.plusDays(1), 3L, "70"), checkpoint(1L));
+        assertEquals(checkpoint(DATE, 2L, "50"), checkpoint(2L));
+        assertEquals(List.of(0L, 1L, 2L), sorted(insertedCheckpointOfficeIds));
+        assertTrue(updatedCheckpointOfficeIds.isEmpty());
+    }
+
+    @Test
+    public void testEntriesArePagedByEntryDateAndId() {
+        // the ids of the two days interleave, so the pages have to follow the entry date before the id
+        for (long id = 1; id <= 2500; id++) {
+            entries.add(new Entry(id, 1L, id % 2 == 0 ? DATE : DATE.plusDays(1), JournalEntryType.DEBIT, "1"));
+        }
+
+        service(1).updateRunningBalance();
+
+        assertEquals(List.of(1000, 1000, 500), pageSizes);
+        List<Entry> ordered = entries.stream().sorted(ENTRY_ORDER).toList();
+        for (int i = 0; i < ordered.size(); i++) {
+            assertEquals(BigDecimal.valueOf(i + 1L), ordered.get(i).organizationBalance);
+        }
+        assertEquals(checkpoint(DATE.plusDays(1), 2499L, "2500"), checkpoint(ORGANIZATION_OFFICE_ID));
+    }
+
+    @Test
+    public void testBackdatedEntryIsCalculatedFromTheLastEntryBeforeIt() {
+        entries.add(new Entry(1L, 1L, DATE, JournalEntryType.DEBIT, "100").calculated("100", "100"));
+        entries.add(new Entry(2L, 1L, DATE.plusDays(2), JournalEntryType.DEBIT, "50").calculated("150", "150"));
+        checkpoints.put(ACCOUNT_ID, new ConcurrentHashMap<>(
+                Map.of(0L, checkpoint(DATE.plusDays(2), 2L, "150"), 1L, checkpoint(DATE.plusDays(2), 2L, "150"))));
+        entries.add(new Entry(3L, 1L, DATE.plusDays(1), JournalEntryType.DEBIT, "10"));
+
+        service(1).updateRunningBalance();
+
+        assertBalances(3L, "110", "110");
+        assertBalances(2L, "160", "160");
+        assertEquals(List.of(0L, 1L), sorted(seedQueryOfficeIds));
+        assertEquals(checkpoint(DATE.plusDays(2), 2L, "160"), checkpoint(0L));
+        assertEquals(checkpoint(DATE.plusDays(2), 2L, "160"), checkpoint(1L));
+        assertTrue(insertedCheckpointOfficeIds.isEmpty());
+    }
+
+    @Test
+    public void testExistingCheckpointsAreUpdatedAndMissingOnesInserted() {
+        entries.add(new Entry(1L, 1L, DATE, JournalEntryType.DEBIT, "100").calculated("100", "100"));
+        checkpoints.put(ACCOUNT_ID,
+                new ConcurrentHashMap<>(Map.of(0L, checkpoint(DATE, 1L, "100"), 1L, checkpoint(DATE, 1L, "100"))));
+        entries.add(new Entry(2L, 2L, DATE.plusDays(1), JournalEntryType.DEBIT, "20"));
+        entries.add(new Entry(3L, 1L, DATE.plusDays(1), JournalEntryType.DEBIT, "5"));
+
+        service(1).updateRunningBalance();
+
+        assertBalances(2L, "120", "20");
+        assertBalances(3L, "125", "105");
+        // the checkpoints preceding the first new entry are used as they are, only the new office is looked up
+        assertEquals(List.of(2L), seedQueryOfficeIds);
+        // the split between update and insert follows the checkpoints read at the start, not the update counts
+        assertEquals(List.of(0L, 1L), sorted(updatedCheckpointOfficeIds));
+        assertEquals(List.of(2L), insertedCheckpointOfficeIds);
+        assertEquals(checkpoint(DATE.plusDays(1), 3L, "125"), checkpoint(0L));
+        assertEquals(checkpoint(DATE.plusDays(1), 3L, "105"), checkpoint(1L));
+        assertEquals(checkpoint(DATE.plusDays(1), 2L, "20"), checkpoint(2L));
+    }
+
+    @Test
+    public void testAccountsAreProcessedConcurrentlyOnTheSharedExecutor() {
+        for (long accountId = 1; accountId <= 5; accountId++) {
+            entries.add(new Entry(accountId * 10, 1L, DATE, JournalEntryType.DEBIT, "100").inAccount(accountId));
+            entries.add(new Entry(accountId * 10 + 1, 1L, DATE.plusDays(1), JournalEntryType.DEBIT, "5").inAccount(accountId));
+        }
+
+        service(2).updateRunningBalance();
+
+        for (long accountId = 1; accountId <= 5; accountId++) {
+            assertBalances(accountId * 10, "100", "100");
+            assertBalances(accountId * 10 + 1, "105", "105");
+            assertEquals(checkpoint(DATE.plusDays(1), accountId * 10 + 1, "105"), checkpoints.get(accountId).get(0L));
+        }
+    }
+
+    @Test
+    public void testDebitIncreasesAssetAndExpenseAccounts() {
+        JournalEntryRow debit = entry(JournalEntryType.DEBIT);
+        JournalEntryRow credit = entry(JournalEntryType.CREDIT);
+
+        assertEquals(new BigDecimal("10.5"), JournalEntryRunningBalanceUpdateServiceImpl.signedAmount(GLAccountType.ASSET, debit));
+        assertEquals(new BigDecimal("10.5"), JournalEntryRunningBalanceUpdateServiceImpl.signedAmount(GLAccountType.EXPENSE, debit));
+        assertEquals(new BigDecimal("-10.5"), JournalEntryRunningBalanceUpdateServiceImpl.signedAmount(GLAccountType.ASSET, credit));
+    }
+
+    @Test
+    public void testCreditIncreasesEquityIncomeAndLiabilityAccounts() {
+        JournalEntryRow debit = entry(JournalEntryType.DEBIT);
+        JournalEntryRow credit = entry(JournalEntryType.CREDIT);
+
+        assertEquals(new BigDecimal("10.5"), JournalEntryRunningBalanceUpdateServiceImpl.signedAmount(GLAccountType.EQUITY, credit));
+        assertEquals(new BigDecimal("10.5"), JournalEntryRunningBalanceUpdateServiceImpl.signedAmount(GLAccountType.INCOME, credit));
+        assertEquals(new BigDecimal("10.5"), JournalEntryRunningBalanceUpdateServiceImpl.signedAmount(GLAccountType.LIABILITY, credit));
+        assertEquals(new BigDecimal("-10.5"), JournalEntryRunningBalanceUpdateServiceImpl.signedAmount(GLAccountType.LIABILITY, debit));
+    }
+
+    @Test
+    public void testEntryPositionIsOrderedByEntryDateThenId() {
+        EntryPosition position = new EntryPosition(DATE, 10L);
+
+        assertTrue(new EntryPosition(DATE.minusDays(1), 20L).isBefore(position));
+        assertTrue(new EntryPosition(DATE, 9L).isBefore(position));
+        assertFalse(new EntryPosition(DATE, 10L).isBefore(position));
+        assertFalse(new EntryPosition(DATE.plusDays(1), 1L).isBefore(position));
+    }
+
+    private JournalEntryRunningBalanceUpdateServiceImpl service(int threadCount) {
+        AppUser user = mock(AppUser.class);
+        when(user.getId()).thenReturn(1L);
+        PlatformSecurityContext context = mock(PlatformSecurityContext.class);
+        when(context.authenticatedUser()).thenReturn(user);
+        FineractProperties.FineractJobProperties jobProperties = new FineractProperties.FineractJobProperties();
+        jobProperties.setRunningBalanceThreadCount(threadCount);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setJob(jobProperties);
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(threadCount);
+        taskExecutor.setMaxPoolSize(threadCount);
+        taskExecutor.initialize();
+        return new JournalEntryRunningBalanceUpdateServiceImpl(repository, mock(OfficeRepositoryWrapper.class),
+                mock(JournalEntryDataValidator.class), mock(FromJsonHelper.class), context, mock(PlatformTransactionManager.class),
+                taskExecutor, fineractProperties);
+    }
+
+    private static JournalEntryRow entry(JournalEntryType type) {
+        return new JournalEntryRow(1L, 1L, DATE, type.getValue(), new BigDecimal("10.5"));
+    }
+
+    private Stream<Entry> entries(long accountId, Long officeId) {
+        return entries.stream().filter(entry -> entry.accountId == accountId)
+                .filter(entry -> officeId == null || entry.officeId == officeId);
+    }
+
+    private Entry entry(long entryId) {
+        return entries.stream().filter(candidate -> candidate.id == entryId).findFirst().orElseThrow();
+    }
+
+    private static Entry position(EntryPosition position) {
+        return new Entry(position.id(), 0L, position.entryDate(), null, "0");
+    }
+
+    private static RunningBalanceCheckpoint checkpoint(LocalDate entryDate, long journalEntryId, String runningBalance) {
+        return new RunningBalanceCheckpoint(new BigDecimal(runningBalance), new EntryPosition(entryDate, journalEntryId));
+    }
+
+    private RunningBalanceCheckpoint checkpoint(long officeId) {
+        return checkpoints.get(ACCOUNT_ID).get(officeId);
+    }
+
+    private void assertBalances(long entryId, String organizationBalance, String officeBalance) {
+        Entry entry = entry(entryId);
+        assertTrue(entry.runningBalanceCalculated);
+        assertEquals(new BigDecimal(organizationBalance), entry.organizationBalance);
+        assertEquals(new BigDecimal(officeBalance), entry.officeBalance);
+    }
+
+    private static List<Long> sorted(List<Long> officeIds) {
+        return officeIds.stream().sorted().toList();
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private final long officeId;
+        private final LocalDate entryDate;
+        private final JournalEntryType entryType;
+        private final BigDecimal amount;
+        private long accountId = ACCOUNT_ID;
+        private volatile boolean runningBalanceCalculated;
+        private volatile BigDecimal organizationBalance;
+        private volatile BigDecimal officeBalance;
+
+        private Entry(long id, long officeId, LocalDate entryDate, JournalEntryType entryType, String amount) {
+            this.id = id;
+            this.officeId = officeId;
+            this.entryDate = entryDate;
+            this.entryType = entryType;
+            this.amount = new BigDecimal(amount);
+        }
+
+        private Entry calculated(String organizationBalance, String officeBalance) {
+            this.runningBalanceCalculated = true;
+            this.organizationBalance = new BigDecimal(organizationBalance);
+            this.officeBalance = new BigDecimal(officeBalance);
+            return this;
+        }
+
+        private Entry inAccount(long accountId) {
+            this.accountId = accountId;
+            return this;
+        }
+    }
+}
@@ -19,7 +19,10 @@
 package org.apache.fineract.batch.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.ws.rs.HttpMethod;
@@ -58,6 +61,7 @@ import org.apache.fineract.batch.command.internal.UnknownCommandStrategy;
 import org.apache.fineract.batch.command.internal.UpdateClientCommandStrategy;
 import org.apache.fineract.batch.command.internal.UpdateDatatableEntryOneToManyCommandStrategy;
 import org.apache.fineract.batch.command.internal.UpdateDatatableEntryOneToOneCommandStrategy;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -279,4 +283,20 @@ public class CommandStrategyProviderTest {
         final CommandStrategy result = commandStrategyProvider.getCommandStrategy(CommandContext.resource(url).method(httpMethod).build());
         assertEquals(UnknownCommandStrategy.class, result.getClass());
     }
+
+    /**
+     * Tests that {@link CommandStrategyProvider#getCommandStrategy} looks up a command strategy bean only once.
+     */
+    @Test
+    public void testGetCommandStrategyCachesStrategyBean() {
+        final ApplicationContext applicationContext = mock(ApplicationContext.class);
+        final CommandStrategy commandStrategy = mock(GetLoanByIdCommandStrategy.class);
+        when(applicationContext.getBean("getLoanByIdCommandStrategy")).thenReturn(commandStrategy);
+        final CommandStrategyProvider commandStrategyProvider = new CommandStrategyProvider(applicationContext);
+
+        assertSame(commandStrategy, commandStrategyProvider.getCommandStrategy(CommandContext.resource("loans/1").method("GET").build()));
+        assertSame(commandStrategy,
+                commandStrategyProvider.getCommandStrategy(CommandContext.resource("v1/loans/2?associations=all").method("GET").build()));
+        verify(applicationContext, times(1)).getBean("getLoanByIdCommandStrategy");
+    }
 }
@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.util.List;
+import org.apache.fineract.cob.data.LoanCOBPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CostBalancedLoanCOBPartitionBuilderTest {
+
+    @Test
+    public void testEqualCostsGiveEqualPartitions() {
+        CostBalancedLoanCOBPartitionBuilder builder = new CostBalancedLoanCOBPartitionBuilder(10, 2);
+        for (long id = 1; id <= 10; id++) {
+            builder.add(id, 1);
+        }
+        List<LoanCOBPartition> partitions = builder.build();
+        Assertions.assertEquals(List.of(new LoanCOBPartition(1L, 5L, 0L, 5L), new LoanCOBPartition(6L, 10L, 1L, 5L)), partitions);
+    }
+
+    @Test
+    public void testExpensiveLoansGetSmallerPartitions() {
+        // loan 1 and 2 are as expensive as the other 8 loans together
+        CostBalancedLoanCOBPartitionBuilder builder = new CostBalancedLoanCOBPartitionBuilder(16, 2);
+        builder.add(1, 4);
+        builder.add(2, 4);
+        for (long id = 3; id <= 10; id++) {
+            builder.add(id, 1);
+        }
+        List<LoanCOBPartition> partitions = builder.build();
+        Assertions.assertEquals(List.of(new LoanCOBPartition(1L, 2L, 0L, 2L), new LoanCOBPartition(3L, 10L, 1L, 8L)), partitions);
+    }
+
+    @Test
+    public void testNeverMorePartitionsThanRequested() {
+        CostBalancedLoanCOBPartitionBuilder builder = new CostBalancedLoanCOBPartitionBuilder(3, 3);
+        builder.add(1, 1);
+        builder.add(2, 1);
+        builder.add(3, 1);
+        // the estimate was too low, the last partition takes the rest
+        builder.add(4, 5);
+        builder.add(5, 5);
+        List<LoanCOBPartition> partitions = builder.build();
+        Assertions.assertEquals(3, partitions.size());
+        Assertions.assertEquals(new LoanCOBPartition(3L, 5L, 2L, 3L), partitions.get(2));
+    }
+
+    @Test
+    public void testNoLoansNoPartitions() {
+        Assertions.assertTrue(new CostBalancedLoanCOBPartitionBuilder(0, 1).build().isEmpty());
+    }
+}
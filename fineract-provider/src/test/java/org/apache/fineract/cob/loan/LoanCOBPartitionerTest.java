@@ -30,6 +30,7 @@ import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.data.LoanCOBPartition;
+import org.apache.fineract.cob.service.LoanLockRegistry;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.junit.jupiter.api.Assertions;
@@ -60,6 +61,8 @@ class LoanCOBPartitionerTest {
     private JobOperator jobOperator;
     @Mock
     private JobExplorer jobExplorer;
+    @Mock
+    private LoanLockRegistry loanLockRegistry;
 
     @Test
     public void testLoanCOBPartitioner() {
@@ -69,7 +72,7 @@ class LoanCOBPartitionerTest {
                 .thenReturn(BUSINESS_STEP_SET);
         when(retrieveLoanIdService.retrieveLoanCOBPartitions(1L, BUSINESS_DATE, false, 5))
                 .thenReturn(List.of(new LoanCOBPartition(1L,10L, 1L, 5L), new LoanCOBPartition(11L,20L, 2L, 4L)));
-        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, 1L);
+        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, loanLockRegistry, 1L);
         loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
         loanCOBPartitioner.setIsCatchUp(false);
 
@@ -80,6 +83,7 @@ class LoanCOBPartitionerTest {
         Assertions.assertEquals(2, partitions.size());
         validatePartitions(partitions, 1, 1,  10);
         validatePartitions(partitions, 2, 11,  20);
+        verify(loanLockRegistry, times(1)).locksPlaced();
     }
 
     @Test
@@ -91,7 +95,7 @@ class LoanCOBPartitionerTest {
         JobExecution jobExecution = Mockito.mock(JobExecution.class);
         when(jobExecution.getId()).thenReturn(123L);
         when(jobExplorer.findRunningJobExecutions(JobName.LOAN_COB.name())).thenReturn(Set.of(jobExecution));
-        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, 1L);
+        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, loanLockRegistry, 1L);
         loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
         loanCOBPartitioner.setIsCatchUp(false);
 
@@ -112,7 +116,7 @@ class LoanCOBPartitionerTest {
                 .thenReturn(BUSINESS_STEP_SET);
         when(retrieveLoanIdService.retrieveLoanCOBPartitions(1L, BUSINESS_DATE, false, 5))
                 .thenReturn(List.of());
-        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, 1L);
+        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, loanLockRegistry, 1L);
         loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
         loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
         loanCOBPartitioner.setIsCatchUp(false);
@@ -19,6 +19,7 @@
 package org.apache.fineract.cob.loan;
 
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,10 +33,13 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.exceptions.LoanReadException;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -47,6 +51,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.ExecutionContext;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,6 +78,9 @@ class LoanItemReaderTest {
     @Mock
     private Loan loan;
 
+    @Mock
+    private ChunkContext chunkContext;
+
     @Test
     public void testLoanItemReaderSimple() throws Exception {
         // given
@@ -164,4 +172,166 @@ class LoanItemReaderTest {
         Mockito.verifyNoMoreInteractions(loanRepository);
     }
 
+    @Test
+    public void testLoanItemReaderWithPrefetch() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchSize(3);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 5L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L, 3L, 4L, 5L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L, 3L, 4L, 5L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        List<Loan> loans = LongStream.rangeClosed(1, 5).mapToObj(id -> {
+            Loan loan = Mockito.mock(Loan.class);
+            when(loan.getId()).thenReturn(id);
+            return loan;
+        }).toList();
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(1L, 2L, 3L))).thenReturn(loans.subList(0, 3));
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(4L, 5L))).thenReturn(loans.subList(3, 5));
+
+        // when + then
+        loanItemReader.beforeStep(stepExecution);
+        for (int i = 0; i < 5; i++) {
+            if (i % 3 == 0) {
+                loanItemReader.beforeChunk(chunkContext);
+            }
+            Assertions.assertEquals(loans.get(i), loanItemReader.read());
+        }
+        Assertions.assertNull(loanItemReader.read());
+
+        verify(loanRepository, times(1)).findAllByIdsFetchRepaymentScheduleInstallments(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchTransactions(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchCharges(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchTermVariations(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchDisbursementDetails(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchRepaymentScheduleInstallments(List.of(4L, 5L));
+        verify(loanRepository, times(1)).findAllByIdsFetchTransactions(List.of(4L, 5L));
+        verify(loanRepository, times(1)).findAllByIdsFetchCharges(List.of(4L, 5L));
+        verify(loanRepository, times(1)).findAllByIdsFetchTermVariations(List.of(4L, 5L));
+        verify(loanRepository, times(1)).findAllByIdsFetchDisbursementDetails(List.of(4L, 5L));
+        Mockito.verifyNoMoreInteractions(loanRepository);
+    }
+
+    @Test
+    public void testLoanItemReaderWithPrefetchReportsFailedBulkLoad() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchSize(5);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 2L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        RuntimeException failure = new RuntimeException("fail");
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(1L, 2L))).thenThrow(failure);
+        when(loan.getId()).thenReturn(2L);
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(2L))).thenReturn(List.of(loan));
+
+        // when + then
+        loanItemReader.beforeStep(stepExecution);
+        LoanReadException exception = Assertions.assertThrows(LoanReadException.class, loanItemReader::read);
+        Assertions.assertEquals(1L, exception.getId());
+        Assertions.assertEquals(failure, exception.getCause());
+        Assertions.assertEquals(loan, loanItemReader.read());
+        Assertions.assertNull(loanItemReader.read());
+
+        verify(loanRepository, never()).findById(anyLong());
+        verify(loanRepository, never()).findAllByIdsFetchTransactions(List.of(1L, 2L));
+        verify(loanRepository, times(1)).findAllByIdsFetchTransactions(List.of(2L));
+    }
+
+    @Test
+    public void testLoanItemReaderWithPrefetchTakesOnlyLoansMissingFromTheChunk() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = prefetchingReader(3, 1L, 2L, 3L, 4L, 5L);
+        List<Loan> loans = loans(5);
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(loans.get(0), loans.get(2)));
+        when(loanRepository.findById(2L)).thenReturn(Optional.empty());
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(4L))).thenReturn(List.of(loans.get(3)));
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(5L))).thenReturn(List.of(loans.get(4)));
+
+        // when + then
+        loanItemReader.beforeChunk(chunkContext);
+        Assertions.assertEquals(loans.get(0), loanItemReader.read());
+        // the skipped loan is replaced by one more read, which takes a single loan only
+        Assertions.assertThrows(LoanReadException.class, loanItemReader::read);
+        Assertions.assertEquals(loans.get(2), loanItemReader.read());
+        Assertions.assertEquals(loans.get(3), loanItemReader.read());
+        loanItemReader.afterChunk(chunkContext);
+
+        loanItemReader.beforeChunk(chunkContext);
+        Assertions.assertEquals(loans.get(4), loanItemReader.read());
+        Assertions.assertNull(loanItemReader.read());
+
+        verify(loanRepository, times(1)).findAllByIdsFetchRepaymentScheduleInstallments(List.of(4L));
+        verify(loanRepository, times(1)).findAllByIdsFetchRepaymentScheduleInstallments(List.of(5L));
+    }
+
+    @Test
+    public void testLoansLeftOverByAFailedChunkAreReadAgainInOrder() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = prefetchingReader(3, 1L, 2L, 3L, 4L, 5L);
+        List<Loan> loans = loans(5);
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(1L, 2L, 3L))).thenReturn(loans.subList(0, 3));
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(2L, 3L, 4L))).thenReturn(loans.subList(1, 4));
+        when(loanRepository.findAllByIdsFetchRepaymentScheduleInstallments(List.of(5L))).thenReturn(loans.subList(4, 5));
+
+        // when + then
+        loanItemReader.beforeChunk(chunkContext);
+        Assertions.assertEquals(loans.get(0), loanItemReader.read());
+        loanItemReader.afterChunkError(chunkContext);
+
+        loanItemReader.beforeChunk(chunkContext);
+        for (int i = 1; i < 4; i++) {
+            Assertions.assertEquals(loans.get(i), loanItemReader.read());
+        }
+        loanItemReader.afterChunk(chunkContext);
+        loanItemReader.beforeChunk(chunkContext);
+        Assertions.assertEquals(loans.get(4), loanItemReader.read());
+        Assertions.assertNull(loanItemReader.read());
+        loanItemReader.afterStep(stepExecution);
+
+        verify(loanRepository, never()).findById(anyLong());
+    }
+
+    private LoanItemReader prefetchingReader(int prefetchSize, Long... loanIds) {
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchSize(prefetchSize);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(loanIds[0], loanIds[loanIds.length - 1]);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(loanIds)));
+        List<LoanAccountLock> accountLocks = Stream.of(loanIds)
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(loanIds), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        loanItemReader.beforeStep(stepExecution);
+        return loanItemReader;
+    }
+
+    private static List<Loan> loans(int count) {
+        return LongStream.rangeClosed(1, count).mapToObj(id -> {
+            Loan loan = Mockito.mock(Loan.class);
+            Mockito.lenient().when(loan.getId()).thenReturn(id);
+            return loan;
+        }).toList();
+    }
 }
@@ -18,11 +18,18 @@
  */
 package org.apache.fineract.cob.loan;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 
+import java.sql.ResultSet;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.fineract.cob.data.LoanCOBPartition;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -43,6 +50,8 @@ public class RetrieveAllNonClosedLoanIdServiceImplTest {
     private LoanRepository loanRepository;
     @Mock
     private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
     @Captor
     private ArgumentCaptor<String> sqlCaptor;
     @Captor
@@ -76,7 +85,7 @@ public class RetrieveAllNonClosedLoanIdServiceImplTest {
 
     private void testRetrieveLoanCOBPartitions(String expectedSQL, boolean isCatchup) {
         RetrieveAllNonClosedLoanIdServiceImpl service = new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository,
-                namedParameterJdbcTemplate);
+                namedParameterJdbcTemplate, sqlGenerator, LoanCOBPartitioningStrategy.ROW_NUMBER);
         LocalDate businessDate = LocalDate.parse("2023-06-28");
         service.retrieveLoanCOBPartitions(1L, businessDate, isCatchup, 5);
         Mockito.verify(namedParameterJdbcTemplate, times(1)).query(sqlCaptor.capture(), paramsCaptor.capture(), rowMapper.capture());
@@ -87,6 +96,51 @@ public class RetrieveAllNonClosedLoanIdServiceImplTest {
 
     }
 
+    @Test
+    public void testRetrieveTransactionCountBalancedLoanCOBPartitions() throws Exception {
+        RetrieveAllNonClosedLoanIdServiceImpl service = new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository,
+                namedParameterJdbcTemplate, sqlGenerator, LoanCOBPartitioningStrategy.TRANSACTION_COUNT);
+        when(sqlGenerator.limit(anyInt())).thenReturn("LIMIT 0,10000");
+        // 4 loans with 4 transactions, all of them on the first loan
+        ResultSet totals = Mockito.mock(ResultSet.class);
+        when(totals.getLong("loan_count")).thenReturn(4L);
+        when(totals.getLong("extra_cost")).thenReturn(4L);
+        when(namedParameterJdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> invocation.<RowMapper<?>>getArgument(2).mapRow(totals, 0));
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> mapRows(invocation.getArgument(2), new long[][] { { 1, 4 }, { 2, 0 }, { 3, 0 }, { 4, 0 } }));
+
+        List<LoanCOBPartition> partitions = service.retrieveLoanCOBPartitions(1L, LocalDate.parse("2023-06-28"), false, 2);
+
+        Assertions.assertEquals(List.of(new LoanCOBPartition(1L, 1L, 0L, 1L), new LoanCOBPartition(2L, 4L, 1L, 3L)), partitions);
+        Mockito.verify(namedParameterJdbcTemplate, times(1)).query(sqlCaptor.capture(), paramsCaptor.capture(), rowMapper.capture());
+        Assertions.assertFalse(sqlCaptor.getValue().contains("row_number"));
+        Assertions.assertTrue(sqlCaptor.getValue().contains("l.id > :lastId"));
+        Assertions.assertEquals(0L, paramsCaptor.getValue().getValue("lastId"));
+    }
+
+    @Test
+    public void testRetrieveBalancedLoanCOBPartitionsWithoutLoans() {
+        RetrieveAllNonClosedLoanIdServiceImpl service = new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository,
+                namedParameterJdbcTemplate, sqlGenerator, LoanCOBPartitioningStrategy.LOAN_COUNT);
+        when(namedParameterJdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(new long[] { 0, 0 });
+
+        Assertions.assertTrue(service.retrieveLoanCOBPartitions(1L, LocalDate.parse("2023-06-28"), true, 2).isEmpty());
+        Mockito.verify(namedParameterJdbcTemplate, times(0)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    private static List<Object> mapRows(RowMapper<?> mapper, long[][] rows) throws Exception {
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            ResultSet rs = Mockito.mock(ResultSet.class);
+            when(rs.getLong("id")).thenReturn(rows[i][0]);
+            when(rs.getLong("extra_cost")).thenReturn(rows[i][1]);
+            result.add(mapper.mapRow(rs, i));
+        }
+        return result;
+    }
+
     private String normalize(String str) {
         return str.replaceAll(" +", " ").replaceAll("\r?\n", "");
     }
@@ -161,4 +161,24 @@ public class COBBulkEventConfigurationTest {
         verify(businessEventNotifierService, times(0)).resetEventRecording();
     }
 
+    @Test
+    public void testGivenMultipleBusinessStepsWhenCOBRunThenItemIsReloadedOnlyBeforeFirstStep() {
+        // given
+        Loan loan = mock(Loan.class);
+        TreeMap<Long, String> dummyExecutionMap = new TreeMap<>();
+        dummyExecutionMap.put(1L, "dummyBusinessStep");
+        dummyExecutionMap.put(2L, "otherDummyBusinessStep");
+        COBBusinessStep businessStep = mock(COBBusinessStep.class);
+        when(configurationDomainService.isCOBBulkEventEnabled()).thenReturn(false);
+        when(applicationContext.getBean(anyString())).thenReturn(businessStep);
+        when(businessStep.execute(any())).thenReturn(loan);
+        when(reloaderService.reloadIfRequired(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        underTest.run(dummyExecutionMap, loan);
+
+        // then
+        verify(reloaderService, times(1)).reload(loan);
+        verify(reloaderService, times(1)).reloadIfRequired(loan);
+    }
 }
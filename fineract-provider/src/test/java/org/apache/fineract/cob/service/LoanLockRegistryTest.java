@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+import org.apache.fineract.infrastructure.cache.service.MultiNodeCacheManager;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+
+class LoanLockRegistryTest {
+
+    private static final List<Long> LOAN_IDS = List.of(1L);
+
+    private final AtomicLong clock = new AtomicLong(1000L);
+    private final LoanAccountLockRepository loanAccountLockRepository = mock(LoanAccountLockRepository.class);
+    private final MultiNodeCacheManager multiNodeCacheManager = mock(MultiNodeCacheManager.class);
+    private final LoanLockRegistry underTest = new LoanLockRegistry(loanAccountLockRepository, multiNodeCacheManager, 100L, clock::get);
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        when(multiNodeCacheManager.isActive()).thenReturn(true);
+        when(loanAccountLockRepository.findLoanIdsByLockOwnerIn(anyList(), any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testLockFreeTenantIsVerifiedOncePerRefreshInterval() {
+        assertTrue(underTest.isLockFree(LOAN_IDS));
+        clock.addAndGet(99L);
+        assertTrue(underTest.isLockFree(LOAN_IDS));
+        verify(loanAccountLockRepository, times(1)).findLoanIdsByLockOwnerIn(anyList(), any());
+
+        clock.addAndGet(1L);
+        assertTrue(underTest.isLockFree(LOAN_IDS));
+        verify(loanAccountLockRepository, times(2)).findLoanIdsByLockOwnerIn(anyList(), any());
+    }
+
+    @Test
+    void testFewLocksLeftByFailedCobAreRemembered() {
+        when(loanAccountLockRepository.findLoanIdsByLockOwnerIn(anyList(), any())).thenReturn(List.of(2L, 3L));
+
+        assertTrue(underTest.isLockFree(LOAN_IDS));
+        assertFalse(underTest.isLockFree(List.of(1L, 3L)));
+        verify(loanAccountLockRepository, times(1)).findLoanIdsByLockOwnerIn(anyList(), any());
+    }
+
+    @Test
+    void testTenantLockedForCobIsCheckedEveryTime() {
+        List<Long> lockedLoanIds = LongStream.rangeClosed(2L, LoanLockRegistry.MAX_TRACKED_LOCKS + 2L).boxed().toList();
+        when(loanAccountLockRepository.findLoanIdsByLockOwnerIn(anyList(), any())).thenReturn(lockedLoanIds);
+
+        assertFalse(underTest.isLockFree(LOAN_IDS));
+        assertFalse(underTest.isLockFree(LOAN_IDS));
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(loanAccountLockRepository, times(2)).findLoanIdsByLockOwnerIn(anyList(), pageable.capture());
+        assertEquals(LoanLockRegistry.MAX_TRACKED_LOCKS + 1, pageable.getValue().getPageSize());
+    }
+
+    @Test
+    void testPlacedLocksAreBroadcastAndVerifiedAgain() {
+        assertTrue(underTest.isLockFree(LOAN_IDS));
+
+        underTest.locksPlaced();
+        when(loanAccountLockRepository.findLoanIdsByLockOwnerIn(anyList(), any())).thenReturn(LOAN_IDS);
+
+        assertFalse(underTest.isLockFree(LOAN_IDS));
+        verify(multiNodeCacheManager).publishInvalidation(CacheInvalidationData.evict(LoanLockRegistry.INVALIDATION_NAME, "default"));
+    }
+
+    @Test
+    void testInvalidationOfOtherNodeIsApplied() {
+        assertTrue(underTest.isLockFree(LOAN_IDS));
+
+        underTest.applyInvalidation(CacheInvalidationData.evict(LoanLockRegistry.INVALIDATION_NAME, "default"));
+        assertTrue(underTest.isLockFree(LOAN_IDS));
+
+        verify(loanAccountLockRepository, times(2)).findLoanIdsByLockOwnerIn(anyList(), any());
+    }
+
+    @Test
+    void testStateIsTenantScoped() {
+        assertTrue(underTest.isLockFree(LOAN_IDS));
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+
+        underTest.locksPlaced();
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+
+        assertTrue(underTest.isLockFree(LOAN_IDS));
+        verify(loanAccountLockRepository, times(1)).findLoanIdsByLockOwnerIn(anyList(), any());
+    }
+
+    @Test
+    void testRegistryIsDisabledWithoutRefreshInterval() {
+        LoanLockRegistry disabled = new LoanLockRegistry(loanAccountLockRepository, multiNodeCacheManager, 0L, clock::get);
+
+        assertFalse(disabled.isLockFree(LOAN_IDS));
+        verify(loanAccountLockRepository, never()).findLoanIdsByLockOwnerIn(anyList(), any());
+    }
+
+    @Test
+    void testRegistryIsDisabledWithoutMultiNodeCache() {
+        when(multiNodeCacheManager.isActive()).thenReturn(false);
+
+        assertFalse(underTest.isLockFree(LOAN_IDS));
+        verify(loanAccountLockRepository, never()).findLoanIdsByLockOwnerIn(anyList(), any());
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ReloaderServiceTest {
+
+    @Mock
+    private ReloadService<Loan> reloadService;
+
+    private MeterRegistry meterRegistry;
+    private ReloaderService underTest;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new ReloaderService(List.of(reloadService), meterRegistry);
+    }
+
+    @Test
+    public void testReloadIfRequiredSkipsReloadOfValidItem() {
+        // given
+        Loan loan = mock(Loan.class);
+        when(reloadService.canReload(loan)).thenReturn(true);
+        when(reloadService.isReloadRequired(loan)).thenReturn(false);
+
+        // when
+        Loan result = underTest.reloadIfRequired(loan);
+
+        // then
+        assertSame(loan, result);
+        verify(reloadService, never()).reload(loan);
+        assertEquals(1.0, meterRegistry.get("fineract.cob.reload").tag("result", "avoided").counter().count());
+        assertEquals(0.0, meterRegistry.get("fineract.cob.reload").tag("result", "reloaded").counter().count());
+    }
+
+    @Test
+    public void testReloadIfRequiredReloadsInvalidatedItem() {
+        // given
+        Loan loan = mock(Loan.class);
+        Loan reloadedLoan = mock(Loan.class);
+        when(reloadService.canReload(loan)).thenReturn(true);
+        when(reloadService.isReloadRequired(loan)).thenReturn(true);
+        when(reloadService.reload(loan)).thenReturn(reloadedLoan);
+
+        // when
+        Loan result = underTest.reloadIfRequired(loan);
+
+        // then
+        assertSame(reloadedLoan, result);
+        assertEquals(0.0, meterRegistry.get("fineract.cob.reload").tag("result", "avoided").counter().count());
+        assertEquals(1.0, meterRegistry.get("fineract.cob.reload").tag("result", "reloaded").counter().count());
+    }
+}
@@ -22,17 +22,24 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.Map;
 import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSource;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.handler.NewCommandSourceHandler;
 import org.apache.fineract.commands.provider.CommandHandlerProvider;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.service.HookEventDispatcher;
+import org.apache.fineract.infrastructure.hooks.service.HookSubscriptionIndex;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.junit.jupiter.api.Assertions;
@@ -67,6 +74,10 @@ public class SynchronousCommandProcessingServiceTest {
     private IdempotencyKeyGenerator idempotencyKeyGenerator;
     @Mock
     private CommandSourceService commandSourceService;
+    @Mock
+    private HookSubscriptionIndex hookSubscriptionIndex;
+    @Mock
+    private HookEventDispatcher hookEventDispatcher;
 
     @Spy
     private FineractRequestContextHolder fineractRequestContextHolder;
@@ -147,6 +158,7 @@ public class SynchronousCommandProcessingServiceTest {
         CommandSource initialCommandSource = Mockito.mock(CommandSource.class);
 
         when(commandSourceService.findCommandSource(commandWrapper, idk)).thenReturn(initialCommandSource);
+        when(hookSubscriptionIndex.hasSubscribers(Mockito.any(), Mockito.any())).thenReturn(true);
 
         Assertions.assertThrows(RuntimeException.class, () -> {
             underTest.executeCommand(commandWrapper, jsonCommand, false);
@@ -155,4 +167,71 @@ public class SynchronousCommandProcessingServiceTest {
         verify(commandSourceService).saveInitial(commandWrapper, jsonCommand, appUser, idk);
         verify(commandSourceService).generateErrorException(runtimeException);
     }
+
+    @Test
+    public void testExecuteCommandFailsWithoutHookSubscribersDoesNotBuildHookEvent() {
+        CommandWrapper commandWrapper = Mockito.mock(CommandWrapper.class);
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+
+        NewCommandSourceHandler newCommandSourceHandler = Mockito.mock(NewCommandSourceHandler.class);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        RuntimeException runtimeException = new RuntimeException("foo");
+        when(newCommandSourceHandler.processCommand(jsonCommand)).thenThrow(runtimeException);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(newCommandSourceHandler);
+
+        when(configurationDomainService.isMakerCheckerEnabledForTask(Mockito.any())).thenReturn(false);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(commandSourceService.findCommandSource(commandWrapper, idk)).thenReturn(null).thenReturn(commandSource);
+
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        when(commandSourceService.saveInitial(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(hookSubscriptionIndex.hasSubscribers(Mockito.any(), Mockito.any())).thenReturn(false);
+
+        Assertions.assertThrows(RuntimeException.class, () -> {
+            underTest.executeCommand(commandWrapper, jsonCommand, false);
+        });
+
+        verify(commandSourceService, Mockito.never()).generateErrorException(runtimeException);
+        verify(hookEventDispatcher, Mockito.never()).dispatch(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testExecuteCommandSuccessDispatchesHookEventOnlyForSubscribedEvents() {
+        CommandWrapper commandWrapper = Mockito.mock(CommandWrapper.class);
+        when(commandWrapper.entityName()).thenReturn("CLIENT");
+        when(commandWrapper.actionName()).thenReturn("CREATE");
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        when(jsonCommand.json()).thenReturn("{}");
+
+        NewCommandSourceHandler newCommandSourceHandler = Mockito.mock(NewCommandSourceHandler.class);
+        CommandProcessingResult commandProcessingResult = Mockito.mock(CommandProcessingResult.class);
+        when(newCommandSourceHandler.processCommand(jsonCommand)).thenReturn(commandProcessingResult);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(newCommandSourceHandler);
+
+        when(configurationDomainService.isMakerCheckerEnabledForTask(Mockito.any())).thenReturn(false);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSourceService.findCommandSource(commandWrapper, idk)).thenReturn(null).thenReturn(commandSource).thenReturn(null)
+                .thenReturn(commandSource);
+
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(commandSourceService.saveInitial(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        when(hookSubscriptionIndex.hasSubscribers("CLIENT", "CREATE")).thenReturn(false).thenReturn(true);
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+
+        try {
+            underTest.executeCommand(commandWrapper, jsonCommand, false);
+            verify(hookEventDispatcher, Mockito.never()).dispatch(Mockito.any(), Mockito.any());
+
+            underTest.executeCommand(commandWrapper, jsonCommand, false);
+            verify(hookEventDispatcher).dispatch(Mockito.any(), Mockito.any());
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
 }
@@ -0,0 +1,145 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.loanrepayment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
+import org.apache.fineract.infrastructure.bulkimport.constants.LoanRepaymentConstants;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.streaming.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.streaming.StreamingImportHandler;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+import org.apache.fineract.portfolio.paymenttype.data.PaymentTypeData;
+import org.apache.fineract.portfolio.paymenttype.service.PaymentTypeReadPlatformService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanRepaymentImportHandlerTest {
+
+    @Mock
+    private PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+
+    @Mock
+    private LoanReadPlatformService loanReadPlatformService;
+
+    @Mock
+    private PaymentTypeReadPlatformService paymentTypeReadPlatformService;
+
+    private StreamingImportHandler.RowImporter rowImporter;
+
+    @BeforeEach
+    public void setUp() {
+        when(paymentTypeReadPlatformService.retrieveAllPaymentTypes())
+                .thenReturn(List.of(PaymentTypeData.instance(3L, "Cash "), PaymentTypeData.instance(4L, "Cheque")));
+        LoanRepaymentImportHandler importHandler = new LoanRepaymentImportHandler(commandsSourceWritePlatformService,
+                loanReadPlatformService, paymentTypeReadPlatformService);
+        rowImporter = importHandler.createRowImporter("en", "dd-MM-yyyy");
+    }
+
+    @Test
+    public void testRepaymentIsImportedForTheLoanOfTheAccountNumber() {
+        when(loanReadPlatformService.retrieveLoanIdByAccountNumber("000000001")).thenReturn(7L);
+
+        rowImporter.importRow(row(1, "000000001-Jane Doe", "100.5", "15-01-2023", "Cash", "123"));
+        rowImporter.importRow(row(2, "000000001-Jane Doe", "20", "16-01-2023", "Cheque", null));
+
+        ArgumentCaptor<CommandWrapper> commands = ArgumentCaptor.forClass(CommandWrapper.class);
+        verify(commandsSourceWritePlatformService, times(2)).logCommandSource(commands.capture());
+        verify(loanReadPlatformService, times(1)).retrieveLoanIdByAccountNumber("000000001");
+        CommandWrapper command = commands.getAllValues().get(0);
+        assertEquals(7L, command.getLoanId());
+        assertEquals("REPAYMENT", command.actionName());
+        JsonObject json = JsonParser.parseString(command.getJson()).getAsJsonObject();
+        assertEquals("100.5", json.get("transactionAmount").getAsString());
+        assertEquals("15-01-2023", json.get("transactionDate").getAsString());
+        assertEquals(3L, json.get("paymentTypeId").getAsLong());
+        assertEquals(123, json.get("receiptNumber").getAsInt());
+        assertEquals("dd-MM-yyyy", json.get("dateFormat").getAsString());
+        JsonObject secondJson = JsonParser.parseString(commands.getAllValues().get(1).getJson()).getAsJsonObject();
+        assertEquals(4L, secondJson.get("paymentTypeId").getAsLong());
+        assertFalse(secondJson.has("receiptNumber"));
+    }
+
+    @Test
+    public void testRowsWithoutAmountOrAlreadyImportedAreSkipped() {
+        assertTrue(rowImporter.isImportable(row(1, "000000001-Jane Doe", "100", "15-01-2023", "Cash", null)));
+        assertFalse(rowImporter.isImportable(row(2, "000000001-Jane Doe", " ", "15-01-2023", "Cash", null)));
+
+        List<String> importedCells = cells("000000001-Jane Doe", "100", "15-01-2023", "Cash", null);
+        importedCells.set(LoanRepaymentConstants.STATUS_COL, TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
+        assertFalse(rowImporter.isImportable(new ImportRow(3, importedCells)));
+    }
+
+    @Test
+    public void testRowsAreOrderedByLoanAccountNumber() {
+        assertEquals("000000001", rowImporter.getOrderingKey(row(1, "000000001-Jane Doe", "100", "15-01-2023", "Cash", null)));
+        assertEquals("000000002", rowImporter.getOrderingKey(row(2, "000000002", "100", "15-01-2023", "Cash", null)));
+        assertNull(rowImporter.getOrderingKey(row(3, null, "100", "15-01-2023", "Cash", null)));
+    }
+
+    @Test
+    public void testInvalidRowIsRejectedWithoutCommand() {
+        when(loanReadPlatformService.retrieveLoanIdByAccountNumber("000000001")).thenReturn(7L);
+
+        assertThrows(GeneralPlatformDomainRuleException.class,
+                () -> rowImporter.importRow(row(1, "000000001-Jane Doe", "abc", "15-01-2023", "Cash", null)));
+        assertThrows(GeneralPlatformDomainRuleException.class,
+                () -> rowImporter.importRow(row(2, "000000001-Jane Doe", "100", "2023-01-15", "Cash", null)));
+
+        verifyNoInteractions(commandsSourceWritePlatformService);
+        verify(loanReadPlatformService, times(1)).retrieveLoanIdByAccountNumber(any());
+    }
+
+    private static ImportRow row(int rowIndex, String loanAccount, String amount, String date, String repaymentType,
+            String receiptNumber) {
+        return new ImportRow(rowIndex, cells(loanAccount, amount, date, repaymentType, receiptNumber));
+    }
+
+    private static List<String> cells(String loanAccount, String amount, String date, String repaymentType, String receiptNumber) {
+        List<String> cells = new ArrayList<>(Collections.nCopies(LoanRepaymentConstants.STATUS_COL + 1, (String) null));
+        cells.set(LoanRepaymentConstants.LOAN_ACCOUNT_NO_COL, loanAccount);
+        cells.set(LoanRepaymentConstants.AMOUNT_COL, amount);
+        cells.set(LoanRepaymentConstants.REPAID_ON_DATE_COL, date);
+        cells.set(LoanRepaymentConstants.REPAYMENT_TYPE_COL, repaymentType);
+        cells.set(LoanRepaymentConstants.RECEIPT_NO_COL, receiptNumber);
+        return cells;
+    }
+}
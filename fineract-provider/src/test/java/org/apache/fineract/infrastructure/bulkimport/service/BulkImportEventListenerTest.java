@@ -0,0 +1,150 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
+import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
+import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.documentmanagement.command.DocumentCommand;
+import org.apache.fineract.infrastructure.documentmanagement.domain.Document;
+import org.apache.fineract.infrastructure.documentmanagement.service.DocumentWritePlatformService;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkImportEventListenerTest {
+
+    @Mock
+    private TenantDetailsService tenantDetailsService;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private ImportDocumentRepository importRepository;
+
+    @Mock
+    private DocumentWritePlatformService documentService;
+
+    @Mock
+    private StreamingBulkImportProcessor streamingBulkImportProcessor;
+
+    @Mock
+    private ImportDocument importDocument;
+
+    @Mock
+    private Document document;
+
+    @Mock
+    private ImportHandler importHandler;
+
+    private BulkImportEventListener underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        underTest = new BulkImportEventListener(tenantDetailsService, applicationContext, importRepository, documentService,
+                streamingBulkImportProcessor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testStreamingImportFailingPartwayIsCompleted() throws IOException {
+        byte[] content = new byte[] { 1 };
+        when(importRepository.findById(5L)).thenReturn(Optional.of(importDocument));
+        when(importDocument.getEntityType()).thenReturn(GlobalEntityType.LOAN_TRANSACTIONS.getValue());
+        when(streamingBulkImportProcessor.process(eq(importDocument), eq(GlobalEntityType.LOAN_TRANSACTIONS), eq(ImportFormatType.CSV),
+                eq(content), eq("en"), eq("dd MMMM yyyy"), any())).thenThrow(new UncheckedIOException(new IOException("Malformed file")));
+
+        underTest.onApplicationEvent(BulkImportEvent.streamingInstance(this, ImportFormatType.CSV, content, 5L, "en", "dd MMMM yyyy",
+                ThreadLocalContextUtil.getContext()));
+
+        verify(importDocument).complete(any(LocalDateTime.class));
+        verify(importDocument, never()).update(any(), any(), any());
+        verify(importRepository).saveAndFlush(importDocument);
+    }
+
+    @Test
+    public void testStreamingImportResultFileSkipsTheDocumentWhitelists() throws IOException {
+        byte[] content = new byte[] { 1 };
+        when(importRepository.findById(5L)).thenReturn(Optional.of(importDocument));
+        when(importDocument.getEntityType()).thenReturn(GlobalEntityType.LOAN_TRANSACTIONS.getValue());
+        when(importDocument.getDocument()).thenReturn(document);
+        when(document.getFileName()).thenReturn("repayments.csv");
+        when(streamingBulkImportProcessor.process(eq(importDocument), eq(GlobalEntityType.LOAN_TRANSACTIONS), eq(ImportFormatType.CSV),
+                eq(content), eq("en"), eq("dd MMMM yyyy"), any())).thenReturn(Count.instance(1, 0));
+
+        underTest.onApplicationEvent(BulkImportEvent.streamingInstance(this, ImportFormatType.CSV, content, 5L, "en", "dd MMMM yyyy",
+                ThreadLocalContextUtil.getContext()));
+
+        ArgumentCaptor<DocumentCommand> documentCommand = ArgumentCaptor.forClass(DocumentCommand.class);
+        verify(documentService).updateDocument(documentCommand.capture(), any());
+        assertTrue(documentCommand.getValue().isContentValidated());
+    }
+
+    @Test
+    public void testWorkbookImportResultFileKeepsTheDocumentWhitelists() throws IOException {
+        when(importRepository.findById(5L)).thenReturn(Optional.of(importDocument));
+        when(importDocument.getEntityType()).thenReturn(GlobalEntityType.OFFICES.getValue());
+        when(importDocument.getDocument()).thenReturn(document);
+        when(document.getFileName()).thenReturn("offices.xls");
+        when(applicationContext.getBean("officeImportHandler", ImportHandler.class)).thenReturn(importHandler);
+        try (HSSFWorkbook workbook = new HSSFWorkbook()) {
+            workbook.createSheet("Offices");
+            when(importHandler.process(workbook, "en", "dd MMMM yyyy")).thenReturn(Count.instance(1, 0));
+
+            underTest.onApplicationEvent(
+                    BulkImportEvent.instance(this, workbook, 5L, "en", "dd MMMM yyyy", ThreadLocalContextUtil.getContext()));
+        }
+
+        ArgumentCaptor<DocumentCommand> documentCommand = ArgumentCaptor.forClass(DocumentCommand.class);
+        verify(documentService).updateDocument(documentCommand.capture(), any());
+        assertFalse(documentCommand.getValue().isContentValidated());
+    }
+}
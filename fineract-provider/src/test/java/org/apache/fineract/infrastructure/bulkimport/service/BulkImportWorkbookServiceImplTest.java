@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.documentmanagement.domain.Document;
+import org.apache.fineract.infrastructure.documentmanagement.domain.DocumentRepository;
+import org.apache.fineract.infrastructure.documentmanagement.service.DocumentWritePlatformService;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkImportWorkbookServiceImplTest {
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private PlatformSecurityContext securityContext;
+
+    @Mock
+    private DocumentWritePlatformService documentWritePlatformService;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private ImportDocumentRepository importDocumentRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StreamingBulkImportProcessor streamingBulkImportProcessor;
+
+    @Mock
+    private FormDataContentDisposition fileDetail;
+
+    @Mock
+    private AppUser appUser;
+
+    @Mock
+    private Document document;
+
+    private BulkImportWorkbookServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        underTest = new BulkImportWorkbookServiceImpl(applicationContext, securityContext, documentWritePlatformService, documentRepository,
+                importDocumentRepository, jdbcTemplate, streamingBulkImportProcessor);
+        when(securityContext.authenticatedUser()).thenReturn(appUser);
+        when(appUser.getId()).thenReturn(1L);
+        when(documentRepository.findById(2L)).thenReturn(Optional.of(document));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testStreamingImportWithVerifiedExtensionAndTypeSkipsTheDocumentWhitelists() {
+        when(fileDetail.getFileName()).thenReturn("repayments.csv");
+        when(streamingBulkImportProcessor.isSupported(GlobalEntityType.LOAN_TRANSACTIONS)).thenReturn(true);
+        when(documentWritePlatformService.createInternalDocument(anyString(), eq(1L), isNull(), any(InputStream.class), any(),
+                eq("repayments.csv"), isNull(), eq("repayments.csv"), eq(true))).thenReturn(2L);
+
+        underTest.importWorkbook(GlobalEntityType.LOAN_TRANSACTIONS.toString(),
+                new ByteArrayInputStream("Loan Account Id,Amount\n1,100\n".getBytes(StandardCharsets.UTF_8)), fileDetail, "en",
+                "dd MMMM yyyy");
+
+        verify(applicationContext).publishEvent(any(BulkImportEvent.class));
+    }
+
+    @Test
+    public void testWorkbookImportKeepsTheDocumentWhitelists() throws IOException {
+        final ByteArrayOutputStream workbook = new ByteArrayOutputStream();
+        try (HSSFWorkbook hssfWorkbook = new HSSFWorkbook()) {
+            hssfWorkbook.createSheet("Offices");
+            hssfWorkbook.write(workbook);
+        }
+        // an OLE2 workbook passes the content type check whatever its extension is
+        when(fileDetail.getFileName()).thenReturn("offices.html");
+        when(documentWritePlatformService.createInternalDocument(anyString(), eq(1L), isNull(), any(InputStream.class), any(),
+                eq("offices.html"), isNull(), eq("offices.html"), eq(false))).thenReturn(2L);
+
+        underTest.importWorkbook(GlobalEntityType.OFFICES.toString(), new ByteArrayInputStream(workbook.toByteArray()), fileDetail, "en",
+                "dd MMMM yyyy");
+
+        verify(applicationContext).publishEvent(any(BulkImportEvent.class));
+    }
+}
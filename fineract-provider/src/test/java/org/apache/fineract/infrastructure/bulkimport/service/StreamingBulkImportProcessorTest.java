@@ -0,0 +1,253 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
+import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
+import org.apache.fineract.infrastructure.bulkimport.streaming.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.streaming.StreamingImportHandler;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingBulkImportProcessorTest {
+
+    private static final String SHEET_NAME = "Test";
+    private static final int ACCOUNT_COL = 0;
+    private static final int AMOUNT_COL = 1;
+    private static final int STATUS_COL = 2;
+
+    @Mock
+    private ImportDocumentRepository importRepository;
+
+    @Mock
+    private ImportDocument importDocument;
+
+    private final RecordingImportHandler importHandler = new RecordingImportHandler();
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testRowsOfTheSameAccountAreImportedInFileOrder() throws IOException {
+        String content = "Account,Amount,Status\n" //
+                + "L1,10,\n" //
+                + "L2,20,\n" //
+                + "L1,11,\n" //
+                + "L3,abc,\n" //
+                + "L2,21,\n" //
+                + "L1,12,\n" //
+                + ",,\n" //
+                + "L3,30," + TemplatePopulateImportConstants.STATUS_CELL_IMPORTED + "\n" //
+                + "L3,31,\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        Count count = createProcessor(4, 2).process(importDocument, GlobalEntityType.LOAN_TRANSACTIONS, ImportFormatType.CSV,
+                content.getBytes(StandardCharsets.UTF_8), "en", "dd MMMM yyyy", output);
+
+        assertEquals(6, count.getSuccessCount());
+        assertEquals(1, count.getErrorCount());
+        assertEquals(List.of(1, 3, 6), importHandler.importedRows.get("L1"));
+        assertEquals(List.of(2, 5), importHandler.importedRows.get("L2"));
+        assertEquals(List.of(9), importHandler.importedRows.get("L3"));
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(10, lines.length);
+        assertEquals("Account,Amount," + TemplatePopulateImportConstants.STATUS_COL_REPORT_HEADER, lines[0]);
+        assertEquals("L1,10," + TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, lines[1]);
+        assertEquals("L3,abc,Invalid number abc in column 2", lines[4]);
+        assertEquals("L3,30," + TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, lines[8]);
+        assertEquals("L3,31," + TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, lines[9]);
+
+        List<Integer[]> savedProgress = captureSavedProgress(1);
+        assertEquals(List.of(7, 6, 1), List.of(savedProgress.get(savedProgress.size() - 1)));
+    }
+
+    @Test
+    public void testProgressIsSavedWhileTheImportRuns() throws IOException {
+        String content = "Account,Amount,Status\nL1,10,\nL1,11,\nL1,12,\nL1,13,\nL1,14,\nL1,15,\n";
+        CountDownLatch firstRowsImported = new CountDownLatch(2);
+        importHandler.onImport = row -> firstRowsImported.countDown();
+        importHandler.onRead = row -> {
+            if (row.rowIndex() == 3) {
+                await(firstRowsImported);
+            }
+        };
+
+        createProcessor(1, 2).process(importDocument, GlobalEntityType.LOAN_TRANSACTIONS, ImportFormatType.CSV,
+                content.getBytes(StandardCharsets.UTF_8), "en", "dd MMMM yyyy", new ByteArrayOutputStream());
+
+        List<Integer[]> savedProgress = captureSavedProgress(2);
+        assertEquals(3, savedProgress.get(0)[0]);
+        assertTrue(savedProgress.get(0)[1] >= 2);
+        assertEquals(List.of(6, 6, 0), List.of(savedProgress.get(savedProgress.size() - 1)));
+    }
+
+    @Test
+    public void testRowsReadBeforeAReaderFailureAreImportedAndSaved() {
+        String content = "Account,Amount,Status\nL1,10,\nL2,20,\n\"L3\"x,30,\nL1,11,\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        StreamingBulkImportProcessor processor = createProcessor(2, 2);
+
+        assertThrows(RuntimeException.class, () -> processor.process(importDocument, GlobalEntityType.LOAN_TRANSACTIONS,
+                ImportFormatType.CSV, content.getBytes(StandardCharsets.UTF_8), "en", "dd MMMM yyyy", output));
+
+        assertEquals(List.of(1), importHandler.importedRows.get("L1"));
+        assertEquals(List.of(2), importHandler.importedRows.get("L2"));
+        List<Integer[]> savedProgress = captureSavedProgress(1);
+        assertEquals(List.of(2, 2, 0), List.of(savedProgress.get(savedProgress.size() - 1)));
+        assertEquals(0, output.size());
+    }
+
+    private StreamingBulkImportProcessor createProcessor(int threadCount, int progressInterval) {
+        FineractProperties.FineractBulkImportProperties bulkImportProperties = new FineractProperties.FineractBulkImportProperties();
+        bulkImportProperties.setThreadCount(threadCount);
+        bulkImportProperties.setQueueCapacity(4);
+        bulkImportProperties.setProgressInterval(progressInterval);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setBulkImport(bulkImportProperties);
+        return new StreamingBulkImportProcessor(Optional.of(List.of(importHandler)), importRepository, fineractProperties);
+    }
+
+    private List<Integer[]> captureSavedProgress(int minimumSaves) {
+        ArgumentCaptor<Integer> totalRecords = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<Integer> successCounts = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<Integer> errorCounts = ArgumentCaptor.forClass(Integer.class);
+        verify(importDocument, atLeast(minimumSaves)).updateProgress(totalRecords.capture(), successCounts.capture(),
+                errorCounts.capture());
+        verify(importRepository, atLeastOnce()).saveAndFlush(importDocument);
+        List<Integer[]> savedProgress = new ArrayList<>();
+        for (int i = 0; i < totalRecords.getAllValues().size(); i++) {
+            savedProgress.add(new Integer[] { totalRecords.getAllValues().get(i), successCounts.getAllValues().get(i),
+                    errorCounts.getAllValues().get(i) });
+        }
+        return savedProgress;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Imports the rows of a CSV file keyed by the account column, recording the imported row indexes of every account.
+     */
+    private static final class RecordingImportHandler implements StreamingImportHandler {
+
+        private final Map<String, List<Integer>> importedRows = new ConcurrentHashMap<>();
+        private volatile Consumer<ImportRow> onRead = row -> {};
+        private volatile Consumer<ImportRow> onImport = row -> {};
+
+        @Override
+        public GlobalEntityType getEntityType() {
+            return GlobalEntityType.LOAN_TRANSACTIONS;
+        }
+
+        @Override
+        public String getSheetName() {
+            return SHEET_NAME;
+        }
+
+        @Override
+        public int getStatusColumn() {
+            return STATUS_COL;
+        }
+
+        @Override
+        public RowImporter createRowImporter(String locale, String dateFormat) {
+            return new RowImporter() {
+
+                @Override
+                public boolean isImportable(ImportRow row) {
+                    onRead.accept(row);
+                    return row.getString(AMOUNT_COL) != null
+                            && !TemplatePopulateImportConstants.STATUS_CELL_IMPORTED.equals(row.getString(STATUS_COL));
+                }
+
+                @Override
+                public String getOrderingKey(ImportRow row) {
+                    return row.getString(ACCOUNT_COL);
+                }
+
+                @Override
+                public void importRow(ImportRow row) {
+                    row.getBigDecimal(AMOUNT_COL);
+                    if (row.rowIndex() == 1) {
+                        // a slow first row, later rows of the same account must still wait for it
+                        sleep();
+                    }
+                    importedRows.computeIfAbsent(row.getString(ACCOUNT_COL), key -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(row.rowIndex());
+                    onImport.accept(row);
+                }
+            };
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+public class ImportRowReaderTest {
+
+    private static final String SHEET_NAME = "LoanRepayment";
+    private final DateTimeFormatter dateFormatter = ImportRowReader.dateFormatter("en", "dd MMMM yyyy");
+
+    @Test
+    public void testXlsxRowsAreReadAsText() throws IOException {
+        List<ImportRow> rows = read(ImportFormatType.XLSX, createXlsx());
+
+        assertEquals(3, rows.size());
+        assertEquals("Amount", rows.get(0).getString(0));
+        ImportRow row = rows.get(1);
+        assertEquals(1, row.rowIndex());
+        assertEquals(new BigDecimal("100.5"), row.getBigDecimal(0));
+        assertEquals(LocalDate.of(2023, 1, 15), row.getLocalDate(1, dateFormatter));
+        assertEquals("000000001-Loan", row.getString(2));
+        assertEquals(42, row.getInteger(3));
+        assertNull(rows.get(2).getString(1));
+        assertEquals(3, rows.get(2).rowIndex());
+    }
+
+    @Test
+    public void testCsvRowsAreReadAsText() throws IOException {
+        byte[] content = "Amount,Date,Account\n100.5,15 January 2023,\"000000001-Loan, A\"\n,,\n".getBytes(StandardCharsets.UTF_8);
+
+        List<ImportRow> rows = read(ImportFormatType.CSV, content);
+
+        assertEquals(3, rows.size());
+        assertEquals(1, rows.get(1).rowIndex());
+        assertEquals(LocalDate.of(2023, 1, 15), rows.get(1).getLocalDate(1, dateFormatter));
+        assertEquals("000000001-Loan, A", rows.get(1).getString(2));
+        assertNull(rows.get(2).getBigDecimal(0));
+    }
+
+    @Test
+    public void testInvalidCellsAreRejected() {
+        ImportRow row = new ImportRow(1, List.of("abc", "2023-01-15"));
+
+        assertThrows(GeneralPlatformDomainRuleException.class, () -> row.getBigDecimal(0));
+        assertThrows(GeneralPlatformDomainRuleException.class, () -> row.getLocalDate(1, dateFormatter));
+    }
+
+    @Test
+    public void testMissingSheetIsRejected() throws IOException {
+        ImportRowReader reader = ImportRowReader.of(ImportFormatType.XLSX, createXlsx(), dateFormatter);
+
+        assertThrows(GeneralPlatformDomainRuleException.class, () -> reader.read("Missing", row -> {}));
+    }
+
+    @Test
+    public void testCsvResultHasStatusColumn() throws IOException {
+        byte[] content = "Amount,Date\n100,15 January 2023\n200,16 January 2023\n".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ImportResultWriter.write(ImportFormatType.CSV, ImportRowReader.of(ImportFormatType.CSV, content, dateFormatter), SHEET_NAME, 3,
+                Map.of(1, TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, 2, "Invalid amount"), output);
+
+        assertEquals("Amount,Date,," + TemplatePopulateImportConstants.STATUS_COL_REPORT_HEADER + "\r\n100,15 January 2023,,"
+                + TemplatePopulateImportConstants.STATUS_CELL_IMPORTED + "\r\n200,16 January 2023,,Invalid amount\r\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testXlsxResultHasStatusColumn() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ImportResultWriter.write(ImportFormatType.XLSX, ImportRowReader.of(ImportFormatType.XLSX, createXlsx(), dateFormatter), SHEET_NAME,
+                4, Map.of(1, TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, 3, "Invalid amount"), output);
+
+        List<ImportRow> rows = read(ImportFormatType.XLSX, output.toByteArray());
+        assertEquals(TemplatePopulateImportConstants.STATUS_COL_REPORT_HEADER, rows.get(0).getString(4));
+        assertEquals(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED, rows.get(1).getString(4));
+        assertEquals("15 January 2023", rows.get(1).getString(1));
+        assertEquals("Invalid amount", rows.get(2).getString(4));
+    }
+
+    private List<ImportRow> read(ImportFormatType format, byte[] content) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        ImportRowReader.of(format, content, dateFormatter).read(SHEET_NAME, rows::add);
+        return rows;
+    }
+
+    private static byte[] createXlsx() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            workbook.createSheet("Extras");
+            Sheet sheet = workbook.createSheet(SHEET_NAME);
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Amount");
+            header.createCell(1).setCellValue("Date");
+            header.createCell(2).setCellValue("Account");
+            header.createCell(3).setCellValue("Receipt");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy"));
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue(100.5);
+            row.createCell(1).setCellValue(LocalDate.of(2023, 1, 15));
+            row.getCell(1).setCellStyle(dateStyle);
+            row.createCell(2).setCellValue("000000001-Loan");
+            row.createCell(3).setCellValue(42);
+            sheet.createRow(3).createCell(0).setCellValue(200);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            workbook.write(output);
+            return output.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.activemq.command.ActiveMQTopic;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessageCreator;
+
+@ExtendWith(MockitoExtension.class)
+public class JmsCacheInvalidationChannelTest {
+
+    @Mock
+    private JmsTemplate jmsTemplate;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private MapMessage mapMessage;
+
+    private final List<CacheInvalidationData> received = new ArrayList<>();
+
+    private JmsCacheInvalidationChannel underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractMultiNodeCacheProperties multiNodeProperties = new FineractProperties.FineractMultiNodeCacheProperties();
+        multiNodeProperties.setTopicName("cache-invalidation");
+        FineractProperties.FineractCacheProperties cacheProperties = new FineractProperties.FineractCacheProperties();
+        cacheProperties.setMultiNode(multiNodeProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setCache(cacheProperties);
+        underTest = new JmsCacheInvalidationChannel(jmsTemplate, connectionFactory, fineractProperties);
+    }
+
+    @Test
+    public void givenEvictionWhenPublishThenMapMessageIsSentToTheTopic() throws JMSException {
+        when(session.createMapMessage()).thenReturn(mapMessage);
+
+        underTest.publish(CacheInvalidationData.evict("codes", "defaultcv"));
+
+        ArgumentCaptor<MessageCreator> messageCreator = ArgumentCaptor.forClass(MessageCreator.class);
+        verify(jmsTemplate).send(eq(new ActiveMQTopic("cache-invalidation")), messageCreator.capture());
+        assertEquals(mapMessage, messageCreator.getValue().createMessage(session));
+        verify(mapMessage).setString(JmsCacheInvalidationChannel.CACHE_NAME, "codes");
+        verify(mapMessage).setString(JmsCacheInvalidationChannel.CACHE_KEY, "defaultcv");
+        verify(mapMessage).setStringProperty(JmsCacheInvalidationChannel.ORIGIN_NODE, underTest.getNodeId());
+    }
+
+    @Test
+    public void givenMessageOfOtherNodeWhenReceivedThenInvalidationIsDelivered() throws JMSException {
+        when(mapMessage.getStringProperty(JmsCacheInvalidationChannel.ORIGIN_NODE)).thenReturn("other-node");
+        when(mapMessage.getString(JmsCacheInvalidationChannel.CACHE_NAME)).thenReturn("codes");
+        when(mapMessage.getString(JmsCacheInvalidationChannel.CACHE_KEY)).thenReturn(null);
+
+        underTest.onMessage(mapMessage, received::add);
+
+        assertEquals(List.of(CacheInvalidationData.clear("codes")), received);
+    }
+
+    @Test
+    public void givenOwnMessageWhenReceivedThenInvalidationIsSkipped() throws JMSException {
+        when(mapMessage.getStringProperty(JmsCacheInvalidationChannel.ORIGIN_NODE)).thenReturn(underTest.getNodeId());
+
+        underTest.onMessage(mapMessage, received::add);
+
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void givenOtherMessageTypeWhenReceivedThenItIsIgnored() {
+        underTest.onMessage(mock(TextMessage.class), received::add);
+
+        assertTrue(received.isEmpty());
+    }
+}
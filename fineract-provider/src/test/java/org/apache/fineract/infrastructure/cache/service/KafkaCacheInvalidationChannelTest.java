@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractEventsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProducerKafkaProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProducerProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProperties;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@ExtendWith(MockitoExtension.class)
+public class KafkaCacheInvalidationChannelTest {
+
+    @Mock
+    private KafkaTemplate<Long, byte[]> kafkaTemplate;
+
+    private final List<CacheInvalidationData> received = new ArrayList<>();
+
+    private KafkaCacheInvalidationChannel underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractMultiNodeCacheProperties multiNodeProperties = new FineractProperties.FineractMultiNodeCacheProperties();
+        multiNodeProperties.setTopicName("cache-invalidation");
+        FineractProperties.FineractCacheProperties cacheProperties = new FineractProperties.FineractCacheProperties();
+        cacheProperties.setMultiNode(multiNodeProperties);
+        FineractExternalEventsProducerKafkaProperties kafkaProperties = new FineractExternalEventsProducerKafkaProperties();
+        kafkaProperties.setTimeoutInSeconds(10);
+        FineractExternalEventsProducerProperties producerProperties = new FineractExternalEventsProducerProperties();
+        producerProperties.setKafka(kafkaProperties);
+        FineractExternalEventsProperties externalEventsProperties = new FineractExternalEventsProperties();
+        externalEventsProperties.setProducer(producerProperties);
+        FineractEventsProperties eventsProperties = new FineractEventsProperties();
+        eventsProperties.setExternal(externalEventsProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setCache(cacheProperties);
+        fineractProperties.setEvents(eventsProperties);
+        underTest = new KafkaCacheInvalidationChannel(kafkaTemplate, fineractProperties);
+    }
+
+    @Test
+    public void givenEvictionWhenPublishThenRecordIsSentWithKeyAndOriginHeaders() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        underTest.publish(CacheInvalidationData.evict("codes", "defaultcv"));
+
+        ProducerRecord<Long, byte[]> record = sentRecord();
+        assertEquals("cache-invalidation", record.topic());
+        assertEquals("codes", new String(record.value(), UTF_8));
+        assertEquals("defaultcv", header(record, KafkaCacheInvalidationChannel.CACHE_KEY_HEADER));
+        assertEquals(underTest.getNodeId(), header(record, KafkaCacheInvalidationChannel.ORIGIN_NODE_HEADER));
+    }
+
+    @Test
+    public void givenClearWhenPublishThenRecordHasNoKeyHeader() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        underTest.publish(CacheInvalidationData.clear("codes"));
+
+        assertNull(sentRecord().headers().lastHeader(KafkaCacheInvalidationChannel.CACHE_KEY_HEADER));
+    }
+
+    @Test
+    public void givenFailedSendWhenPublishThenExceptionIsThrown() {
+        CompletableFuture<SendResult<Long, byte[]>> failed = CompletableFuture.failedFuture(new IllegalStateException("Broker down"));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(failed);
+
+        assertThrows(IllegalStateException.class, () -> underTest.publish(CacheInvalidationData.clear("codes")));
+    }
+
+    @Test
+    public void givenRecordOfOtherNodeWhenReceivedThenInvalidationIsDelivered() {
+        underTest.onRecord(record("codes", "defaultcv", "other-node"), received::add);
+        underTest.onRecord(record("codes", null, "other-node"), received::add);
+
+        assertEquals(List.of(CacheInvalidationData.evict("codes", "defaultcv"), CacheInvalidationData.clear("codes")), received);
+    }
+
+    @Test
+    public void givenOwnRecordWhenReceivedThenInvalidationIsSkipped() {
+        underTest.onRecord(record("codes", "defaultcv", underTest.getNodeId()), received::add);
+
+        assertTrue(received.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<Long, byte[]> sentRecord() {
+        ArgumentCaptor<ProducerRecord<Long, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private static String header(ProducerRecord<Long, byte[]> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), UTF_8);
+    }
+
+    private static ConsumerRecord<Long, byte[]> record(String cacheName, String cacheKey, String originNode) {
+        ConsumerRecord<Long, byte[]> record = new ConsumerRecord<>("cache-invalidation", 0, 0L, null, cacheName.getBytes(UTF_8));
+        if (cacheKey != null) {
+            record.headers().add(KafkaCacheInvalidationChannel.CACHE_KEY_HEADER, cacheKey.getBytes(UTF_8));
+        }
+        record.headers().add(KafkaCacheInvalidationChannel.ORIGIN_NODE_HEADER, originNode.getBytes(UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationData;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+public class MultiNodeCacheManagerTest {
+
+    @Mock
+    private CacheInvalidationChannel channel;
+
+    private ConcurrentMapCacheManager nearCacheManager;
+    private MultiNodeCacheManager underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractMultiNodeCacheProperties multiNodeProperties = new FineractProperties.FineractMultiNodeCacheProperties();
+        multiNodeProperties.setInvalidationChannel("jdbc");
+        FineractProperties.FineractCacheProperties cacheProperties = new FineractProperties.FineractCacheProperties();
+        cacheProperties.setMultiNode(multiNodeProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setCache(cacheProperties);
+        lenient().when(channel.getName()).thenReturn("jdbc");
+        nearCacheManager = new ConcurrentMapCacheManager("codes");
+        underTest = new MultiNodeCacheManager(nearCacheManager, List.of(channel), fineractProperties);
+    }
+
+    @Test
+    public void givenInactiveCacheWhenEvictThenNothingIsPublished() {
+        Cache cache = underTest.getCache("codes");
+        cache.put("defaultcv", "value");
+
+        cache.evict("defaultcv");
+
+        assertNull(nearCacheManager.getCache("codes").get("defaultcv"));
+        verify(channel, never()).publish(any());
+    }
+
+    @Test
+    public void givenActiveCacheWhenEvictAndClearThenInvalidationsArePublished() {
+        underTest.activate();
+        Cache cache = underTest.getCache("codes");
+        cache.put("defaultcv", "value");
+
+        cache.evict("defaultcv");
+        cache.clear();
+
+        ArgumentCaptor<CacheInvalidationData> captor = ArgumentCaptor.forClass(CacheInvalidationData.class);
+        verify(channel, times(2)).publish(captor.capture());
+        assertEquals(CacheInvalidationData.evict("codes", "defaultcv"), captor.getAllValues().get(0));
+        assertEquals(CacheInvalidationData.clear("codes"), captor.getAllValues().get(1));
+    }
+
+    @Test
+    public void givenActiveCacheWhenPutThenNothingIsPublished() {
+        underTest.activate();
+
+        underTest.getCache("codes").put("defaultcv", "value");
+
+        verify(channel, never()).publish(any());
+        assertNotNull(nearCacheManager.getCache("codes").get("defaultcv"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenRemoteInvalidationWhenReceivedThenLocalEntryIsEvicted() {
+        underTest.activate();
+        ArgumentCaptor<Consumer<CacheInvalidationData>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(channel).start(listenerCaptor.capture());
+        Cache cache = underTest.getCache("codes");
+        cache.put("defaultcv", "value");
+        cache.put("otherTenantcv", "value");
+
+        listenerCaptor.getValue().accept(CacheInvalidationData.evict("codes", "defaultcv"));
+
+        assertNull(cache.get("defaultcv"));
+        assertNotNull(cache.get("otherTenantcv"));
+        verify(channel, never()).publish(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenInvalidationListenerWhenInvalidationIsReceivedThenListenerIsCalled() {
+        underTest.activate();
+        ArgumentCaptor<Consumer<CacheInvalidationData>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(channel).start(listenerCaptor.capture());
+        List<CacheInvalidationData> received = new ArrayList<>();
+        underTest.addInvalidationListener("loanHardLocks", received::add);
+
+        underTest.publishInvalidation(CacheInvalidationData.evict("loanHardLocks", "default"));
+        listenerCaptor.getValue().accept(CacheInvalidationData.evict("loanHardLocks", "other"));
+
+        verify(channel).publish(CacheInvalidationData.evict("loanHardLocks", "default"));
+        assertEquals(List.of(CacheInvalidationData.evict("loanHardLocks", "other")), received);
+    }
+
+    @Test
+    public void givenInvalidationListenerWhenActivatedThenListenerIsCleared() {
+        List<CacheInvalidationData> received = new ArrayList<>();
+        underTest.addInvalidationListener("loanHardLocks", received::add);
+
+        underTest.activate();
+
+        assertTrue(underTest.isActive());
+        assertEquals(List.of(CacheInvalidationData.clear("loanHardLocks")), received);
+    }
+
+    @Test
+    public void givenRegionUnknownToNearCacheWhenUsedThenInMemoryRegionIsCreated() {
+        Cache cache = underTest.getCache("payment_types");
+        cache.put("defaultpayment_types", "value");
+
+        assertNotNull(underTest.getCache("payment_types").get("defaultpayment_types"));
+    }
+}
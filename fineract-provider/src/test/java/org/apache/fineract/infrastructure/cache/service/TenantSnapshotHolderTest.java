@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TenantSnapshotHolderTest {
+
+    private final AtomicLong clock = new AtomicLong(1000L);
+    private final AtomicLong timeToLive = new AtomicLong(100L);
+    private final AtomicInteger loads = new AtomicInteger();
+    private Runnable duringLoad = () -> {};
+
+    private final TenantSnapshotHolder<Integer> underTest = new TenantSnapshotHolder<>(() -> {
+        duringLoad.run();
+        return loads.incrementAndGet();
+    }, timeToLive::get, clock::get);
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void givenSnapshotWhenLookupWithinTimeToLiveThenItIsLoadedOnce() {
+        assertEquals(1, underTest.get());
+        clock.addAndGet(99L);
+        assertEquals(1, underTest.get());
+
+        clock.addAndGet(1L);
+        assertEquals(2, underTest.get());
+    }
+
+    @Test
+    public void givenNoTimeToLiveWhenLookupThenSnapshotIsLoadedEveryTime() {
+        timeToLive.set(0L);
+
+        assertEquals(1, underTest.get());
+        assertEquals(2, underTest.get());
+    }
+
+    @Test
+    public void givenInvalidationWhenLookupThenSnapshotIsReloaded() {
+        assertEquals(1, underTest.get());
+
+        underTest.invalidate();
+
+        assertEquals(2, underTest.get());
+    }
+
+    @Test
+    public void givenChangeCommittedDuringLoadWhenLookupThenLoadedSnapshotIsNotKept() {
+        duringLoad = () -> {
+            duringLoad = () -> {};
+            underTest.invalidate();
+        };
+
+        assertEquals(1, underTest.get());
+        assertEquals(2, underTest.get());
+        assertEquals(2, underTest.get());
+    }
+
+    @Test
+    public void givenTransactionWhenInvalidatedThenSnapshotIsDroppedAfterCommit() {
+        assertEquals(1, underTest.get());
+        TransactionSynchronizationManager.initSynchronization();
+
+        underTest.invalidate();
+        assertEquals(1, underTest.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(2, underTest.get());
+    }
+
+    @Test
+    public void givenOtherTenantWhenInvalidatedThenSnapshotIsKept() {
+        assertEquals(1, underTest.get());
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+        assertEquals(2, underTest.get());
+
+        underTest.invalidate();
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+
+        assertEquals(1, underTest.get());
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.jersey;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.glassfish.jersey.uri.UriTemplate;
+import org.junit.jupiter.api.Test;
+
+public class RequestPathTemplateFilterTest {
+
+    @Test
+    public void testMatchedTemplatesAreJoinedFromResourceToMethod() {
+        assertEquals("/v1/loans/{loanId}/transactions/{transactionId}", RequestPathTemplateFilter.toPath(
+                List.of(new UriTemplate("{transactionId}"), new UriTemplate("/v1/loans/{loanId}/transactions"), new UriTemplate("/"))));
+        assertEquals("/v1/clients", RequestPathTemplateFilter.toPath(List.of(new UriTemplate("/v1/clients/"))));
+        assertEquals("/", RequestPathTemplateFilter.toPath(List.of()));
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class CallerContextTest {
+
+    private final FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null);
+    private final Authentication authentication = new TestingAuthenticationToken("mifos", "password");
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(tenant);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 3, 15))));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put("correlationId", "abc");
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        ThreadLocalContextUtil.reset();
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    void testTaskRunsWithTheContextOfTheCaller() throws Exception {
+        CallerContext callerContext = CallerContext.capture();
+
+        Object[] seen = executor.submit(() -> callerContext.call(() -> new Object[] { ThreadLocalContextUtil.getTenant(),
+                ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.BUSINESS_DATE),
+                SecurityContextHolder.getContext().getAuthentication(), MDC.get("correlationId") })).get();
+
+        assertSame(tenant, seen[0]);
+        assertEquals(LocalDate.of(2024, 3, 15), seen[1]);
+        assertSame(authentication, seen[2]);
+        assertEquals("abc", seen[3]);
+    }
+
+    @Test
+    void testContextIsClearedFromThePooledThreadAfterTheTask() throws Exception {
+        executor.submit(new CallerContextTaskDecorator().decorate(() -> {})).get();
+
+        Object[] seen = executor.submit(() -> new Object[] { ThreadLocalContextUtil.getTenant(),
+                SecurityContextHolder.getContext().getAuthentication(), MDC.get("correlationId") }).get();
+
+        assertNull(seen[0]);
+        assertNull(seen[1]);
+        assertNull(seen[2]);
+    }
+}
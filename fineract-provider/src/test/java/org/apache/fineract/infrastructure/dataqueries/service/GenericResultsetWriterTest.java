@@ -0,0 +1,99 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+import org.apache.fineract.infrastructure.dataqueries.service.export.CsvGenericResultsetWriter;
+import org.apache.fineract.infrastructure.dataqueries.service.export.GsonGenericResultsetWriter;
+import org.apache.fineract.infrastructure.dataqueries.service.export.JsonGenericResultsetWriter;
+import org.junit.jupiter.api.Test;
+
+public class GenericResultsetWriterTest {
+
+    private static final List<ResultsetColumnHeaderData> COLUMN_HEADERS = List.of(
+            ResultsetColumnHeaderData.basic("name", "VARCHAR", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("amount", "DECIMAL", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("date", "DATE", DatabaseType.MYSQL));
+    private static final List<List<Object>> ROWS = List.of(Arrays.asList("a\"b", new BigDecimal("12.5"), LocalDate.of(2023, 1, 2)),
+            Arrays.asList("c", null, null));
+
+    @Test
+    public void testJsonWriter() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        write(new JsonGenericResultsetWriter(writer));
+
+        assertEquals("[\n{\"name\": \"a\\\"b\",\n\"amount\": 12.5,\n\"date\": [2023,1,2]},"
+                + "\n{\"name\": \"c\",\n\"amount\": null,\n\"date\": null}\n]", writer.toString());
+    }
+
+    @Test
+    public void testJsonWriterWithoutRows() throws IOException {
+        StringWriter writer = new StringWriter();
+        JsonGenericResultsetWriter jsonWriter = new JsonGenericResultsetWriter(writer);
+
+        jsonWriter.start(COLUMN_HEADERS);
+        jsonWriter.end();
+
+        assertEquals("[\n]", writer.toString());
+    }
+
+    @Test
+    public void testGsonWriterMatchesSerializedGenericResultset() throws IOException {
+        GenericResultsetData resultset = new GenericResultsetData(COLUMN_HEADERS,
+                ROWS.stream().map(ResultsetRowData::create).toList());
+
+        for (boolean prettyPrint : new boolean[] { false, true }) {
+            StringWriter writer = new StringWriter();
+
+            write(new GsonGenericResultsetWriter(writer, prettyPrint));
+
+            assertEquals(GoogleGsonSerializerHelper.createGsonBuilder(prettyPrint).create().toJson(resultset), writer.toString());
+        }
+    }
+
+    @Test
+    public void testCsvWriter() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        write(new CsvGenericResultsetWriter(writer));
+
+        assertEquals("name,amount,date\r\n\"a\"\"b\",12.5,2023-01-02\r\nc,,\r\n", writer.toString());
+    }
+
+    private static void write(GenericResultsetStreamHandler handler) throws IOException {
+        handler.start(COLUMN_HEADERS);
+        for (List<Object> row : ROWS) {
+            handler.row(row);
+        }
+        handler.end();
+    }
+}
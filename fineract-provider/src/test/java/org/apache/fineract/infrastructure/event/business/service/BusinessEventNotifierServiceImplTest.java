@@ -31,8 +31,7 @@ import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
-import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
-import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventConfiguration;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventConfigurationCache;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,7 +52,7 @@ class BusinessEventNotifierServiceImplTest {
     private ExternalEventService externalEventService;
 
     @Mock
-    private ExternalEventConfigurationRepository externalEventConfigurationRepository;
+    private ExternalEventConfigurationCache externalEventConfigurationCache;
 
     @Mock
     private FineractProperties fineractProperties;
@@ -85,8 +84,7 @@ class BusinessEventNotifierServiceImplTest {
         BusinessEventListener<MockBusinessEvent> postListener = mockListener();
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
 
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         // when
         underTest.notifyPostBusinessEvent(event);
         // then
@@ -98,8 +96,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotPostAnythingWhenNoEventWasRaisedExternalEventWhenRecordingEnabled() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         underTest.startExternalEventRecording();
         // when
         underTest.stopExternalEventRecording();
@@ -111,8 +108,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotifyPostListenersAndPostARegularExternalEventWhenRecordingEnabled() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         MockBusinessEvent event = new MockBusinessEvent();
         BusinessEventListener<MockBusinessEvent> postListener = mockListener();
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
@@ -129,8 +125,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotifyPostListenersAndPostAnBulkExternalEventWhenRecordingEnabled() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         MockBusinessEvent event = new MockBusinessEvent();
         MockBusinessEvent event2 = new MockBusinessEvent();
         BusinessEventListener<MockBusinessEvent> postListener = mockListener();
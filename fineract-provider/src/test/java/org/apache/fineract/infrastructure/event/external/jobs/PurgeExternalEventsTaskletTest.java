@@ -27,14 +27,17 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,6 +48,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 public class PurgeExternalEventsTaskletTest {
@@ -57,6 +61,9 @@ public class PurgeExternalEventsTaskletTest {
     private StepContribution stepContribution;
     @Mock
     private ChunkContext chunkContext;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private FineractProperties.FineractExternalEventsPurgeProperties purgeProperties;
     private RepeatStatus resultStatus;
     private PurgeExternalEventsTasklet underTest;
 
@@ -66,7 +73,14 @@ public class PurgeExternalEventsTaskletTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService);
+        FineractProperties fineractProperties = new FineractProperties();
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        purgeProperties = new FineractProperties.FineractExternalEventsPurgeProperties();
+        externalProperties.setPurge(purgeProperties);
+        eventsProperties.setExternal(externalProperties);
+        fineractProperties.setEvents(eventsProperties);
+        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService, fineractProperties, transactionManager);
     }
 
     @Test
@@ -96,4 +110,38 @@ public class PurgeExternalEventsTaskletTest {
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
+    @Test
+    public void givenChunkSizeWhenTaskExecutionThenEventsArePurgedChunkByChunk() {
+        // given
+        purgeProperties.setChunkSize(2);
+        LocalDate expectedDateForPurgeCriteria = DateUtils.getBusinessLocalDate().minusDays(2);
+        when(configurationDomainService.retrieveExternalEventsPurgeDaysCriteria()).thenReturn(2L);
+        when(repository.findIdsOfOlderEventsWithStatusAndIdGreaterThan(Mockito.eq(ExternalEventStatus.SENT),
+                Mockito.eq(expectedDateForPurgeCriteria), Mockito.eq(0L), Mockito.any())).thenReturn(List.of(1L, 2L));
+        when(repository.findIdsOfOlderEventsWithStatusAndIdGreaterThan(Mockito.eq(ExternalEventStatus.SENT),
+                Mockito.eq(expectedDateForPurgeCriteria), Mockito.eq(2L), Mockito.any())).thenReturn(List.of(5L));
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(repository).deleteEventsByIds(List.of(1L, 2L));
+        verify(repository).deleteEventsByIds(List.of(5L));
+        verify(repository, times(2)).findIdsOfOlderEventsWithStatusAndIdGreaterThan(Mockito.any(), Mockito.any(), Mockito.any(),
+                Mockito.any());
+        verify(repository, times(0)).deleteOlderEventsWithSentStatus(Mockito.any(), Mockito.any());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
+    @Test
+    public void givenChunkSizeAndNoEventsForPurgeWhenTaskExecutionThenNothingIsDeleted() {
+        // given
+        purgeProperties.setChunkSize(2);
+        when(configurationDomainService.retrieveExternalEventsPurgeDaysCriteria()).thenReturn(2L);
+        when(repository.findIdsOfOlderEventsWithStatusAndIdGreaterThan(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(List.of());
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(repository, times(0)).deleteEventsByIds(Mockito.any());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
 }
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -60,6 +61,7 @@ import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -81,6 +83,10 @@ class SendAsynchronousEventsTaskletTest {
     private ByteBufferConverter byteBufferConverter;
     @Mock
     private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private FineractProperties.FineractExternalEventsSenderProperties senderProperties;
+    private SimpleMeterRegistry meterRegistry;
     private SendAsynchronousEventsTasklet underTest;
     private RepeatStatus resultStatus;
 
@@ -93,8 +99,9 @@ class SendAsynchronousEventsTaskletTest {
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
         configureExternalEventsProducerReadBatchSizeProperty();
+        meterRegistry = new SimpleMeterRegistry();
         underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory, byteBufferConverter,
-                configurationDomainService);
+                configurationDomainService, transactionManager, meterRegistry);
     }
 
     private void configureExternalEventsProducerReadBatchSizeProperty() {
@@ -106,6 +113,10 @@ class SendAsynchronousEventsTaskletTest {
         externalProperties.setEnabled(true);
         externalEventsProducerProperties.setJms(externalEventsProducerJMSProperties);
         externalProperties.setProducer(externalEventsProducerProperties);
+        senderProperties = new FineractProperties.FineractExternalEventsSenderProperties();
+        senderProperties.setMaxBatchesPerRun(10);
+        senderProperties.setSerializationThreadCount(2);
+        externalProperties.setSender(senderProperties);
         eventsProperties.setExternal(externalProperties);
         when(fineractProperties.getEvents()).thenReturn(eventsProperties);
         when(configurationDomainService.retrieveExternalEventBatchSize()).thenReturn(10L);
@@ -203,6 +214,62 @@ class SendAsynchronousEventsTaskletTest {
         assertThat(externalEventPageSizeArgumentCaptor.getValue().getPageSize()).isEqualTo(10);
     }
 
+    @Test
+    public void givenStreamingEnabledWhenTaskExecutionThenAllBatchesAreSentAndMarkedIncrementally() throws Exception {
+        // given
+        senderProperties.setStreamingEnabled(true);
+        List<ExternalEventView> firstBatch = Arrays.asList(
+                createExternalEventView(1L, "aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L),
+                createExternalEventView(2L, "aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 2L));
+        List<ExternalEventView> secondBatch = Arrays
+                .asList(createExternalEventView(3L, "aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L));
+        MessageV1 dummyMessage = new MessageV1(1, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
+        when(repository.findByStatusAndIdGreaterThanOrderById(Mockito.any(), Mockito.eq(0L), Mockito.any())).thenReturn(firstBatch);
+        when(repository.findByStatusAndIdGreaterThanOrderById(Mockito.any(), Mockito.eq(2L), Mockito.any())).thenReturn(secondBatch);
+        when(repository.findByStatusAndIdGreaterThanOrderById(Mockito.any(), Mockito.eq(3L), Mockito.any())).thenReturn(List.of());
+        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
+        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(eventProducer, times(2)).sendEvents(Mockito.any());
+        verify(repository).markEventsSent(Mockito.eq(List.of(1L, 2L)), Mockito.any());
+        verify(repository).markEventsSent(Mockito.eq(List.of(3L)), Mockito.any());
+        verify(repository, times(0)).findByStatusOrderById(Mockito.any(), Mockito.any());
+        assertEquals(3.0, meterRegistry.get("fineract.external.events.sent").counter().count());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
+    @Test
+    public void givenStreamingEnabledWhenEventSendFailsThenFollowingBatchesAreNotSent() throws Exception {
+        // given
+        senderProperties.setStreamingEnabled(true);
+        List<ExternalEventView> firstBatch = Arrays
+                .asList(createExternalEventView(1L, "aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L));
+        MessageV1 dummyMessage = new MessageV1(1, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
+        when(repository.findByStatusAndIdGreaterThanOrderById(Mockito.any(), Mockito.eq(0L), Mockito.any())).thenReturn(firstBatch);
+        when(repository.findByStatusAndIdGreaterThanOrderById(Mockito.any(), Mockito.eq(1L), Mockito.any())).thenReturn(firstBatch);
+        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
+        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        doThrow(new AcknowledgementTimeoutException("Event Send Exception", new RuntimeException())).when(eventProducer)
+                .sendEvents(Mockito.any());
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(eventProducer, times(1)).sendEvents(Mockito.any());
+        verify(repository, times(0)).markEventsSent(Mockito.any(), Mockito.any());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
+    private ExternalEventView createExternalEventView(Long id, String type, String category, String schema, byte[] data,
+            String idempotencyKey, Long aggregateRootId) {
+        ExternalEventView result = createExternalEventView(type, category, schema, data, idempotencyKey, aggregateRootId);
+        Mockito.when(result.getId()).thenReturn(id);
+        return result;
+    }
+
     private ExternalEventView createExternalEventView(String type, String category, String schema, byte[] data, String idempotencyKey,
             Long aggregateRootId) {
         ExternalEventView result = Mockito.mock(ExternalEventView.class);
@@ -20,6 +20,7 @@ package org.apache.fineract.infrastructure.event.external.producer.kafka;
 
 import static org.mockito.Mockito.times;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
@@ -58,7 +59,7 @@ class KafkaExternalEventProducerTest {
     @Test
     public void testSendOK() {
         // given
-        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties());
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties(), new SimpleMeterRegistry());
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(CompletableFuture.completedFuture(sendResult1));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND)).thenReturn(CompletableFuture.completedFuture(sendResult2));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 2L, THIRD)).thenReturn(CompletableFuture.completedFuture(sendResult2));
@@ -76,7 +77,7 @@ class KafkaExternalEventProducerTest {
     @Test
     public void testSendOneFails() {
         // given
-        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties());
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties(), new SimpleMeterRegistry());
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(CompletableFuture.completedFuture(sendResult1));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND)).thenReturn(CompletableFuture.completedFuture(sendResult2));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 2L, THIRD))
@@ -95,7 +96,7 @@ class KafkaExternalEventProducerTest {
     @Test
     public void testTimeOut() {
         // given
-        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties());
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties(), new SimpleMeterRegistry());
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(CompletableFuture.completedFuture(sendResult1));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND)).thenReturn(CompletableFuture.completedFuture(sendResult2));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 2L, THIRD)).thenReturn(new CompletableFuture<>());
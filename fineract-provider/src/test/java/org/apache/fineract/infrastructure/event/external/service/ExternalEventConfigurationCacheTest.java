@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.exception.ExternalEventConfigurationNotFoundException;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ExternalEventConfigurationCacheTest {
+
+    @Mock
+    private ExternalEventConfigurationRepository repository;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private FineractProperties fineractProperties;
+
+    private ExternalEventConfigurationCache underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        lenient().when(fineractProperties.getEvents().getExternal().getConfigurationCacheTtlSeconds()).thenReturn(60);
+        when(repository.findAll())
+                .thenReturn(List.of(new ExternalEventConfiguration("aType", true), new ExternalEventConfiguration("bType", false)));
+        underTest = new ExternalEventConfigurationCache(repository, fineractProperties);
+    }
+
+    @Test
+    public void givenSnapshotWhenLookupThenDatabaseIsQueriedOnce() {
+        // when + then
+        assertTrue(underTest.isEnabled("aType"));
+        assertFalse(underTest.isEnabled("bType"));
+        assertTrue(underTest.isEnabled("aType"));
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    public void givenUnknownTypeWhenLookupThenExceptionIsThrown() {
+        assertThrows(ExternalEventConfigurationNotFoundException.class, () -> underTest.isEnabled("unknownType"));
+    }
+
+    @Test
+    public void givenInvalidatedSnapshotWhenLookupThenConfigurationIsReloaded() {
+        // given
+        assertTrue(underTest.isEnabled("aType"));
+        when(repository.findAll()).thenReturn(List.of(new ExternalEventConfiguration("aType", false)));
+
+        // when
+        underTest.invalidate();
+
+        // then
+        assertFalse(underTest.isEnabled("aType"));
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    public void givenNoTimeToLiveWhenLookupThenConfigurationIsLoadedEveryTime() {
+        // given
+        when(fineractProperties.getEvents().getExternal().getConfigurationCacheTtlSeconds()).thenReturn(0);
+
+        // when + then
+        assertTrue(underTest.isEnabled("aType"));
+        assertTrue(underTest.isEnabled("aType"));
+        verify(repository, times(2)).findAll();
+    }
+}
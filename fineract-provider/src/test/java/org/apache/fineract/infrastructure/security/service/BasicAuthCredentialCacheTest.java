@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BasicAuthCredentialCacheTest {
+
+    private static final String ENCODED = "{bcrypt}$2a$10$encoded";
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private BasicAuthCredentialCache underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new BasicAuthCredentialCache(properties(true, 2), meterRegistry, clock::get);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testVerifiedCredentialIsHit() {
+        assertFalse(underTest.isVerified("mifos", ENCODED, "password"));
+        underTest.put("mifos", ENCODED, "password");
+
+        assertTrue(underTest.isVerified("mifos", ENCODED, "password"));
+        assertEquals(1.0, counter("hit"));
+        assertEquals(1.0, counter("miss"));
+    }
+
+    @Test
+    public void testDifferentPasswordOrHashIsMiss() {
+        underTest.put("mifos", ENCODED, "password");
+
+        assertFalse(underTest.isVerified("mifos", ENCODED, "wrong"));
+        underTest.put("mifos", ENCODED, "password");
+        assertFalse(underTest.isVerified("mifos", "{bcrypt}$2a$10$changed", "password"));
+    }
+
+    @Test
+    public void testEntriesAreTenantScoped() {
+        underTest.put("mifos", ENCODED, "password");
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+
+        assertFalse(underTest.isVerified("mifos", ENCODED, "password"));
+    }
+
+    @Test
+    public void testEntriesExpire() {
+        underTest.put("mifos", ENCODED, "password");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertFalse(underTest.isVerified("mifos", ENCODED, "password"));
+    }
+
+    @Test
+    public void testEvict() {
+        underTest.put("mifos", ENCODED, "password");
+        underTest.evict("mifos");
+
+        assertFalse(underTest.isVerified("mifos", ENCODED, "password"));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        underTest.put("user1", ENCODED, "password");
+        underTest.put("user2", ENCODED, "password");
+        underTest.put("user3", ENCODED, "password");
+        assertFalse(underTest.isVerified("user3", ENCODED, "password"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        underTest.put("user3", ENCODED, "password");
+        assertTrue(underTest.isVerified("user3", ENCODED, "password"));
+        assertEquals(1.0, meterRegistry.get("fineract.security.basicauth.credential.cache.size").gauge().value());
+    }
+
+    @Test
+    public void testDisabledCacheNeverHits() {
+        underTest = new BasicAuthCredentialCache(properties(false, 2), new SimpleMeterRegistry(), clock::get);
+        underTest.put("mifos", ENCODED, "password");
+
+        assertFalse(underTest.isVerified("mifos", ENCODED, "password"));
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("fineract.security.basicauth.credential.cache").tag("result", result).counter().count();
+    }
+
+    private static FineractProperties.FineractSecurityBasicAuthCredentialCache properties(boolean enabled, int maxSize) {
+        FineractProperties.FineractSecurityBasicAuthCredentialCache properties =
+                new FineractProperties.FineractSecurityBasicAuthCredentialCache();
+        properties.setEnabled(enabled);
+        properties.setMaxSize(maxSize);
+        properties.setTtlSeconds(60);
+        return properties;
+    }
+}
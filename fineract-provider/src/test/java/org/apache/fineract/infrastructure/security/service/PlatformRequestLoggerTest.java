@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class PlatformRequestLoggerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testRequestIsTimedPerPathTemplate() {
+        PlatformRequestLogger underTest = new PlatformRequestLogger(properties(false, true), meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/fineract-provider/api/v1/loans/12");
+        request.setAttribute(PlatformRequestLogger.PATH_TEMPLATE_ATTRIBUTE, "/v1/loans/{loanId}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(200);
+
+        underTest.record(request, response, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5), "default");
+        underTest.record(request, response, System.nanoTime(), "default");
+
+        Timer timer = meterRegistry.find("fineract.api.requests").tag("tenant", "default").tag("method", "GET")
+                .tag("path", "/v1/loans/{loanId}").tag("status", "200").timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+        assertTrue(timer.max(TimeUnit.MILLISECONDS) >= 5);
+    }
+
+    @Test
+    public void testUnmatchedRequestIsTimedAsUnknown() {
+        PlatformRequestLogger underTest = new PlatformRequestLogger(properties(false, true), meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(401);
+
+        underTest.record(new MockHttpServletRequest("POST", "/fineract-provider/api/v1/loans"), response, System.nanoTime(), null);
+
+        assertNotNull(meterRegistry.find("fineract.api.requests").tag("tenant", "none").tag("path", PlatformRequestLogger.UNKNOWN_PATH)
+                .tag("status", "401").timer());
+    }
+
+    @Test
+    public void testNothingIsRecordedWhenDisabled() {
+        PlatformRequestLogger underTest = new PlatformRequestLogger(properties(false, false), meterRegistry);
+
+        underTest.record(new MockHttpServletRequest("GET", "/api/v1/clients"), new MockHttpServletResponse(), System.nanoTime(), "default");
+
+        assertNull(meterRegistry.find("fineract.api.requests").timer());
+        assertNull(meterRegistry.find("fineract.api.request.log.dropped").counter());
+    }
+
+    @Test
+    public void testCurrentTenantIdentifier() {
+        assertNull(PlatformRequestLogger.currentTenantIdentifier());
+
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+
+        assertEquals("default", PlatformRequestLogger.currentTenantIdentifier());
+    }
+
+    private static FineractProperties.FineractApiRequestLogProperties properties(boolean enabled, boolean metricsEnabled) {
+        FineractProperties.FineractApiRequestLogProperties properties = new FineractProperties.FineractApiRequestLogProperties();
+        properties.setEnabled(enabled);
+        properties.setQueueCapacity(10);
+        properties.setMetricsEnabled(metricsEnabled);
+        return properties;
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.fineract.investor.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
@@ -32,6 +33,7 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.fineract.avro.loan.v1.LoanAccountDataV1;
@@ -39,12 +41,17 @@ import org.apache.fineract.avro.loan.v1.LoanChargeDataV1;
 import org.apache.fineract.avro.loan.v1.LoanTransactionDataV1;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.support.ExternalIdMapper;
+import org.apache.fineract.investor.domain.ExternalAssetOwner;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransfer;
 import org.apache.fineract.investor.enricher.LoanAccountDataV1Enricher;
 import org.apache.fineract.investor.enricher.LoanChargeDataV1Enricher;
 import org.apache.fineract.investor.enricher.LoanTransactionDataV1Enricher;
+import org.apache.fineract.investor.service.LoanOwnershipResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -179,4 +186,29 @@ public class EnricherTest {
 
     }
 
+    @Test
+    public void testBulkEnrichmentResolvesOwnersOfAllItemsAtOnce() {
+        LoanOwnershipResolver loanOwnershipResolver = mock(LoanOwnershipResolver.class);
+        ExternalAssetOwner owner = new ExternalAssetOwner();
+        owner.setExternalId(new ExternalId("owner-1"));
+        ExternalAssetOwnerTransfer transfer = mock(ExternalAssetOwnerTransfer.class);
+        when(transfer.getOwner()).thenReturn(owner);
+        when(loanOwnershipResolver.findActiveTransfers(List.of(1L, 2L, 1L))).thenReturn(Map.of(1L, transfer));
+        LoanTransactionDataV1Enricher loanTransactionDataV1Enricher = new LoanTransactionDataV1Enricher(loanOwnershipResolver,
+                new ExternalIdMapper());
+        DataEnricherProcessor dataEnricherProcessor = new DataEnricherProcessor(Optional.of(List.of(loanTransactionDataV1Enricher)));
+
+        LoanTransactionDataV1 first = new LoanTransactionDataV1();
+        first.setLoanId(1L);
+        LoanTransactionDataV1 second = new LoanTransactionDataV1();
+        second.setLoanId(2L);
+        LoanTransactionDataV1 third = new LoanTransactionDataV1();
+        third.setLoanId(1L);
+        dataEnricherProcessor.enrichAll(List.of(first, second, third));
+
+        verify(loanOwnershipResolver, times(1)).findActiveTransfers(any());
+        assertEquals("owner-1", first.getExternalOwnerId());
+        assertNull(second.getExternalOwnerId());
+        assertEquals("owner-1", third.getExternalOwnerId());
+    }
 }
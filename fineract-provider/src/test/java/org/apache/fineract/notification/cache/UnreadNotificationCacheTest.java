@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.notification.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UnreadNotificationCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1000L);
+    private final UnreadNotificationCache underTest = new UnreadNotificationCache(60L, clock::get);
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testUnknownUserHasToBeLoaded() {
+        assertNull(underTest.get(1L));
+    }
+
+    @Test
+    public void testFlagIsFlippedInMemory() {
+        underTest.put(1L, false);
+        assertEquals(Boolean.FALSE, underTest.get(1L));
+
+        underTest.markUnread(List.of(1L, 2L));
+        assertEquals(Boolean.TRUE, underTest.get(1L));
+        assertEquals(Boolean.TRUE, underTest.get(2L));
+    }
+
+    @Test
+    public void testFlagHasToBeReloadedAfterRefreshInterval() {
+        underTest.put(1L, true);
+        clock.addAndGet(59L);
+        assertEquals(Boolean.TRUE, underTest.get(1L));
+
+        clock.addAndGet(1L);
+        assertNull(underTest.get(1L));
+    }
+
+    @Test
+    public void testFlagsAreTenantScoped() {
+        underTest.put(1L, true);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+
+        assertNull(underTest.get(1L));
+    }
+}
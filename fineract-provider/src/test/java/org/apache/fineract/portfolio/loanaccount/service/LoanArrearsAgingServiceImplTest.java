@@ -0,0 +1,260 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanSummary;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePeriodData;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class LoanArrearsAgingServiceImplTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2023, 6, 15);
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private DatabaseTypeResolver databaseTypeResolver;
+
+    private LoanArrearsAgingServiceImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        underTest = new LoanArrearsAgingServiceImpl(jdbcTemplate, businessEventNotifierService,
+                new DatabaseSpecificSQLGenerator(databaseTypeResolver));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(underTest);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testArrearsOfChunkAreUpsertedInOneBatch() {
+        Mockito.when(databaseTypeResolver.isMySQL()).thenReturn(true);
+        Loan overdueLoan = loan(1L, true, 0, installment(BUSINESS_DATE.minusDays(30), "100", "10"),
+                installment(BUSINESS_DATE.minusDays(10), "100", "5"), installment(BUSINESS_DATE.plusDays(20), "100", "5"));
+        Loan otherOverdueLoan = loan(2L, true, null, installment(BUSINESS_DATE.minusDays(1), "50", "0"));
+
+        underTest.updateLoanArrearsAgeingDetails(List.of(overdueLoan, otherOverdueLoan));
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(jdbcTemplate).batchUpdate(eq("INSERT INTO m_loan_arrears_aging (loan_id, principal_overdue_derived, "
+                + "interest_overdue_derived, fee_charges_overdue_derived, penalty_charges_overdue_derived, total_overdue_derived, "
+                + "overdue_since_date_derived) VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+                + "principal_overdue_derived = VALUES(principal_overdue_derived), "
+                + "interest_overdue_derived = VALUES(interest_overdue_derived), "
+                + "fee_charges_overdue_derived = VALUES(fee_charges_overdue_derived), "
+                + "penalty_charges_overdue_derived = VALUES(penalty_charges_overdue_derived), "
+                + "total_overdue_derived = VALUES(total_overdue_derived), overdue_since_date_derived = VALUES(overdue_since_date_derived)"),
+                batch.capture());
+        Assertions.assertEquals(2, batch.getValue().size());
+        Assertions.assertArrayEquals(new Object[] { 1L, new BigDecimal("200"), new BigDecimal("15"), BigDecimal.ZERO, BigDecimal.ZERO,
+                new BigDecimal("215"), BUSINESS_DATE.minusDays(30) }, batch.getValue().get(0));
+        Assertions.assertEquals(2L, batch.getValue().get(1)[0]);
+        Mockito.verify(jdbcTemplate, Mockito.never()).update(any(PreparedStatementCreator.class));
+    }
+
+    @Test
+    void testArrearsAreDeletedForLoansNotInArrears() {
+        Loan loanInGracePeriod = loan(1L, true, 5, installment(BUSINESS_DATE.minusDays(3), "100", "10"));
+        Loan closedLoan = Mockito.mock(Loan.class);
+        Mockito.when(closedLoan.getId()).thenReturn(2L);
+        Mockito.when(closedLoan.isOpen()).thenReturn(false);
+
+        underTest.updateLoanArrearsAgeingDetails(List.of(loanInGracePeriod, closedLoan));
+
+        Mockito.verify(jdbcTemplate).update(any(PreparedStatementCreator.class));
+        Mockito.verify(jdbcTemplate, Mockito.never()).batchUpdate(any(String.class), Mockito.<List<Object[]>>any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testArrearsOfLoanOverdueOnlyAgainstOriginalScheduleAreKept() {
+        Mockito.when(databaseTypeResolver.isMySQL()).thenReturn(true);
+        Loan loan = Mockito.mock(Loan.class);
+        LoanProductRelatedDetail detail = Mockito.mock(LoanProductRelatedDetail.class);
+        LoanProduct loanProduct = Mockito.mock(LoanProduct.class);
+        Mockito.when(loan.getId()).thenReturn(3L);
+        Mockito.when(loan.isOpen()).thenReturn(true);
+        Mockito.when(loan.repaymentScheduleDetail()).thenReturn(detail);
+        Mockito.when(detail.isInterestRecalculationEnabled()).thenReturn(true);
+        Mockito.when(loan.loanProduct()).thenReturn(loanProduct);
+        Mockito.when(loanProduct.isArrearsBasedOnOriginalSchedule()).thenReturn(true);
+        Mockito.when(loan.getLoanSummary())
+                .thenReturn(Mockito.mock(LoanSummary.class, invocation -> invocation.getMethod().getReturnType() == BigDecimal.class
+                        ? BigDecimal.ZERO
+                        : null));
+        // the current schedule was re-amortized and has nothing overdue, the original one has a missed installment
+        LocalDate missedDueDate = BUSINESS_DATE.minusDays(20);
+        Map<Long, List<LoanSchedulePeriodData>> originalSchedule = new HashMap<>();
+        originalSchedule.put(3L, new ArrayList<>(List.of(LoanSchedulePeriodData.repaymentOnlyPeriod(null, null, missedDueDate,
+                new BigDecimal("100"), null, new BigDecimal("10"), BigDecimal.ZERO, BigDecimal.ZERO, null, new BigDecimal("110")))));
+        Mockito.when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class))).thenReturn(originalSchedule);
+
+        underTest.updateLoanArrearsAgeingDetails(List.of(loan));
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(jdbcTemplate).batchUpdate(Mockito.startsWith("INSERT INTO m_loan_arrears_aging"), batch.capture());
+        Assertions.assertEquals(1, batch.getValue().size());
+        Assertions.assertArrayEquals(new Object[] { 3L, new BigDecimal("100"), new BigDecimal("10"), BigDecimal.ZERO, BigDecimal.ZERO,
+                new BigDecimal("110"), missedDueDate }, batch.getValue().get(0));
+        Mockito.verify(jdbcTemplate, Mockito.never()).update(any(PreparedStatementCreator.class));
+        Mockito.verify(loan, Mockito.never()).getRepaymentScheduleInstallments();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBufferedArrearsAreWrittenAsCalculatedAtTheStepBeforeEventSerialization() {
+        Mockito.when(databaseTypeResolver.isMySQL()).thenReturn(true);
+        Loan overdueLoan = loan(1L, true, 0, installment(BUSINESS_DATE.minusDays(30), "100", "10"));
+        Loan loanNotInArrears = loan(2L, true, 0, installment(BUSINESS_DATE.plusDays(30), "100", "10"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        underTest.bufferLoanArrearsAgeingDetails(overdueLoan);
+        underTest.bufferLoanArrearsAgeingDetails(loanNotInArrears);
+        Mockito.verifyNoInteractions(jdbcTemplate);
+        Mockito.clearInvocations(overdueLoan, loanNotInArrears);
+
+        // e.g. an external event is about to be serialized
+        TransactionSynchronizationUtils.triggerFlush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(jdbcTemplate).batchUpdate(Mockito.startsWith("INSERT INTO m_loan_arrears_aging"), batch.capture());
+        Assertions.assertEquals(1, batch.getValue().size());
+        Assertions.assertArrayEquals(new Object[] { 1L, new BigDecimal("100"), new BigDecimal("10"), BigDecimal.ZERO, BigDecimal.ZERO,
+                new BigDecimal("110"), BUSINESS_DATE.minusDays(30) }, batch.getValue().get(0));
+        Mockito.verify(jdbcTemplate).update(any(PreparedStatementCreator.class));
+        Mockito.verify(overdueLoan, Mockito.never()).getRepaymentScheduleInstallments();
+
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_COMMITTED);
+
+        Mockito.verifyNoMoreInteractions(jdbcTemplate);
+        Assertions.assertNull(TransactionSynchronizationManager.getResource(underTest));
+    }
+
+    @Test
+    void testBufferedArrearsAreWrittenBeforeCommit() {
+        Mockito.when(databaseTypeResolver.isMySQL()).thenReturn(true);
+        Loan overdueLoan = loan(1L, true, 0, installment(BUSINESS_DATE.minusDays(30), "100", "10"));
+        Loan otherOverdueLoan = loan(2L, true, 0, installment(BUSINESS_DATE.minusDays(5), "50", "0"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        underTest.bufferLoanArrearsAgeingDetails(overdueLoan);
+        underTest.bufferLoanArrearsAgeingDetails(otherOverdueLoan);
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+        Mockito.verify(jdbcTemplate).batchUpdate(Mockito.startsWith("INSERT INTO m_loan_arrears_aging"),
+                Mockito.<List<Object[]>>argThat(batch -> batch.size() == 2));
+        Mockito.verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testBufferedArrearsAreDroppedOnRollback() {
+        Loan overdueLoan = loan(1L, true, 0, installment(BUSINESS_DATE.minusDays(30), "100", "10"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        underTest.bufferLoanArrearsAgeingDetails(overdueLoan);
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        Mockito.verifyNoInteractions(jdbcTemplate);
+        Assertions.assertNull(TransactionSynchronizationManager.getResource(underTest));
+    }
+
+    private static Loan loan(Long id, boolean open, Integer graceOnArrearsAgeing, LoanRepaymentScheduleInstallment... installments) {
+        Loan loan = Mockito.mock(Loan.class);
+        LoanProductRelatedDetail detail = Mockito.mock(LoanProductRelatedDetail.class);
+        Mockito.when(loan.getId()).thenReturn(id);
+        Mockito.when(loan.isOpen()).thenReturn(open);
+        Mockito.when(loan.repaymentScheduleDetail()).thenReturn(detail);
+        Mockito.when(detail.getGraceOnArrearsAgeing()).thenReturn(graceOnArrearsAgeing);
+        Mockito.lenient().when(detail.isInterestRecalculationEnabled()).thenReturn(false);
+        Mockito.when(loan.getRepaymentScheduleInstallments()).thenReturn(List.of(installments));
+        Mockito.lenient().when(loan.getCurrency()).thenReturn(CURRENCY);
+        return loan;
+    }
+
+    private static LoanRepaymentScheduleInstallment installment(LocalDate dueDate, String principal, String interest) {
+        Money principalOutstanding = money(principal);
+        Money interestOutstanding = money(interest);
+        Money zero = money("0");
+        LoanRepaymentScheduleInstallment installment = Mockito.mock(LoanRepaymentScheduleInstallment.class);
+        Mockito.when(installment.getDueDate()).thenReturn(dueDate);
+        Mockito.lenient().when(installment.isNotFullyPaidOff()).thenReturn(true);
+        Mockito.lenient().when(installment.getPrincipalOutstanding(CURRENCY)).thenReturn(principalOutstanding);
+        Mockito.lenient().when(installment.getInterestOutstanding(CURRENCY)).thenReturn(interestOutstanding);
+        Mockito.lenient().when(installment.getFeeChargesOutstanding(CURRENCY)).thenReturn(zero);
+        Mockito.lenient().when(installment.getPenaltyChargesOutstanding(CURRENCY)).thenReturn(zero);
+        return installment;
+    }
+
+    private static Money money(String amount) {
+        Money money = Mockito.mock(Money.class);
+        Mockito.lenient().when(money.getAmount()).thenReturn(new BigDecimal(amount));
+        return money;
+    }
+}
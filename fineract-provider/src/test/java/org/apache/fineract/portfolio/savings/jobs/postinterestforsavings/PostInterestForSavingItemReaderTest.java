@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class PostInterestForSavingItemReaderTest {
+
+    private static final Integer ACTIVE = SavingsAccountStatusType.ACTIVE.getValue();
+
+    @Mock
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+
+    @Test
+    public void testReadsPartitionPageByPage() {
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 2, 9L, 20L)).thenReturn(List.of(10L, 12L));
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 2, 12L, 20L)).thenReturn(List.of(20L));
+        PostInterestForSavingItemReader reader = new PostInterestForSavingItemReader(savingsAccountReadPlatformService, 10L, 20L, 2);
+        reader.open(new ExecutionContext());
+
+        Assertions.assertEquals(10L, reader.read());
+        Assertions.assertEquals(12L, reader.read());
+        Assertions.assertEquals(20L, reader.read());
+        Assertions.assertNull(reader.read());
+    }
+
+    @Test
+    public void testRestartContinuesAfterLastCommittedAccount() {
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 2, 9L, 20L)).thenReturn(List.of(10L, 12L));
+        PostInterestForSavingItemReader reader = new PostInterestForSavingItemReader(savingsAccountReadPlatformService, 10L, 20L, 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+        reader.read();
+        reader.update(executionContext);
+        Assertions.assertEquals(10L, executionContext.getLong(PostInterestForSavingConstant.LAST_READ_SAVINGS_ID));
+
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 2, 10L, 20L)).thenReturn(List.of(12L));
+        PostInterestForSavingItemReader restarted = new PostInterestForSavingItemReader(savingsAccountReadPlatformService, 10L, 20L, 2);
+        restarted.open(executionContext);
+
+        Assertions.assertEquals(12L, restarted.read());
+        Assertions.assertNull(restarted.read());
+        verify(savingsAccountReadPlatformService).getAccountsIdsByStatusPaged(ACTIVE, 2, 10L, 20L);
+    }
+
+    @Test
+    public void testStateIsNotSavedWhenSwitchedOff() {
+        PostInterestForSavingItemReader reader = new PostInterestForSavingItemReader(savingsAccountReadPlatformService, 10L, 20L, 2);
+        reader.setSaveState(false);
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putLong(PostInterestForSavingConstant.LAST_READ_SAVINGS_ID, 15L);
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 2, 9L, 20L)).thenReturn(List.of());
+        reader.open(executionContext);
+
+        Assertions.assertNull(reader.read());
+        executionContext.remove(PostInterestForSavingConstant.LAST_READ_SAVINGS_ID);
+        reader.update(executionContext);
+        Assertions.assertFalse(executionContext.containsKey(PostInterestForSavingConstant.LAST_READ_SAVINGS_ID));
+    }
+
+    @Test
+    public void testEmptyPartitionIsNotRead() {
+        PostInterestForSavingItemReader reader = new PostInterestForSavingItemReader(savingsAccountReadPlatformService, 0L, 0L, 2);
+        reader.open(new ExecutionContext());
+
+        Assertions.assertNull(reader.read());
+        verifyNoInteractions(savingsAccountReadPlatformService);
+    }
+}
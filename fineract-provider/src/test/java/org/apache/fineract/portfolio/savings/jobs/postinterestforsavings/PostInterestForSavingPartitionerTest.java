@@ -0,0 +1,100 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class PostInterestForSavingPartitionerTest {
+
+    private static final Integer ACTIVE = SavingsAccountStatusType.ACTIVE.getValue();
+
+    @Mock
+    private PropertyService propertyService;
+    @Mock
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+
+    private PostInterestForSavingPartitioner underTest;
+
+    @BeforeEach
+    public void setUp() {
+        when(propertyService.getPartitionSize(PostInterestForSavingConstant.JOB_NAME)).thenReturn(3);
+        when(configurationDomainService.retrievePivotDateConfig()).thenReturn(true);
+        underTest = new PostInterestForSavingPartitioner(propertyService, savingsAccountReadPlatformService, configurationDomainService);
+    }
+
+    @Test
+    public void testPartitionsAreIdRangesOfPartitionSize() {
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 3, 0L)).thenReturn(List.of(1L, 4L, 7L));
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 3, 7L)).thenReturn(List.of(8L, 9L, 15L));
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 3, 15L)).thenReturn(List.of(20L));
+
+        Map<String, ExecutionContext> partitions = underTest.partition(1);
+
+        Assertions.assertEquals(3, partitions.size());
+        validatePartition(partitions, 1, 1L, 7L);
+        validatePartition(partitions, 2, 8L, 15L);
+        validatePartition(partitions, 3, 20L, 20L);
+    }
+
+    @Test
+    public void testPartitioningStopsOnEmptyPage() {
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 3, 0L)).thenReturn(List.of(1L, 2L, 3L));
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 3, 3L)).thenReturn(List.of());
+
+        Map<String, ExecutionContext> partitions = underTest.partition(1);
+
+        Assertions.assertEquals(1, partitions.size());
+        validatePartition(partitions, 1, 1L, 3L);
+    }
+
+    @Test
+    public void testOnePartitionIsCreatedWithoutAccounts() {
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 3, 0L)).thenReturn(List.of());
+
+        Map<String, ExecutionContext> partitions = underTest.partition(1);
+
+        Assertions.assertEquals(1, partitions.size());
+        validatePartition(partitions, 1, 0L, 0L);
+    }
+
+    private void validatePartition(Map<String, ExecutionContext> partitions, int index, long min, long max) {
+        ExecutionContext partition = partitions.get(PostInterestForSavingConstant.PARTITION_PREFIX + index);
+        Assertions.assertEquals("partition_" + index, partition.get(PostInterestForSavingConstant.PARTITION_NAME));
+        Assertions.assertEquals(min, partition.getLong(PostInterestForSavingConstant.MIN_SAVINGS_ID));
+        Assertions.assertEquals(max, partition.getLong(PostInterestForSavingConstant.MAX_SAVINGS_ID));
+        Assertions.assertEquals(Boolean.TRUE, partition.get(PostInterestForSavingConstant.BACKDATED_TXNS_ALLOWED_TILL));
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.fineract.accounting.glaccount.data.GLBalanceDeltaData;
+import org.apache.fineract.accounting.glaccount.service.GLBalanceSnapshotWritePlatformService;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountSummaryData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionEnumData;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SavingsSchedularInterestPosterTest {
+
+    private static final LocalDate POSTING_DATE = LocalDate.of(2023, 1, 31);
+
+    @Mock
+    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    @Mock
+    private PlatformSecurityContext platformSecurityContext;
+    @Mock
+    private GLBalanceSnapshotWritePlatformService glBalanceSnapshotWritePlatformService;
+    @Captor
+    private ArgumentCaptor<Collection<GLBalanceDeltaData>> deltasCaptor;
+
+    private SavingsSchedularInterestPoster underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, POSTING_DATE)));
+        underTest = new SavingsSchedularInterestPoster(savingsAccountWritePlatformService, jdbcTemplate, savingsAccountReadPlatformService,
+                platformSecurityContext, glBalanceSnapshotWritePlatformService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testInterestJournalEntriesAreRecordedInGLBalanceSnapshots() throws Exception {
+        AppUser user = mock(AppUser.class);
+        when(user.getId()).thenReturn(1L);
+        when(platformSecurityContext.authenticatedUser()).thenReturn(user);
+        SavingsAccountTransactionData interestPosting = newTransaction(new BigDecimal("12.5"));
+        SavingsAccountData account = savingsAccount(interestPosting);
+        when(savingsAccountWritePlatformService.postInterest(account, false, null, false)).thenReturn(account);
+        when(savingsAccountReadPlatformService.retrieveAllTransactionData(anyList())).thenAnswer(invocation -> {
+            List<String> refNos = invocation.getArgument(0);
+            SavingsAccountTransactionData persisted = mock(SavingsAccountTransactionData.class);
+            when(persisted.getRefNo()).thenReturn(refNos.get(0));
+            when(persisted.getId()).thenReturn(99L);
+            return List.of(persisted);
+        });
+        underTest.setSavingAccounts(List.of(account));
+
+        underTest.postInterest();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO acc_gl_journal_entry"), anyList());
+        verify(glBalanceSnapshotWritePlatformService).recordDeltas(deltasCaptor.capture());
+        Assertions.assertEquals(List.of(GLBalanceDeltaData.instance(3L, 10L, "USD", POSTING_DATE, false, new BigDecimal("12.5")),
+                GLBalanceDeltaData.instance(3L, 20L, "USD", POSTING_DATE, true, new BigDecimal("12.5"))), deltasCaptor.getValue());
+    }
+
+    private static SavingsAccountData savingsAccount(SavingsAccountTransactionData transaction) {
+        CurrencyData currency = mock(CurrencyData.class);
+        when(currency.getCode()).thenReturn("USD");
+        SavingsAccountSummaryData summary = mock(SavingsAccountSummaryData.class);
+        when(summary.getLastInterestCalculationDate()).thenReturn(POSTING_DATE);
+        SavingsAccountData account = mock(SavingsAccountData.class);
+        when(account.getId()).thenReturn(5L);
+        when(account.getOfficeId()).thenReturn(3L);
+        when(account.getCurrency()).thenReturn(currency);
+        when(account.getSummary()).thenReturn(summary);
+        when(account.getGlAccountIdForSavingsControl()).thenReturn(10L);
+        when(account.getGlAccountIdForInterestOnSavings()).thenReturn(20L);
+        when(account.getSavingsAccountTransactionData()).thenReturn(List.of(transaction));
+        return account;
+    }
+
+    /**
+     * Transaction not yet persisted, its id and reference number are assigned by the batch update.
+     */
+    private static SavingsAccountTransactionData newTransaction(BigDecimal amount) {
+        AtomicReference<Long> id = new AtomicReference<>();
+        AtomicReference<String> refNo = new AtomicReference<>();
+        SavingsAccountTransactionEnumData transactionType = mock(SavingsAccountTransactionEnumData.class);
+        SavingsAccountTransactionData transaction = mock(SavingsAccountTransactionData.class);
+        when(transaction.getTransactionType()).thenReturn(transactionType);
+        when(transaction.getTransactionDate()).thenReturn(POSTING_DATE);
+        when(transaction.getAmount()).thenReturn(amount);
+        when(transaction.getId()).thenAnswer(invocation -> id.get());
+        when(transaction.getRefNo()).thenAnswer(invocation -> refNo.get());
+        Mockito.doAnswer(invocation -> {
+            id.set(invocation.getArgument(0));
+            return null;
+        }).when(transaction).setId(Mockito.any());
+        Mockito.doAnswer(invocation -> {
+            refNo.set(invocation.getArgument(0));
+            return null;
+        }).when(transaction).setRefNo(Mockito.any());
+        return transaction;
+    }
+}